@@ -18,11 +18,9 @@ package io.gravitee.rest.api.management.rest.filter;
 import io.gravitee.rest.api.management.rest.resource.AbstractResource;
 import io.gravitee.rest.api.management.rest.security.Permission;
 import io.gravitee.rest.api.management.rest.security.Permissions;
-import io.gravitee.rest.api.model.ApplicationEntity;
-import io.gravitee.rest.api.model.GroupEntity;
 import io.gravitee.rest.api.model.MembershipReferenceType;
-import io.gravitee.rest.api.model.api.ApiEntity;
-import io.gravitee.rest.api.service.*;
+import io.gravitee.rest.api.service.MembershipService;
+import io.gravitee.rest.api.service.RoleService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.ForbiddenAccessException;
 import io.gravitee.rest.api.service.exceptions.UnauthorizedAccessException;
@@ -62,18 +60,9 @@ public class PermissionsFilter implements ContainerRequestFilter {
     @Inject
     private MembershipService membershipService;
 
-    @Inject
-    private ApplicationService applicationService;
-
-    @Inject
-    private ApiService apiService;
-
     @Inject
     private RoleService roleService;
 
-    @Inject
-    private GroupService groupService;
-
     @Override
     public void filter(ContainerRequestContext requestContext) throws IOException {
         if (securityContext.isUserInRole(AbstractResource.ORGANIZATION_ADMIN)) {
@@ -106,22 +95,19 @@ public class PermissionsFilter implements ContainerRequestFilter {
                             }
                             break;
                         case APPLICATION:
-                            ApplicationEntity application = getApplication(requestContext);
-                            memberPermissions = membershipService.getUserMemberPermissions(application, username);
+                            memberPermissions = getUserMemberPermissions(MembershipReferenceType.APPLICATION, "application", requestContext, username);
                             if (roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls())) {
                                 return;
                             }
                             break;
                         case API:
-                            ApiEntity api = getApi(requestContext);
-                            memberPermissions = membershipService.getUserMemberPermissions(api, username);
+                            memberPermissions = getUserMemberPermissions(MembershipReferenceType.API, "api", requestContext, username);
                             if (roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls())) {
                                 return;
                             }
                             break;
                         case GROUP:
-                            GroupEntity group = getGroup(requestContext);
-                            memberPermissions = membershipService.getUserMemberPermissions(group, username);
+                            memberPermissions = getUserMemberPermissions(MembershipReferenceType.GROUP, "group", requestContext, username);
                             if (roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls())) {
                                 return;
                             }
@@ -135,28 +121,13 @@ public class PermissionsFilter implements ContainerRequestFilter {
         }
     }
 
-    private ApiEntity getApi(ContainerRequestContext requestContext) {
-        String apiId = getId("api", requestContext);
-        if (apiId == null) {
-            return null;
-        }
-        return apiService.findById(apiId);
-    }
-
-    private GroupEntity getGroup(ContainerRequestContext requestContext) {
-        String groupId = getId("group", requestContext);
-        if (groupId == null) {
-            return null;
-        }
-        return groupService.findById(groupId);
-    }
-
-    private ApplicationEntity getApplication(ContainerRequestContext requestContext) {
-        String applicationId = getId("application", requestContext);
-        if (applicationId == null) {
-            return null;
+    private Map<String, char[]> getUserMemberPermissions(MembershipReferenceType referenceType, String key,
+                                                         ContainerRequestContext requestContext, String username) {
+        String referenceId = getId(key, requestContext);
+        if (referenceId == null) {
+            sendSecurityError();
         }
-        return applicationService.findById(applicationId);
+        return membershipService.getUserMemberPermissions(referenceType, referenceId, username);
     }
 
     private String getId(String key, ContainerRequestContext requestContext) {
@@ -30,6 +30,7 @@ import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.PermissionService;
 import io.gravitee.rest.api.service.RoleService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.ForbiddenAccessException;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -140,4 +141,22 @@ public abstract class AbstractResource {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The Gravitee context is cleaned by a response filter, before the entity is written: a streamed entity has to
+     * restore the context of the request which produced it.
+     */
+    protected StreamingOutput withGraviteeContext(final StreamingOutput streamingOutput) {
+        final String environment = GraviteeContext.getCurrentEnvironment();
+        final String organization = GraviteeContext.getCurrentOrganization();
+        return output -> {
+            GraviteeContext.setCurrentEnvironment(environment);
+            GraviteeContext.setCurrentOrganization(organization);
+            try {
+                streamingOutput.write(output);
+            } finally {
+                GraviteeContext.cleanContext();
+            }
+        };
+    }
+}
@@ -61,16 +61,7 @@ public class ApiLogsResource extends AbstractResource {
 
         param.validate();
 
-        LogQuery logQuery = new LogQuery();
-        logQuery.setQuery(param.getQuery());
-        logQuery.setPage(param.getPage());
-        logQuery.setSize(param.getSize());
-        logQuery.setFrom(param.getFrom());
-        logQuery.setTo(param.getTo());
-        logQuery.setField(param.getField());
-        logQuery.setOrder(param.isOrder());
-
-        return logsService.findByApi(api, logQuery);
+        return logsService.findByApi(api, param.toLogQuery());
     }
 
     @GET
@@ -99,9 +90,11 @@ public class ApiLogsResource extends AbstractResource {
     public Response exportAPILogsAsCSV(
             @PathParam("api") String api,
             @BeanParam LogsParam param) {
-        final SearchLogResponse searchLogResponse = apiLogs(api, param);
+        param.validate();
+
+        final LogQuery logQuery = param.toLogQuery();
         return Response
-                .ok(logsService.exportAsCsv(searchLogResponse))
+                .ok(withGraviteeContext(output -> logsService.exportByApiAsCsv(api, logQuery, output)))
                 .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=logs-%s-%s.csv", api, System.currentTimeMillis()))
                 .build();
     }
@@ -48,7 +48,6 @@ import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.*;
 import javax.ws.rs.core.Response.Status;
-import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -159,7 +158,7 @@ public class ApiResource extends AbstractResource {
         if (image == null || image.getContent() == null) {
             return Response.ok().build();
         }
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
@@ -169,11 +168,8 @@ public class ApiResource extends AbstractResource {
                     .build();
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
         return Response
-                .ok(baos)
+                .ok(image.getContent())
                 .cacheControl(cc)
                 .tag(etag)
                 .type(image.getType())
@@ -159,10 +159,13 @@ public class ApiSubscriptionsResource extends AbstractResource {
     @Permissions({@Permission(value = RolePermission.API_LOG, acls = RolePermissionAction.READ)})
     public Response exportAPILogsAsCSV(
             @BeanParam SubscriptionParam subscriptionParam,
-            @Valid @BeanParam Pageable pageable) {
-        final PagedResult<SubscriptionEntity> subscriptions = listApiSubscriptions(subscriptionParam, pageable, null);
+            @BeanParam Pageable pageable) {
+        // Exports are streamed, they are not bound by the maximum page size of the listing
+        SubscriptionQuery subscriptionQuery = subscriptionParam.toQuery();
+        subscriptionQuery.setApi(subscriptionParam.getApi());
+
         return Response
-                .ok(subscriptionService.exportAsCsv(subscriptions.getData(), subscriptions.getMetadata()))
+                .ok(withGraviteeContext(output -> subscriptionService.exportAsCsv(subscriptionQuery, pageable.toPageable(), output)))
                 .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=subscriptions-%s-%s.csv", subscriptionParam.getApi(), System.currentTimeMillis()))
                 .build();
     }
@@ -106,30 +106,28 @@ public class ApisResource extends AbstractResource {
 
         final Collection<ApiEntity> apis;
         if (isAdmin()) {
-            apis = apiService.search(apiQuery);
+            apis = apiService.searchLight(apiQuery);
         } else {
             if (apisParam.isPortal() || apisParam.isTop()) {
                 apiQuery.setLifecycleStates(singletonList(PUBLISHED));
             }
             if (isAuthenticated()) {
-                apis = apiService.findByUser(getAuthenticatedUser(), apiQuery, false);
+                apis = apiService.findByUserLight(getAuthenticatedUser(), apiQuery, false);
             } else {
                 apiQuery.setVisibility(PUBLIC);
-                apis = apiService.search(apiQuery);
+                apis = apiService.searchLight(apiQuery);
             }
         }
 
         if (apisParam.isTop()) {
             final List<String> visibleApis = apis.stream().map(ApiEntity::getId).collect(toList());
-            return topApiService.findAll().stream()
+            return convert(topApiService.findAll().stream()
                     .filter(topApi -> visibleApis.contains(topApi.getApi()))
                     .map(topApiEntity -> apiService.findById(topApiEntity.getApi()))
-                    .map(this::convert)
-                    .collect(toList());
+                    .collect(toList()));
         }
 
-        return apis.stream()
-                .map(this::convert)
+        return convert(apis).stream()
                 .sorted((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getName(), o2.getName()))
                 .collect(toList());
     }
@@ -237,16 +235,11 @@ public class ApisResource extends AbstractResource {
             @ApiResponse(code = 500, message = "Internal server error")})
     public Response searchApis(@ApiParam(name = "q", required = true) @NotNull @QueryParam("q") String query) {
         try {
-            final ApiQuery apiQuery = new ApiQuery();
-            final Collection<ApiEntity> apis = apiService.findByUser(getAuthenticatedUser(), apiQuery, false);
-
+            // only the ids of the APIs visible by the user are needed to filter the search
             Map<String, Object> filters = new HashMap<>();
-            filters.put("api", apis.stream().map(ApiEntity::getId).collect(toSet()));
+            filters.put("api", apiService.findIdsByUser(getAuthenticatedUser(), new ApiQuery(), false));
 
-            return Response.ok().entity(apiService.search(query, filters)
-                    .stream()
-                    .map(this::convert)
-                    .collect(toList())).build();
+            return Response.ok().entity(convert(apiService.search(query, filters))).build();
         } catch (TechnicalException te) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(te).build();
         }
@@ -262,7 +255,16 @@ public class ApisResource extends AbstractResource {
         return resourceContext.getResource(ApiMediaResource.class);
     }
 
-    private ApiListItem convert(ApiEntity api) {
+    private List<ApiListItem> convert(Collection<ApiEntity> apis) {
+        final Map<String, RatingSummaryEntity> ratingSummaries = ratingService.isEnabled()
+                ? ratingService.findSummariesByApis(apis.stream().map(ApiEntity::getId).collect(toSet()))
+                : null;
+        return apis.stream()
+                .map(api -> convert(api, ratingSummaries))
+                .collect(toList());
+    }
+
+    private ApiListItem convert(ApiEntity api, Map<String, RatingSummaryEntity> ratingSummaries) {
         final ApiListItem apiItem = new ApiListItem();
 
         apiItem.setId(api.getId());
@@ -274,9 +276,9 @@ public class ApisResource extends AbstractResource {
         final UriBuilder uriBuilder = ub.path("organizations").path(GraviteeContext.getCurrentOrganization())
                 .path("environments").path(GraviteeContext.getCurrentEnvironment())
                 .path("apis").path(api.getId()).path("picture");
-        if (api.getPicture() != null) {
-            // force browser to get if updated
-            uriBuilder.queryParam("hash", api.getPicture().hashCode());
+        if (api.getUpdatedAt() != null) {
+            // force browser to get if updated, the picture itself is not loaded to list APIs
+            uriBuilder.queryParam("hash", api.getUpdatedAt().getTime());
         }
         apiItem.setPictureUrl(uriBuilder.build().toString());
         apiItem.setCategories(api.getCategories());
@@ -297,8 +299,8 @@ public class ApisResource extends AbstractResource {
             apiItem.setVirtualHosts(api.getProxy().getVirtualHosts());
         }
 
-        if (ratingService.isEnabled()) {
-            final RatingSummaryEntity ratingSummary = ratingService.findSummaryByApi(api.getId());
+        if (ratingSummaries != null) {
+            final RatingSummaryEntity ratingSummary = ratingSummaries.get(api.getId());
             apiItem.setRate(ratingSummary.getAverageRate());
             apiItem.setNumberOfRatings(ratingSummary.getNumberOfRatings());
         }
@@ -63,16 +63,7 @@ public class ApplicationLogsResource extends AbstractResource {
 
         param.validate();
 
-        LogQuery logQuery = new LogQuery();
-        logQuery.setQuery(param.getQuery());
-        logQuery.setPage(param.getPage());
-        logQuery.setSize(param.getSize());
-        logQuery.setFrom(param.getFrom());
-        logQuery.setTo(param.getTo());
-        logQuery.setField(param.getField());
-        logQuery.setOrder(param.isOrder());
-
-        return logsService.findByApplication(application, logQuery);
+        return logsService.findByApplication(application, param.toLogQuery());
     }
 
     @GET
@@ -103,9 +94,11 @@ public class ApplicationLogsResource extends AbstractResource {
     public Response exportApplicationLogsAsCSV(
             @PathParam("application") String application,
             @BeanParam LogsParam param) {
-        final SearchLogResponse searchLogResponse = applicationLogs(application, param);
+        param.validate();
+
+        final LogQuery logQuery = param.toLogQuery();
         return Response
-                .ok(logsService.exportAsCsv(searchLogResponse))
+                .ok(withGraviteeContext(output -> logsService.exportByApplicationAsCsv(application, logQuery, output)))
                 .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=logs-%s-%s.csv", application, System.currentTimeMillis()))
                 .build();
     }
@@ -43,7 +43,6 @@ import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.*;
 
-import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -172,7 +171,7 @@ public class ApplicationResource extends AbstractResource {
         cc.setNoCache(false);
         cc.setMaxAge(86400);
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
@@ -182,11 +181,8 @@ public class ApplicationResource extends AbstractResource {
                     .build();
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
         return Response
-                .ok(baos)
+                .ok(image.getContent())
                 .cacheControl(cc)
                 .tag(etag)
                 .type(image.getType())
@@ -39,7 +39,6 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.core.*;
-import java.io.ByteArrayOutputStream;
 
 import static io.gravitee.common.http.MediaType.APPLICATION_JSON;
 
@@ -117,7 +116,7 @@ public class CategoryResource extends AbstractCategoryResource {
             return Response.ok().build();
         }
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
@@ -127,11 +126,8 @@ public class CategoryResource extends AbstractCategoryResource {
                     .build();
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
         return Response
-                .ok(baos)
+                .ok(image.getContent())
                 .cacheControl(cc)
                 .tag(etag)
                 .type(image.getType())
@@ -23,7 +23,6 @@ import io.gravitee.rest.api.management.rest.security.Permission;
 import io.gravitee.rest.api.management.rest.security.Permissions;
 import io.gravitee.rest.api.model.analytics.Analytics;
 import io.gravitee.rest.api.model.analytics.query.*;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
 import io.gravitee.rest.api.service.AnalyticsService;
 import io.gravitee.rest.api.service.ApiService;
@@ -97,10 +96,9 @@ public class PlatformAnalyticsResource extends AbstractResource  {
                         .collect(Collectors.toList());
             } else {
                 fieldName = "api";
-                ids = apiService.findByUser(getAuthenticatedUser(), null, false)
+                ids = apiService.findIdsByUser(getAuthenticatedUser(), null, false)
                         .stream()
-                        .filter(api -> permissionService.hasPermission(API_ANALYTICS, api.getId(), READ))
-                        .map(ApiEntity::getId)
+                        .filter(apiId -> permissionService.hasPermission(API_ANALYTICS, apiId, READ))
                         .collect(Collectors.toList());
             }
 
@@ -62,16 +62,7 @@ public class PlatformLogsResource extends AbstractResource {
             @BeanParam LogsParam param) {
         param.validate();
 
-        LogQuery logQuery = new LogQuery();
-        logQuery.setQuery(param.getQuery());
-        logQuery.setPage(param.getPage());
-        logQuery.setSize(param.getSize());
-        logQuery.setFrom(param.getFrom());
-        logQuery.setTo(param.getTo());
-        logQuery.setField(param.getField());
-        logQuery.setOrder(param.isOrder());
-
-        return logsService.findPlatform(logQuery);
+        return logsService.findPlatform(param.toLogQuery());
     }
 
     @GET
@@ -102,9 +93,11 @@ public class PlatformLogsResource extends AbstractResource {
     @Permissions({@Permission(value = RolePermission.ENVIRONMENT_PLATFORM, acls = RolePermissionAction.READ)})
     public Response exportPlatformLogsAsCSV(
             @BeanParam LogsParam param) {
-        final SearchLogResponse searchLogResponse = platformLogs(param);
+        param.validate();
+
+        final LogQuery logQuery = param.toLogQuery();
         return Response
-                .ok(logsService.exportAsCsv(searchLogResponse))
+                .ok(withGraviteeContext(output -> logsService.exportPlatformAsCsv(logQuery, output)))
                 .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=logs-%s-%s.csv", "platform", System.currentTimeMillis()))
                 .build();
     }
@@ -33,7 +33,6 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.core.*;
-import java.io.ByteArrayOutputStream;
 import java.net.URI;
 
 /**
@@ -120,7 +119,7 @@ public class ThemeResource extends AbstractResource  {
 
         InlinePictureEntity image = (InlinePictureEntity) picture;
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
@@ -130,12 +129,9 @@ public class ThemeResource extends AbstractResource  {
                     .build();
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
         return Response
                 .ok()
-                .entity(baos)
+                .entity(image.getContent())
                 .cacheControl(cc)
                 .tag(etag)
                 .type(image.getType())
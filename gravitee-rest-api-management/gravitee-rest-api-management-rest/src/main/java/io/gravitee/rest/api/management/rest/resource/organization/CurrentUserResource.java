@@ -60,7 +60,6 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
-import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
@@ -244,18 +243,15 @@ public class CurrentUserResource extends AbstractResource {
             return Response.ok().build();
         }
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
             return builder.build();
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
         return ok()
-                .entity(baos)
+                .entity(image.getContent())
                 .tag(etag)
                 .type(image.getType())
                 .build();
@@ -34,7 +34,6 @@ import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.*;
-import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -195,7 +194,7 @@ public class UserResource extends AbstractResource {
         cc.setMaxAge(86400);
 
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
@@ -205,12 +204,9 @@ public class UserResource extends AbstractResource {
                     .build();
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
         return Response
                 .ok()
-                .entity(baos)
+                .entity(image.getContent())
                 .cacheControl(cc)
                 .tag(etag)
                 .type(image.getType())
@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.management.rest.resource.param;
 
+import io.gravitee.rest.api.model.analytics.query.LogQuery;
 import io.swagger.annotations.ApiParam;
 
 import javax.ws.rs.DefaultValue;
@@ -139,4 +140,16 @@ public class LogsParam {
             size = 20;
         }
     }
+
+    public LogQuery toLogQuery() {
+        final LogQuery logQuery = new LogQuery();
+        logQuery.setQuery(query);
+        logQuery.setPage(page);
+        logQuery.setSize(size);
+        logQuery.setFrom(from);
+        logQuery.setTo(to);
+        logQuery.setField(field);
+        logQuery.setOrder(order);
+        return logQuery;
+    }
 }
@@ -38,6 +38,7 @@ import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -95,16 +96,22 @@ public class PortalApisResource extends AbstractResource {
             Map<String, Object> filters = new HashMap<>();
             filters.put("api", apis.stream().map(ApiEntity::getId).collect(Collectors.toSet()));
 
-            return Response.ok().entity(apiService.search(query, filters)
-                    .stream()
-                    .map(this::convert)
-                    .collect(toList())).build();
+            return Response.ok().entity(convert(apiService.search(query, filters))).build();
         } catch (TechnicalException te) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(te).build();
         }
     }
 
-    private ApiListItem convert(ApiEntity api) {
+    private List<ApiListItem> convert(Collection<ApiEntity> apis) {
+        final Map<String, RatingSummaryEntity> ratingSummaries = ratingService.isEnabled()
+                ? ratingService.findSummariesByApis(apis.stream().map(ApiEntity::getId).collect(Collectors.toSet()))
+                : null;
+        return apis.stream()
+                .map(api -> convert(api, ratingSummaries))
+                .collect(toList());
+    }
+
+    private ApiListItem convert(ApiEntity api, Map<String, RatingSummaryEntity> ratingSummaries) {
         final ApiListItem apiItem = new ApiListItem();
 
         apiItem.setId(api.getId());
@@ -138,8 +145,8 @@ public class PortalApisResource extends AbstractResource {
             apiItem.setVirtualHosts(api.getProxy().getVirtualHosts());
         }
 
-        if (ratingService.isEnabled()) {
-            final RatingSummaryEntity ratingSummary = ratingService.findSummaryByApi(api.getId());
+        if (ratingSummaries != null) {
+            final RatingSummaryEntity ratingSummary = ratingSummaries.get(api.getId());
             apiItem.setRate(ratingSummary.getAverageRate());
             apiItem.setNumberOfRatings(ratingSummary.getNumberOfRatings());
         }
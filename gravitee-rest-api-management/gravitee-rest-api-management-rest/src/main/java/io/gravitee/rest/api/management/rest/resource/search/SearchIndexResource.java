@@ -0,0 +1,57 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.management.rest.resource.search;
+
+import io.gravitee.rest.api.management.rest.security.Permission;
+import io.gravitee.rest.api.management.rest.security.Permissions;
+import io.gravitee.rest.api.model.permissions.RolePermission;
+import io.gravitee.rest.api.model.permissions.RolePermissionAction;
+import io.gravitee.rest.api.service.search.SearchEngineService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+
+import javax.inject.Inject;
+import javax.ws.rs.POST;
+import javax.ws.rs.core.Response;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Api(tags = {"Search"})
+public class SearchIndexResource {
+
+    @Inject
+    private SearchEngineService searchEngineService;
+
+    @POST
+    @ApiOperation(value = "Rebuild the search index of this node in background",
+            notes = "User must have the ENVIRONMENT_SETTINGS[UPDATE] permission to use this service")
+    @ApiResponses({
+            @ApiResponse(code = 202, message = "Search index rebuild started"),
+            @ApiResponse(code = 409, message = "Search index rebuild already running"),
+            @ApiResponse(code = 500, message = "Internal server error")})
+    @Permissions({
+            @Permission(value = RolePermission.ENVIRONMENT_SETTINGS, acls = RolePermissionAction.UPDATE)
+    })
+    public Response rebuild() {
+        if (searchEngineService.reindexInBackground()) {
+            return Response.accepted().build();
+        }
+        return Response.status(Response.Status.CONFLICT).build();
+    }
+}
@@ -35,4 +35,9 @@ public class SearchResource {
     public SearchUsersResource getSearchUsersResource() {
         return resourceContext.getResource(SearchUsersResource.class);
     }
+
+    @Path("index")
+    public SearchIndexResource getSearchIndexResource() {
+        return resourceContext.getResource(SearchIndexResource.class);
+    }
 }
@@ -16,16 +16,24 @@
 package io.gravitee.rest.api.management.rest.resource;
 
 import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.definition.model.Proxy;
+import io.gravitee.definition.model.VirtualHost;
+import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.api.ApiQuery;
 import io.gravitee.rest.api.model.api.NewApiEntity;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Response;
+import java.util.Collections;
 
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 /**
  * @author David BRASSELY (brasseld at gmail.com)
@@ -92,4 +100,23 @@ public class ApisResourceTest extends AbstractResourceTest {
         final Response response = envTarget().request().post(Entity.json(apiEntity));
         assertEquals(HttpStatusCode.CREATED_201, response.getStatus());
     }
+
+    @Test
+    public void shouldSearchApisVisibleByUser() throws TechnicalException {
+        ApiEntity searchedApi = new ApiEntity();
+        searchedApi.setId("my-api");
+        searchedApi.setName("My API");
+        Proxy proxy = new Proxy();
+        proxy.setVirtualHosts(singletonList(new VirtualHost("/my-api")));
+        searchedApi.setProxy(proxy);
+
+        doReturn(singleton("my-api")).when(apiService).findIdsByUser(eq(USER_NAME), any(ApiQuery.class), eq(false));
+        doReturn(singletonList(searchedApi)).when(apiService).search(eq("my"), anyMap());
+
+        final Response response = envTarget().path("_search").queryParam("q", "my").request().post(null);
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+
+        verify(apiService).search("my", Collections.singletonMap("api", singleton("my-api")));
+        verify(apiService, never()).findByUser(any(), any(), anyBoolean());
+    }
 }
@@ -15,6 +15,12 @@
  */
 package io.gravitee.rest.api.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
@@ -23,6 +29,7 @@ public class InlinePictureEntity implements PictureEntity {
 
     private byte [] content;
     private String type;
+    private String hash;
 
     public byte[] getContent() {
         return content;
@@ -30,6 +37,7 @@ public class InlinePictureEntity implements PictureEntity {
 
     public void setContent(byte[] content) {
         this.content = content;
+        this.hash = null;
     }
 
     public String getType() {
@@ -39,4 +47,21 @@ public class InlinePictureEntity implements PictureEntity {
     public void setType(String type) {
         this.type = type;
     }
+
+    /**
+     * @return a hash of the content, computed once, to be used as entity tag.
+     */
+    @JsonIgnore
+    public String getHash() {
+        if (hash == null && content != null) {
+            try {
+                hash = Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (NoSuchAlgorithmException e) {
+                // SHA-256 is supported by every Java platform
+                throw new IllegalStateException(e);
+            }
+        }
+        return hash;
+    }
 }
@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.model.command;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class CommandApisVisibilityEntity {
+
+    /**
+     * The user whose visible APIs must be invalidated, <code>null</code> for all the users.
+     */
+    private String userId;
+
+    /**
+     * The reason of visibility to invalidate for all the users, <code>null</code> for all the reasons.
+     */
+    private String reason;
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public String toString() {
+        return "CommandApisVisibilityEntity{" +
+                "userId='" + userId + '\'' +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+}
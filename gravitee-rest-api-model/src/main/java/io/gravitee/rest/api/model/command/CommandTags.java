@@ -21,5 +21,8 @@ package io.gravitee.rest.api.model.command;
  */
 
 public enum CommandTags {
-    DATA_TO_INDEX
+    DATA_TO_INDEX,
+    PERMISSIONS_TO_INVALIDATE,
+    PARAMETERS_TO_INVALIDATE,
+    APIS_VISIBILITY_TO_INVALIDATE
 }
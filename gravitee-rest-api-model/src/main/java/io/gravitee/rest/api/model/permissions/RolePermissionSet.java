@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.model.permissions;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A compact set of {@link RolePermission}s, holding the CRUD actions of each permission as 4 bits (the
+ * {@link RolePermissionAction} masks) of a bitset indexed by the permission ordinal.
+ *
+ * It is convertible from and to the <code>Map&lt;String, char[]&gt;</code> form used by the roles and members.
+ *
+ * @author GraviteeSource Team
+ */
+public final class RolePermissionSet {
+
+    private static final int BITS_PER_PERMISSION = 4;
+    private static final int PERMISSIONS_PER_WORD = Long.SIZE / BITS_PER_PERMISSION;
+    private static final int ACTIONS_MASK = 0b1111;
+
+    private static final RolePermission[] PERMISSIONS = RolePermission.values();
+    private static final Map<RoleScope, Map<String, RolePermission>> PERMISSIONS_BY_SCOPE = new EnumMap<>(RoleScope.class);
+
+    static {
+        for (RolePermission permission : PERMISSIONS) {
+            PERMISSIONS_BY_SCOPE
+                    .computeIfAbsent(permission.getScope(), scope -> new HashMap<>())
+                    .put(permission.getPermission().getName(), permission);
+        }
+    }
+
+    private final long[] words = new long[(PERMISSIONS.length + PERMISSIONS_PER_WORD - 1) / PERMISSIONS_PER_WORD];
+
+    /**
+     * Create a set from the permissions of the given scope. Unknown permission names are ignored.
+     */
+    public static RolePermissionSet of(RoleScope scope, Map<String, char[]> permissions) {
+        return new RolePermissionSet().addAll(scope, permissions);
+    }
+
+    /**
+     * Add the permissions of the given scope to this set. Unknown permission names are ignored.
+     */
+    public RolePermissionSet addAll(RoleScope scope, Map<String, char[]> permissions) {
+        final Map<String, RolePermission> scopePermissions = PERMISSIONS_BY_SCOPE.get(scope);
+        if (scopePermissions != null && permissions != null) {
+            for (Map.Entry<String, char[]> entry : permissions.entrySet()) {
+                final RolePermission permission = scopePermissions.get(entry.getKey());
+                if (permission != null) {
+                    add(permission, toMask(entry.getValue()));
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Add all the permissions of the other set to this one.
+     */
+    public RolePermissionSet addAll(RolePermissionSet other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    public RolePermissionSet add(RolePermission permission, RolePermissionAction... actions) {
+        return add(permission, toMask(actions));
+    }
+
+    private RolePermissionSet add(RolePermission permission, int mask) {
+        words[word(permission)] |= (long) mask << shift(permission);
+        return this;
+    }
+
+    /**
+     * @return the mask of the actions granted on the given permission, 0 if none.
+     */
+    public int getMask(RolePermission permission) {
+        return (int) (words[word(permission)] >>> shift(permission)) & ACTIONS_MASK;
+    }
+
+    /**
+     * @return <code>true</code> if at least one of the given actions is granted on the given permission.
+     */
+    public boolean has(RolePermission permission, RolePermissionAction... actions) {
+        return (getMask(permission) & toMask(actions)) != 0;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the permissions of this set, by name, in the <code>char[]</code> form of the roles (e.g. <code>CRUD</code>).
+     */
+    public Map<String, char[]> toMap() {
+        final Map<String, Integer> masks = new HashMap<>();
+        for (RolePermission permission : PERMISSIONS) {
+            final int mask = getMask(permission);
+            if (mask != 0) {
+                masks.merge(permission.getPermission().getName(), mask, (m1, m2) -> m1 | m2);
+            }
+        }
+        final Map<String, char[]> permissions = new HashMap<>(masks.size());
+        masks.forEach((name, mask) -> permissions.put(name, toActions(mask)));
+        return permissions;
+    }
+
+    /**
+     * @return the mask of the given actions (e.g. <code>['C', 'R']</code>), unknown actions being ignored.
+     */
+    public static int toMask(char[] actions) {
+        int mask = 0;
+        if (actions != null) {
+            for (char action : actions) {
+                switch (action) {
+                    case 'C':
+                        mask |= RolePermissionAction.CREATE.getMask();
+                        break;
+                    case 'R':
+                        mask |= RolePermissionAction.READ.getMask();
+                        break;
+                    case 'U':
+                        mask |= RolePermissionAction.UPDATE.getMask();
+                        break;
+                    case 'D':
+                        mask |= RolePermissionAction.DELETE.getMask();
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return mask;
+    }
+
+    public static int toMask(RolePermissionAction... actions) {
+        int mask = 0;
+        if (actions != null) {
+            for (RolePermissionAction action : actions) {
+                mask |= action.getMask();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return the actions of the given mask, in the <code>CRUD</code> order.
+     */
+    public static char[] toActions(int mask) {
+        final char[] actions = new char[Integer.bitCount(mask & ACTIONS_MASK)];
+        int i = 0;
+        for (RolePermissionAction action : RolePermissionAction.values()) {
+            if ((mask & action.getMask()) != 0) {
+                actions[i++] = action.getId();
+            }
+        }
+        return actions;
+    }
+
+    private static int word(RolePermission permission) {
+        return permission.ordinal() / PERMISSIONS_PER_WORD;
+    }
+
+    private static int shift(RolePermission permission) {
+        return (permission.ordinal() % PERMISSIONS_PER_WORD) * BITS_PER_PERMISSION;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(words, ((RolePermissionSet) o).words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
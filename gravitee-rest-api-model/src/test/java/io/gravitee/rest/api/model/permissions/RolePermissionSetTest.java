@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.model.permissions;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.gravitee.rest.api.model.permissions.RolePermissionAction.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RolePermissionSetTest {
+
+    @Test
+    public void shouldConvertFromAndToMap() {
+        Map<String, char[]> permissions = new HashMap<>();
+        permissions.put("DEFINITION", new char[]{'R', 'C', 'D'});
+        permissions.put("PLAN", new char[]{'R'});
+        permissions.put("UNKNOWN", new char[]{'R'});
+
+        RolePermissionSet set = RolePermissionSet.of(RoleScope.API, permissions);
+
+        Map<String, char[]> converted = set.toMap();
+        assertEquals(2, converted.size());
+        assertArrayEquals(new char[]{'C', 'R', 'D'}, converted.get("DEFINITION"));
+        assertArrayEquals(new char[]{'R'}, converted.get("PLAN"));
+    }
+
+    @Test
+    public void shouldCheckActions() {
+        RolePermissionSet set = new RolePermissionSet()
+                .add(RolePermission.API_DEFINITION, READ, UPDATE)
+                .add(RolePermission.ORGANIZATION_IDENTITY_PROVIDER, DELETE);
+
+        assertTrue(set.has(RolePermission.API_DEFINITION, READ));
+        assertTrue(set.has(RolePermission.API_DEFINITION, CREATE, UPDATE));
+        assertFalse(set.has(RolePermission.API_DEFINITION, CREATE, DELETE));
+        assertFalse(set.has(RolePermission.API_PLAN, READ));
+        assertTrue(set.has(RolePermission.ORGANIZATION_IDENTITY_PROVIDER, DELETE));
+        assertFalse(set.has(RolePermission.ORGANIZATION_IDENTITY_PROVIDER));
+        assertEquals(READ.getMask() | UPDATE.getMask(), set.getMask(RolePermission.API_DEFINITION));
+    }
+
+    @Test
+    public void shouldKeepPermissionsOfTheirScope() {
+        Map<String, char[]> permissions = new HashMap<>();
+        permissions.put("DEFINITION", new char[]{'R'});
+
+        RolePermissionSet set = RolePermissionSet.of(RoleScope.APPLICATION, permissions);
+
+        assertTrue(set.has(RolePermission.APPLICATION_DEFINITION, READ));
+        assertFalse(set.has(RolePermission.API_DEFINITION, READ));
+    }
+
+    @Test
+    public void shouldMergeSets() {
+        RolePermissionSet set = new RolePermissionSet().add(RolePermission.API_PLAN, READ);
+        RolePermissionSet other = new RolePermissionSet()
+                .add(RolePermission.API_PLAN, UPDATE)
+                .add(RolePermission.API_LOG, READ);
+
+        set.addAll(other);
+
+        assertEquals(READ.getMask() | UPDATE.getMask(), set.getMask(RolePermission.API_PLAN));
+        assertTrue(set.has(RolePermission.API_LOG, READ));
+        assertEquals(new RolePermissionSet()
+                .add(RolePermission.API_PLAN, READ, UPDATE)
+                .add(RolePermission.API_LOG, READ), set);
+    }
+
+    @Test
+    public void shouldBeEmpty() {
+        assertTrue(new RolePermissionSet().isEmpty());
+        assertTrue(RolePermissionSet.of(RoleScope.API, null).isEmpty());
+        assertFalse(new RolePermissionSet().add(RolePermission.API_PLAN, READ).isEmpty());
+    }
+
+    @Test
+    public void shouldConvertMasks() {
+        assertEquals(0, RolePermissionSet.toMask((char[]) null));
+        assertEquals(15, RolePermissionSet.toMask(new char[]{'D', 'U', 'R', 'C'}));
+        assertArrayEquals(new char[]{'C', 'R', 'U', 'D'}, RolePermissionSet.toActions(15));
+        assertArrayEquals(new char[0], RolePermissionSet.toActions(0));
+    }
+}
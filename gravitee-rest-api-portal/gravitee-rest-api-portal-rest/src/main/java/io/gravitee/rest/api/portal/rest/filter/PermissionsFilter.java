@@ -32,14 +32,10 @@ import javax.ws.rs.ext.Provider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.gravitee.rest.api.model.ApplicationEntity;
 import io.gravitee.rest.api.model.MembershipReferenceType;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.resource.AbstractResource;
 import io.gravitee.rest.api.portal.rest.security.Permission;
 import io.gravitee.rest.api.portal.rest.security.Permissions;
-import io.gravitee.rest.api.service.ApiService;
-import io.gravitee.rest.api.service.ApplicationService;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.RoleService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
@@ -66,12 +62,6 @@ public class PermissionsFilter implements ContainerRequestFilter {
     @Inject
     private MembershipService membershipService;
 
-    @Inject
-    private ApplicationService applicationService;
-
-    @Inject
-    private ApiService apiService;
-
     @Inject
     private RoleService roleService;
 
@@ -111,12 +101,18 @@ public class PermissionsFilter implements ContainerRequestFilter {
                 memberPermissions = membershipService.getUserMemberPermissions(MembershipReferenceType.ENVIRONMENT, GraviteeContext.getCurrentEnvironment(), username);
                 return roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls());
             case APPLICATION:
-                ApplicationEntity application = getApplication(requestContext);
-                memberPermissions = membershipService.getUserMemberPermissions(application, username);
+                String applicationId = getId("applicationId", requestContext);
+                if (applicationId == null) {
+                    return false;
+                }
+                memberPermissions = membershipService.getUserMemberPermissions(MembershipReferenceType.APPLICATION, applicationId, username);
                 return roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls());
             case API:
-                ApiEntity api = getApi(requestContext);
-                memberPermissions = membershipService.getUserMemberPermissions(api, username);
+                String apiId = getId("apiId", requestContext);
+                if (apiId == null) {
+                    return false;
+                }
+                memberPermissions = membershipService.getUserMemberPermissions(MembershipReferenceType.API, apiId, username);
                 return roleService.hasPermission(memberPermissions, permission.value().getPermission(), permission.acls());
             default:
                 sendSecurityError();
@@ -124,22 +120,6 @@ public class PermissionsFilter implements ContainerRequestFilter {
         return false;
     }
 
-    private ApiEntity getApi(ContainerRequestContext requestContext) {
-        String apiId = getId("apiId", requestContext);
-        if (apiId == null) {
-            return null;
-        }
-        return apiService.findById(apiId);
-    }
-
-    private ApplicationEntity getApplication(ContainerRequestContext requestContext) {
-        String applicationId = getId("applicationId", requestContext);
-        if (applicationId == null) {
-            return null;
-        }
-        return applicationService.findById(applicationId);
-    }
-
     private String getId(String key, ContainerRequestContext requestContext) {
         List<String> pathParams = requestContext.getUriInfo().getPathParameters().get(key);
         if (pathParams != null) {
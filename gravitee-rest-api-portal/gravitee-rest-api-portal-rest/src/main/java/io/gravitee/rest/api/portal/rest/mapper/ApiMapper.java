@@ -58,6 +58,16 @@ public class ApiMapper {
     private ParameterService parameterService;
 
     public Api convert(ApiEntity api) {
+        return convert(api, ratingService.isEnabled() ? ratingService.findSummaryByApi(api.getId()) : null);
+    }
+
+    /**
+     * Convert an API whose rating summary has already been resolved, so that a list of APIs reads all its rating
+     * summaries at once.
+     *
+     * @param ratingSummaryEntity the rating summary of the API, <code>null</code> if ratings are disabled.
+     */
+    public Api convert(ApiEntity api, RatingSummaryEntity ratingSummaryEntity) {
         final Api apiItem = new Api();
         apiItem.setDescription(api.getDescription());
 
@@ -94,8 +104,7 @@ public class ApiMapper {
         apiItem.setPages(null);
         apiItem.setPlans(null);
 
-        if (ratingService.isEnabled()) {
-            final RatingSummaryEntity ratingSummaryEntity = ratingService.findSummaryByApi(api.getId());
+        if (ratingSummaryEntity != null) {
             RatingSummary ratingSummary = new RatingSummary().average(ratingSummaryEntity.getAverageRate())
                     .count(BigDecimal.valueOf(ratingSummaryEntity.getNumberOfRatings()));
             apiItem.setRatingSummary(ratingSummary);
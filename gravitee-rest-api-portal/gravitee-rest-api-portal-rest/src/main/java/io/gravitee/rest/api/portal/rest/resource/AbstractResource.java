@@ -29,6 +29,7 @@ import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.PermissionService;
 import io.gravitee.rest.api.service.RoleService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.PaginationInvalidException;
 import io.gravitee.rest.api.service.exceptions.UploadUnauthorized;
 import org.glassfish.jersey.message.internal.HttpHeaderReader;
@@ -113,6 +114,24 @@ public abstract class AbstractResource {
         return isAuthenticated() && (permissionService.hasPermission(permission, referenceId, acls));
     }
 
+    /**
+     * The Gravitee context is cleaned by a response filter, before the entity is written: a streamed entity has to
+     * restore the context of the request which produced it.
+     */
+    protected StreamingOutput withGraviteeContext(final StreamingOutput streamingOutput) {
+        final String environment = GraviteeContext.getCurrentEnvironment();
+        final String organization = GraviteeContext.getCurrentOrganization();
+        return output -> {
+            GraviteeContext.setCurrentEnvironment(environment);
+            GraviteeContext.setCurrentOrganization(organization);
+            try {
+                streamingOutput.write(output);
+            } finally {
+                GraviteeContext.cleanContext();
+            }
+        };
+    }
+
     Response.ResponseBuilder evaluateIfMatch(final HttpHeaders headers, final String etagValue) {
         String ifMatch = headers.getHeaderString(HttpHeaders.IF_MATCH);
         if (ifMatch == null || ifMatch.isEmpty()) {
@@ -343,6 +362,42 @@ public abstract class AbstractResource {
         return Response.ok(createDataResponse(dataList, paginationParam, metadata, withPagination)).build();
     }
 
+    /**
+     * Create the response for a page computed by the service layer: <code>pageData</code> only holds the items of the
+     * requested page, among <code>totalItems</code> items.
+     */
+    protected Response createPageResponse(List pageData, PaginationParam paginationParam, int totalItems) {
+        return createPageResponse(pageData, paginationParam, totalItems, null);
+    }
+
+    protected Response createPageResponse(List pageData, PaginationParam paginationParam, int totalItems,
+            Map<String, Map<String, Object>> metadata) {
+        final Integer page = paginationParam.getPage();
+        final Integer size = paginationParam.getSize();
+        final Integer startIndex = (page - 1) * size;
+
+        if (totalItems > 0 && (startIndex >= totalItems || page < 1)) {
+            throw new PaginationInvalidException();
+        }
+
+        Map<String, Object> dataMetadata = new HashMap<>();
+        dataMetadata.put(METADATA_DATA_TOTAL_KEY, pageData.size());
+
+        Map<String, Object> paginationMetadata = new HashMap<>();
+        if (totalItems > 0) {
+            paginationMetadata.put(METADATA_PAGINATION_CURRENT_PAGE_KEY, page);
+            paginationMetadata.put(METADATA_PAGINATION_SIZE_KEY, size);
+            paginationMetadata.put(METADATA_PAGINATION_FIRST_ITEM_INDEX_KEY, startIndex + 1);
+            paginationMetadata.put(METADATA_PAGINATION_LAST_ITEM_INDEX_KEY, startIndex + pageData.size());
+            paginationMetadata.put(METADATA_PAGINATION_TOTAL_KEY, totalItems);
+            paginationMetadata.put(METADATA_PAGINATION_TOTAL_PAGE_KEY, (int) Math.ceil((double) totalItems / size));
+        }
+
+        return Response.ok(new DataResponse().data(pageData)
+                .metadata(this.computeMetadata(metadata, dataMetadata, paginationMetadata))
+                .links(this.computePaginatedLinks(page, size, totalItems))).build();
+    }
+
     protected Response createPictureResponse(Request request, InlinePictureEntity image) {
         if (image == null || image.getContent() == null) {
             return Response.ok().build();
@@ -353,7 +408,7 @@ public abstract class AbstractResource {
         cc.setNoCache(false);
         cc.setMaxAge(86400);
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
@@ -361,10 +416,7 @@ public abstract class AbstractResource {
             return builder.cacheControl(cc).build();
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
-        return Response.ok(baos).cacheControl(cc).tag(etag).type(image.getType()).build();
+        return Response.ok(image.getContent()).cacheControl(cc).tag(etag).type(image.getType()).build();
     }
 
     protected Response createMediaResponse(Request request, String hashMedia, MediaEntity media) {
@@ -16,7 +16,6 @@
 package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.common.http.MediaType;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.header.ApiHeaderEntity;
 import io.gravitee.rest.api.portal.rest.model.ApiInformation;
 import io.gravitee.rest.api.service.ApiService;
@@ -29,7 +28,6 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
-import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -45,8 +43,7 @@ public class ApiInformationsResource extends AbstractResource {
     @GET
     @Produces({ MediaType.APPLICATION_JSON })
     public Response getApiInformations(@Context Request request, @PathParam("apiId") String apiId) {
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
             List<ApiHeaderEntity> all = apiService.getPortalHeaders(apiId);
             List<ApiInformation> information = all.stream().map(apiHeaderEntity -> {
                 ApiInformation ai = new ApiInformation();
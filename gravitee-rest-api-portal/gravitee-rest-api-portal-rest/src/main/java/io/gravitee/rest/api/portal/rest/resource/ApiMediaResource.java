@@ -17,7 +17,6 @@ package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.model.MediaEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.MediaService;
 import io.gravitee.rest.api.service.exceptions.ApiNotFoundException;
@@ -30,7 +29,6 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
-import java.util.Collection;
 
 public class ApiMediaResource extends AbstractResource {
 
@@ -44,8 +42,7 @@ public class ApiMediaResource extends AbstractResource {
     @Path("{mediaHash}")
     @Produces({ MediaType.WILDCARD, MediaType.APPLICATION_JSON })
     public Response getApiMedia(@Context Request request, @PathParam("apiId") String apiId, @PathParam("mediaHash") String mediaHash) {
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
 
             MediaEntity mediaEntity = mediaService.findByHashAndApi(mediaHash, apiId, true);
 
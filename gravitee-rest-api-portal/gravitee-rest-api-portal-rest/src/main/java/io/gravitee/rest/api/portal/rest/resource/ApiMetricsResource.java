@@ -21,7 +21,6 @@ import io.gravitee.rest.api.model.SubscriptionEntity;
 import io.gravitee.rest.api.model.SubscriptionStatus;
 import io.gravitee.rest.api.model.analytics.query.StatsAnalytics;
 import io.gravitee.rest.api.model.analytics.query.StatsQuery;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
 import io.gravitee.rest.api.portal.rest.model.ApiMetrics;
 import io.gravitee.rest.api.service.AnalyticsService;
@@ -61,8 +60,7 @@ public class ApiMetricsResource extends AbstractResource {
     @GET
     @Produces({ MediaType.APPLICATION_JSON })
     public Response getApiMetricsByApiId(@Context Request request, @PathParam("apiId") String apiId) {
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
             Number healthRatio = getHealthRatio(apiId);
             Number nbHits = getNbHits(apiId);
             Number subscribers = getApiNbSubscribers(apiId);
@@ -30,7 +30,6 @@ import io.gravitee.rest.api.service.exceptions.UnauthorizedAccessException;
 import javax.inject.Inject;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
-import java.util.Collection;
 import java.util.List;
 
 /**
@@ -57,8 +56,7 @@ public class ApiPageResource extends AbstractResource {
             @PathParam("apiId") String apiId,
             @PathParam("pageId") String pageId,
             @QueryParam("include") List<String> include) {
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
             final String acceptedLocale = HttpHeadersUtil.getFirstAcceptedLocaleName(acceptLang);
             final ApiEntity apiEntity = apiService.findById(apiId);
 
@@ -94,8 +92,7 @@ public class ApiPageResource extends AbstractResource {
     @Produces(MediaType.TEXT_PLAIN)
     public Response getPageContentByApiIdAndPageId(@PathParam("apiId") String apiId,
             @PathParam("pageId") String pageId) {
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
 
             final ApiEntity apiEntity = apiService.findById(apiId);
 
@@ -35,7 +35,6 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -67,8 +66,7 @@ public class ApiPagesResource extends AbstractResource {
             @BeanParam PaginationParam paginationParam,
             @QueryParam("homepage") Boolean homepage,
             @QueryParam("parent") String parent) {
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
             final String acceptedLocale = HttpHeadersUtil.getFirstAcceptedLocaleName(acceptLang);
             final ApiEntity apiEntity = apiService.findById(apiId);
             
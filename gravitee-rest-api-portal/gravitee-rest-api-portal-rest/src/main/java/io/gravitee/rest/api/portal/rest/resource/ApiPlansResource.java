@@ -31,7 +31,6 @@ import org.jetbrains.annotations.NotNull;
 import javax.inject.Inject;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -61,8 +60,7 @@ public class ApiPlansResource extends AbstractResource {
                                        @BeanParam PaginationParam paginationParam) {
         String username = getAuthenticatedUserOrNull();
 
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(username);
-        if (userApis.stream().anyMatch(a->a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, username)) {
             
             ApiEntity apiEntity = apiService.findById(apiId);
             
@@ -18,7 +18,6 @@ package io.gravitee.rest.api.portal.rest.resource;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.model.RatingEntity;
 import io.gravitee.rest.api.model.UpdateRatingEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.permissions.RolePermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.portal.rest.mapper.RatingMapper;
@@ -37,7 +36,6 @@ import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
-import java.util.Collection;
 
 /**
  * @author Guillaume CUSNIEUX (guillaume.cusnieux at graviteesource.com)
@@ -60,8 +58,7 @@ public class ApiRatingResource extends AbstractResource {
             @Permission(value = RolePermission.API_RATING, acls = RolePermissionAction.DELETE)
     })
     public Response deleteApiRating(@PathParam("apiId") String apiId, @PathParam("ratingId") String ratingId) {
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
 
             RatingEntity ratingEntity = ratingService.findById(ratingId);
 
@@ -87,8 +84,7 @@ public class ApiRatingResource extends AbstractResource {
         if (ratingInput == null) {
             throw new BadRequestException("Input must not be null.");
         }
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
 
             RatingEntity ratingEntity = ratingService.findById(ratingId);
             if (ratingEntity!= null && ratingEntity.getApi().equals(apiId)) {
@@ -33,7 +33,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.model.NewRatingEntity;
 import io.gravitee.rest.api.model.RatingEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.permissions.RolePermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.portal.rest.mapper.RatingMapper;
@@ -66,8 +65,7 @@ public class ApiRatingsResource extends AbstractResource {
                                          @BeanParam PaginationParam paginationParam,
                                          @QueryParam("mine") Boolean mine,
                                          @QueryParam("order") String order) {
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
             List<Rating> ratings;
             if (mine != null && mine == true) {
                 RatingEntity ratingEntity = ratingService.findByApiForConnectedUser(apiId);
@@ -101,8 +99,7 @@ public class ApiRatingsResource extends AbstractResource {
         if (ratingInput == null) {
             throw new BadRequestException("Input must not be null.");
         }
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
             NewRatingEntity rating = new NewRatingEntity();
             rating.setApi(apiId);
             rating.setComment(ratingInput.getComment());
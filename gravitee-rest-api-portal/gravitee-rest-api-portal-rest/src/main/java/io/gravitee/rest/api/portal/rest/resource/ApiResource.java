@@ -76,8 +76,7 @@ public class ApiResource extends AbstractResource {
                                   @QueryParam("include") List<String> include) {
         String username = getAuthenticatedUserOrNull();
 
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(username);
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, username)) {
 
             ApiEntity apiEntity = apiService.findById(apiId);
             Api api = apiMapper.convert(apiEntity);
@@ -116,8 +115,7 @@ public class ApiResource extends AbstractResource {
     @Path("picture")
     @Produces({ MediaType.WILDCARD, MediaType.APPLICATION_JSON })
     public Response getPictureByApiId(@Context Request request, @PathParam("apiId") String apiId) {
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
 
             InlinePictureEntity image = apiService.getPicture(apiId);
 
@@ -130,8 +128,7 @@ public class ApiResource extends AbstractResource {
     @Path("background")
     @Produces({ MediaType.WILDCARD, MediaType.APPLICATION_JSON })
     public Response getBAckgroundByApiId(@Context Request request, @PathParam("apiId") String apiId) {
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+        if (apiService.isApiVisibleToUser(apiId, getAuthenticatedUserOrNull())) {
 
             InlinePictureEntity image = apiService.getBackground(apiId);
 
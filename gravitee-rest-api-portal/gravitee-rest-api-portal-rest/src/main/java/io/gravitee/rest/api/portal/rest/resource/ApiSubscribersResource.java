@@ -62,16 +62,14 @@ public class ApiSubscribersResource extends AbstractResource {
     public Response getSubscriberApplicationsByApiId(@BeanParam PaginationParam paginationParam,
             @PathParam("apiId") String apiId, @QueryParam("statuses") List<SubscriptionStatus> statuses) {
         String currentUser = getAuthenticatedUserOrNull();
-        Collection<ApiEntity> userApis = apiService.findPublishedByUser(currentUser);
-        Optional<ApiEntity> optionalApi = userApis.stream().filter(a -> a.getId().equals(apiId)).findFirst();
-        if (optionalApi.isPresent()) {
+        if (apiService.isApiVisibleToUser(apiId, currentUser)) {
 
             SubscriptionQuery subscriptionQuery = new SubscriptionQuery();
             subscriptionQuery.setApi(apiId);
 
             subscriptionQuery.setStatuses(statuses);
 
-            ApiEntity api = optionalApi.get();
+            ApiEntity api = apiService.findById(apiId);
             if(!api.getPrimaryOwner().getId().equals(currentUser) ) {
                 Set<ApplicationListItem> userApplications = this.applicationService.findByUser(currentUser);
                 if(userApplications == null || userApplications.isEmpty()) {
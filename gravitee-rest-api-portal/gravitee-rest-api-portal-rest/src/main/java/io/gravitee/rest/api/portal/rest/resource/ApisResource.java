@@ -15,10 +15,14 @@
  */
 package io.gravitee.rest.api.portal.rest.resource;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.rest.api.model.RatingSummaryEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.model.api.ApiQuery;
+import io.gravitee.rest.api.model.common.PageableImpl;
 import io.gravitee.rest.api.model.filtering.FilteredEntities;
 import io.gravitee.rest.api.portal.rest.mapper.ApiMapper;
 import io.gravitee.rest.api.portal.rest.model.Api;
@@ -26,6 +30,8 @@ import io.gravitee.rest.api.portal.rest.resource.param.ApisParam;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.portal.rest.utils.PortalApiLinkHelper;
 import io.gravitee.rest.api.service.CategoryService;
+import io.gravitee.rest.api.service.RatingService;
+import io.gravitee.rest.api.service.exceptions.PaginationInvalidException;
 import io.gravitee.rest.api.service.filtering.FilteringService;
 
 import javax.inject.Inject;
@@ -57,10 +63,25 @@ public class ApisResource extends AbstractResource {
     @Inject
     private CategoryService categoryService;
 
+    @Inject
+    private RatingService ratingService;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public Response getApis(@BeanParam PaginationParam paginationParam, @BeanParam ApisParam apisParam) {
-        Collection<ApiEntity> apis = apiService.findPublishedByUser(getAuthenticatedUserOrNull(), createQueryFromParam(apisParam));
+        if (apisParam.getFilter() == null && apisParam.getExcludedFilter() == null && apisParam.getPromoted() == null
+                && paginationParam.getSize() > 0) {
+            if (paginationParam.getPage() < 1) {
+                throw new PaginationInvalidException();
+            }
+            // Only the APIs of the requested page are loaded and mapped, ordered by name as without filter
+            final Page<ApiEntity> apisPage = apiService.findPublishedByUserLight(getAuthenticatedUserOrNull(),
+                    createQueryFromParam(apisParam), new PageableImpl(paginationParam.getPage(), paginationParam.getSize()));
+            List<Api> apisList = convert(apisPage.getContent());
+            return createPageResponse(apisList, paginationParam, (int) apisPage.getTotalElements());
+        }
+
+        Collection<ApiEntity> apis = apiService.findPublishedByUserLight(getAuthenticatedUserOrNull(), createQueryFromParam(apisParam));
 
         FilteringService.FilterType filter = apisParam.getFilter() != null ? FilteringService.FilterType.valueOf(apisParam.getFilter().name()) : null;
         FilteringService.FilterType excludeFilter = apisParam.getExcludedFilter() != null ? FilteringService.FilterType.valueOf(apisParam.getExcludedFilter().name()) : null;
@@ -95,10 +116,20 @@ public class ApisResource extends AbstractResource {
             }
         }
 
-        List<Api> apisList = resultStream
-                .map(apiMapper::convert)
-                .map(this::addApiLinks)
-                .collect(Collectors.toList());
+        final List<ApiEntity> resultList = resultStream.collect(Collectors.toList());
+
+        if (paginationParam.getSize() > 0 && !resultList.isEmpty()) {
+            // Only the APIs of the requested page are mapped, the mapping reading the ratings of each API
+            final int startIndex = (paginationParam.getPage() - 1) * paginationParam.getSize();
+            if (paginationParam.getPage() < 1 || startIndex >= resultList.size()) {
+                throw new PaginationInvalidException();
+            }
+            List<Api> apisList = convert(resultList
+                    .subList(startIndex, Math.min(startIndex + paginationParam.getSize(), resultList.size())));
+            return createPageResponse(apisList, paginationParam, resultList.size(), filteredApis.getMetadata());
+        }
+
+        List<Api> apisList = convert(resultList);
 
         return createListResponse(apisList, paginationParam, filteredApis.getMetadata());
     }
@@ -108,15 +139,26 @@ public class ApisResource extends AbstractResource {
     @Produces(MediaType.APPLICATION_JSON)
     public Response searchApis(@NotNull(message = "Input must not be null.") @QueryParam("q") String query,
                                @BeanParam PaginationParam paginationParam) {
-        Collection<ApiEntity> apis = apiService.findPublishedByUser(getAuthenticatedUserOrNull(),
-                createQueryFromParam(null));
+        // only the ids of the published APIs visible by the user are needed to filter the search
+        final ApiQuery apiQuery = createQueryFromParam(null);
+        apiQuery.setLifecycleStates(Collections.singletonList(ApiLifecycleState.PUBLISHED));
 
         Map<String, Object> filters = new HashMap<>();
-        filters.put("api", apis.stream().map(ApiEntity::getId).collect(Collectors.toSet()));
+        filters.put("api", apiService.findIdsByUser(getAuthenticatedUserOrNull(), apiQuery, true));
 
         try {
-            List<Api> apisList = apiService.search(query, filters).stream().map(apiMapper::convert)
-                    .map(this::addApiLinks).collect(Collectors.toList());
+            if (paginationParam.getSize() > 0) {
+                if (paginationParam.getPage() < 1) {
+                    throw new PaginationInvalidException();
+                }
+                // Only the APIs of the requested page are loaded and mapped
+                final Page<ApiEntity> apisPage = apiService.search(query, filters,
+                        new PageableImpl(paginationParam.getPage(), paginationParam.getSize()));
+                List<Api> apisList = convert(apisPage.getContent());
+                return createPageResponse(apisList, paginationParam, (int) apisPage.getTotalElements());
+            }
+
+            List<Api> apisList = convert(apiService.search(query, filters));
             return createListResponse(apisList, paginationParam);
         } catch (TechnicalException e) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(e).build();
@@ -138,6 +180,16 @@ public class ApisResource extends AbstractResource {
         return apiQuery;
     }
 
+    private List<Api> convert(Collection<ApiEntity> apis) {
+        // the rating summaries of the listed APIs are read at once
+        final Map<String, RatingSummaryEntity> ratingSummaries = ratingService.isEnabled() && !apis.isEmpty()
+                ? ratingService.findSummariesByApis(apis.stream().map(ApiEntity::getId).collect(Collectors.toSet()))
+                : Collections.emptyMap();
+        return apis.stream()
+                .map(api -> apiMapper.convert(api, ratingSummaries.get(api.getId())))
+                .map(this::addApiLinks)
+                .collect(Collectors.toList());
+    }
 
     private Api addApiLinks(Api api) {
         final OffsetDateTime updatedAt = api.getUpdatedAt();
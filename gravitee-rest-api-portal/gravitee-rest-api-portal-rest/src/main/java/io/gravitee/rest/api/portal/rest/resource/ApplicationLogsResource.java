@@ -88,6 +88,10 @@ public class ApplicationLogsResource extends AbstractResource {
     @SuppressWarnings("unchecked")
     protected SearchLogResponse<ApplicationRequestItem> getSearchLogResponse(String applicationId,
             PaginationParam paginationParam, LogsParam logsParam) {
+        return logsService.findByApplication(applicationId, toLogQuery(paginationParam, logsParam));
+    }
+
+    private LogQuery toLogQuery(PaginationParam paginationParam, LogsParam logsParam) {
         logsParam.validate();
 
         LogQuery logQuery = new LogQuery();
@@ -99,8 +103,7 @@ public class ApplicationLogsResource extends AbstractResource {
         logQuery.setTo(logsParam.getTo());
         logQuery.setField(logsParam.getField());
         logQuery.setOrder(!"DESC".equals(logsParam.getOrder()));
-
-        return logsService.findByApplication(applicationId, logQuery);
+        return logQuery;
     }
 
     @GET
@@ -135,9 +138,9 @@ public class ApplicationLogsResource extends AbstractResource {
         //Does application exists ?
         applicationService.findById(applicationId);
         
-        final SearchLogResponse<ApplicationRequestItem> searchLogResponse = getSearchLogResponse(applicationId, paginationParam, logsParam);
+        final LogQuery logQuery = toLogQuery(paginationParam, logsParam);
         return Response
-                .ok(logsService.exportAsCsv(searchLogResponse))
+                .ok(withGraviteeContext(output -> logsService.exportByApplicationAsCsv(applicationId, logQuery, output)))
                 .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=logs-%s-%s.csv", applicationId, System.currentTimeMillis()))
                 .build();
     }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.portal.rest.resource;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.model.ApplicationEntity;
 import io.gravitee.rest.api.model.NewApplicationEntity;
@@ -22,6 +23,8 @@ import io.gravitee.rest.api.model.application.ApplicationListItem;
 import io.gravitee.rest.api.model.application.ApplicationSettings;
 import io.gravitee.rest.api.model.application.OAuthClientSettings;
 import io.gravitee.rest.api.model.application.SimpleApplicationSettings;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.model.common.SortableImpl;
 import io.gravitee.rest.api.model.filtering.FilteredEntities;
 import io.gravitee.rest.api.model.permissions.RolePermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
@@ -32,6 +35,7 @@ import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.portal.rest.security.Permission;
 import io.gravitee.rest.api.portal.rest.security.Permissions;
 import io.gravitee.rest.api.service.ApplicationService;
+import io.gravitee.rest.api.service.exceptions.PaginationInvalidException;
 import io.gravitee.rest.api.service.filtering.FilteringService;
 import io.gravitee.rest.api.service.notification.ApplicationHook;
 import io.gravitee.rest.api.service.notification.Hook;
@@ -121,35 +125,64 @@ public class ApplicationsResource extends AbstractResource {
                                     @QueryParam("forSubscription") final boolean forSubscription,
                                     @QueryParam("order") @DefaultValue("name") final String order) {
 
+        boolean isAsc = !order.startsWith("-");
+
+        if (!forSubscription && !order.contains("nbSubscriptions") && paginationParam.getSize() > 0) {
+            if (paginationParam.getPage() < 1) {
+                throw new PaginationInvalidException();
+            }
+            // Only the applications of the requested page are loaded and mapped
+            final Page<ApplicationListItem> applicationsPage = applicationService.findByUser(getAuthenticatedUser(),
+                    new SortableImpl("name", isAsc), new PageableImpl(paginationParam.getPage(), paginationParam.getSize()));
+            List<Application> applicationsList = applicationsPage.getContent().stream()
+                    .map(application -> applicationMapper.convert(application, uriInfo))
+                    .map(this::addApplicationLinks)
+                    .collect(Collectors.toList());
+
+            return createPageResponse(applicationsList, paginationParam, (int) applicationsPage.getTotalElements());
+        }
+
         Stream<ApplicationListItem> applicationStream = applicationService.findByUser(getAuthenticatedUser()).stream();
 
         if (forSubscription) {
             applicationStream = applicationStream.filter(app -> this.hasPermission(RolePermission.APPLICATION_SUBSCRIPTION, app.getId(), RolePermissionAction.CREATE));
         }
 
-        boolean isAsc = !order.startsWith("-");
-
+        final List<ApplicationListItem> applications;
+        Map<String, Map<String, Object>> metadata = null;
         if (order.contains("nbSubscriptions")) {
             FilteredEntities<ApplicationListItem> filteredApplications = filteringService.getEntitiesOrderByNumberOfSubscriptions(applicationStream.collect(Collectors.toList()), null, isAsc);
-            List<Application> applicationsList = filteredApplications.getFilteredItems().stream()
+            applications = filteredApplications.getFilteredItems();
+            metadata = filteredApplications.getMetadata();
+        } else {
+            Comparator<ApplicationListItem> applicationNameComparator = Comparator.comparing(ApplicationListItem::getName, String.CASE_INSENSITIVE_ORDER);
+            if (!isAsc) {
+                applicationNameComparator = applicationNameComparator.reversed();
+            }
+            applications = applicationStream.sorted(applicationNameComparator).collect(Collectors.toList());
+        }
+
+        if (paginationParam.getSize() > 0 && !applications.isEmpty()) {
+            // Only the applications of the requested page are mapped
+            final int startIndex = (paginationParam.getPage() - 1) * paginationParam.getSize();
+            if (paginationParam.getPage() < 1 || startIndex >= applications.size()) {
+                throw new PaginationInvalidException();
+            }
+            List<Application> applicationsList = applications
+                    .subList(startIndex, Math.min(startIndex + paginationParam.getSize(), applications.size())).stream()
                     .map(application -> applicationMapper.convert(application, uriInfo))
                     .map(this::addApplicationLinks)
                     .collect(Collectors.toList());
 
-            return createListResponse(applicationsList, paginationParam, filteredApplications.getMetadata());
+            return createPageResponse(applicationsList, paginationParam, applications.size(), metadata);
         }
 
-        Comparator<Application> applicationNameComparator = Comparator.comparing(Application::getName, String.CASE_INSENSITIVE_ORDER);
-        if (!isAsc) {
-            applicationNameComparator.reversed();
-        }
-        List<Application> applicationsList = applicationStream
+        List<Application> applicationsList = applications.stream()
                 .map(application -> applicationMapper.convert(application, uriInfo))
                 .map(this::addApplicationLinks)
-                .sorted(applicationNameComparator)
                 .collect(Collectors.toList());
 
-        return createListResponse(applicationsList, paginationParam);
+        return createListResponse(applicationsList, paginationParam, metadata);
     }
 
     private Application addApplicationLinks(Application application) {
@@ -17,7 +17,6 @@ package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.model.CategoryEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.mapper.CategoryMapper;
 import io.gravitee.rest.api.portal.rest.model.Category;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
@@ -35,7 +34,7 @@ import javax.ws.rs.core.Response;
 
 import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -56,14 +55,14 @@ public class CategoriesResource extends AbstractResource {
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public Response getCategories(@BeanParam PaginationParam paginationParam) {
-        Set<ApiEntity> apis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        
+        Map<String, Long> countByCategory = apiService.countPublishedByUserGroupByCategories(getAuthenticatedUserOrNull());
+
         List<Category> categoriesList = categoryService.findAll()
                 .stream()
                 .filter(c -> !c.isHidden())
                 .sorted(Comparator.comparingInt(CategoryEntity::getOrder))
                 .map(c -> {
-                    c.setTotalApis(categoryService.getTotalApisByCategory(apis, c));
+                    c.setTotalApis(countByCategory.getOrDefault(c.getId(), 0L));
                     return c;
                 })
                 .map(c-> categoryMapper.convert(c, uriInfo.getBaseUriBuilder()))
@@ -17,7 +17,6 @@ package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.rest.api.model.InlinePictureEntity;
 import io.gravitee.rest.api.model.CategoryEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.mapper.CategoryMapper;
 import io.gravitee.rest.api.service.CategoryService;
 
@@ -31,8 +30,6 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
-import java.util.Set;
-
 import static io.gravitee.common.http.MediaType.APPLICATION_JSON;
 
 /**
@@ -52,8 +49,8 @@ public class CategoryResource extends AbstractResource {
     public Response get(@PathParam("categoryId") String categoryId) {
         CategoryEntity category = categoryService.findNotHiddenById(categoryId);
 
-        Set<ApiEntity> apis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
-        category.setTotalApis(categoryService.getTotalApisByCategory(apis, category));
+        category.setTotalApis(apiService.countPublishedByUserGroupByCategories(getAuthenticatedUserOrNull())
+                .getOrDefault(category.getId(), 0L));
 
         return Response
                 .ok(categoryMapper.convert(category, uriInfo.getBaseUriBuilder()))
@@ -125,6 +125,7 @@ public class SubscriptionsResource extends AbstractResource {
         }
 
         final Collection<SubscriptionEntity> subscriptions;
+        int totalItems = 0;
         if (withoutPagination) {
             subscriptions = subscriptionService.search(query);
         } else {
@@ -133,6 +134,7 @@ public class SubscriptionsResource extends AbstractResource {
                 subscriptions = emptyList();
             } else {
                 subscriptions = pagedSubscriptions.getContent();
+                totalItems = (int) pagedSubscriptions.getTotalElements();
             }
         }
 
@@ -165,7 +167,11 @@ public class SubscriptionsResource extends AbstractResource {
             }
         });
 
-        return createListResponse(subscriptionList, paginationParam, metadata, !withoutPagination);
+        if (withoutPagination) {
+            return createListResponse(subscriptionList, paginationParam, metadata, false);
+        }
+        // the subscriptions are already paginated by the repository
+        return createPageResponse(subscriptionList, paginationParam, totalItems, metadata);
     }
 
     @Path("{subscriptionId}")
@@ -27,7 +27,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.*;
-import java.io.ByteArrayOutputStream;
 import java.net.URI;
 
 public class ThemeResource extends AbstractResource {
@@ -88,7 +87,7 @@ public class ThemeResource extends AbstractResource {
 
         InlinePictureEntity image = (InlinePictureEntity) picture;
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(image.getHash());
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
@@ -98,12 +97,9 @@ public class ThemeResource extends AbstractResource {
                     .build();
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
         return Response
                 .ok()
-                .entity(baos)
+                .entity(image.getContent())
                 .cacheControl(cc)
                 .tag(etag)
                 .type(image.getType())
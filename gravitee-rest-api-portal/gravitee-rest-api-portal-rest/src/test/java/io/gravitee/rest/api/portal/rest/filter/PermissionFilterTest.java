@@ -94,7 +94,6 @@ public class PermissionFilterTest {
         ApiEntity api = new ApiEntity();
         api.setId(API_ID);
         Principal user = () -> USERNAME;
-        when(apiService.findById(api.getId())).thenReturn(api);
         when(securityContext.getUserPrincipal()).thenReturn(user);
         Permission perm = mock(Permission.class);
         when(perm.value()).thenReturn(RolePermission.API_ANALYTICS);
@@ -116,10 +115,10 @@ public class PermissionFilterTest {
         try {
             permissionFilter.filter(permissions, containerRequestContext);
         } catch (ForbiddenAccessException e) {
-            verify(apiService, times(1)).findById(api.getId());
+            verify(apiService, never()).findById(any());
             verify(applicationService, never()).findById(any());
             verify(roleService, times(1)).hasPermission(any(), any(), any());
-            verify(membershipService, times(1)).getUserMemberPermissions(api, USERNAME);
+            verify(membershipService, times(1)).getUserMemberPermissions(MembershipReferenceType.API, API_ID, USERNAME);
             verify(membershipService, never()).getRoles(any(), any(), any(), any());
             throw e;
         }
@@ -133,10 +132,10 @@ public class PermissionFilterTest {
         when(roleService.hasPermission(any(), any(), any())).thenReturn(true);
 
         permissionFilter.filter(permissions, containerRequestContext);
-        verify(apiService, times(1)).findById(api.getId());
+        verify(apiService, never()).findById(any());
         verify(applicationService, never()).findById(any());
         verify(roleService, times(1)).hasPermission(any(), any(), any());
-        verify(membershipService, times(1)).getUserMemberPermissions(api, USERNAME);
+        verify(membershipService, times(1)).getUserMemberPermissions(MembershipReferenceType.API, API_ID, USERNAME);
         verify(membershipService, never()).getRoles(any(), any(), any(), any());
     }
 
@@ -147,7 +146,6 @@ public class PermissionFilterTest {
         ApplicationEntity application = new ApplicationEntity();
         application.setId(APPLICATION_ID);
         Principal user = () -> USERNAME;
-        when(applicationService.findById(application.getId())).thenReturn(application);
         when(securityContext.getUserPrincipal()).thenReturn(user);
         Permission perm = mock(Permission.class);
         when(perm.value()).thenReturn(RolePermission.APPLICATION_ANALYTICS);
@@ -169,10 +167,10 @@ public class PermissionFilterTest {
         try {
             permissionFilter.filter(permissions, containerRequestContext);
         } catch (ForbiddenAccessException e) {
-            verify(applicationService, times(1)).findById(application.getId());
+            verify(applicationService, never()).findById(any());
             verify(apiService, never()).findById(any());
             verify(roleService, times(1)).hasPermission(any(), any(), any());
-            verify(membershipService, times(1)).getUserMemberPermissions(application, USERNAME);
+            verify(membershipService, times(1)).getUserMemberPermissions(MembershipReferenceType.APPLICATION, APPLICATION_ID, USERNAME);
             verify(membershipService, never()).getRoles(any(), any(), any(), any());
             throw e;
         }
@@ -187,9 +185,9 @@ public class PermissionFilterTest {
 
         permissionFilter.filter(permissions, containerRequestContext);
         verify(apiService, never()).findById(any());
-        verify(applicationService, times(1)).findById(application.getId());
+        verify(applicationService, never()).findById(any());
         verify(roleService, times(1)).hasPermission(any(), any(), any());
-        verify(membershipService, times(1)).getUserMemberPermissions(application, USERNAME);
+        verify(membershipService, times(1)).getUserMemberPermissions(MembershipReferenceType.APPLICATION, APPLICATION_ID, USERNAME);
         verify(membershipService, never()).getRoles(any(), any(), any(), any());
     }
 
@@ -34,6 +34,7 @@ import static io.gravitee.common.http.HttpStatusCode.NOT_FOUND_404;
 import static io.gravitee.common.http.HttpStatusCode.OK_200;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 /**
@@ -60,7 +61,8 @@ public class ApiMetricsResourceTest extends AbstractResourceTest {
         doReturn(mockApi).when(apiService).findById(API);
 
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(mockApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
     }
 
     @Test
@@ -69,7 +71,8 @@ public class ApiMetricsResourceTest extends AbstractResourceTest {
         ApiEntity userApi = new ApiEntity();
         userApi.setId("1");
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(userApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
 
         // test
         final Response response = target(API).path("metrics").request().get();
@@ -36,6 +36,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 /**
@@ -92,7 +93,8 @@ public class ApiPageResourceNotAuthenticatedTest extends AbstractResourceTest {
         mockApi.setId(API);
         doReturn(mockApi).when(apiService).findById(API);
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(mockApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(isNull());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), isNull());
         
         mockPage = new PageEntity();
         mockPage.setPublished(true);
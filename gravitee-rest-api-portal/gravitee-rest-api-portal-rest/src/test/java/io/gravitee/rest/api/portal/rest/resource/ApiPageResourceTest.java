@@ -33,6 +33,7 @@ import java.util.*;
 import static io.gravitee.common.http.HttpStatusCode.*;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 
@@ -62,7 +63,8 @@ public class ApiPageResourceTest extends AbstractResourceTest {
         doReturn(mockApi).when(apiService).findById(API);
 
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(mockApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
 
         PageEntity page1 = new PageEntity();
         page1.setPublished(true);
@@ -81,7 +83,8 @@ public class ApiPageResourceTest extends AbstractResourceTest {
         ApiEntity userApi = new ApiEntity();
         userApi.setId("1");
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(userApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
 
         // test
         final Response response = target(API).path("pages").path(PAGE).request().get();
@@ -171,7 +174,8 @@ public class ApiPageResourceTest extends AbstractResourceTest {
         ApiEntity userApi = new ApiEntity();
         userApi.setId("1");
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(userApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
 
         // test
         final Response response = target(API).path("pages").path(PAGE).path("content").request().get();
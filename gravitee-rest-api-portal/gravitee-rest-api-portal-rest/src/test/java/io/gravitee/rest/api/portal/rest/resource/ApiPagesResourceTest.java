@@ -40,6 +40,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 /**
@@ -63,7 +64,8 @@ public class ApiPagesResourceTest extends AbstractResourceTest {
         doReturn(mockApi).when(apiService).findById(API);
         
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(mockApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
 
         doReturn(Arrays.asList(new PageEntity())).when(pageService).search(any(), isNull());
         
@@ -77,7 +79,8 @@ public class ApiPagesResourceTest extends AbstractResourceTest {
         ApiEntity userApi = new ApiEntity();
         userApi.setId("1");
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(userApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
         
         //test
         final Response response = target(API).path("pages").request().get();
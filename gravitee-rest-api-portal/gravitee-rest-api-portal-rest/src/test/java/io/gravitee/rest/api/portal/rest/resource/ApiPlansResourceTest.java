@@ -37,6 +37,7 @@ import static io.gravitee.common.http.HttpStatusCode.OK_200;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
@@ -65,7 +66,8 @@ public class ApiPlansResourceTest extends AbstractResourceTest {
         mockApi.setVisibility(Visibility.PUBLIC);
         doReturn(mockApi).when(apiService).findById(API);
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(mockApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
 
         plan1 = new PlanEntity();
         plan1.setId("A");
@@ -96,7 +98,8 @@ public class ApiPlansResourceTest extends AbstractResourceTest {
         ApiEntity userApi = new ApiEntity();
         userApi.setId("1");
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(userApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
 
         //test
         final Response response = target(API).path("plans").request().get();
@@ -194,7 +197,8 @@ public class ApiPlansResourceTest extends AbstractResourceTest {
         mockApi.setVisibility(Visibility.PRIVATE);
         doReturn(mockApi).when(apiService).findById(API);
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(mockApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
 
         final Response response = target(API).path("plans").request().get();
         assertEquals(OK_200, response.getStatus());
@@ -43,6 +43,7 @@ import static io.gravitee.common.http.HttpStatusCode.OK_200;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 /**
@@ -67,8 +68,10 @@ public class ApiSubscribersResourceTest extends AbstractResourceTest {
         user.setId(USER_NAME);
         PrimaryOwnerEntity primaryOwner = new PrimaryOwnerEntity(user);
         mockApi.setPrimaryOwner(primaryOwner);
+        doReturn(mockApi).when(apiService).findById(API);
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(mockApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
     }
 
     @Test
@@ -77,7 +80,8 @@ public class ApiSubscribersResourceTest extends AbstractResourceTest {
         ApiEntity userApi = new ApiEntity();
         userApi.setId("1");
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(userApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
 
         // test
         final Response response = target(API).path("metrics").request().get();
@@ -199,8 +203,10 @@ public class ApiSubscribersResourceTest extends AbstractResourceTest {
         user.setId("ANOTHER_NAME");
         PrimaryOwnerEntity primaryOwner = new PrimaryOwnerEntity(user);
         mockApi.setPrimaryOwner(primaryOwner);
+        doReturn(mockApi).when(apiService).findById(API);
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(mockApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doAnswer(invocation -> mockApis.stream().anyMatch(api -> api.getId().equals(invocation.getArgument(0))))
+                .when(apiService).isApiVisibleToUser(any(), any());
         
         TopHitsAnalytics mockAnalytics = new TopHitsAnalytics();
         Map<String, Long> mockedValues = new HashMap<>();
@@ -15,10 +15,12 @@
  */
 package io.gravitee.rest.api.portal.rest.resource;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.model.api.ApiQuery;
+import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.rest.api.model.filtering.FilteredEntities;
 import io.gravitee.rest.api.portal.rest.model.Api;
 import io.gravitee.rest.api.portal.rest.model.ApisResponse;
@@ -108,16 +110,18 @@ public class ApisResourceNotAuthenticatedTest extends AbstractResourceTest {
 
 
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(publishedApi, anotherPublishedApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(isNull(), any(ApiQuery.class));
+        doReturn(mockApis).when(apiService).findPublishedByUserLight(isNull(), any(ApiQuery.class));
+        doReturn(new Page<>(Arrays.asList(publishedApi, anotherPublishedApi), 1, 2, 2))
+                .when(apiService).findPublishedByUserLight(isNull(), any(ApiQuery.class), any(Pageable.class));
 
         doReturn(new FilteredEntities<ApiEntity>(new ArrayList<>(mockApis), null)).when(filteringService).filterApis(any(), any(), any());
 
         
         doReturn(false).when(ratingService).isEnabled();
 
-        doReturn(new Api().name("A").id("A")).when(apiMapper).convert(publishedApi);
-        doReturn(new Api().name("B").id("B")).when(apiMapper).convert(unpublishedApi);
-        doReturn(new Api().name("C").id("C")).when(apiMapper).convert(anotherPublishedApi);
+        doReturn(new Api().name("A").id("A")).when(apiMapper).convert(publishedApi, null);
+        doReturn(new Api().name("B").id("B")).when(apiMapper).convert(unpublishedApi, null);
+        doReturn(new Api().name("C").id("C")).when(apiMapper).convert(anotherPublishedApi, null);
 
     }
 
@@ -126,7 +130,7 @@ public class ApisResourceNotAuthenticatedTest extends AbstractResourceTest {
         final Response response = target().request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
-        Mockito.verify(apiService).findPublishedByUser(isNull(), any(ApiQuery.class));
+        Mockito.verify(apiService).findPublishedByUserLight(isNull(), any(ApiQuery.class), any(Pageable.class));
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(2, apiResponse.getData().size());
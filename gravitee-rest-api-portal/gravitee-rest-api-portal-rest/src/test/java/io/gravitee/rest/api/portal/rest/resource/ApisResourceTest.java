@@ -18,9 +18,11 @@ package io.gravitee.rest.api.portal.rest.resource;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.rest.api.model.CategoryEntity;
+import io.gravitee.rest.api.model.RatingSummaryEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.model.api.ApiQuery;
+import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.rest.api.model.filtering.FilteredEntities;
 import io.gravitee.rest.api.portal.rest.model.Error;
 import io.gravitee.rest.api.portal.rest.model.*;
@@ -34,9 +36,12 @@ import javax.ws.rs.core.Response;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 /**
@@ -87,17 +92,26 @@ public class ApisResourceTest extends AbstractResourceTest {
         Set<ApiEntity> mockApis = new HashSet<>(
                 Arrays.asList(publishedApi5, publishedApi2, publishedApi1, publishedApi3, publishedApi4));
         doReturn(mockApis).when(apiService).findPublishedByUser(any(), any());
+        doReturn(mockApis).when(apiService).findPublishedByUserLight(any(), any());
+        final List<ApiEntity> sortedApis = mockApis.stream().sorted(Comparator.comparing(ApiEntity::getName)).collect(Collectors.toList());
+        doAnswer(invocation -> {
+            final Pageable pageable = invocation.getArgument(2);
+            final int from = Math.min((pageable.getPageNumber() - 1) * pageable.getPageSize(), sortedApis.size());
+            return new io.gravitee.common.data.domain.Page<>(
+                    sortedApis.subList(from, Math.min(from + pageable.getPageSize(), sortedApis.size())),
+                    pageable.getPageNumber(), pageable.getPageSize(), sortedApis.size());
+        }).when(apiService).findPublishedByUserLight(any(), any(), any(Pageable.class));
 
         doReturn(false).when(ratingService).isEnabled();
 
-        doReturn(new FilteredEntities<ApiEntity>(new ArrayList<>(mockApis), null)).when(filteringService).filterApis(any(), any(), any());
+        doReturn(new FilteredEntities<>(sortedApis, null)).when(filteringService).filterApis(any(), any(), any());
 
-        doReturn(new Api().name("1").id("1")).when(apiMapper).convert(publishedApi1);
-        doReturn(new Api().name("2").id("2")).when(apiMapper).convert(unpublishedApi);
-        doReturn(new Api().name("3").id("3")).when(apiMapper).convert(publishedApi2);
-        doReturn(new Api().name("4").id("4")).when(apiMapper).convert(publishedApi3);
-        doReturn(new Api().name("5").id("5")).when(apiMapper).convert(publishedApi4);
-        doReturn(new Api().name("6").id("6")).when(apiMapper).convert(publishedApi5);
+        doReturn(new Api().name("1").id("1")).when(apiMapper).convert(publishedApi1, null);
+        doReturn(new Api().name("2").id("2")).when(apiMapper).convert(unpublishedApi, null);
+        doReturn(new Api().name("3").id("3")).when(apiMapper).convert(publishedApi2, null);
+        doReturn(new Api().name("4").id("4")).when(apiMapper).convert(publishedApi3, null);
+        doReturn(new Api().name("5").id("5")).when(apiMapper).convert(publishedApi4, null);
+        doReturn(new Api().name("6").id("6")).when(apiMapper).convert(publishedApi5, null);
 
     }
 
@@ -108,7 +122,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiQuery> queryCaptor = ArgumentCaptor.forClass(ApiQuery.class);
-        Mockito.verify(apiService).findPublishedByUser(eq(USER_NAME), queryCaptor.capture());
+        Mockito.verify(apiService).findPublishedByUserLight(eq(USER_NAME), queryCaptor.capture(), any(Pageable.class));
         final ApiQuery query = queryCaptor.getValue();
         assertEquals("context-path", query.getContextPath());
         assertEquals("label", query.getLabel());
@@ -128,7 +142,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertTrue(bastPathList.contains(expectedBasePath + "/6"));
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
         assertEquals(5, allNameValues.size());
@@ -145,27 +159,46 @@ public class ApisResourceTest extends AbstractResourceTest {
         final Response response = target().queryParam("page", 3).queryParam("size", 1).request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
+        // only the API of the requested page is mapped
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture());
-        final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
-                .collect(Collectors.toList());
-        assertEquals(5, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "4", "5", "6")));
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture(), isNull());
+        assertEquals("4", apiEntityCaptor.getValue().getName());
+        Mockito.verify(filteringService, Mockito.never()).filterApis(any(), any(), any());
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(1, apiResponse.getData().size());
+        Map<String, Object> pagination = apiResponse.getMetadata().get(AbstractResource.METADATA_PAGINATION_KEY);
+        assertEquals(5, pagination.get(AbstractResource.METADATA_PAGINATION_TOTAL_KEY));
 
         Links links = apiResponse.getLinks();
         assertNotNull(links);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReadRatingSummariesOfThePageAtOnce() {
+        doReturn(true).when(ratingService).isEnabled();
+        final RatingSummaryEntity ratingSummary = new RatingSummaryEntity();
+        doReturn(Collections.singletonMap("3", ratingSummary)).when(ratingService).findSummariesByApis(any());
+        doReturn(new Api().name("3").id("3")).when(apiMapper).convert(any(ApiEntity.class), eq(ratingSummary));
+
+        final Response response = target().queryParam("page", 1).queryParam("size", 2).request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+
+        ArgumentCaptor<Collection<String>> apiIdsCaptor = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(ratingService, Mockito.times(1)).findSummariesByApis(apiIdsCaptor.capture());
+        assertEquals(new HashSet<>(Arrays.asList("1", "3")), new HashSet<>(apiIdsCaptor.getValue()));
+        Mockito.verify(ratingService, Mockito.never()).findSummaryByApi(any());
+        Mockito.verify(apiMapper).convert(any(ApiEntity.class), eq(ratingSummary));
+    }
+
     @Test
     public void shouldGetAllApis() {
         final Response response = target().queryParam("size", -1).request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
         assertEquals(5, allNameValues.size());
@@ -181,7 +214,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
         assertEquals(5, allNameValues.size());
@@ -212,7 +245,9 @@ public class ApisResourceTest extends AbstractResourceTest {
     @Test
     public void shouldGetNoPublishedApiAndNoLink() {
 
-        doReturn(Collections.emptySet()).when(apiService).findPublishedByUser(any(), any());
+        doReturn(Collections.emptySet()).when(apiService).findPublishedByUserLight(any(), any());
+        doReturn(new io.gravitee.common.data.domain.Page<>(Collections.emptyList(), 1, 0, 0))
+                .when(apiService).findPublishedByUserLight(any(), any(), any(Pageable.class));
         doReturn(new FilteredEntities<ApiEntity>(Collections.emptyList(), null)).when(filteringService).filterApis(any(), any(), any());
 
         // Test with default limit
@@ -244,13 +279,21 @@ public class ApisResourceTest extends AbstractResourceTest {
         searchedApi.setName("3");
         searchedApi.setId("3");
 
-        doReturn(new HashSet<>(Arrays.asList(searchedApi))).when(apiService).search(any(), any());
+        doReturn(new io.gravitee.common.data.domain.Page<>(singletonList(searchedApi), 1, 1, 1))
+                .when(apiService).search(any(), any(), any());
         final Response response = target("/_search").queryParam("q", "3").request().post(Entity.json(null));
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        Mockito.verify(apiService).search(eq("3"), any(), pageableCaptor.capture());
+        assertEquals(1, pageableCaptor.getValue().getPageNumber());
+        assertEquals(10, pageableCaptor.getValue().getPageSize());
+
         ArgumentCaptor<ApiQuery> queryCaptor = ArgumentCaptor.forClass(ApiQuery.class);
-        Mockito.verify(apiService).findPublishedByUser(eq(USER_NAME), queryCaptor.capture());
+        Mockito.verify(apiService).findIdsByUser(eq(USER_NAME), queryCaptor.capture(), eq(true));
+        Mockito.verify(apiService, Mockito.never()).findPublishedByUser(any(), any());
         final ApiQuery query = queryCaptor.getValue();
+        assertEquals(singletonList(ApiLifecycleState.PUBLISHED), query.getLifecycleStates());
         assertNull(query.getContextPath());
         assertNull(query.getLabel());
         assertNull(query.getVersion());
@@ -265,24 +308,64 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertTrue(bastPathList.contains(expectedBasePath + "/3"));
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture(), isNull());
         assertEquals("3", apiEntityCaptor.getValue().getName());
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(1, apiResponse.getData().size());
     }
 
+    @Test
+    public void shouldSearchApisOnRequestedPage() throws TechnicalException {
+        ApiEntity searchedApi = new ApiEntity();
+        searchedApi.setLifecycleState(ApiLifecycleState.PUBLISHED);
+        searchedApi.setName("3");
+        searchedApi.setId("3");
+
+        doReturn(new io.gravitee.common.data.domain.Page<>(singletonList(searchedApi), 2, 1, 3))
+                .when(apiService).search(any(), any(), any());
+        final Response response = target("/_search").queryParam("q", "3")
+                .queryParam("page", 2).queryParam("size", 2).request().post(Entity.json(null));
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+
+        ApisResponse apiResponse = response.readEntity(ApisResponse.class);
+        assertEquals(1, apiResponse.getData().size());
+        Map<String, Object> pagination = apiResponse.getMetadata().get(AbstractResource.METADATA_PAGINATION_KEY);
+        assertEquals(2, pagination.get(AbstractResource.METADATA_PAGINATION_CURRENT_PAGE_KEY));
+        assertEquals(3, pagination.get(AbstractResource.METADATA_PAGINATION_FIRST_ITEM_INDEX_KEY));
+        assertEquals(3, pagination.get(AbstractResource.METADATA_PAGINATION_LAST_ITEM_INDEX_KEY));
+        assertEquals(3, pagination.get(AbstractResource.METADATA_PAGINATION_TOTAL_KEY));
+        assertEquals(2, pagination.get(AbstractResource.METADATA_PAGINATION_TOTAL_PAGE_KEY));
+    }
+
+    @Test
+    public void shouldSearchAllApisWithoutPagination() throws TechnicalException {
+        ApiEntity searchedApi = new ApiEntity();
+        searchedApi.setLifecycleState(ApiLifecycleState.PUBLISHED);
+        searchedApi.setName("3");
+        searchedApi.setId("3");
+
+        doReturn(singletonList(searchedApi)).when(apiService).search(any(), any());
+        final Response response = target("/_search").queryParam("q", "3").queryParam("size", -1)
+                .request().post(Entity.json(null));
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+
+        Mockito.verify(apiService, Mockito.never()).search(any(), any(), any());
+        ApisResponse apiResponse = response.readEntity(ApisResponse.class);
+        assertEquals(1, apiResponse.getData().size());
+    }
+
     @Test
     public void shouldHaveAllButPromotedApiIfNoCategory() throws TechnicalException {
         final Response response = target().queryParam("size", 2).queryParam("promoted", false).request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(2)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
-        assertEquals(4, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5", "6")));
+        assertEquals(2, allNameValues.size());
+        assertTrue(allNameValues.containsAll(Arrays.asList("3", "4")));
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(2, apiResponse.getData().size());
@@ -296,11 +379,11 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(3)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
-        assertEquals(4, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5", "6")));
+        assertEquals(3, allNameValues.size());
+        assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5")));
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(3, apiResponse.getData().size());
@@ -316,11 +399,11 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(3)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
-        assertEquals(4, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "5", "6")));
+        assertEquals(3, allNameValues.size());
+        assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "5")));
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(3, apiResponse.getData().size());
@@ -336,11 +419,11 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(3)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
-        assertEquals(4, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5", "6")));
+        assertEquals(3, allNameValues.size());
+        assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5")));
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(3, apiResponse.getData().size());
@@ -352,7 +435,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
         assertEquals(1, allNameValues.size());
@@ -370,7 +453,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
         assertEquals(1, allNameValues.size());
@@ -390,7 +473,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
         assertEquals(1, allNameValues.size());
@@ -410,7 +493,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture(), isNull());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
         assertEquals(1, allNameValues.size());
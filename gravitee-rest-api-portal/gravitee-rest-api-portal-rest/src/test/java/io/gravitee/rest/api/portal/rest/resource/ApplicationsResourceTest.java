@@ -15,11 +15,14 @@
  */
 package io.gravitee.rest.api.portal.rest.resource;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.rest.api.model.ApplicationEntity;
 import io.gravitee.rest.api.model.NewApplicationEntity;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
 import io.gravitee.rest.api.model.application.ApplicationSettings;
+import io.gravitee.rest.api.model.common.Pageable;
+import io.gravitee.rest.api.model.common.Sortable;
 import io.gravitee.rest.api.model.filtering.FilteredEntities;
 import io.gravitee.rest.api.portal.rest.model.Error;
 import io.gravitee.rest.api.portal.rest.model.*;
@@ -34,6 +37,7 @@ import java.util.*;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 
@@ -64,6 +68,7 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
 
         Set<ApplicationListItem> mockApplications = new HashSet<>(Arrays.asList(applicationListItem1, applicationListItem2));
         doReturn(mockApplications).when(applicationService).findByUser(any());
+        mockApplicationsPage(mockApplications);
 
         doReturn(new Application().id("A").name("A")).when(applicationMapper).convert(eq(applicationListItem1), any());
         doReturn(new Application().id("B").name("B")).when(applicationMapper).convert(eq(applicationListItem2), any());
@@ -75,12 +80,28 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
 
     }
 
+    private void mockApplicationsPage(Set<ApplicationListItem> applications) {
+        doAnswer(invocation -> {
+            final Sortable sortable = invocation.getArgument(1);
+            final Pageable pageable = invocation.getArgument(2);
+            Comparator<ApplicationListItem> comparator = Comparator.comparing(ApplicationListItem::getName, String.CASE_INSENSITIVE_ORDER);
+            if (!sortable.isAscOrder()) {
+                comparator = comparator.reversed();
+            }
+            final List<ApplicationListItem> sorted = new ArrayList<>(applications);
+            sorted.sort(comparator);
+            final int from = Math.min((pageable.getPageNumber() - 1) * pageable.getPageSize(), sorted.size());
+            return new Page<>(sorted.subList(from, Math.min(from + pageable.getPageSize(), sorted.size())),
+                    pageable.getPageNumber(), pageable.getPageSize(), sorted.size());
+        }).when(applicationService).findByUser(any(), any(Sortable.class), any(Pageable.class));
+    }
+
     @Test
     public void shouldGetApplications() {
         final Response response = target().request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
-        Mockito.verify(applicationService).findByUser(any());
+        Mockito.verify(applicationService).findByUser(any(), any(Sortable.class), any(Pageable.class));
 
         ArgumentCaptor<String> ac = ArgumentCaptor.forClass(String.class);
         Mockito.verify(applicationMapper, Mockito.times(2)).computeApplicationLinks(ac.capture(), eq(null));
@@ -119,6 +140,7 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
 
         Set<ApplicationListItem> mockApplications = new HashSet<>(Arrays.asList(applicationListItem1, applicationListItem2, applicationListItem3, applicationListItem4));
         doReturn(mockApplications).when(applicationService).findByUser(any());
+        mockApplicationsPage(mockApplications);
 
         doReturn(new Application().id("A").name("A")).when(applicationMapper).convert(eq(applicationListItem1), any());
         doReturn(new Application().id("B").name("b")).when(applicationMapper).convert(eq(applicationListItem2), any());
@@ -140,6 +162,21 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
 
     }
 
+    @Test
+    public void shouldGetApplicationsOrderByNameDesc() {
+        final Response response = target().queryParam("order", "-name").request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+
+        ArgumentCaptor<Sortable> sortableCaptor = ArgumentCaptor.forClass(Sortable.class);
+        Mockito.verify(applicationService).findByUser(any(), sortableCaptor.capture(), any(Pageable.class));
+        assertFalse(sortableCaptor.getValue().isAscOrder());
+
+        ApplicationsResponse applicationsResponse = response.readEntity(ApplicationsResponse.class);
+        assertEquals(2, applicationsResponse.getData().size());
+        assertEquals("B", applicationsResponse.getData().get(0).getId());
+        assertEquals("A", applicationsResponse.getData().get(1).getId());
+    }
+
     @Test
     public void shouldGetApplicationsOrderByNbSubscriptionsDesc() {
         FilteredEntities<ApplicationListItem> mockFilteredApp = new FilteredEntities<ApplicationListItem>(Collections.emptyList(), null);
@@ -184,6 +221,7 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
     public void shouldGetNoApplicationAndNoLink() {
 
         doReturn(new HashSet<>()).when(applicationService).findByUser(any());
+        mockApplicationsPage(new HashSet<>());
 
         //Test with default limit
         final Response response = target().request().get();
@@ -22,9 +22,8 @@ import static org.mockito.Mockito.doReturn;
 import java.io.IOException;
 import java.security.Principal;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 import javax.annotation.Priority;
 import javax.ws.rs.container.ContainerRequestContext;
@@ -39,7 +38,6 @@ import org.mockito.Mockito;
 
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.rest.api.model.CategoryEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.model.CategoriesResponse;
 
 /**
@@ -83,8 +81,7 @@ public class CategoriesResourceNotAuthenticatedTest extends AbstractResourceTest
     public void init() {
         resetAllMocks();
         
-        Set<ApiEntity> mockApis = new HashSet<>();
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doReturn(Collections.singletonMap("1", 2L)).when(apiService).countPublishedByUserGroupByCategories(any());
         
         CategoryEntity category1 = new CategoryEntity();
         category1.setId("1");
@@ -115,7 +112,7 @@ public class CategoriesResourceNotAuthenticatedTest extends AbstractResourceTest
         final Response response = target().request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
         
-        Mockito.verify(apiService).findPublishedByUser(any());
+        Mockito.verify(apiService).countPublishedByUserGroupByCategories(any());
         CategoriesResponse categoriesResponse = response.readEntity(CategoriesResponse.class);
         assertEquals(2, categoriesResponse.getData().size());
         
@@ -17,7 +17,6 @@ package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.rest.api.model.CategoryEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.model.Error;
 import io.gravitee.rest.api.portal.rest.model.ErrorResponse;
 import io.gravitee.rest.api.portal.rest.model.Links;
@@ -48,8 +47,7 @@ public class CategoriesResourceTest extends AbstractResourceTest {
     public void init() {
         resetAllMocks();
         
-        Set<ApiEntity> mockApis = new HashSet<>();
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doReturn(Collections.singletonMap("1", 2L)).when(apiService).countPublishedByUserGroupByCategories(any());
         
         CategoryEntity category1 = new CategoryEntity();
         category1.setId("1");
@@ -78,9 +76,11 @@ public class CategoriesResourceTest extends AbstractResourceTest {
         final Response response = target().request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
         
-        Mockito.verify(apiService).findPublishedByUser(any());
+        Mockito.verify(apiService).countPublishedByUserGroupByCategories(any());
         CategoriesResponse categoriesResponse = response.readEntity(CategoriesResponse.class);
         assertEquals(2, categoriesResponse.getData().size());
+        assertEquals(2L, categoriesResponse.getData().get(0).getTotalApis().longValue());
+        assertEquals(0L, categoriesResponse.getData().get(1).getTotalApis().longValue());
         
     }
     
@@ -24,8 +24,7 @@ import static org.mockito.Mockito.doReturn;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.security.Principal;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Collections;
 
 import javax.annotation.Priority;
 import javax.ws.rs.container.ContainerRequestContext;
@@ -39,7 +38,6 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import io.gravitee.rest.api.model.CategoryEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.model.Category;
 
 /**
@@ -90,8 +88,7 @@ public class CategoryResourceNotAuthenticatedTest extends AbstractResourceTest {
         categoryEntity.setHidden(false);
         doReturn(categoryEntity).when(categoryService).findNotHiddenById(CATEGORY_ID);
         
-        Set<ApiEntity> mockApis = new HashSet<>();
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doReturn(Collections.singletonMap("1", 2L)).when(apiService).countPublishedByUserGroupByCategories(any());
         
         Mockito.when(categoryMapper.convert(any(), any())).thenCallRealMethod();
 
@@ -103,8 +100,7 @@ public class CategoryResourceNotAuthenticatedTest extends AbstractResourceTest {
         assertEquals(OK_200, response.getStatus());
 
         Mockito.verify(categoryService).findNotHiddenById(CATEGORY_ID);
-        Mockito.verify(apiService).findPublishedByUser(null);
-        Mockito.verify(categoryService).getTotalApisByCategory(any(), any());
+        Mockito.verify(apiService).countPublishedByUserGroupByCategories(null);
         Mockito.verify(categoryMapper).convert(any(), any());
 
         final Category responseCategory = response.readEntity(Category.class);
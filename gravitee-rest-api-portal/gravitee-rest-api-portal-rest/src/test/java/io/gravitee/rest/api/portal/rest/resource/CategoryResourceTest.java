@@ -17,7 +17,6 @@ package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.rest.api.model.InlinePictureEntity;
 import io.gravitee.rest.api.model.CategoryEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.model.Error;
 import io.gravitee.rest.api.portal.rest.model.ErrorResponse;
 import io.gravitee.rest.api.portal.rest.model.Category;
@@ -35,9 +34,8 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 import static io.gravitee.common.http.HttpStatusCode.*;
 import static org.junit.Assert.*;
@@ -71,8 +69,7 @@ public class CategoryResourceTest extends AbstractResourceTest {
         categoryEntity.setHidden(false);
         doReturn(categoryEntity).when(categoryService).findNotHiddenById(CATEGORY_ID);
         
-        Set<ApiEntity> mockApis = new HashSet<>();
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doReturn(Collections.singletonMap("1", 2L)).when(apiService).countPublishedByUserGroupByCategories(any());
         
         Mockito.when(categoryMapper.convert(any(), any())).thenCallRealMethod();
 
@@ -90,8 +87,7 @@ public class CategoryResourceTest extends AbstractResourceTest {
         assertEquals(OK_200, response.getStatus());
 
         Mockito.verify(categoryService).findNotHiddenById(CATEGORY_ID);
-        Mockito.verify(apiService).findPublishedByUser(USER_NAME);
-        Mockito.verify(categoryService).getTotalApisByCategory(any(), any());
+        Mockito.verify(apiService).countPublishedByUserGroupByCategories(USER_NAME);
         Mockito.verify(categoryMapper).convert(any(), any());
 
         final Category responseCategory = response.readEntity(Category.class);
@@ -132,7 +128,7 @@ public class CategoryResourceTest extends AbstractResourceTest {
         byte[] fileContent = Files.readAllBytes(Paths.get(result.getAbsolutePath()));
         assertTrue(Arrays.equals(fileContent, apiLogoContent));
         
-        String expectedTag = '"'+Integer.toString(new String(fileContent).hashCode())+'"';
+        String expectedTag = '"'+mockImage.getHash()+'"';
         assertEquals(expectedTag, etag);
         
         
@@ -34,11 +34,13 @@ import org.mockito.Mockito;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Response;
+import java.util.Map;
 
 import static io.gravitee.common.http.HttpStatusCode.FORBIDDEN_403;
 import static io.gravitee.common.http.HttpStatusCode.OK_200;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -106,6 +108,28 @@ public class SubscriptionsResourceTest extends AbstractResourceTest {
         assertEquals(2, subscriptionResponse.getData().size());
     }
 
+    @Test
+    public void shouldGetSubscriptionsOnRequestedPage() {
+        final ApplicationListItem application = new ApplicationListItem();
+        application.setId(APPLICATION);
+        doReturn(newSet(application)).when(applicationService).findByUser(any());
+        SubscriptionEntity subscriptionEntity = new SubscriptionEntity();
+        subscriptionEntity.setId(ANOTHER_SUBSCRIPTION);
+        doReturn(new Page<>(singletonList(subscriptionEntity), 2, 1, 2)).when(subscriptionService).search(any(), any());
+        doReturn(new Subscription().id(ANOTHER_SUBSCRIPTION)).when(subscriptionMapper).convert(subscriptionEntity);
+
+        final Response response = target().queryParam("page", 2).queryParam("size", 1).request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+
+        SubscriptionsResponse subscriptionResponse = response.readEntity(SubscriptionsResponse.class);
+        assertEquals(1, subscriptionResponse.getData().size());
+        assertEquals(ANOTHER_SUBSCRIPTION, subscriptionResponse.getData().get(0).getId());
+        Map<String, Object> pagination = subscriptionResponse.getMetadata().get(AbstractResource.METADATA_PAGINATION_KEY);
+        assertEquals(2, pagination.get(AbstractResource.METADATA_PAGINATION_CURRENT_PAGE_KEY));
+        assertEquals(2, pagination.get(AbstractResource.METADATA_PAGINATION_TOTAL_KEY));
+        assertNotNull(subscriptionResponse.getLinks());
+    }
+
     @Test
     public void shouldGetNoSubscription() {
         final Response response = target().queryParam("page", 10).queryParam("size", 1).request().get();
@@ -15,10 +15,12 @@
  */
 package io.gravitee.rest.api.service;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.*;
 import io.gravitee.rest.api.model.api.header.ApiHeaderEntity;
+import io.gravitee.rest.api.model.common.Pageable;
 
 import java.util.Collection;
 import java.util.List;
@@ -40,8 +42,40 @@ public interface ApiService {
 
     Set<ApiEntity> findByUser(String userId, ApiQuery apiQuery, boolean portal);
 
+    /**
+     * Same as {@link #findByUser(String, ApiQuery, boolean)} but only with the fields needed to list APIs: no picture
+     * and, from the definition, only the virtual hosts and the tags.
+     */
+    Set<ApiEntity> findByUserLight(String userId, ApiQuery apiQuery, boolean portal);
+
+    /**
+     * Same as {@link #findByUser(String, ApiQuery, boolean)} but only returns the identifiers of the APIs, without
+     * converting them: to be used when only the identifiers are needed, or to load only a page of the APIs afterwards.
+     */
+    Set<String> findIdsByUser(String userId, ApiQuery apiQuery, boolean portal);
+
     Set<ApiEntity> findPublishedByUser(String userId);
     Set<ApiEntity> findPublishedByUser(String userId, ApiQuery apiQuery);
+    Set<ApiEntity> findPublishedByUserLight(String userId, ApiQuery apiQuery);
+
+    /**
+     * Same as {@link #findPublishedByUserLight(String, ApiQuery)} but sorted by name (case insensitive) and only
+     * converting the APIs of the requested page.
+     */
+    Page<ApiEntity> findPublishedByUserLight(String userId, ApiQuery apiQuery, Pageable pageable);
+
+    /**
+     * Checks whether the given API is part of {@link #findPublishedByUser(String)} without loading the other APIs:
+     * it must be published and either public, or accessible to the user through a membership, a group or a
+     * subscription of one of the user's applications.
+     */
+    boolean isApiVisibleToUser(String apiId, String userId);
+
+    /**
+     * Count the APIs of {@link #findPublishedByUser(String)} by category identifier, in a single pass over the
+     * categories of the APIs. For anonymous users, the counts are cached by environment.
+     */
+    Map<String, Long> countPublishedByUserGroupByCategories(String userId);
 
     Set<ApiEntity> findByVisibility(Visibility visibility);
 
@@ -119,8 +153,16 @@ public interface ApiService {
 
     Collection<ApiEntity> search(ApiQuery query);
 
+    Collection<ApiEntity> searchLight(ApiQuery query);
+
     Collection<ApiEntity> search(String query, Map<String, Object> filters) throws TechnicalException;
 
+    /**
+     * Search for APIs using the search engine, only the APIs of the requested page being loaded.
+     * APIs are returned in the order of relevance computed by the search engine.
+     */
+    Page<ApiEntity> search(String query, Map<String, Object> filters, Pageable pageable) throws TechnicalException;
+
     List<ApiHeaderEntity> getPortalHeaders(String apiId);
 
     ApiEntity askForReview(String apiId, String userId, ReviewEntity reviewEntity);
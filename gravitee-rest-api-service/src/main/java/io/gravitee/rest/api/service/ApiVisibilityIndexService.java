@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import java.util.Set;
+
+/**
+ * Index of the identifiers of the APIs a user can see in the current environment, by reason of visibility, so that
+ * listing the APIs of a user only loads the APIs it can actually see.
+ *
+ * Entries are invalidated on every node when memberships, subscriptions or APIs change, and expire after a short delay
+ * as a safety net.
+ *
+ * @author GraviteeSource Team
+ */
+public interface ApiVisibilityIndexService {
+
+    enum Reason {
+        /**
+         * Public APIs, indexed once for all the users.
+         */
+        PUBLIC,
+        /**
+         * APIs the user is a member of, directly or through a group.
+         */
+        MEMBERSHIP,
+        /**
+         * APIs subscribed by the applications of the user.
+         */
+        SUBSCRIPTION
+    }
+
+    /**
+     * @return the indexed API identifiers, <code>null</code> if not indexed.
+     */
+    Set<String> get(String userId, Reason reason);
+
+    void put(String userId, Reason reason, Set<String> apiIds);
+
+    /**
+     * Invalidate the APIs indexed for the user.
+     */
+    void invalidate(String userId);
+
+    /**
+     * Invalidate the APIs indexed for the given reason, for all the users.
+     */
+    void invalidate(Reason reason);
+
+    void invalidateAll();
+}
@@ -15,8 +15,11 @@
  */
 package io.gravitee.rest.api.service;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
+import io.gravitee.rest.api.model.common.Pageable;
+import io.gravitee.rest.api.model.common.Sortable;
 
 import java.util.List;
 import java.util.Set;
@@ -32,6 +35,12 @@ public interface ApplicationService {
 
     Set<ApplicationListItem> findByUser(String username);
 
+    /**
+     * Same as {@link #findByUser(String)} but sorted by name (case insensitive, ascending unless the sortable says
+     * otherwise) and only converting the applications of the requested page.
+     */
+    Page<ApplicationListItem> findByUser(String username, Sortable sortable, Pageable pageable);
+
     Set<ApplicationListItem> findByName(String name);
 
     Set<ApplicationListItem> findByGroups(List<String> groupId);
@@ -36,4 +36,19 @@ public interface AuditService {
     void createPortalAuditLog(Map<Audit.AuditProperties,String> properties, Audit.AuditEvent event, String username, Date createdAt, Object oldValue, Object newValue);
 
     MetadataPage<AuditEntity> search(AuditQuery query);
+
+    /**
+     * @return the number of audit logs waiting to be written.
+     */
+    long getPendingCount();
+
+    /**
+     * @return the number of audit logs written by the caller because the audit queue was full.
+     */
+    long getOverflowCount();
+
+    /**
+     * @return the number of audit logs which could not be written.
+     */
+    long getFailureCount();
 }
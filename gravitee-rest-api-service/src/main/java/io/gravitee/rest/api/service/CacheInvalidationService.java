@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.model.command.CommandTags;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Propagation of the local cache invalidations to the other management nodes through the command channel.
+ *
+ * Each cache registers the handler of its command tag. The commands sent by the other nodes are polled by the cache
+ * invalidation service and dispatched to the handler of their tag.
+ *
+ * @author GraviteeSource Team
+ */
+public interface CacheInvalidationService {
+
+    /**
+     * Register the handler applying locally the invalidations of the given tag sent by the other nodes.
+     */
+    <T> void register(CommandTags tag, Class<T> contentType, Consumer<T> handler);
+
+    /**
+     * @return the tags of the registered handlers.
+     */
+    Set<CommandTags> getTags();
+
+    /**
+     * Send an invalidation to the other nodes.
+     */
+    void send(CommandTags tag, Object content);
+
+    /**
+     * Apply locally an invalidation received from another node.
+     */
+    void process(CommandTags tag, String content);
+}
@@ -22,6 +22,12 @@ import io.gravitee.rest.api.model.PortalConfigEntity;
  * @author GraviteeSource Team
  */
 public interface ConfigService {
+
+    /**
+     * @return the portal configuration of the current environment. The instance is shared between callers
+     * and must not be modified.
+     */
     PortalConfigEntity getPortalConfig();
+
     void save(PortalConfigEntity portalConfigEntity);
 }
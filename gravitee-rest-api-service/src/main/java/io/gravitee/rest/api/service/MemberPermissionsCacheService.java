@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.command.CommandPermissionsEntity;
+
+import java.util.Map;
+
+/**
+ * Cache of the effective permissions of the users on the references (API, application, group, environment...).
+ *
+ * Invalidations are propagated to the other management nodes through the command channel.
+ *
+ * @author GraviteeSource Team
+ */
+public interface MemberPermissionsCacheService {
+
+    /**
+     * @return the cached permissions of the user on the reference, <code>null</code> if not cached.
+     */
+    Map<String, char[]> get(MembershipReferenceType referenceType, String referenceId, String userId);
+
+    void put(MembershipReferenceType referenceType, String referenceId, String userId, Map<String, char[]> permissions);
+
+    /**
+     * Invalidate the cached permissions of the user, on this node and the other ones.
+     */
+    void invalidate(String userId);
+
+    /**
+     * Invalidate all the cached permissions, on this node and the other ones.
+     */
+    void invalidateAll();
+
+    /**
+     * Apply locally an invalidation received from another node.
+     */
+    void process(CommandPermissionsEntity content);
+}
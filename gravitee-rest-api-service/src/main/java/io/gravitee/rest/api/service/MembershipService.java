@@ -45,6 +45,7 @@ public interface MembershipService {
     Set<MembershipEntity>   getMembershipsByMemberAndReference          (MembershipMemberType memberType, String memberId, MembershipReferenceType referenceType);
     Set<MembershipEntity>   getMembershipsByMemberAndReferenceAndRole   (MembershipMemberType memberType, String memberId, MembershipReferenceType referenceType, String role);
     Set<MembershipEntity>   getMembershipsByMembersAndReference         (MembershipMemberType memberType, List<String> membersId, MembershipReferenceType referenceType);
+    Set<MembershipEntity>   getMembershipsByMembersAndReferenceAndRole  (MembershipMemberType memberType, List<String> membersId, MembershipReferenceType referenceType, String role);
     Set<MembershipEntity>   getMembershipsByReference                   (MembershipReferenceType referenceType, String referenceId);
     Set<MembershipEntity>   getMembershipsByReferenceAndRole            (MembershipReferenceType referenceType, String referenceId, String role);
     Set<MembershipEntity>   getMembershipsByReferencesAndRole           (MembershipReferenceType referenceType, List<String> referenceIds, String role);
@@ -44,6 +44,11 @@ public interface PageService {
 
 	List<PageEntity> search(PageQuery query, String acceptedLocale);
 
+	/**
+	 * Find the published pages of all the APIs with a single query, without their translations.
+	 */
+	List<PageEntity> findPublishedApiPages();
+
 	void transformSwagger(PageEntity pageEntity);
 
 	void transformSwagger(PageEntity pageEntity, String apiId);
@@ -44,4 +44,7 @@ public interface ParameterService {
     Parameter save(Key key, String value);
     Parameter save(Key key, List<String> value);
     Parameter save(Key key, Map<String, String> values);
+
+    long getCacheHitCount();
+    long getCacheMissCount();
 }
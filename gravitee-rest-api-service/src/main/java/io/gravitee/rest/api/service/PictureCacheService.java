@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.model.PictureEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the decoded pictures of the APIs, applications and themes, with their content hash, so that the
+ * portal and the console can answer the picture requests, and the conditional ones, without loading the referenced
+ * item nor decoding its picture again.
+ *
+ * Entries are invalidated locally when the referenced item is updated, and expire after a short delay to catch up
+ * with the changes made on the other nodes.
+ *
+ * @author GraviteeSource Team
+ */
+public interface PictureCacheService {
+
+    enum ReferenceType {
+        API,
+        APPLICATION,
+        THEME
+    }
+
+    /**
+     * @return the cached picture of the reference in the current environment, loaded with the given loader if not
+     * cached yet. The loader may return <code>null</code> when the reference has no such picture.
+     */
+    <T extends PictureEntity> T get(ReferenceType referenceType, String referenceId, String name, Supplier<T> loader);
+
+    /**
+     * Invalidate the pictures of the reference, or of all the references of the type if <code>referenceId</code> is
+     * <code>null</code>.
+     */
+    void invalidate(ReferenceType referenceType, String referenceId);
+}
@@ -19,7 +19,9 @@ import io.gravitee.repository.management.model.Token;
 import io.gravitee.rest.api.model.NewTokenEntity;
 import io.gravitee.rest.api.model.TokenEntity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -27,6 +29,7 @@ import java.util.List;
  */
 public interface TokenService {
     List<TokenEntity> findByUser(String userId);
+    Map<String, Long> countByUsers(Collection<String> userIds);
     Token findByToken(String token);
     TokenEntity create(NewTokenEntity token);
     void revokeByUser(String userId);
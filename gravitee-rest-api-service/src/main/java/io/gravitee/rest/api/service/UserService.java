@@ -54,6 +54,12 @@ public interface UserService {
 
     Page<UserEntity> search(UserCriteria criteria, Pageable pageable);
 
+    /**
+     * Same as {@link #search(UserCriteria, Pageable)}, without the primary owner flag and the number of active tokens
+     * of the users which require additional queries.
+     */
+    Page<UserEntity> searchLight(UserCriteria criteria, Pageable pageable);
+
     UserEntity register(NewExternalUserEntity newExternalUserEntity);
 
     UserEntity register(NewExternalUserEntity newExternalUserEntity, String confirmationPageUrl);
@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.event;
+
+/**
+ * A change made to the {@link ApiRegistry}.
+ *
+ * @author GraviteeSource Team
+ */
+public class ApiChange {
+
+    public enum Type {
+        DEPLOY, UPDATE, UNDEPLOY
+    }
+
+    private final long revision;
+    private final String apiId;
+    private final Type type;
+
+    public ApiChange(long revision, String apiId, Type type) {
+        this.revision = revision;
+        this.apiId = apiId;
+        this.type = type;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public String getApiId() {
+        return apiId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "ApiChange{" +
+                "revision=" + revision +
+                ", apiId='" + apiId + '\'' +
+                ", type=" + type +
+                '}';
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.event;
+
+import io.gravitee.rest.api.model.api.ApiEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Registry of the deployed APIs, versioned by a monotonically increasing revision.
+ *
+ * @author GraviteeSource Team
+ */
+public interface ApiRegistry {
+
+    /**
+     * @return the deployed APIs, as seen by the current state of the registry.
+     */
+    Collection<ApiEntity> apis();
+
+    ApiEntity get(String apiId);
+
+    /**
+     * @return the current revision of the registry.
+     */
+    long revision();
+
+    /**
+     * Get the changes made to the registry after the given revision, ordered by revision.
+     *
+     * Only the last changes are kept by the registry. When the changes made after the given revision are no longer
+     * available, an empty optional is returned and the caller has to reload the whole state with {@link #apis()}.
+     *
+     * @param revision the last revision known by the caller.
+     * @return the changes, or an empty optional if the caller has to reload the whole state.
+     */
+    Optional<List<ApiChange>> changesSince(long revision);
+}
@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.PlanRepository;
+import io.gravitee.repository.management.api.TenantRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.*;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the names of the APIs, applications, plans and tenants referenced by logs and analytics responses.
+ *
+ * All the identifiers of a given type are resolved at once, with a single repository query whenever the repository
+ * allows it, and the resulting name projections are kept for a short while so that consecutive dashboard widgets
+ * do not query them again.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class AnalyticsMetadataResolver {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(AnalyticsMetadataResolver.class);
+
+    public enum Type {
+        API, APPLICATION, PLAN, TENANT
+    }
+
+    @Autowired
+    private ApiRepository apiRepository;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private PlanRepository planRepository;
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Value("${analytics.metadata.cache.max:10000}")
+    private long cacheMaxSize = 10000;
+    @Value("${analytics.metadata.cache.ttl:60}")
+    private long cacheTtl = 60;
+
+    /**
+     * Name projections, keyed by type and identifier. Unknown identifiers are cached too, as {@link Reference#MISSING}.
+     */
+    private volatile Cache<String, Reference> references;
+
+    /**
+     * Resolves the given identifiers of the given type.
+     *
+     * @param type the type of the referenced objects.
+     * @param ids the identifiers to resolve.
+     * @return the resolved references, by identifier. Every requested identifier is present in the returned map,
+     * identifiers which do not match any object are mapped to {@link Reference#MISSING}.
+     */
+    public Map<String, Reference> resolve(Type type, Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, Reference> resolved = new HashMap<>(ids.size());
+        final Set<String> missing = new HashSet<>();
+        for (String id : ids) {
+            Reference reference = references().getIfPresent(key(type, id));
+            if (reference != null) {
+                resolved.put(id, reference);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            final Map<String, Reference> loaded = load(type, missing);
+            for (String id : missing) {
+                Reference reference = loaded.getOrDefault(id, Reference.MISSING);
+                references().put(key(type, id), reference);
+                resolved.put(id, reference);
+            }
+        }
+
+        return resolved;
+    }
+
+    private Map<String, Reference> load(Type type, Set<String> ids) {
+        try {
+            final Map<String, Reference> loaded = new HashMap<>(ids.size());
+            switch (type) {
+                case API:
+                    apiRepository.search(
+                            new ApiCriteria.Builder().ids(ids.toArray(new String[0])).build(),
+                            new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build())
+                            .forEach(api -> loaded.put(api.getId(), new Reference(api.getName(), api.getVersion(),
+                                    ApiLifecycleState.ARCHIVED.equals(api.getApiLifecycleState()))));
+                    break;
+                case APPLICATION:
+                    applicationRepository.findByIds(new ArrayList<>(ids))
+                            .forEach(application -> loaded.put(application.getId(), new Reference(application.getName(),
+                                    null, ApplicationStatus.ARCHIVED.equals(application.getStatus()))));
+                    break;
+                case PLAN:
+                    // The plan repository does not provide any lookup by identifiers
+                    for (String id : ids) {
+                        Optional<Plan> plan = planRepository.findById(id);
+                        if (plan.isPresent()) {
+                            loaded.put(id, new Reference(plan.get().getName(), null, false));
+                        }
+                    }
+                    break;
+                case TENANT:
+                    tenantRepository.findAll().stream()
+                            .filter(tenant -> ids.contains(tenant.getId()))
+                            .forEach(tenant -> loaded.put(tenant.getId(), new Reference(tenant.getName(), null, false)));
+                    break;
+                default:
+                    break;
+            }
+            return loaded;
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to resolve {} metadata", type, ex);
+            throw new TechnicalManagementException("An error occurs while trying to resolve " + type + " metadata", ex);
+        }
+    }
+
+    private String key(Type type, String id) {
+        return type.name() + ':' + id;
+    }
+
+    private Cache<String, Reference> references() {
+        if (references == null) {
+            synchronized (this) {
+                if (references == null) {
+                    references = CacheBuilder.newBuilder()
+                            .maximumSize(cacheMaxSize)
+                            .expireAfterWrite(cacheTtl, TimeUnit.SECONDS)
+                            .build();
+                }
+            }
+        }
+        return references;
+    }
+
+    /**
+     * Lightweight projection of a referenced object.
+     */
+    public static final class Reference {
+
+        public static final Reference MISSING = new Reference(null, null, false);
+
+        private final String name;
+        private final String version;
+        private final boolean archived;
+
+        Reference(String name, String version, boolean archived) {
+            this.name = name;
+            this.version = version;
+            this.archived = archived;
+        }
+
+        public boolean isMissing() {
+            return this == MISSING;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public boolean isArchived() {
+            return archived;
+        }
+    }
+}
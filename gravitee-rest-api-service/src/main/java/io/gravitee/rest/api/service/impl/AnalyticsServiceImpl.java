@@ -25,17 +25,13 @@ import io.gravitee.repository.analytics.query.groupby.GroupByResponse;
 import io.gravitee.repository.analytics.query.response.histogram.Data;
 import io.gravitee.repository.analytics.query.response.histogram.DateHistogramResponse;
 import io.gravitee.repository.analytics.query.stats.StatsResponse;
-import io.gravitee.repository.management.model.ApplicationStatus;
-import io.gravitee.rest.api.model.ApplicationEntity;
-import io.gravitee.rest.api.model.PlanEntity;
-import io.gravitee.rest.api.model.TenantEntity;
 import io.gravitee.rest.api.model.analytics.*;
 import io.gravitee.rest.api.model.analytics.query.*;
 import io.gravitee.rest.api.model.analytics.query.DateHistogramQuery;
-import io.gravitee.rest.api.model.api.ApiEntity;
-import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.exceptions.*;
+import io.gravitee.rest.api.service.impl.AnalyticsMetadataResolver.Reference;
+import io.gravitee.rest.api.service.impl.AnalyticsMetadataResolver.Type;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,16 +80,7 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     private AnalyticsRepository analyticsRepository;
 
     @Autowired
-    private ApiService apiService;
-
-    @Autowired
-    private ApplicationService applicationService;
-
-    @Autowired
-    private PlanService planService;
-
-    @Autowired
-    private TenantService tenantService;
+    private AnalyticsMetadataResolver metadataResolver;
 
     @Override
     public StatsAnalytics execute(final StatsQuery query) {
@@ -226,24 +213,10 @@ public class AnalyticsServiceImpl implements AnalyticsService {
             childBuckets.add(convertBucket(timestamps, from, interval, childBucket));
         }
 
-        if (FIELD_APPLICATION.equals(analyticsBucket.getField())) {
-            // Prepare metadata
-            Map<String, Map<String, String>> metadata = new HashMap<>();
-            bucket.data().keySet().forEach(app -> metadata.put(app, getApplicationMetadata(app)));
-
-            analyticsBucket.setMetadata(metadata);
-        } else if (FIELD_API.equals(analyticsBucket.getField())) {
+        final String field = analyticsBucket.getField();
+        if (FIELD_APPLICATION.equals(field) || FIELD_API.equals(field) || FIELD_TENANT.equals(field)) {
             // Prepare metadata
-            Map<String, Map<String, String>> metadata = new HashMap<>();
-            bucket.data().keySet().forEach(api -> metadata.put(api, getAPIMetadata(api)));
-
-            analyticsBucket.setMetadata(metadata);
-        } else if (FIELD_TENANT.equals(analyticsBucket.getField())) {
-            // Prepare metadata
-            Map<String, Map<String, String>> metadata = new HashMap<>();
-            bucket.data().keySet().forEach(tenant -> metadata.put(tenant, getTenantMetadata(tenant)));
-
-            analyticsBucket.setMetadata(metadata);
+            analyticsBucket.setMetadata(getMetadata(field, bucket.data().keySet()));
         }
 
         for (Map.Entry<String, List<Data>> dataBucket : bucket.data().entrySet()) {
@@ -310,17 +283,9 @@ public class AnalyticsServiceImpl implements AnalyticsService {
             // Prepare metadata
             Map<String, Map<String, String>> metadata = new HashMap<>();
             if (topHitsAnalytics.getValues() != null) {
+                metadata.putAll(getMetadata(fieldName, topHitsAnalytics.getValues().keySet()));
                 int i = 0;
                 for (String key : topHitsAnalytics.getValues().keySet()) {
-                    switch(fieldName) {
-                        case FIELD_API: metadata.put(key, getAPIMetadata(key)); break;
-                        case FIELD_APPLICATION: metadata.put(key, getApplicationMetadata(key)); break;
-                        case FIELD_PLAN: metadata.put(key, getPlanMetadata(key)); break;
-                        case FIELD_TENANT: metadata.put(key, getTenantMetadata(key)); break;
-                        case FIELD_GEOIP_COUNTRY_ISO_CODE: metadata.put(key, getCountryName(key)); break;
-                        default:
-                            metadata.put(key, getGenericMetadata(key)); break;
-                    }
                     metadata.get(key).put("order", String.valueOf(i));
                     i++;
                 }
@@ -332,78 +297,112 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return topHitsAnalytics;
     }
 
-    private Map<String, String> getAPIMetadata(String api) {
+    private Map<String, Map<String, String>> getMetadata(String field, Set<String> keys) {
+        final Map<String, Reference> references;
+        switch (field) {
+            case FIELD_API: references = metadataResolver.resolve(Type.API, withoutUnknown(keys)); break;
+            case FIELD_APPLICATION: references = metadataResolver.resolve(Type.APPLICATION, withoutUnknown(keys)); break;
+            case FIELD_PLAN: references = metadataResolver.resolve(Type.PLAN, withoutUnknown(keys)); break;
+            case FIELD_TENANT: references = metadataResolver.resolve(Type.TENANT, keys); break;
+            default: references = Collections.emptyMap(); break;
+        }
+
+        Map<String, Map<String, String>> metadata = new HashMap<>();
+        for (String key : keys) {
+            switch (field) {
+                case FIELD_API: metadata.put(key, getAPIMetadata(key, references)); break;
+                case FIELD_APPLICATION: metadata.put(key, getApplicationMetadata(key, references)); break;
+                case FIELD_PLAN: metadata.put(key, getPlanMetadata(key, references)); break;
+                case FIELD_TENANT: metadata.put(key, getTenantMetadata(key, references)); break;
+                case FIELD_GEOIP_COUNTRY_ISO_CODE: metadata.put(key, getCountryName(key)); break;
+                default:
+                    metadata.put(key, getGenericMetadata(key)); break;
+            }
+        }
+        return metadata;
+    }
+
+    private boolean isUnknown(String id) {
+        return id.equals(UNKNOWN_SERVICE) || id.equals(UNKNOWN_SERVICE_MAPPED);
+    }
+
+    private Set<String> withoutUnknown(Set<String> ids) {
+        return ids.stream().filter(id -> !isUnknown(id)).collect(Collectors.toSet());
+    }
+
+    private Map<String, String> getAPIMetadata(String api, Map<String, Reference> apis) {
         Map<String, String> metadata = new HashMap<>();
 
-        try {
-            if (api.equals(UNKNOWN_SERVICE) || api.equals(UNKNOWN_SERVICE_MAPPED)) {
-                metadata.put(METADATA_NAME, METADATA_UNKNOWN_API_NAME);
-                metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
+        if (isUnknown(api)) {
+            metadata.put(METADATA_NAME, METADATA_UNKNOWN_API_NAME);
+            metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
+        } else {
+            Reference reference = apis.get(api);
+            if (reference.isMissing()) {
+                metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
+                metadata.put(METADATA_NAME, METADATA_DELETED_API_NAME);
             } else {
-                ApiEntity apiEntity = apiService.findById(api);
-                metadata.put(METADATA_NAME, apiEntity.getName());
-                metadata.put(METADATA_VERSION, apiEntity.getVersion());
-                if (ApiLifecycleState.ARCHIVED.equals(apiEntity.getLifecycleState())) {
+                metadata.put(METADATA_NAME, reference.getName());
+                metadata.put(METADATA_VERSION, reference.getVersion());
+                if (reference.isArchived()) {
                     metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
                 }
             }
-        } catch (ApiNotFoundException anfe) {
-            metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-            metadata.put(METADATA_NAME, METADATA_DELETED_API_NAME);
         }
 
         return metadata;
     }
 
-    private Map<String, String> getApplicationMetadata(String application) {
+    private Map<String, String> getApplicationMetadata(String application, Map<String, Reference> applications) {
         Map<String, String> metadata = new HashMap<>();
 
-        try {
-            if (application.equals(UNKNOWN_SERVICE) || application.equals(UNKNOWN_SERVICE_MAPPED)) {
-                metadata.put(METADATA_NAME, METADATA_UNKNOWN_APPLICATION_NAME);
-                metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
+        if (isUnknown(application)) {
+            metadata.put(METADATA_NAME, METADATA_UNKNOWN_APPLICATION_NAME);
+            metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
+        } else {
+            Reference reference = applications.get(application);
+            if (reference.isMissing()) {
+                metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
+                metadata.put(METADATA_NAME, METADATA_DELETED_APPLICATION_NAME);
             } else {
-                ApplicationEntity applicationEntity = applicationService.findById(application);
-                metadata.put(METADATA_NAME, applicationEntity.getName());
-                if (ApplicationStatus.ARCHIVED.toString().equals(applicationEntity.getStatus())) {
+                metadata.put(METADATA_NAME, reference.getName());
+                if (reference.isArchived()) {
                     metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
                 }
             }
-        } catch (ApplicationNotFoundException anfe) {
-            metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-            metadata.put(METADATA_NAME, METADATA_DELETED_APPLICATION_NAME);
         }
 
         return metadata;
     }
 
-    private Map<String, String> getPlanMetadata(String plan) {
+    private Map<String, String> getPlanMetadata(String plan, Map<String, Reference> plans) {
         Map<String, String> metadata = new HashMap<>();
-        try {
-            if (plan.equals(UNKNOWN_SERVICE) || plan.equals(UNKNOWN_SERVICE_MAPPED)) {
-                metadata.put(METADATA_NAME, METADATA_UNKNOWN_PLAN_NAME);
-                metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
+
+        if (isUnknown(plan)) {
+            metadata.put(METADATA_NAME, METADATA_UNKNOWN_PLAN_NAME);
+            metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
+        } else {
+            Reference reference = plans.get(plan);
+            if (reference.isMissing()) {
+                metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
+                metadata.put(METADATA_NAME, METADATA_DELETED_PLAN_NAME);
             } else {
-                PlanEntity planEntity = planService.findById(plan);
-                metadata.put(METADATA_NAME, planEntity.getName());
+                metadata.put(METADATA_NAME, reference.getName());
             }
-        } catch (PlanNotFoundException anfe) {
-            metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-            metadata.put(METADATA_NAME, METADATA_DELETED_PLAN_NAME);
         }
 
         return metadata;
     }
 
-    private Map<String, String> getTenantMetadata(String tenant) {
+    private Map<String, String> getTenantMetadata(String tenant, Map<String, Reference> tenants) {
         Map<String, String> metadata = new HashMap<>();
 
-        try {
-            TenantEntity tenantEntity = tenantService.findById(tenant);
-            metadata.put(METADATA_NAME, tenantEntity.getName());
-        } catch (TenantNotFoundException tnfe) {
+        Reference reference = tenants.get(tenant);
+        if (reference.isMissing()) {
             metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
             metadata.put(METADATA_NAME, METADATA_DELETED_TENANT_NAME);
+        } else {
+            metadata.put(METADATA_NAME, reference.getName());
         }
 
         return metadata;
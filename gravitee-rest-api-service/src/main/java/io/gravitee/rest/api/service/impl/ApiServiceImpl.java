@@ -15,10 +15,15 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
@@ -48,6 +53,7 @@ import io.gravitee.rest.api.model.alert.AlertTriggerEntity;
 import io.gravitee.rest.api.model.api.*;
 import io.gravitee.rest.api.model.api.header.ApiHeaderEntity;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
+import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.rest.api.model.documentation.PageQuery;
 import io.gravitee.rest.api.model.notification.GenericNotificationConfigEntity;
 import io.gravitee.rest.api.model.parameters.Key;
@@ -75,6 +81,7 @@ import io.vertx.core.buffer.Buffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.ui.freemarker.FreeMarkerTemplateUtils;
 
@@ -84,6 +91,7 @@ import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -185,6 +193,20 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     private PolicyService policyService;
     @Autowired
     private MediaService mediaService;
+    @Autowired
+    private MemberPermissionsCacheService memberPermissionsCacheService;
+    @Autowired
+    private ApiVisibilityIndexService apiVisibilityIndexService;
+    @Autowired
+    private PictureCacheService pictureCacheService;
+
+    @Value("${portal.categories.apis.count.cache.ttl:60}")
+    private long categoryApisCountCacheTtl = 60;
+
+    /**
+     * Published APIs counted by category for anonymous users, by environment.
+     */
+    private volatile Cache<String, Map<String, Long>> anonymousCategoryApisCounts;
 
     private static final Pattern LOGGING_MAX_DURATION_PATTERN = Pattern.compile("(?<before>.*)\\#request.timestamp\\s*\\<\\=?\\s*(?<timestamp>\\d*)l(?<after>.*)");
     private static final String LOGGING_MAX_DURATION_CONDITION = "#request.timestamp <= %dl";
@@ -421,6 +443,10 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 }
 
                 Api createdApi = apiRepository.create(repoApi);
+                if (createdApi.getVisibility() == PUBLIC) {
+                    apiVisibilityIndexService.invalidate(ApiVisibilityIndexService.Reason.PUBLIC);
+                    anonymousCategoryApisCounts().invalidateAll();
+                }
 
                 if (createSystemFolder) {
                     createSystemFolder(createdApi.getId());
@@ -645,13 +671,20 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     }
 
     private void calculateEntrypoints(ApiEntity api) {
+        if (api.getProxy() != null) {
+            calculateEntrypoints(api, parameterService.find(Key.PORTAL_ENTRYPOINT),
+                api.getTags() != null && !api.getTags().isEmpty() ? entrypointService.findAll() : emptyList());
+        } else {
+            api.setEntrypoints(new ArrayList<>());
+        }
+    }
+
+    private void calculateEntrypoints(ApiEntity api, String defaultEntrypoint, List<EntrypointEntity> entrypoints) {
         List<ApiEntrypointEntity> apiEntrypoints = new ArrayList<>();
 
         if (api.getProxy() != null) {
-            String defaultEntrypoint = parameterService.find(Key.PORTAL_ENTRYPOINT);
             final String scheme = getScheme(defaultEntrypoint);
             if (api.getTags() != null && !api.getTags().isEmpty()) {
-                List<EntrypointEntity> entrypoints = entrypointService.findAll();
                 entrypoints.forEach(entrypoint -> {
                     Set<String> tagEntrypoints = new HashSet<>(Arrays.asList(entrypoint.getTags()));
                     tagEntrypoints.retainAll(api.getTags());
@@ -743,72 +776,135 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
     @Override
     public Set<ApiEntity> findByUser(String userId, ApiQuery apiQuery, boolean portal) {
+        return findByUser(userId, apiQuery, portal, false);
+    }
+
+    @Override
+    public Set<ApiEntity> findByUserLight(String userId, ApiQuery apiQuery, boolean portal) {
+        return findByUser(userId, apiQuery, portal, true);
+    }
+
+    @Override
+    public Set<String> findIdsByUser(String userId, ApiQuery apiQuery, boolean portal) {
+        if (apiQuery != null && (apiQuery.getTag() != null || apiQuery.getContextPath() != null)) {
+            // these criteria are checked against the definition of the APIs
+            return findByUserLight(userId, apiQuery, portal).stream().map(ApiEntity::getId).collect(toSet());
+        }
         try {
-            LOGGER.debug("Find APIs by user {}", userId);
+            LOGGER.debug("Find API ids by user {}", userId);
 
-            //get all public apis
-            List<Api> publicApis;
-            if (portal) {
-                publicApis = apiRepository.search(queryToCriteria(apiQuery).visibility(PUBLIC).build());
-            } else {
-                publicApis = emptyList();
-            }
-
-            List<Api> userApis = emptyList();
-            List<Api> groupApis = emptyList();
-            List<Api> subscribedApis = emptyList();
-
-            // for others API, user must be authenticated
-            if (userId != null) {
-                // get user apis
-                final String[] userApiIds = membershipService
-                    .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.API).stream()
-                    .map(MembershipEntity::getReferenceId)
-                    .toArray(String[]::new);
-                if (userApiIds.length > 0) {
-                    userApis = apiRepository.search(queryToCriteria(apiQuery).ids(userApiIds).build());
-                }
+            final Set<String> apiIds = findVisibleApiIds(userId, portal);
+            if (apiIds.isEmpty()) {
+                return emptySet();
+            }
+            return searchApiIds(queryToCriteria(apiQuery).ids(apiIds.toArray(new String[0])).build());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find API ids for user {}", userId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find API ids for user " + userId, ex);
+        }
+    }
 
-                // get user groups apis
-                final String[] groupIds = membershipService
-                    .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.GROUP).stream()
-                    .filter(m -> m.getRoleId() != null && roleService.findById(m.getRoleId()).getScope().equals(RoleScope.API))
-                    .map(MembershipEntity::getReferenceId)
-                    .toArray(String[]::new);
-                if (groupIds.length > 0 && groupIds[0] != null) {
-                    groupApis = apiRepository.search(queryToCriteria(apiQuery).groups(groupIds).build());
-                }
+    private Set<ApiEntity> findByUser(String userId, ApiQuery apiQuery, boolean portal, boolean listItems) {
+        try {
+            LOGGER.debug("Find APIs by user {}", userId);
 
-                // get user subscribed apis, useful when an API becomes private and an app owner is not anymore in members
-                if (portal) {
-                    final Set<String> applications =
-                        applicationService.findByUser(userId).stream().map(ApplicationListItem::getId).collect(toSet());
-                    if (!applications.isEmpty()) {
-                        final SubscriptionQuery query = new SubscriptionQuery();
-                        query.setApplications(applications);
-                        final Collection<SubscriptionEntity> subscriptions = subscriptionService.search(query);
-                        if (subscriptions != null && !subscriptions.isEmpty()) {
-                            subscribedApis = apiRepository
-                                .search(queryToCriteria(apiQuery).ids(subscriptions.stream()
-                                    .map(SubscriptionEntity::getApi).distinct().toArray(String[]::new)).build());
-                        }
-                    }
-                }
+            final Set<String> apiIds = findVisibleApiIds(userId, portal);
+            if (apiIds.isEmpty()) {
+                return emptySet();
             }
 
-            // merge all apis
-            final Set<ApiEntity> apis = new HashSet<>();
-            apis.addAll(convert(publicApis));
-            apis.addAll(convert(userApis));
-            apis.addAll(convert(groupApis));
-            apis.addAll(convert(subscribedApis));
-            return filterApiByQuery(apis.stream(), apiQuery).collect(toSet());
+            // a single search on the visible APIs, so that each API is only converted once
+            final List<Api> apis = searchApis(queryToCriteria(apiQuery).ids(apiIds.toArray(new String[0])).build(), listItems);
+            return filterApiByQuery(convert(apis, listItems).stream(), apiQuery).collect(toSet());
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to find APIs for user {}", userId, ex);
             throw new TechnicalManagementException("An error occurs while trying to find APIs for user " + userId, ex);
         }
     }
 
+    /**
+     * Identifiers of the APIs visible by the user: public APIs (portal only), APIs the user is a member of, directly or
+     * through a group, and APIs subscribed by the user applications (portal only, useful when an API becomes private
+     * and an application owner is not anymore in members).
+     */
+    private Set<String> findVisibleApiIds(String userId, boolean portal) throws TechnicalException {
+        final Set<String> apiIds = new HashSet<>();
+        if (portal) {
+            apiIds.addAll(findVisibleApiIds(null, ApiVisibilityIndexService.Reason.PUBLIC));
+        }
+        // for others API, user must be authenticated
+        if (userId != null) {
+            apiIds.addAll(findVisibleApiIds(userId, ApiVisibilityIndexService.Reason.MEMBERSHIP));
+            if (portal) {
+                apiIds.addAll(findVisibleApiIds(userId, ApiVisibilityIndexService.Reason.SUBSCRIPTION));
+            }
+        }
+        return apiIds;
+    }
+
+    private Set<String> findVisibleApiIds(String userId, ApiVisibilityIndexService.Reason reason) throws TechnicalException {
+        Set<String> apiIds = apiVisibilityIndexService.get(userId, reason);
+        if (apiIds == null) {
+            switch (reason) {
+                case PUBLIC:
+                    apiIds = searchApiIds(new ApiCriteria.Builder().environmentId(GraviteeContext.getCurrentEnvironment()).visibility(PUBLIC).build());
+                    break;
+                case MEMBERSHIP:
+                    apiIds = findMemberApiIds(userId);
+                    break;
+                default:
+                    apiIds = findSubscribedApiIds(userId);
+            }
+            apiVisibilityIndexService.put(userId, reason, apiIds);
+        }
+        return apiIds;
+    }
+
+    private Set<String> findMemberApiIds(String userId) throws TechnicalException {
+        // get user apis
+        final Set<String> apiIds = membershipService
+            .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.API).stream()
+            .map(MembershipEntity::getReferenceId)
+            .collect(toSet());
+
+        // get user groups apis, each role being only resolved once
+        final Set<MembershipEntity> groupMemberships = membershipService
+            .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.GROUP);
+        final Map<String, Boolean> apiRoles = new HashMap<>();
+        final String[] groupIds = groupMemberships.stream()
+            .filter(m -> m.getRoleId() != null && m.getReferenceId() != null
+                && apiRoles.computeIfAbsent(m.getRoleId(), roleId -> roleService.findById(roleId).getScope().equals(RoleScope.API)))
+            .map(MembershipEntity::getReferenceId)
+            .distinct()
+            .toArray(String[]::new);
+        if (groupIds.length > 0) {
+            apiIds.addAll(searchApiIds(new ApiCriteria.Builder().environmentId(GraviteeContext.getCurrentEnvironment()).groups(groupIds).build()));
+        }
+        return apiIds;
+    }
+
+    private Set<String> findSubscribedApiIds(String userId) {
+        final Set<String> applications =
+            applicationService.findByUser(userId).stream().map(ApplicationListItem::getId).collect(toSet());
+        if (applications.isEmpty()) {
+            return emptySet();
+        }
+        final SubscriptionQuery query = new SubscriptionQuery();
+        query.setApplications(applications);
+        final Collection<SubscriptionEntity> subscriptions = subscriptionService.search(query);
+        if (subscriptions == null) {
+            return emptySet();
+        }
+        return subscriptions.stream().map(SubscriptionEntity::getApi).collect(toSet());
+    }
+
+    private Set<String> searchApiIds(final ApiCriteria criteria) throws TechnicalException {
+        return apiRepository.search(criteria, new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build())
+            .stream()
+            .map(Api::getId)
+            .collect(toSet());
+    }
+
     @Override
     public Set<ApiEntity> findPublishedByUser(String userId, ApiQuery apiQuery) {
         if (apiQuery == null) {
@@ -818,11 +914,144 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         return findByUser(userId, apiQuery, true);
     }
 
+    @Override
+    public Set<ApiEntity> findPublishedByUserLight(String userId, ApiQuery apiQuery) {
+        if (apiQuery == null) {
+            apiQuery = new ApiQuery();
+        }
+        apiQuery.setLifecycleStates(Arrays.asList(io.gravitee.rest.api.model.api.ApiLifecycleState.PUBLISHED));
+        return findByUserLight(userId, apiQuery, true);
+    }
+
+    @Override
+    public io.gravitee.common.data.domain.Page<ApiEntity> findPublishedByUserLight(String userId, ApiQuery apiQuery, Pageable pageable) {
+        if (apiQuery == null) {
+            apiQuery = new ApiQuery();
+        }
+        apiQuery.setLifecycleStates(Arrays.asList(io.gravitee.rest.api.model.api.ApiLifecycleState.PUBLISHED));
+        if (apiQuery.getTag() != null || apiQuery.getContextPath() != null) {
+            // these criteria are checked against the definition of the APIs
+            final List<ApiEntity> apis = findByUserLight(userId, apiQuery, true).stream()
+                .sorted((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getName(), o2.getName()))
+                .collect(toList());
+            return new io.gravitee.common.data.domain.Page<>(page(apis, pageable), pageable.getPageNumber(),
+                pageable.getPageSize(), apis.size());
+        }
+        try {
+            LOGGER.debug("Find published APIs by user {} for page {}", userId, pageable.getPageNumber());
+
+            final Set<String> apiIds = findVisibleApiIds(userId, true);
+            if (apiIds.isEmpty()) {
+                return new io.gravitee.common.data.domain.Page<>(emptyList(), pageable.getPageNumber(), pageable.getPageSize(), 0);
+            }
+
+            // sort without the definition and the picture, then only load and convert the APIs of the page
+            final List<Api> apis = new ArrayList<>(apiRepository.search(queryToCriteria(apiQuery).ids(apiIds.toArray(new String[0])).build(),
+                new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build()));
+            apis.sort((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getName(), o2.getName()));
+            final List<String> pageApiIds = page(apis, pageable).stream().map(Api::getId).collect(toList());
+
+            final List<ApiEntity> content = new ArrayList<>();
+            if (!pageApiIds.isEmpty()) {
+                final Map<String, ApiEntity> apisById = convert(searchApis(new ApiCriteria.Builder()
+                    .environmentId(GraviteeContext.getCurrentEnvironment())
+                    .ids(pageApiIds.toArray(new String[0]))
+                    .build(), true), true)
+                    .stream()
+                    .collect(toMap(ApiEntity::getId, api -> api));
+                pageApiIds.stream().map(apisById::get).filter(Objects::nonNull).forEach(content::add);
+            }
+            return new io.gravitee.common.data.domain.Page<>(content, pageable.getPageNumber(), pageable.getPageSize(), apis.size());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find published APIs for user {}", userId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find published APIs for user " + userId, ex);
+        }
+    }
+
+    private static <T> List<T> page(List<T> items, Pageable pageable) {
+        final int from = Math.max(pageable.getPageNumber() - 1, 0) * pageable.getPageSize();
+        if (from >= items.size()) {
+            return emptyList();
+        }
+        return items.subList(from, Math.min(from + pageable.getPageSize(), items.size()));
+    }
+
     @Override
     public Set<ApiEntity> findPublishedByUser(String userId) {
         return findPublishedByUser(userId, null);
     }
 
+    @Override
+    public boolean isApiVisibleToUser(String apiId, String userId) {
+        try {
+            LOGGER.debug("Check visibility of API {} for user {}", apiId, userId);
+
+            // the APIs visible by the user come from the visibility index, only the API itself is then searched
+            if (!findVisibleApiIds(userId, true).contains(apiId)) {
+                return false;
+            }
+            return !searchApiIds(new ApiCriteria.Builder()
+                .environmentId(GraviteeContext.getCurrentEnvironment())
+                .ids(apiId)
+                .lifecycleStates(singletonList(ApiLifecycleState.PUBLISHED))
+                .build()).isEmpty();
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to check visibility of API {} for user {}", apiId, userId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to check visibility of API " + apiId + " for user " + userId, ex);
+        }
+    }
+
+    @Override
+    public Map<String, Long> countPublishedByUserGroupByCategories(String userId) {
+        if (userId != null) {
+            return countPublishedByCategories(userId);
+        }
+        final String environment = GraviteeContext.getCurrentEnvironment();
+        Map<String, Long> counts = anonymousCategoryApisCounts().getIfPresent(environment);
+        if (counts == null) {
+            counts = countPublishedByCategories(null);
+            anonymousCategoryApisCounts().put(environment, counts);
+        }
+        return counts;
+    }
+
+    private Map<String, Long> countPublishedByCategories(String userId) {
+        try {
+            LOGGER.debug("Count published APIs by category for user {}", userId);
+
+            final Set<String> apiIds = findVisibleApiIds(userId, true);
+            if (apiIds.isEmpty()) {
+                return emptyMap();
+            }
+            final ApiQuery apiQuery = new ApiQuery();
+            apiQuery.setLifecycleStates(singletonList(io.gravitee.rest.api.model.api.ApiLifecycleState.PUBLISHED));
+
+            // only the categories of the APIs are read, neither the definition nor the picture
+            return unmodifiableMap(apiRepository.search(queryToCriteria(apiQuery).ids(apiIds.toArray(new String[0])).build(),
+                new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build())
+                .stream()
+                .filter(api -> api.getCategories() != null)
+                .flatMap(api -> api.getCategories().stream())
+                .collect(groupingBy(category -> category, counting())));
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to count APIs by category for user {}", userId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to count APIs by category for user " + userId, ex);
+        }
+    }
+
+    private Cache<String, Map<String, Long>> anonymousCategoryApisCounts() {
+        if (anonymousCategoryApisCounts == null) {
+            synchronized (this) {
+                if (anonymousCategoryApisCounts == null) {
+                    anonymousCategoryApisCounts = CacheBuilder.newBuilder()
+                        .expireAfterWrite(categoryApisCountCacheTtl, TimeUnit.SECONDS)
+                        .build();
+                }
+            }
+        }
+        return anonymousCategoryApisCounts;
+    }
+
     private Stream<ApiEntity> filterApiByQuery(Stream<ApiEntity> apiEntityStream, ApiQuery query) {
         if (query == null) {
             return apiEntityStream;
@@ -1043,6 +1272,21 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 }
 
                 Api updatedApi = apiRepository.update(api);
+                pictureCacheService.invalidate(PictureCacheService.ReferenceType.API, apiId);
+
+                if (!Objects.equals(apiToUpdate.getGroups(), updatedApi.getGroups())) {
+                    memberPermissionsCacheService.invalidateAll();
+                    apiVisibilityIndexService.invalidate(ApiVisibilityIndexService.Reason.MEMBERSHIP);
+                }
+                if (apiToUpdate.getVisibility() != updatedApi.getVisibility()) {
+                    apiVisibilityIndexService.invalidate(ApiVisibilityIndexService.Reason.PUBLIC);
+                }
+                if (apiToUpdate.getVisibility() != updatedApi.getVisibility()
+                    || apiToUpdate.getApiLifecycleState() != updatedApi.getApiLifecycleState()
+                    || !Objects.equals(apiToUpdate.getCategories(), updatedApi.getCategories())) {
+                    // API published, unpublished or moved to other categories
+                    anonymousCategoryApisCounts().invalidateAll();
+                }
 
                 // Audit
                 auditService.createApiAuditLog(
@@ -1214,6 +1458,8 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 topApiService.delete(apiId);
                 // Delete API
                 apiRepository.delete(apiId);
+                anonymousCategoryApisCounts().invalidateAll();
+                pictureCacheService.invalidate(PictureCacheService.ReferenceType.API, apiId);
                 // Delete memberships
                 membershipService.deleteReference(MembershipReferenceType.API, apiId);
                 // Delete notifications
@@ -1839,29 +2085,36 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
     @Override
     public InlinePictureEntity getPicture(String apiId) {
-        ApiEntity apiEntity = findById(apiId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
-        if (apiEntity.getPicture() != null) {
-            String[] parts = apiEntity.getPicture().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = apiEntity.getPicture().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
-        }
-
-        return imageEntity;
+        return pictureCacheService.get(PictureCacheService.ReferenceType.API, apiId, "picture",
+            () -> convertToPicture(findRepositoryApiById(apiId).getPicture()));
     }
 
     @Override
     public InlinePictureEntity getBackground(String apiId) {
-        ApiEntity apiEntity = findById(apiId);
+        return pictureCacheService.get(PictureCacheService.ReferenceType.API, apiId, "background",
+            () -> convertToPicture(findRepositoryApiById(apiId).getBackground()));
+    }
+
+    /**
+     * Find the API without converting it, the definition being neither parsed nor the primary owner resolved.
+     */
+    private Api findRepositoryApiById(String apiId) {
+        try {
+            return apiRepository.findById(apiId).orElseThrow(() -> new ApiNotFoundException(apiId));
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find an API using its ID: {}", apiId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find an API using its ID: " + apiId, ex);
+        }
+    }
+
+    private InlinePictureEntity convertToPicture(String picture) {
         InlinePictureEntity imageEntity = new InlinePictureEntity();
-        if (apiEntity.getBackground() != null) {
-            String[] parts = apiEntity.getBackground().split(";", 2);
+        if (picture != null) {
+            String[] parts = picture.split(";", 2);
             imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = apiEntity.getBackground().split(",", 2)[1];
+            String base64Content = picture.split(",", 2)[1];
             imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
         }
-
         return imageEntity;
     }
 
@@ -1883,6 +2136,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 api.getCategories().remove(categoryId);
                 api.setUpdatedAt(new Date());
                 apiRepository.update(api);
+                anonymousCategoryApisCounts().invalidateAll();
                 // Audit
                 auditService.createApiAuditLog(
                     apiId,
@@ -1986,9 +2240,18 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
     @Override
     public Collection<ApiEntity> search(final ApiQuery query) {
+        return search(query, false);
+    }
+
+    @Override
+    public Collection<ApiEntity> searchLight(final ApiQuery query) {
+        return search(query, true);
+    }
+
+    private Collection<ApiEntity> search(final ApiQuery query, final boolean listItems) {
         try {
             LOGGER.debug("Search APIs by {}", query);
-            return filterApiByQuery(this.convert(apiRepository.search(queryToCriteria(query).build())).stream(), query)
+            return filterApiByQuery(this.convert(searchApis(queryToCriteria(query).build(), listItems), listItems).stream(), query)
                 .collect(toList());
         } catch (TechnicalException ex) {
             final String errorMessage = "An error occurs while trying to search for APIs: " + query;
@@ -1997,6 +2260,13 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         }
     }
 
+    private List<Api> searchApis(final ApiCriteria criteria, final boolean listItems) throws TechnicalException {
+        if (listItems) {
+            return apiRepository.search(criteria, new ApiFieldExclusionFilter.Builder().excludePicture().build());
+        }
+        return apiRepository.search(criteria);
+    }
+
     @Override
     public Collection<ApiEntity> search(String query, Map<String, Object> filters) {
         Query<ApiEntity> apiQuery = QueryBuilder.create(ApiEntity.class)
@@ -2005,7 +2275,52 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
             .build();
 
         SearchResult matchApis = searchEngineService.search(apiQuery);
-        return matchApis.getDocuments().stream().map(this::findById).collect(toList());
+        return findByIds(matchApis.getDocuments());
+    }
+
+    @Override
+    public io.gravitee.common.data.domain.Page<ApiEntity> search(String query, Map<String, Object> filters, Pageable pageable) {
+        Query<ApiEntity> apiQuery = QueryBuilder.create(ApiEntity.class)
+            .setQuery(query)
+            .setFilters(filters)
+            .setPage(pageable)
+            .build();
+
+        SearchResult matchApis = searchEngineService.search(apiQuery);
+        final List<ApiEntity> apis = findByIds(matchApis.getDocuments());
+        return new io.gravitee.common.data.domain.Page<>(apis, pageable.getPageNumber(), apis.size(), matchApis.getHits());
+    }
+
+    /**
+     * Load the given APIs with a single repository query and a single primary owner lookup, keeping the order of
+     * the given IDs.
+     */
+    private List<ApiEntity> findByIds(List<String> apiIds) {
+        if (apiIds == null || apiIds.isEmpty()) {
+            return emptyList();
+        }
+        try {
+            LOGGER.debug("Find APIs by IDs: {}", apiIds);
+
+            final Set<ApiEntity> apis = convert(apiRepository.search(new ApiCriteria.Builder()
+                .ids(apiIds.toArray(new String[0]))
+                .build()));
+
+            final String defaultEntrypoint = parameterService.find(Key.PORTAL_ENTRYPOINT);
+            final List<EntrypointEntity> entrypoints = entrypointService.findAll();
+            apis.forEach(api -> calculateEntrypoints(api, defaultEntrypoint, entrypoints));
+
+            final Map<String, Integer> positions = new HashMap<>(apiIds.size());
+            for (int i = 0; i < apiIds.size(); i++) {
+                positions.putIfAbsent(apiIds.get(i), i);
+            }
+            return apis.stream()
+                .sorted(comparing(api -> positions.get(api.getId())))
+                .collect(toList());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find APIs using their IDs: {}", apiIds, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find APIs using their IDs: " + apiIds, ex);
+        }
     }
 
     @Override
@@ -2254,6 +2569,15 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     }
 
     private Set<ApiEntity> convert(final List<Api> apis) throws TechnicalException {
+        return convert(apis, false);
+    }
+
+    /**
+     * Convert a list of APIs, resolving primary owners, category keys and review states in batch.
+     *
+     * @param listItems if <code>true</code>, only virtual hosts and tags are read from the definition
+     */
+    private Set<ApiEntity> convert(final List<Api> apis, final boolean listItems) throws TechnicalException {
         if (apis == null || apis.isEmpty()) {
             return Collections.emptySet();
         }
@@ -2287,9 +2611,19 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         userService.findByIds(memberships.stream().map(MemberEntity::getId).collect(toList()))
             .forEach(userEntity -> userIdToUserEntity.put(userEntity.getId(), userEntity));
 
-        final List<CategoryEntity> categories = categoryService.findAll();
+        final Map<String, String> categoryKeys = toCategoryKeys(categoryService.findAll());
+        final Map<String, Workflow> reviews = parameterService.findAsBoolean(Key.API_REVIEW_ENABLED) ?
+            workflowService.findLastByReferencesAndType(API, apiIds, REVIEW) : emptyMap();
         return streamApis
-            .map(publicApi -> this.convert(publicApi, userIdToUserEntity.get(apiToUser.get(publicApi.getId())), categories))
+            .map(publicApi -> {
+                final ApiEntity apiEntity = this.convert(publicApi,
+                    userIdToUserEntity.get(apiToUser.get(publicApi.getId())), categoryKeys, listItems);
+                final Workflow review = reviews.get(publicApi.getId());
+                if (review != null) {
+                    apiEntity.setWorkflowState(WorkflowState.valueOf(review.getState()));
+                }
+                return apiEntity;
+            })
             .collect(toSet());
     }
 
@@ -2298,6 +2632,31 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     }
 
     private ApiEntity convert(Api api, UserEntity primaryOwner, List<CategoryEntity> categories) {
+        final Map<String, String> categoryKeys;
+        if (api.getCategories() != null) {
+            categoryKeys = toCategoryKeys(categories == null ? categoryService.findAll() : categories);
+        } else {
+            categoryKeys = emptyMap();
+        }
+        final ApiEntity apiEntity = convert(api, primaryOwner, categoryKeys, false);
+
+        if (parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)) {
+            final List<Workflow> workflows = workflowService.findByReferenceAndType(API, api.getId(), REVIEW);
+            if (workflows != null && !workflows.isEmpty()) {
+                apiEntity.setWorkflowState(WorkflowState.valueOf(workflows.get(0).getState()));
+            }
+        }
+
+        return apiEntity;
+    }
+
+    private Map<String, String> toCategoryKeys(List<CategoryEntity> categories) {
+        final Map<String, String> categoryKeys = new HashMap<>(categories.size());
+        categories.forEach(category -> categoryKeys.put(category.getId(), category.getKey()));
+        return categoryKeys;
+    }
+
+    private ApiEntity convert(Api api, UserEntity primaryOwner, Map<String, String> categoryKeys, boolean listItem) {
         ApiEntity apiEntity = new ApiEntity();
 
         apiEntity.setId(api.getId());
@@ -2307,7 +2666,13 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         apiEntity.setGroups(api.getGroups());
         apiEntity.setDisableMembershipNotifications(api.isDisableMembershipNotifications());
 
-        if (api.getDefinition() != null) {
+        if (api.getDefinition() != null && listItem) {
+            try {
+                readListDefinition(api.getDefinition(), apiEntity);
+            } catch (IOException ioe) {
+                LOGGER.error("Unexpected error while reading API definition", ioe);
+            }
+        } else if (api.getDefinition() != null) {
             try {
                 io.gravitee.definition.model.Api apiDefinition = objectMapper.readValue(api.getDefinition(),
                     io.gravitee.definition.model.Api.class);
@@ -2342,13 +2707,12 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
         final Set<String> apiCategories = api.getCategories();
         if (apiCategories != null) {
-            if (categories == null) {
-                categories = categoryService.findAll();
-            }
             final Set<String> newApiCategories = new HashSet<>(apiCategories.size());
-            for (final String apiView : apiCategories) {
-                final Optional<CategoryEntity> optionalView = categories.stream().filter(c -> apiView.equals(c.getId())).findAny();
-                optionalView.ifPresent(category -> newApiCategories.add(category.getKey()));
+            for (final String apiCategory : apiCategories) {
+                final String categoryKey = categoryKeys.get(apiCategory);
+                if (categoryKey != null) {
+                    newApiCategories.add(categoryKey);
+                }
             }
             apiEntity.setCategories(newApiCategories);
         }
@@ -2368,14 +2732,49 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
             apiEntity.setLifecycleState(io.gravitee.rest.api.model.api.ApiLifecycleState.valueOf(lifecycleState.name()));
         }
 
-        if (parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)) {
-            final List<Workflow> workflows = workflowService.findByReferenceAndType(API, api.getId(), REVIEW);
-            if (workflows != null && !workflows.isEmpty()) {
-                apiEntity.setWorkflowState(WorkflowState.valueOf(workflows.get(0).getState()));
+        return apiEntity;
+    }
+
+    /**
+     * Read only the virtual hosts and the tags of the definition, skipping paths, plans, services...
+     */
+    private void readListDefinition(String definition, ApiEntity apiEntity) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(definition)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("tags".equals(field)) {
+                    apiEntity.setTags(parser.readValueAs(new TypeReference<Set<String>>() {}));
+                } else if ("proxy".equals(field)) {
+                    apiEntity.setProxy(readListProxy(parser.readValueAsTree()));
+                } else {
+                    parser.skipChildren();
+                }
             }
         }
 
-        return apiEntity;
+        if (apiEntity.getProxy() != null && apiEntity.getProxy().getVirtualHosts() != null &&
+            !apiEntity.getProxy().getVirtualHosts().isEmpty()) {
+            apiEntity.setContextPath(apiEntity.getProxy().getVirtualHosts().get(0).getPath());
+        }
+    }
+
+    private Proxy readListProxy(JsonNode proxyNode) throws IOException {
+        final JsonNode virtualHostsNode = proxyNode.get("virtual_hosts");
+        if (virtualHostsNode == null || !virtualHostsNode.isArray()) {
+            // legacy definition with a context_path, let the definition deserializer handle it
+            return objectMapper.treeToValue(proxyNode, Proxy.class);
+        }
+        final List<VirtualHost> virtualHosts = new ArrayList<>(virtualHostsNode.size());
+        for (JsonNode virtualHostNode : virtualHostsNode) {
+            virtualHosts.add(objectMapper.treeToValue(virtualHostNode, VirtualHost.class));
+        }
+        final Proxy proxy = new Proxy();
+        proxy.setVirtualHosts(virtualHosts);
+        return proxy;
     }
 
     private Api convert(String apiId, UpdateApiEntity updateApiEntity) {
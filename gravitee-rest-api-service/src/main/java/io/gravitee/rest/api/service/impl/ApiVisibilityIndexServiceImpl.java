@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.rest.api.model.command.CommandApisVisibilityEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.service.ApiVisibilityIndexService;
+import io.gravitee.rest.api.service.CacheInvalidationService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class ApiVisibilityIndexServiceImpl implements ApiVisibilityIndexService, InitializingBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(ApiVisibilityIndexServiceImpl.class);
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Value("${apis.visibility.index.max:10000}")
+    private long indexMaxSize = 10000;
+    @Value("${apis.visibility.index.ttl:60}")
+    private long indexTtl = 60;
+
+    private volatile Cache<Key, Set<String>> index;
+
+    @Override
+    public void afterPropertiesSet() {
+        cacheInvalidationService.register(CommandTags.APIS_VISIBILITY_TO_INVALIDATE, CommandApisVisibilityEntity.class, this::process);
+    }
+
+    @Override
+    public Set<String> get(String userId, Reason reason) {
+        return index().getIfPresent(new Key(GraviteeContext.getCurrentEnvironment(), userId(userId, reason), reason));
+    }
+
+    @Override
+    public void put(String userId, Reason reason, Set<String> apiIds) {
+        index().put(new Key(GraviteeContext.getCurrentEnvironment(), userId(userId, reason), reason), Collections.unmodifiableSet(apiIds));
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        final CommandApisVisibilityEntity content = new CommandApisVisibilityEntity();
+        content.setUserId(userId);
+        invalidate(content);
+    }
+
+    @Override
+    public void invalidate(Reason reason) {
+        final CommandApisVisibilityEntity content = new CommandApisVisibilityEntity();
+        content.setReason(reason.name());
+        invalidate(content);
+    }
+
+    @Override
+    public void invalidateAll() {
+        invalidate(new CommandApisVisibilityEntity());
+    }
+
+    private void invalidate(CommandApisVisibilityEntity content) {
+        process(content);
+        cacheInvalidationService.send(CommandTags.APIS_VISIBILITY_TO_INVALIDATE, content);
+    }
+
+    private void process(CommandApisVisibilityEntity content) {
+        if (content.getUserId() != null) {
+            LOGGER.debug("Invalidate visible APIs of user {}", content.getUserId());
+            index().asMap().keySet().removeIf(key -> content.getUserId().equals(key.userId));
+        } else if (content.getReason() != null) {
+            LOGGER.debug("Invalidate visible APIs by {}", content.getReason());
+            final Reason reason = Reason.valueOf(content.getReason());
+            index().asMap().keySet().removeIf(key -> reason == key.reason);
+        } else {
+            LOGGER.debug("Invalidate all visible APIs");
+            index().invalidateAll();
+        }
+    }
+
+    private String userId(String userId, Reason reason) {
+        // public APIs are the same for everybody
+        return reason == Reason.PUBLIC ? null : userId;
+    }
+
+    private Cache<Key, Set<String>> index() {
+        if (index == null) {
+            synchronized (this) {
+                if (index == null) {
+                    index = CacheBuilder.newBuilder()
+                            .maximumSize(indexMaxSize)
+                            .expireAfterWrite(indexTtl, TimeUnit.SECONDS)
+                            .build();
+                }
+            }
+        }
+        return index;
+    }
+
+    private static final class Key {
+
+        private final String environmentId;
+        private final String userId;
+        private final Reason reason;
+
+        private Key(String environmentId, String userId, Reason reason) {
+            this.environmentId = environmentId;
+            this.userId = userId;
+            this.reason = reason;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(environmentId, key.environmentId) &&
+                    Objects.equals(userId, key.userId) &&
+                    reason == key.reason;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(environmentId, userId, reason);
+        }
+    }
+}
@@ -17,6 +17,7 @@ package io.gravitee.rest.api.service.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.data.domain.Page;
 
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApplicationRepository;
@@ -30,6 +31,8 @@ import io.gravitee.rest.api.model.application.ApplicationListItemSettings;
 import io.gravitee.rest.api.model.application.ApplicationSettings;
 import io.gravitee.rest.api.model.application.OAuthClientSettings;
 import io.gravitee.rest.api.model.application.SimpleApplicationSettings;
+import io.gravitee.rest.api.model.common.Pageable;
+import io.gravitee.rest.api.model.common.Sortable;
 import io.gravitee.rest.api.model.configuration.application.ApplicationTypeEntity;
 import io.gravitee.rest.api.model.configuration.application.registration.ClientRegistrationProviderEntity;
 import io.gravitee.rest.api.model.notification.GenericNotificationConfigEntity;
@@ -59,6 +62,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.gravitee.repository.management.model.Application.AuditEvent.*;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 
 /**
@@ -110,6 +114,14 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
     @Autowired
     private ApplicationTypeService applicationTypeService;
 
+    @Autowired
+    private MemberPermissionsCacheService memberPermissionsCacheService;
+
+    @Autowired
+    private ApiVisibilityIndexService apiVisibilityIndexService;
+    @Autowired
+    private PictureCacheService pictureCacheService;
+
     private final ObjectMapper mapper = new ObjectMapper();
 
     @Override
@@ -144,29 +156,7 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         try {
             LOGGER.debug("Find applications for user {}", username);
 
-            //find applications where the user is a member
-            Set<String> appIds = membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, username, MembershipReferenceType.APPLICATION)
-                .stream()
-                .map(MembershipEntity::getReferenceId)
-                .collect(Collectors.toSet());
-            //find user groups
-            List<String> groupIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, username, MembershipReferenceType.GROUP).stream()
-                .filter(m -> m.getRoleId() != null && roleService.findById(m.getRoleId()).getScope().equals(RoleScope.APPLICATION))
-                .map(MembershipEntity::getReferenceId)
-                .collect(Collectors.toList());
-
-            appIds.addAll(
-                this.findByGroups(groupIds).stream()
-                    .map(ApplicationListItem::getId)
-                    .collect(Collectors.toSet())
-            );
-
-            final Set<Application> applications = applicationRepository.findByIds(new ArrayList<>(appIds))
-                .stream()
-                .filter(app -> ApplicationStatus.ACTIVE.equals(app.getStatus()))
-                .collect(Collectors.toSet());
-
+            final Set<Application> applications = findActiveApplicationsByUser(username);
             if (applications.isEmpty()) {
                 return emptySet();
             }
@@ -178,6 +168,66 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         }
     }
 
+    @Override
+    public Page<ApplicationListItem> findByUser(String username, Sortable sortable, Pageable pageable) {
+        try {
+            LOGGER.debug("Find applications for user {} and page {}", username, pageable.getPageNumber());
+
+            final boolean ascOrder = sortable == null || sortable.isAscOrder();
+            final Comparator<Application> applicationComparator = byName(Application::getName, ascOrder);
+
+            // sort the repository items, then only convert the applications of the page
+            final List<Application> applications = findActiveApplicationsByUser(username).stream()
+                .sorted(applicationComparator)
+                .collect(Collectors.toList());
+            final int from = Math.max(pageable.getPageNumber() - 1, 0) * pageable.getPageSize();
+            final Set<Application> pageApplications = from >= applications.size() ? emptySet() :
+                new HashSet<>(applications.subList(from, Math.min(from + pageable.getPageSize(), applications.size())));
+
+            final List<ApplicationListItem> content = pageApplications.isEmpty() ? emptyList() :
+                this.convertToList(pageApplications).stream().sorted(byName(ApplicationListItem::getName, ascOrder)).collect(Collectors.toList());
+            return new Page<>(content, pageable.getPageNumber(), pageable.getPageSize(), applications.size());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find applications for user {}", username, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find applications for user " + username, ex);
+        }
+    }
+
+    private static <T> Comparator<T> byName(Function<T, String> name, boolean ascOrder) {
+        final Comparator<T> comparator = (o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(name.apply(o1), name.apply(o2));
+        return ascOrder ? comparator : comparator.reversed();
+    }
+
+    /**
+     * Active applications the user is a member of, directly or through a group.
+     */
+    private Set<Application> findActiveApplicationsByUser(String username) throws TechnicalException {
+        //find applications where the user is a member
+        Set<String> appIds = membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, username, MembershipReferenceType.APPLICATION)
+            .stream()
+            .map(MembershipEntity::getReferenceId)
+            .collect(Collectors.toSet());
+        //find user groups
+        List<String> groupIds = membershipService
+            .getMembershipsByMemberAndReference(MembershipMemberType.USER, username, MembershipReferenceType.GROUP).stream()
+            .filter(m -> m.getRoleId() != null && roleService.findById(m.getRoleId()).getScope().equals(RoleScope.APPLICATION))
+            .map(MembershipEntity::getReferenceId)
+            .collect(Collectors.toList());
+
+        if (!groupIds.isEmpty()) {
+            appIds.addAll(
+                applicationRepository.findByGroups(groupIds, ApplicationStatus.ACTIVE).stream()
+                    .map(Application::getId)
+                    .collect(Collectors.toSet())
+            );
+        }
+
+        return applicationRepository.findByIds(new ArrayList<>(appIds))
+            .stream()
+            .filter(app -> ApplicationStatus.ACTIVE.equals(app.getStatus()))
+            .collect(Collectors.toSet());
+    }
+
     @Override
     public Set<ApplicationListItem> findByName(String name) {
         LOGGER.debug("Find applications by name {}", name);
@@ -460,6 +510,12 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
             metadata.forEach((key, value) -> application.getMetadata().put(key, value));
 
             Application updatedApplication = applicationRepository.update(application);
+            pictureCacheService.invalidate(PictureCacheService.ReferenceType.APPLICATION, applicationId);
+
+            if (!Objects.equals(optApplicationToUpdate.get().getGroups(), updatedApplication.getGroups())) {
+                memberPermissionsCacheService.invalidateAll();
+                apiVisibilityIndexService.invalidate(ApiVisibilityIndexService.Reason.SUBSCRIPTION);
+            }
 
             // Audit
             auditService.createApplicationAuditLog(
@@ -608,6 +664,7 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
             application.setUpdatedAt(new Date());
             application.setStatus(ApplicationStatus.ARCHIVED);
             applicationRepository.update(application);
+            pictureCacheService.invalidate(PictureCacheService.ReferenceType.APPLICATION, applicationId);
             // remove notifications
             genericNotificationConfigService.deleteReference(NotificationReferenceType.APPLICATION, applicationId);
             // delete memberships
@@ -822,25 +879,34 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
 
     @Override
     public InlinePictureEntity getPicture(String applicationId) {
-        ApplicationEntity applicationEntity = findById(applicationId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
-        if (applicationEntity.getPicture() != null) {
-            String[] parts = applicationEntity.getPicture().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = applicationEntity.getPicture().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
-        }
-        return imageEntity;
+        return pictureCacheService.get(PictureCacheService.ReferenceType.APPLICATION, applicationId, "picture",
+            () -> convertToPicture(findRepositoryApplicationById(applicationId).getPicture()));
     }
 
     @Override
     public InlinePictureEntity getBackground(String applicationId) {
-        ApplicationEntity applicationEntity = findById(applicationId);
+        return pictureCacheService.get(PictureCacheService.ReferenceType.APPLICATION, applicationId, "background",
+            () -> convertToPicture(findRepositoryApplicationById(applicationId).getBackground()));
+    }
+
+    /**
+     * Find the application without converting it, the primary owner being not resolved.
+     */
+    private Application findRepositoryApplicationById(String applicationId) {
+        try {
+            return applicationRepository.findById(applicationId).orElseThrow(() -> new ApplicationNotFoundException(applicationId));
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find an application using its ID {}", applicationId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find an application using its ID " + applicationId, ex);
+        }
+    }
+
+    private InlinePictureEntity convertToPicture(String picture) {
         InlinePictureEntity imageEntity = new InlinePictureEntity();
-        if (applicationEntity.getBackground() != null) {
-            String[] parts = applicationEntity.getBackground().split(";", 2);
+        if (picture != null) {
+            String[] parts = picture.split(";", 2);
             imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = applicationEntity.getBackground().split(",", 2)[1];
+            String base64Content = picture.split(",", 2)[1];
             imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
         }
         return imageEntity;
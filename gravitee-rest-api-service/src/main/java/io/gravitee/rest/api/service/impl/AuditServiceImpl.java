@@ -32,16 +32,23 @@ import io.gravitee.rest.api.model.audit.AuditEntity;
 import io.gravitee.rest.api.model.audit.AuditQuery;
 import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.UserService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import io.gravitee.rest.api.service.exceptions.UserNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static io.gravitee.rest.api.service.impl.MetadataServiceImpl.getDefaultReferenceId;
@@ -51,7 +58,7 @@ import static io.gravitee.rest.api.service.impl.MetadataServiceImpl.getDefaultRe
  * @author GraviteeSource Team
  */
 @Component
-public class AuditServiceImpl extends AbstractService implements AuditService {
+public class AuditServiceImpl extends AbstractService implements AuditService, InitializingBean, DisposableBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(AuditServiceImpl.class);
 
@@ -83,6 +90,47 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     @Autowired
     private ObjectMapper mapper;
 
+    @Value("${audit.queue.capacity:10000}")
+    private int queueCapacity = 10000;
+    @Value("${audit.queue.batchSize:100}")
+    private int batchSize = 100;
+    @Value("${audit.queue.offerTimeout:50}")
+    private long offerTimeout = 50;
+    @Value("${audit.queue.shutdownTimeout:10}")
+    private long shutdownTimeout = 10;
+
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    private BlockingQueue<PendingAudit> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @Override
+    public void afterPropertiesSet() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::writeQueuedAudits, "gio.audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(shutdownTimeout));
+            if (writer.isAlive()) {
+                LOGGER.warn("Audit writer has not been stopped after {}s, {} audit logs are still pending", shutdownTimeout, queue.size());
+            } else {
+                // audit logs enqueued while the writer was stopping
+                final List<PendingAudit> remaining = new ArrayList<>();
+                queue.drainTo(remaining);
+                write(remaining);
+            }
+        }
+    }
+
     @Override
     public MetadataPage<AuditEntity> search(AuditQuery query) {
 
@@ -299,48 +347,125 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
                 newValue);
     }
 
-    @Async
+    /**
+     * Capture the context of the audit log on the caller thread and hand it to the writer. The JSON patch and the
+     * repository write are done by the writer. When the queue stays full for more than <code>audit.queue.offerTimeout</code>
+     * milliseconds, the audit log is written by the caller so that no audit log is lost.
+     */
     protected void create(Audit.AuditReferenceType referenceType, String referenceId, Map<Audit.AuditProperties,String> properties,
                           Audit.AuditEvent event, Date createdAt,
                           Object oldValue, Object newValue) {
+        final PendingAudit pendingAudit = new PendingAudit(referenceType, referenceId, properties, event, createdAt,
+                oldValue, newValue, getAuthenticatedUser(), getAuthenticatedUsernameOrSystem());
 
+        if (!running) {
+            write(Collections.singletonList(pendingAudit));
+            return;
+        }
+        try {
+            if (queue.offer(pendingAudit, offerTimeout, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            overflowCount.incrementAndGet();
+            LOGGER.warn("Audit queue is full ({} audit logs pending), the audit log is written synchronously", queue.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        write(Collections.singletonList(pendingAudit));
+    }
+
+    @Override
+    public long getPendingCount() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    @Override
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    private void writeQueuedAudits() {
+        final List<PendingAudit> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final PendingAudit pendingAudit = queue.poll(1, TimeUnit.SECONDS);
+                if (pendingAudit != null) {
+                    batch.add(pendingAudit);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(List<PendingAudit> pendingAudits) {
+        for (PendingAudit pendingAudit : pendingAudits) {
+            try {
+                auditRepository.create(convert(pendingAudit));
+            } catch (Exception e) {
+                failureCount.incrementAndGet();
+                LOGGER.error("Error occurs during the creation of an Audit Log {}.", e);
+            }
+        }
+    }
+
+    private Audit convert(PendingAudit pendingAudit) {
         Audit audit = new Audit();
         audit.setId(UUID.toString(UUID.random()));
-        audit.setCreatedAt(createdAt);
+        audit.setCreatedAt(pendingAudit.createdAt);
 
-        final UserDetails authenticatedUser = getAuthenticatedUser();
+        final UserDetails authenticatedUser = pendingAudit.authenticatedUser;
         final String user;
         if (authenticatedUser != null && "token".equals(authenticatedUser.getSource())) {
-            user = userService.findById(authenticatedUser.getUsername()).getDisplayName() +
+            user = getTokenUserDisplayName(pendingAudit) +
                     " - (using token \"" + authenticatedUser.getSourceId() + "\")";
         } else {
-            user = getAuthenticatedUsernameOrSystem();
+            user = pendingAudit.username;
         }
         audit.setUser(user);
 
-        if (properties != null) {
-            Map<String, String> stringStringMap = new HashMap<>(properties.size());
-            properties.forEach((auditProperties, s) -> stringStringMap.put(auditProperties.name(), s));
+        if (pendingAudit.properties != null) {
+            Map<String, String> stringStringMap = new HashMap<>(pendingAudit.properties.size());
+            pendingAudit.properties.forEach((auditProperties, s) -> stringStringMap.put(auditProperties.name(), s));
             audit.setProperties(stringStringMap);
         }
 
-        audit.setReferenceType(referenceType);
-        audit.setReferenceId(referenceId);
-        audit.setEvent(event.name());
+        audit.setReferenceType(pendingAudit.referenceType);
+        audit.setReferenceId(pendingAudit.referenceId);
+        audit.setEvent(pendingAudit.event.name());
 
-        ObjectNode oldNode = oldValue == null
+        ObjectNode oldNode = pendingAudit.oldValue == null
                 ? mapper.createObjectNode()
-                : mapper.convertValue(oldValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
-        ObjectNode newNode = newValue == null
+                : mapper.convertValue(pendingAudit.oldValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
+        ObjectNode newNode = pendingAudit.newValue == null
                 ? mapper.createObjectNode()
-                : mapper.convertValue(newValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
+                : mapper.convertValue(pendingAudit.newValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
 
         audit.setPatch(JsonDiff.asJson(oldNode, newNode).toString());
+        return audit;
+    }
 
+    private String getTokenUserDisplayName(PendingAudit pendingAudit) {
+        final String environment = GraviteeContext.getCurrentEnvironment();
+        final String organization = GraviteeContext.getCurrentOrganization();
+        GraviteeContext.setCurrentEnvironment(pendingAudit.environment);
+        GraviteeContext.setCurrentOrganization(pendingAudit.organization);
         try {
-            auditRepository.create(audit);
-        } catch (TechnicalException e) {
-            LOGGER.error("Error occurs during the creation of an Audit Log {}.", e);
+            return userService.findById(pendingAudit.authenticatedUser.getUsername()).getDisplayName();
+        } catch (UserNotFoundException unfe) {
+            return pendingAudit.authenticatedUser.getUsername();
+        } finally {
+            GraviteeContext.setCurrentEnvironment(environment);
+            GraviteeContext.setCurrentOrganization(organization);
         }
     }
 
@@ -362,4 +487,33 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     private String getAuthenticatedUsernameOrSystem() {
         return isAuthenticated() ? getAuthenticatedUsername() : "system";
     }
+
+    private static final class PendingAudit {
+
+        private final Audit.AuditReferenceType referenceType;
+        private final String referenceId;
+        private final Map<Audit.AuditProperties, String> properties;
+        private final Audit.AuditEvent event;
+        private final Date createdAt;
+        private final Object oldValue;
+        private final Object newValue;
+        private final UserDetails authenticatedUser;
+        private final String username;
+        private final String environment = GraviteeContext.getCurrentEnvironment();
+        private final String organization = GraviteeContext.getCurrentOrganization();
+
+        private PendingAudit(Audit.AuditReferenceType referenceType, String referenceId, Map<Audit.AuditProperties, String> properties,
+                             Audit.AuditEvent event, Date createdAt, Object oldValue, Object newValue,
+                             UserDetails authenticatedUser, String username) {
+            this.referenceType = referenceType;
+            this.referenceId = referenceId;
+            this.properties = properties;
+            this.event = event;
+            this.createdAt = createdAt;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+            this.authenticatedUser = authenticatedUser;
+            this.username = username;
+        }
+    }
 }
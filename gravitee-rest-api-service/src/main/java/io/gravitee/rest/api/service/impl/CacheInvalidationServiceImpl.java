@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.repository.management.model.MessageRecipient;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.model.command.NewCommandEntity;
+import io.gravitee.rest.api.service.CacheInvalidationService;
+import io.gravitee.rest.api.service.CommandService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class CacheInvalidationServiceImpl implements CacheInvalidationService {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationServiceImpl.class);
+
+    private static final int COMMAND_TTL_IN_SECONDS = 60;
+
+    @Autowired
+    private CommandService commandService;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final Map<CommandTags, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> void register(CommandTags tag, Class<T> contentType, Consumer<T> handler) {
+        handlers.put(tag, content -> {
+            try {
+                handler.accept(mapper.readValue(content, contentType));
+            } catch (IOException e) {
+                LOGGER.error("Cache invalidation has received a bad message for {}.", tag, e);
+            }
+        });
+    }
+
+    @Override
+    public Set<CommandTags> getTags() {
+        return Collections.unmodifiableSet(handlers.keySet());
+    }
+
+    @Override
+    public void send(CommandTags tag, Object content) {
+        try {
+            final NewCommandEntity command = new NewCommandEntity();
+            command.setTags(Collections.singletonList(tag));
+            command.setTo(MessageRecipient.MANAGEMENT_APIS.name());
+            command.setTtlInSeconds(COMMAND_TTL_IN_SECONDS);
+            command.setContent(mapper.writeValueAsString(content));
+            // invalidations are node-wide: publish them on the environment polled by the cache invalidation service
+            final String environment = GraviteeContext.getCurrentEnvironment();
+            GraviteeContext.setCurrentEnvironment(GraviteeContext.getDefaultEnvironment());
+            try {
+                commandService.send(command);
+            } finally {
+                GraviteeContext.setCurrentEnvironment(environment);
+            }
+        } catch (JsonProcessingException e) {
+            LOGGER.error("Unexpected error while sending a message", e);
+        }
+    }
+
+    @Override
+    public void process(CommandTags tag, String content) {
+        final Consumer<String> handler = handlers.get(tag);
+        if (handler == null) {
+            LOGGER.warn("No cache registered for invalidations {}", tag);
+        } else {
+            handler.accept(content);
+        }
+    }
+}
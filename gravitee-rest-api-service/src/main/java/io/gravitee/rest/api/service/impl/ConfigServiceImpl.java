@@ -23,19 +23,26 @@ import io.gravitee.rest.api.service.ConfigService;
 import io.gravitee.rest.api.service.NewsletterService;
 import io.gravitee.rest.api.service.ParameterService;
 import io.gravitee.rest.api.service.ReCaptchaService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.stereotype.Component;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
 
 import static io.gravitee.rest.api.service.impl.ParameterServiceImpl.KV_SEPARATOR;
 import static java.util.Collections.*;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 /**
@@ -56,82 +63,47 @@ public class ConfigServiceImpl extends AbstractService implements ConfigService
     @Autowired
     private ReCaptchaService reCaptchaService;
 
+    /**
+     * The {@link ParameterKey} fields of the portal configuration, resolved once.
+     */
+    private volatile List<Binding> bindings;
+    private volatile List<Key> parameterKeys;
+    private volatile List<String[]> securityProviders;
+
+    /**
+     * The last portal configuration built per environment, with the parameters it has been built from.
+     */
+    private final ConcurrentMap<String, CachedConfig> portalConfigs = new ConcurrentHashMap<>();
+
     @Override
     public PortalConfigEntity getPortalConfig() {
-        PortalConfigEntity portalConfigEntity = new PortalConfigEntity();
-        Object[] objects = getObjectArray(portalConfigEntity);
-
-        // get values from DB
-        final List<Key> parameterKeys = new ArrayList<>();
-        for (Object o : objects) {
-            for (Field f : o.getClass().getDeclaredFields()) {
-                ParameterKey parameterKey = f.getAnnotation(ParameterKey.class);
-                if (parameterKey != null) {
-                    parameterKeys.add(parameterKey.value());
-                }
-            }
+        bindings();
+        // parameters are served by the parameters cache which is invalidated on change
+        final Map<String, List<String>> parameterMap = parameterService.findAll(parameterKeys);
+        final String environmentId = String.valueOf(GraviteeContext.getCurrentEnvironment());
+
+        final CachedConfig cachedConfig = portalConfigs.get(environmentId);
+        if (cachedConfig != null && cachedConfig.parameters.equals(parameterMap)) {
+            return cachedConfig.portalConfig;
         }
-        Map<String, List<String>> parameterMap = parameterService.findAll(parameterKeys);
-
-        // set values
-        for (Object o : objects) {
-            for (Field f : o.getClass().getDeclaredFields()) {
-                ParameterKey parameterKey = f.getAnnotation(ParameterKey.class);
-                if (parameterKey != null) {
-                    boolean accessible = f.isAccessible();
-                    f.setAccessible(true);
-                    try {
-                        final List<String> values = parameterMap.get(parameterKey.value().key());
-                        final String defaultValue = parameterKey.value().defaultValue();
-                        if (Enabled.class.isAssignableFrom(f.getType())) {
-                            f.set(o, Boolean.valueOf(getFirstValueOrDefault(values, defaultValue))
-                                    ? new Enabled(true)
-                                    : new Enabled(false)
-                            );
-                        } else if (Boolean.class.isAssignableFrom(f.getType())) {
-                            f.set(o, Boolean.valueOf(getFirstValueOrDefault(values, defaultValue)));
-                        } else if (Integer.class.isAssignableFrom(f.getType())) {
-                            f.set(o, Integer.valueOf(getFirstValueOrDefault(values, defaultValue)));
-                        } else if (Long.class.isAssignableFrom(f.getType())) {
-                            f.set(o, Long.valueOf(getFirstValueOrDefault(values, defaultValue)));
-                        } else if (List.class.isAssignableFrom(f.getType())) {
-                            if (values == null || values.isEmpty()) {
-                                f.set(o, emptyList());
-                            } else {
-                                f.set(o, values);
-                            }
-                        } else if (Map.class.isAssignableFrom(f.getType())) {
-                            if (values == null || values.isEmpty()) {
-                                if (defaultValue == null) {
-                                    f.set(o, emptyMap());
-                                } else {
-                                    f.set(o, singletonMap(defaultValue.split(KV_SEPARATOR)[0], defaultValue.split(KV_SEPARATOR)[1]));
-                                }
-                            } else {
-                                f.set(o, values.stream().collect(toMap(v -> v.split(KV_SEPARATOR)[0], v -> {
-                                    final String[] split = v.split(KV_SEPARATOR);
-                                    if (split.length < 2) {
-                                        return "";
-                                    }
-                                    return split[1];
-                                })));
-                            }
-                        } else {
-                            f.set(o, getFirstValueOrDefault(values, defaultValue));
-                        }
-                    } catch (IllegalAccessException e) {
-                        LOGGER.error("Unable to set parameter {}. Use the default value", parameterKey.value().key(), e);
-                    }
-                    f.setAccessible(accessible);
-                }
+
+        final PortalConfigEntity portalConfigEntity = new PortalConfigEntity();
+        final Object[] objects = getObjectArray(portalConfigEntity);
+        for (Binding binding : bindings) {
+            final List<String> values = parameterMap.get(binding.key.key());
+            try {
+                binding.setter.invoke(objects[binding.owner], binding.converter.apply(values, binding.key.defaultValue()));
+            } catch (Throwable t) {
+                LOGGER.error("Unable to set parameter {}. Use the default value", binding.key.key(), t);
             }
         }
 
         enhanceFromConfigFile(portalConfigEntity);
+        portalConfigs.put(environmentId, new CachedConfig(parameterMap, portalConfigEntity));
         return portalConfigEntity;
     }
 
-    private String getFirstValueOrDefault(final List<String> values, final String defaultValue) {
+    private static String getFirstValueOrDefault(final List<String> values, final String defaultValue) {
         if (values == null) {
             return defaultValue;
         } else if (values.isEmpty()) {
@@ -142,23 +114,16 @@ public class ConfigServiceImpl extends AbstractService implements ConfigService
 
     private void enhanceFromConfigFile(PortalConfigEntity portalConfigEntity) {
         //hack until authent config takes place in the database
-        boolean found = true;
-        int idx = 0;
-
-        while (found) {
-            String type = environment.getProperty("security.providers[" + idx + "].type");
-            found = (type != null);
-            if (found) {
-                String clientId = environment.getProperty("security.providers[" + idx + "].clientId");
-                if ("google".equals(type)) {
-                    portalConfigEntity.getAuthentication().getGoogle().setClientId(clientId);
-                } else if ("github".equals(type)) {
-                    portalConfigEntity.getAuthentication().getGithub().setClientId(clientId);
-                } else if ("oauth2".equals(type)) {
-                    portalConfigEntity.getAuthentication().getOauth2().setClientId(clientId);
-                }
+        for (String[] provider : securityProviders()) {
+            final String type = provider[0];
+            final String clientId = provider[1];
+            if ("google".equals(type)) {
+                portalConfigEntity.getAuthentication().getGoogle().setClientId(clientId);
+            } else if ("github".equals(type)) {
+                portalConfigEntity.getAuthentication().getGithub().setClientId(clientId);
+            } else if ("oauth2".equals(type)) {
+                portalConfigEntity.getAuthentication().getOauth2().setClientId(clientId);
             }
-            idx++;
         }
 
         final PortalConfigEntity.ReCaptcha reCaptcha = new PortalConfigEntity.ReCaptcha();
@@ -171,41 +136,99 @@ public class ConfigServiceImpl extends AbstractService implements ConfigService
         portalConfigEntity.setNewsletter(newsletter);
     }
 
+    private List<String[]> securityProviders() {
+        if (securityProviders == null) {
+            final List<String[]> providers = new ArrayList<>();
+            int idx = 0;
+            String type;
+            while ((type = environment.getProperty("security.providers[" + idx + "].type")) != null) {
+                providers.add(new String[]{type, environment.getProperty("security.providers[" + idx + "].clientId")});
+                idx++;
+            }
+            securityProviders = providers;
+        }
+        return securityProviders;
+    }
+
     @Override
     public void save(PortalConfigEntity portalConfigEntity) {
-        Object[] objects = getObjectArray(portalConfigEntity);
-
-        for (Object o : objects) {
-            for (Field f : o.getClass().getDeclaredFields()) {
-                ParameterKey parameterKey = f.getAnnotation(ParameterKey.class);
-                if (parameterKey != null) {
-                    boolean accessible = f.isAccessible();
-                    f.setAccessible(true);
-                    try {
-                        if (f.get(o) != null) {
-                            if (Enabled.class.isAssignableFrom(f.getType())) {
-                                parameterService.save(parameterKey.value(), Boolean.toString(((Enabled) f.get(o)).isEnabled()));
-                            } else if (Boolean.class.isAssignableFrom(f.getType())) {
-                                parameterService.save(parameterKey.value(), Boolean.toString((Boolean) f.get(o)));
-                            } else if (Integer.class.isAssignableFrom(f.getType())) {
-                                parameterService.save(parameterKey.value(), Integer.toString((Integer) f.get(o)));
-                            } else if (Long.class.isAssignableFrom(f.getType())) {
-                                parameterService.save(parameterKey.value(), Long.toString((Long) f.get(o)));
-                            } else if (List.class.isAssignableFrom(f.getType())) {
-                                parameterService.save(parameterKey.value(), (List) f.get(o));
-                            } else if (Map.class.isAssignableFrom(f.getType())) {
-                                parameterService.save(parameterKey.value(), (Map) f.get(o));
-                            } else {
-                                parameterService.save(parameterKey.value(), (String) f.get(o));
+        final Object[] objects = getObjectArray(portalConfigEntity);
+
+        for (Binding binding : bindings()) {
+            final Object value;
+            try {
+                value = binding.getter.invoke(objects[binding.owner]);
+            } catch (Throwable t) {
+                LOGGER.error("Unable to get parameter {}. Skip it", binding.key.key(), t);
+                continue;
+            }
+
+            if (value != null) {
+                if (Enabled.class.isAssignableFrom(binding.type)) {
+                    parameterService.save(binding.key, Boolean.toString(((Enabled) value).isEnabled()));
+                } else if (List.class.isAssignableFrom(binding.type)) {
+                    parameterService.save(binding.key, (List) value);
+                } else if (Map.class.isAssignableFrom(binding.type)) {
+                    parameterService.save(binding.key, (Map) value);
+                } else {
+                    // String, Boolean, Integer and Long
+                    parameterService.save(binding.key, value.toString());
+                }
+            }
+        }
+    }
+
+    private List<Binding> bindings() {
+        if (bindings == null) {
+            synchronized (this) {
+                if (bindings == null) {
+                    final List<Binding> resolvedBindings = new ArrayList<>();
+                    final Object[] objects = getObjectArray(new PortalConfigEntity());
+                    for (int i = 0; i < objects.length; i++) {
+                        for (Field f : objects[i].getClass().getDeclaredFields()) {
+                            final ParameterKey parameterKey = f.getAnnotation(ParameterKey.class);
+                            if (parameterKey != null) {
+                                resolvedBindings.add(new Binding(i, parameterKey.value(), f));
                             }
                         }
-                    } catch (IllegalAccessException e) {
-                        LOGGER.error("Unable to set parameter {}. Use the default value", parameterKey.value().key(), e);
                     }
-                    f.setAccessible(accessible);
+                    parameterKeys = resolvedBindings.stream().map(binding -> binding.key).collect(toList());
+                    bindings = resolvedBindings;
                 }
             }
         }
+        return bindings;
+    }
+
+    private static BiFunction<List<String>, String, Object> converter(final Class<?> type) {
+        if (Enabled.class.isAssignableFrom(type)) {
+            return (values, defaultValue) -> new Enabled(Boolean.valueOf(getFirstValueOrDefault(values, defaultValue)));
+        } else if (Boolean.class.isAssignableFrom(type)) {
+            return (values, defaultValue) -> Boolean.valueOf(getFirstValueOrDefault(values, defaultValue));
+        } else if (Integer.class.isAssignableFrom(type)) {
+            return (values, defaultValue) -> Integer.valueOf(getFirstValueOrDefault(values, defaultValue));
+        } else if (Long.class.isAssignableFrom(type)) {
+            return (values, defaultValue) -> Long.valueOf(getFirstValueOrDefault(values, defaultValue));
+        } else if (List.class.isAssignableFrom(type)) {
+            return (values, defaultValue) -> values == null || values.isEmpty() ? emptyList() : values;
+        } else if (Map.class.isAssignableFrom(type)) {
+            return (values, defaultValue) -> {
+                if (values == null || values.isEmpty()) {
+                    if (defaultValue == null) {
+                        return emptyMap();
+                    }
+                    return singletonMap(defaultValue.split(KV_SEPARATOR)[0], defaultValue.split(KV_SEPARATOR)[1]);
+                }
+                return values.stream().collect(toMap(v -> v.split(KV_SEPARATOR)[0], v -> {
+                    final String[] split = v.split(KV_SEPARATOR);
+                    if (split.length < 2) {
+                        return "";
+                    }
+                    return split[1];
+                }));
+            };
+        }
+        return ConfigServiceImpl::getFirstValueOrDefault;
     }
 
     private Object[] getObjectArray(PortalConfigEntity portalConfigEntity) {
@@ -245,4 +268,46 @@ public class ConfigServiceImpl extends AbstractService implements ConfigService
                 portalConfigEntity.getMaintenance()
         };
     }
+
+    private static final class Binding {
+
+        /**
+         * Index of the object holding the field in {@link #getObjectArray(PortalConfigEntity)}.
+         */
+        private final int owner;
+        private final Key key;
+        private final Class<?> type;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final BiFunction<List<String>, String, Object> converter;
+
+        private Binding(int owner, Key key, Field field) {
+            this.owner = owner;
+            this.key = key;
+            this.type = field.getType();
+            this.converter = converter(field.getType());
+            final boolean accessible = field.isAccessible();
+            field.setAccessible(true);
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.lookup();
+                this.getter = lookup.unreflectGetter(field);
+                this.setter = lookup.unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to access parameter " + key.key(), e);
+            } finally {
+                field.setAccessible(accessible);
+            }
+        }
+    }
+
+    private static final class CachedConfig {
+
+        private final Map<String, List<String>> parameters;
+        private final PortalConfigEntity portalConfig;
+
+        private CachedConfig(Map<String, List<String>> parameters, PortalConfigEntity portalConfig) {
+            this.parameters = parameters;
+            this.portalConfig = portalConfig;
+        }
+    }
 }
@@ -18,27 +18,29 @@ package io.gravitee.rest.api.service.impl;
 import io.gravitee.common.http.HttpMethod;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.analytics.query.LogQuery;
-import io.gravitee.rest.api.model.api.ApiEntity;
-import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.model.log.*;
 import io.gravitee.rest.api.model.log.extended.Request;
 import io.gravitee.rest.api.model.log.extended.Response;
 import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.exceptions.*;
+import io.gravitee.rest.api.service.impl.AnalyticsMetadataResolver.Reference;
+import io.gravitee.rest.api.service.impl.AnalyticsMetadataResolver.Type;
 import io.gravitee.repository.analytics.AnalyticsException;
 import io.gravitee.repository.analytics.query.*;
 import io.gravitee.repository.analytics.query.tabular.TabularResponse;
 import io.gravitee.repository.log.api.LogRepository;
 import io.gravitee.repository.log.model.ExtendedLog;
-import io.gravitee.repository.management.model.ApplicationStatus;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import org.apache.commons.lang3.time.FastDateFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -75,12 +77,13 @@ public class LogsServiceImpl implements LogsService {
     private static final FastDateFormat dateFormatter = FastDateFormat.getInstance(RFC_3339_DATE_FORMAT);
     private static final char separator = ';';
 
+    @Value("${logs.export.chunkSize:1000}")
+    private int exportChunkSize = 1000;
+
     @Autowired
     private LogRepository logRepository;
     @Autowired
-    private ApiService apiService;
-    @Autowired
-    private ApplicationService applicationService;
+    private AnalyticsMetadataResolver metadataResolver;
     @Autowired
     private PlanService planService;
     @Autowired
@@ -119,21 +122,15 @@ public class LogsServiceImpl implements LogsService {
 
             // Add metadata (only if they are results)
             if (response.getSize() > 0) {
-                Map<String, Map<String, String>> metadata = new HashMap<>();
+                Set<String> applications = new HashSet<>();
+                Set<String> plans = new HashSet<>();
 
                 logResponse.getLogs().forEach(logItem -> {
-                    String application = logItem.getApplication();
-                    String plan = logItem.getPlan();
-
-                    if (application != null) {
-                        metadata.computeIfAbsent(application, getApplicationMetadata(application));
-                    }
-                    if (plan != null) {
-                        metadata.computeIfAbsent(plan, getPlanMetadata(plan));
-                    }
+                    addIfPresent(applications, logItem.getApplication());
+                    addIfPresent(plans, logItem.getPlan());
                 });
 
-                logResponse.setMetadata(metadata);
+                logResponse.setMetadata(getMetadata(Collections.emptySet(), applications, plans));
             }
 
             return logResponse;
@@ -188,21 +185,15 @@ public class LogsServiceImpl implements LogsService {
 
             // Add metadata (only if they are results)
             if (response.getSize() > 0) {
-                Map<String, Map<String, String>> metadata = new HashMap<>();
+                Set<String> apis = new HashSet<>();
+                Set<String> plans = new HashSet<>();
 
                 logResponse.getLogs().forEach(logItem -> {
-                    String api = logItem.getApi();
-                    String plan = logItem.getPlan();
-
-                    if (api != null) {
-                        metadata.computeIfAbsent(api, getAPIMetadata(api));
-                    }
-                    if (plan != null) {
-                        metadata.computeIfAbsent(plan, getPlanMetadata(plan));
-                    }
+                    addIfPresent(apis, logItem.getApi());
+                    addIfPresent(plans, logItem.getPlan());
                 });
 
-                logResponse.setMetadata(metadata);
+                logResponse.setMetadata(getMetadata(apis, Collections.emptySet(), plans));
             }
 
             return logResponse;
@@ -238,25 +229,17 @@ public class LogsServiceImpl implements LogsService {
 
             // Add metadata (only if they are results)
             if (response.getSize() > 0) {
-                Map<String, Map<String, String>> metadata = new HashMap<>();
+                Set<String> apis = new HashSet<>();
+                Set<String> applications = new HashSet<>();
+                Set<String> plans = new HashSet<>();
 
                 logResponse.getLogs().forEach(logItem -> {
-                    String api = logItem.getApi();
-                    String application = logItem.getApplication();
-                    String plan = logItem.getPlan();
-
-                    if (api != null) {
-                        metadata.computeIfAbsent(api, getAPIMetadata(api));
-                    }
-                    if (application != null) {
-                        metadata.computeIfAbsent(application, getApplicationMetadata(application));
-                    }
-                    if (plan != null) {
-                        metadata.computeIfAbsent(plan, getPlanMetadata(plan));
-                    }
+                    addIfPresent(apis, logItem.getApi());
+                    addIfPresent(applications, logItem.getApplication());
+                    addIfPresent(plans, logItem.getPlan());
                 });
 
-                logResponse.setMetadata(metadata);
+                logResponse.setMetadata(getMetadata(apis, applications, plans));
             }
 
             return logResponse;
@@ -279,72 +262,94 @@ public class LogsServiceImpl implements LogsService {
         }
     }
 
-    private Function<String, Map<String, String>> getAPIMetadata(String api) {
-        return s -> {
-            Map<String, String> metadata = new HashMap<>();
+    private Map<String, Map<String, String>> getMetadata(Set<String> apis, Set<String> applications, Set<String> plans) {
+        final Map<String, Reference> resolvedApis = metadataResolver.resolve(Type.API, withoutUnknown(apis));
+        final Map<String, Reference> resolvedApplications = metadataResolver.resolve(Type.APPLICATION, withoutUnknown(applications));
+        final Map<String, Reference> resolvedPlans = metadataResolver.resolve(Type.PLAN, withoutUnknown(plans));
 
-            try {
-                if (api.equals(UNKNOWN_SERVICE) || api.equals(UNKNOWN_SERVICE_MAPPED)) {
-                    metadata.put(METADATA_NAME, METADATA_UNKNOWN_API_NAME);
-                    metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
-                } else {
-                    ApiEntity apiEntity = apiService.findById(api);
-                    metadata.put(METADATA_NAME, apiEntity.getName());
-                    metadata.put(METADATA_VERSION, apiEntity.getVersion());
-                    if (ApiLifecycleState.ARCHIVED.equals(apiEntity.getLifecycleState())) {
-                        metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-                    }
-                }
-            } catch (ApiNotFoundException anfe) {
+        Map<String, Map<String, String>> metadata = new HashMap<>();
+        apis.forEach(api -> metadata.computeIfAbsent(api, id -> getAPIMetadata(id, resolvedApis)));
+        applications.forEach(application -> metadata.computeIfAbsent(application, id -> getApplicationMetadata(id, resolvedApplications)));
+        plans.forEach(plan -> metadata.computeIfAbsent(plan, id -> getPlanMetadata(id, resolvedPlans)));
+        return metadata;
+    }
+
+    private void addIfPresent(Set<String> ids, String id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    private boolean isUnknown(String id) {
+        return id.equals(UNKNOWN_SERVICE) || id.equals(UNKNOWN_SERVICE_MAPPED);
+    }
+
+    private Set<String> withoutUnknown(Set<String> ids) {
+        return ids.stream().filter(id -> !isUnknown(id)).collect(Collectors.toSet());
+    }
+
+    private Map<String, String> getAPIMetadata(String api, Map<String, Reference> apis) {
+        Map<String, String> metadata = new HashMap<>();
+
+        if (isUnknown(api)) {
+            metadata.put(METADATA_NAME, METADATA_UNKNOWN_API_NAME);
+            metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
+        } else {
+            Reference reference = apis.get(api);
+            if (reference.isMissing()) {
                 metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
                 metadata.put(METADATA_NAME, METADATA_DELETED_API_NAME);
+            } else {
+                metadata.put(METADATA_NAME, reference.getName());
+                metadata.put(METADATA_VERSION, reference.getVersion());
+                if (reference.isArchived()) {
+                    metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
+                }
             }
+        }
 
-            return metadata;
-        };
+        return metadata;
     }
 
-    private Function<String, Map<String, String>> getApplicationMetadata(String application) {
-        return s -> {
-            Map<String, String> metadata = new HashMap<>();
+    private Map<String, String> getApplicationMetadata(String application, Map<String, Reference> applications) {
+        Map<String, String> metadata = new HashMap<>();
 
-            try {
-                if (application.equals(UNKNOWN_SERVICE) || application.equals(UNKNOWN_SERVICE_MAPPED)) {
-                    metadata.put(METADATA_NAME, METADATA_UNKNOWN_APPLICATION_NAME);
-                    metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
-                } else {
-                    ApplicationEntity applicationEntity = applicationService.findById(application);
-                    metadata.put(METADATA_NAME, applicationEntity.getName());
-                    if (ApplicationStatus.ARCHIVED.toString().equals(applicationEntity.getStatus())) {
-                        metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-                    }
-                }
-            } catch (ApplicationNotFoundException anfe) {
+        if (isUnknown(application)) {
+            metadata.put(METADATA_NAME, METADATA_UNKNOWN_APPLICATION_NAME);
+            metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
+        } else {
+            Reference reference = applications.get(application);
+            if (reference.isMissing()) {
                 metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
                 metadata.put(METADATA_NAME, METADATA_DELETED_APPLICATION_NAME);
+            } else {
+                metadata.put(METADATA_NAME, reference.getName());
+                if (reference.isArchived()) {
+                    metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
+                }
             }
+        }
 
-            return metadata;
-        };
+        return metadata;
     }
 
-    private Function<String, Map<String, String>> getPlanMetadata(String plan) {
-        return s -> {
-            Map<String, String> metadata = new HashMap<>();
-            try {
-                if (plan.equals(UNKNOWN_SERVICE) || plan.equals(UNKNOWN_SERVICE_MAPPED)) {
-                    metadata.put(METADATA_NAME, METADATA_UNKNOWN_PLAN_NAME);
-                    metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
-                } else {
-                    PlanEntity planEntity = planService.findById(plan);
-                    metadata.put(METADATA_NAME, planEntity.getName());
-                }
-            } catch (PlanNotFoundException anfe) {
+    private Map<String, String> getPlanMetadata(String plan, Map<String, Reference> plans) {
+        Map<String, String> metadata = new HashMap<>();
+
+        if (isUnknown(plan)) {
+            metadata.put(METADATA_NAME, METADATA_UNKNOWN_PLAN_NAME);
+            metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
+        } else {
+            Reference reference = plans.get(plan);
+            if (reference.isMissing()) {
                 metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
                 metadata.put(METADATA_NAME, METADATA_DELETED_PLAN_NAME);
+            } else {
+                metadata.put(METADATA_NAME, reference.getName());
             }
-            return metadata;
-        };
+        }
+
+        return metadata;
     }
 
     private Function<String, Map<String, String>> getGatewayMetadata(String gateway) {
@@ -391,31 +396,112 @@ public class LogsServiceImpl implements LogsService {
 
     @Override
     public String exportAsCsv(final SearchLogResponse searchLogResponse) {
+        return toCsv(searchLogResponse, true);
+    }
+
+    @Override
+    public void exportByApiAsCsv(final String api, final LogQuery query, final OutputStream output) {
+        exportAsCsv(query, chunkQuery -> findByApi(api, chunkQuery), output);
+    }
+
+    @Override
+    public void exportByApplicationAsCsv(final String application, final LogQuery query, final OutputStream output) {
+        exportAsCsv(query, chunkQuery -> findByApplication(application, chunkQuery), output);
+    }
+
+    @Override
+    public void exportPlatformAsCsv(final LogQuery query, final OutputStream output) {
+        exportAsCsv(query, this::findPlatform, output);
+    }
+
+    /**
+     * Writes the logs of the requested page as CSV, fetching them (and their metadata) by chunks so that only one
+     * chunk is held in memory at a time, whatever the size of the requested page.
+     */
+    private void exportAsCsv(final LogQuery query, final Function<LogQuery, SearchLogResponse> search, final OutputStream output) {
+        final int page = Math.max(query.getPage(), 1);
+        final long offset = (long) (page - 1) * query.getSize();
+        // Chunks must be aligned on the requested page, otherwise the page is fetched at once
+        final int chunkSize = query.getSize() <= exportChunkSize || offset % exportChunkSize != 0 ? query.getSize() : exportChunkSize;
+
+        try {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            long remaining = query.getSize();
+            int chunk = (int) (offset / Math.max(chunkSize, 1)) + 1;
+            boolean withHeader = true;
+
+            while (remaining > 0) {
+                final SearchLogResponse searchLogResponse = search.apply(copy(query, chunk, chunkSize));
+                final List logs = searchLogResponse.getLogs();
+                if (logs == null || logs.isEmpty()) {
+                    break;
+                }
+                if (logs.size() > remaining) {
+                    searchLogResponse.setLogs(logs.subList(0, (int) remaining));
+                }
+
+                writer.write(toCsv(searchLogResponse, withHeader));
+                withHeader = false;
+                remaining -= searchLogResponse.getLogs().size();
+
+                if (logs.size() < chunkSize || (long) chunk * chunkSize >= searchLogResponse.getTotal()) {
+                    break;
+                }
+                chunk++;
+            }
+
+            writer.flush();
+        } catch (IOException ioe) {
+            logger.error("Unable to export logs: ", ioe);
+            throw new TechnicalManagementException("Unable to export logs", ioe);
+        }
+    }
+
+    private LogQuery copy(final LogQuery query, final int page, final int size) {
+        final LogQuery chunkQuery = new LogQuery();
+        chunkQuery.setQuery(query.getQuery());
+        chunkQuery.setFrom(query.getFrom());
+        chunkQuery.setTo(query.getTo());
+        chunkQuery.setInterval(query.getInterval());
+        chunkQuery.setRootField(query.getRootField());
+        chunkQuery.setRootIdentifier(query.getRootIdentifier());
+        chunkQuery.setField(query.getField());
+        chunkQuery.setOrder(query.isOrder());
+        chunkQuery.setPage(page);
+        chunkQuery.setSize(size);
+        return chunkQuery;
+    }
+
+    private String toCsv(final SearchLogResponse searchLogResponse, final boolean withHeader) {
         if (searchLogResponse.getLogs() == null || searchLogResponse.getLogs().isEmpty()) {
             return "";
         }
         final StringBuilder sb = new StringBuilder();
-        sb.append("Date");
-        sb.append(separator);
-        sb.append("Request Id");
-        sb.append(separator);
-        sb.append("Transaction Id");
-        sb.append(separator);
-        sb.append("Method");
-        sb.append(separator);
-        sb.append("Path");
-        sb.append(separator);
-        sb.append("Status");
-        sb.append(separator);
-        sb.append("Response Time");
-        sb.append(separator);
-        sb.append("Plan");
-        sb.append(separator);
+        if (withHeader) {
+            sb.append("Date");
+            sb.append(separator);
+            sb.append("Request Id");
+            sb.append(separator);
+            sb.append("Transaction Id");
+            sb.append(separator);
+            sb.append("Method");
+            sb.append(separator);
+            sb.append("Path");
+            sb.append(separator);
+            sb.append("Status");
+            sb.append(separator);
+            sb.append("Response Time");
+            sb.append(separator);
+            sb.append("Plan");
+            sb.append(separator);
+        }
 
         //get the first item to define the type of export
         if (searchLogResponse.getLogs().get(0) instanceof ApiRequestItem) {
-            sb.append("Application");
-            sb.append(lineSeparator());
+            if (withHeader) {
+                sb.append("Application");
+                sb.append(lineSeparator());
+            }
 
             for (final Object log : searchLogResponse.getLogs()) {
                 final ApiRequestItem apiLog = (ApiRequestItem) log;
@@ -427,8 +513,10 @@ public class LogsServiceImpl implements LogsService {
             }
 
         } else if (searchLogResponse.getLogs().get(0) instanceof ApplicationRequestItem) {
-            sb.append("API");
-            sb.append(lineSeparator());
+            if (withHeader) {
+                sb.append("API");
+                sb.append(lineSeparator());
+            }
 
             for (final Object log : searchLogResponse.getLogs()) {
                 final ApplicationRequestItem applicationLog = (ApplicationRequestItem) log;
@@ -439,10 +527,12 @@ public class LogsServiceImpl implements LogsService {
                 sb.append(lineSeparator());
             }
         } else if (searchLogResponse.getLogs().get(0) instanceof PlatformRequestItem) {
-            sb.append("API");
-            sb.append(separator);
-            sb.append("Application");
-            sb.append(lineSeparator());
+            if (withHeader) {
+                sb.append("API");
+                sb.append(separator);
+                sb.append("Application");
+                sb.append(lineSeparator());
+            }
 
             for (final Object log : searchLogResponse.getLogs()) {
                 final PlatformRequestItem platformLog = (PlatformRequestItem) log;
@@ -563,19 +653,14 @@ public class LogsServiceImpl implements LogsService {
         req.setClientResponse(createResponse(log.getClientResponse()));
         req.setProxyResponse(createResponse(log.getProxyResponse()));
 
-        Map<String, Map<String, String>> metadata = new HashMap<>();
-
-        String application = log.getApplication();
-        String plan = log.getPlan();
-        String gateway = log.getGateway();
+        Set<String> applications = new HashSet<>();
+        Set<String> plans = new HashSet<>();
+        addIfPresent(applications, log.getApplication());
+        addIfPresent(plans, log.getPlan());
 
+        Map<String, Map<String, String>> metadata = getMetadata(Collections.emptySet(), applications, plans);
 
-        if (application != null) {
-            metadata.computeIfAbsent(application, getApplicationMetadata(application));
-        }
-        if (plan != null) {
-            metadata.computeIfAbsent(plan, getPlanMetadata(plan));
-        }
+        String gateway = log.getGateway();
         if (gateway != null) {
             metadata.computeIfAbsent(gateway, getGatewayMetadata(gateway));
         }
@@ -633,18 +718,14 @@ public class LogsServiceImpl implements LogsService {
         req.setSecurityType(log.getSecurityType());
         req.setSecurityToken(log.getSecurityToken());
 
-        Map<String, Map<String, String>> metadata = new HashMap<>();
+        Set<String> apis = new HashSet<>();
+        Set<String> plans = new HashSet<>();
+        addIfPresent(apis, log.getApi());
+        addIfPresent(plans, log.getPlan());
 
-        String api = log.getApi();
-        String plan = log.getPlan();
-        String gateway = log.getGateway();
+        Map<String, Map<String, String>> metadata = getMetadata(apis, Collections.emptySet(), plans);
 
-        if (api != null) {
-            metadata.computeIfAbsent(api, getAPIMetadata(api));
-        }
-        if (plan != null) {
-            metadata.computeIfAbsent(plan, getPlanMetadata(plan));
-        }
+        String gateway = log.getGateway();
         if (gateway != null) {
             metadata.computeIfAbsent(gateway, getGatewayMetadata(gateway));
         }
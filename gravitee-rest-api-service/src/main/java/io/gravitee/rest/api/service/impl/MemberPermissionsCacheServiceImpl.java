@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.command.CommandPermissionsEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.service.CacheInvalidationService;
+import io.gravitee.rest.api.service.MemberPermissionsCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemberPermissionsCacheServiceImpl implements MemberPermissionsCacheService, InitializingBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(MemberPermissionsCacheServiceImpl.class);
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Value("${security.permissions.cache.max:10000}")
+    private long cacheMaxSize = 10000;
+    @Value("${security.permissions.cache.ttl:300}")
+    private long cacheTtl = 300;
+
+    private volatile Cache<Key, Map<String, char[]>> permissions;
+
+    @Override
+    public void afterPropertiesSet() {
+        cacheInvalidationService.register(CommandTags.PERMISSIONS_TO_INVALIDATE, CommandPermissionsEntity.class, this::process);
+    }
+
+    @Override
+    public Map<String, char[]> get(MembershipReferenceType referenceType, String referenceId, String userId) {
+        final Map<String, char[]> userPermissions = permissions().getIfPresent(new Key(userId, referenceType, referenceId));
+        return userPermissions == null ? null : copy(userPermissions);
+    }
+
+    @Override
+    public void put(MembershipReferenceType referenceType, String referenceId, String userId, Map<String, char[]> userPermissions) {
+        permissions().put(new Key(userId, referenceType, referenceId), Collections.unmodifiableMap(copy(userPermissions)));
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        final CommandPermissionsEntity content = new CommandPermissionsEntity();
+        content.setUserId(userId);
+        process(content);
+        cacheInvalidationService.send(CommandTags.PERMISSIONS_TO_INVALIDATE, content);
+    }
+
+    @Override
+    public void invalidateAll() {
+        final CommandPermissionsEntity content = new CommandPermissionsEntity();
+        process(content);
+        cacheInvalidationService.send(CommandTags.PERMISSIONS_TO_INVALIDATE, content);
+    }
+
+    @Override
+    public void process(CommandPermissionsEntity content) {
+        LOGGER.debug("Invalidate permissions of user {}", content.getUserId() == null ? "*" : content.getUserId());
+        if (content.getUserId() == null) {
+            permissions().invalidateAll();
+        } else {
+            permissions().asMap().keySet().removeIf(key -> content.getUserId().equals(key.userId));
+        }
+    }
+
+    /**
+     * The permission arrays are mutable, callers never share them with the cache.
+     */
+    private static Map<String, char[]> copy(Map<String, char[]> userPermissions) {
+        final Map<String, char[]> copy = new HashMap<>(userPermissions.size());
+        userPermissions.forEach((permission, rights) -> copy.put(permission, rights == null ? null : rights.clone()));
+        return copy;
+    }
+
+    private Cache<Key, Map<String, char[]>> permissions() {
+        if (permissions == null) {
+            synchronized (this) {
+                if (permissions == null) {
+                    permissions = CacheBuilder.newBuilder()
+                            .maximumSize(cacheMaxSize)
+                            .expireAfterWrite(cacheTtl, TimeUnit.SECONDS)
+                            .build();
+                }
+            }
+        }
+        return permissions;
+    }
+
+    private static final class Key {
+
+        private final String userId;
+        private final MembershipReferenceType referenceType;
+        private final String referenceId;
+
+        private Key(String userId, MembershipReferenceType referenceType, String referenceId) {
+            this.userId = userId;
+            this.referenceType = referenceType;
+            this.referenceId = referenceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(userId, key.userId) &&
+                    referenceType == key.referenceType &&
+                    Objects.equals(referenceId, key.referenceId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, referenceType, referenceId);
+        }
+    }
+}
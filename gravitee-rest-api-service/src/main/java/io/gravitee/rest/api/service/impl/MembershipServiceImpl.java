@@ -25,6 +25,7 @@ import io.gravitee.repository.management.model.Audit;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.pagedresult.Metadata;
+import io.gravitee.rest.api.model.permissions.RolePermissionSet;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.model.providers.User;
@@ -83,6 +84,10 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     private ApplicationRepository applicationRepository;
     @Autowired
     private NotifierService notifierService;
+    @Autowired
+    private MemberPermissionsCacheService memberPermissionsCacheService;
+    @Autowired
+    private ApiVisibilityIndexService apiVisibilityIndexService;
 
 
     @Override
@@ -136,6 +141,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     membership.setUpdatedAt(updateDate);
                     membershipRepository.create(membership);
                     createAuditLog(MEMBERSHIP_CREATED, membership.getCreatedAt(), null, membership);
+                    invalidatePermissions(membership);
 
                     Set<io.gravitee.repository.management.model.Membership> userRolesOnReference = membershipRepository.findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(userEntity.getId(), convert(member.getMemberType()), convert(reference.getType()), reference.getId());
                     boolean shouldNotify = notify && userRolesOnReference != null && userRolesOnReference.size() == 1 &&
@@ -174,6 +180,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     membership.setUpdatedAt(updateDate);
                     membershipRepository.create(membership);
                     createAuditLog(MEMBERSHIP_CREATED, membership.getCreatedAt(), null, membership);
+                    invalidatePermissions(membership);
                 }
                 
                 if (MembershipReferenceType.GROUP == reference.getType()) {
@@ -372,6 +379,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 LOGGER.debug("Delete membership {}", membership.get());
                 membershipRepository.delete(membershipId);
                 createAuditLog(MEMBERSHIP_DELETED, new Date(), membership.get(), null);
+                invalidatePermissions(membership.get());
             }
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete membership {}", membershipId, ex);
@@ -389,6 +397,8 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     membershipRepository.delete(membership.getId());
                     createAuditLog(MEMBERSHIP_DELETED, new Date(), membership, null);
                 }
+                memberPermissionsCacheService.invalidateAll();
+                apiVisibilityIndexService.invalidateAll();
             }
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete memberships for {} {}", referenceType, referenceId, ex);
@@ -407,6 +417,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     membershipRepository.delete(membership.getId());
                     createAuditLog(MEMBERSHIP_DELETED, new Date(), membership, null);
                 };
+                invalidatePermissions(memberType, memberId);
             }
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete memberships for {} {} {} {}", referenceType, referenceId, memberType, memberId, ex);
@@ -637,6 +648,21 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         }
     }
 
+    @Override
+    public Set<MembershipEntity> getMembershipsByMembersAndReferenceAndRole(MembershipMemberType memberType,
+            List<String> memberIds, MembershipReferenceType referenceType, String role) {
+        try {
+            return membershipRepository.findByMemberIdsAndMemberTypeAndReferenceType(memberIds, convert(memberType), convert(referenceType))
+                    .stream()
+                    .filter(membership -> role.equals(membership.getRoleId()))
+                    .map(this::convert)
+                    .collect(Collectors.toSet());
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to get memberships for {} ", memberIds, ex);
+            throw new TechnicalManagementException("An error occurs while trying to get memberships for " + memberIds, ex);
+        }
+    }
+
     @Override
     public Set<MembershipEntity> getMembershipsByReference(MembershipReferenceType referenceType, String referenceId) {
         try {
@@ -736,10 +762,14 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             Set<String> entityGroups = new HashSet<>();
             switch(referenceType) {
                 case API:
-                    entityGroups = apiService.findById(referenceId).getGroups();
+                    entityGroups = apiRepository.findById(referenceId)
+                            .orElseThrow(() -> new ApiNotFoundException(referenceId))
+                            .getGroups();
                     break;
                 case APPLICATION:
-                    entityGroups = applicationService.findById(referenceId).getGroups();
+                    entityGroups = applicationRepository.findById(referenceId)
+                            .orElseThrow(() -> new ApplicationNotFoundException(referenceId))
+                            .getGroups();
                     break;
                 default:
                     break;
@@ -783,7 +813,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             
             Map<String, char[]> permissions = new HashMap<>();
             if (!userRoles.isEmpty()) {
-                permissions = computeGlobalPermissions(userRoles);
+                permissions = computeGlobalPermissions(RoleScope.valueOf(referenceType.name()), userRoles);
             }
             memberEntity.setPermissions(permissions);
             
@@ -794,43 +824,44 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         }
     }
 
-    private Map<String, char[]> computeGlobalPermissions(Set<RoleEntity> userRoles) {
-        Map<String, Set<Character>> mergedPermissions = new HashMap<>();
+    private void invalidatePermissions(io.gravitee.repository.management.model.Membership membership) {
+        if (io.gravitee.repository.management.model.MembershipMemberType.USER == membership.getMemberType()) {
+            memberPermissionsCacheService.invalidate(membership.getMemberId());
+            apiVisibilityIndexService.invalidate(membership.getMemberId());
+        } else {
+            memberPermissionsCacheService.invalidateAll();
+            apiVisibilityIndexService.invalidateAll();
+        }
+    }
+
+    private void invalidatePermissions(MembershipMemberType memberType, String memberId) {
+        if (MembershipMemberType.USER == memberType) {
+            memberPermissionsCacheService.invalidate(memberId);
+            apiVisibilityIndexService.invalidate(memberId);
+        } else {
+            memberPermissionsCacheService.invalidateAll();
+            apiVisibilityIndexService.invalidateAll();
+        }
+    }
+
+    private Map<String, char[]> computeGlobalPermissions(RoleScope scope, Set<RoleEntity> userRoles) {
+        // all the roles are of the scope of the reference, group roles being filtered on it
+        RolePermissionSet mergedPermissions = new RolePermissionSet();
         for (RoleEntity role : userRoles) {
-            for (Map.Entry<String, char[]> perm : role.getPermissions().entrySet()) {
-                if (mergedPermissions.containsKey(perm.getKey())) {
-                    Set<Character> previousCRUD = mergedPermissions.get(perm.getKey());
-                    for (char c : perm.getValue()) {
-                        previousCRUD.add(c);
-                    }
-                } else {
-                    Set<Character> crudAsSet = new HashSet<>();
-                    for (char c : perm.getValue()) {
-                        crudAsSet.add(c);
-                    }
-                    mergedPermissions.put(perm.getKey(), crudAsSet);
-                }
-            }
+            mergedPermissions.addAll(scope, role.getPermissions());
         }
-        Map<String, char[]> permissions = new HashMap<>(mergedPermissions.size());
-        mergedPermissions.forEach((String k, Set<Character> v) -> {
-            Character[] characters = v.toArray(new Character[v.size()]);
-            char[] chars = new char[characters.length];
-            for(int i = 0; i< characters.length; i++) {
-                chars[i] = characters[i];
-            }
-            permissions.put(k, chars);
-        });
-        return permissions;
+        return mergedPermissions.toMap();
     }
     
     @Override
     public Map<String, char[]> getUserMemberPermissions(MembershipReferenceType referenceType, String referenceId, String userId) {
-        MemberEntity member = this.getUserMember(referenceType, referenceId, userId);
-        if (member != null) {
-         return member.getPermissions();
+        Map<String, char[]> permissions = memberPermissionsCacheService.get(referenceType, referenceId, userId);
+        if (permissions == null) {
+            MemberEntity member = this.getUserMember(referenceType, referenceId, userId);
+            permissions = member != null ? member.getPermissions() : emptyMap();
+            memberPermissionsCacheService.put(referenceType, referenceId, userId, permissions);
         }
-        return emptyMap();
+        return permissions;
     }
     
     @Override
@@ -856,6 +887,9 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             for(io.gravitee.repository.management.model.Membership m: membershipsToDelete) {
                 membershipRepository.delete(m.getId());
             }
+            if (!membershipsToDelete.isEmpty()) {
+                invalidatePermissions(memberType, memberId);
+            }
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to remove role {} from member {} {} for {} {}", roleId, memberType, memberId, referenceType, referenceId, ex);
             throw new TechnicalManagementException("An error occurs while trying to remove role " + roleId + " from member " + memberType + " " + memberId + " for " + referenceType + " " + referenceId, ex);
@@ -878,6 +912,10 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 }
                 membershipRepository.delete(oldMembershipId);
             }
+            if (!membershipsWithOldRole.isEmpty()) {
+                memberPermissionsCacheService.invalidateAll();
+                apiVisibilityIndexService.invalidateAll();
+            }
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to remove role {} {}", oldRoleId, ex);
             throw new TechnicalManagementException("An error occurs while trying to remove role " + oldRoleId, ex);
@@ -890,6 +928,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             for(io.gravitee.repository.management.model.Membership membership : membershipRepository.findByMemberIdAndMemberType(memberId, convert(memberType))) {
                 membershipRepository.delete(membership.getId());
             }
+            invalidatePermissions(memberType, memberId);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to remove member {} {}", memberType, memberId, ex);
             throw new TechnicalManagementException("An error occurs while trying to remove " + memberType + " " + memberId, ex);
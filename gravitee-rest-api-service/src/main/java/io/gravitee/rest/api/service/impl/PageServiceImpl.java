@@ -515,6 +515,22 @@ public class PageServiceImpl extends TransactionalService implements PageService
         return this.search(query, acceptedLocale, false, true);
     }
 
+    @Override
+    public List<PageEntity> findPublishedApiPages() {
+        try {
+            return pageRepository.search(new PageCriteria.Builder()
+                    .referenceType(PageReferenceType.API.name())
+                    .published(true)
+                    .build())
+                    .stream()
+                    .map(this::convert)
+                    .collect(Collectors.toList());
+        } catch (TechnicalException ex) {
+            logger.error("An error occurs while trying to find published API pages", ex);
+            throw new TechnicalManagementException("An error occurs while trying to find published API pages", ex);
+        }
+    }
+
     private List<PageEntity> search(final PageQuery query, String acceptedLocale, boolean withTranslations, boolean withLinks) {
         try {
             Stream<Page> pagesStream = pageRepository.search(queryToCriteria(query)).stream();
@@ -15,22 +15,31 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ParameterRepository;
 import io.gravitee.repository.management.model.Parameter;
 import io.gravitee.repository.management.model.ParameterReferenceType;
+import io.gravitee.rest.api.model.command.CommandParametersEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
 import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.service.AuditService;
+import io.gravitee.rest.api.service.CacheInvalidationService;
 import io.gravitee.rest.api.service.ParameterService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.inject.Inject;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -50,7 +59,7 @@ import static java.util.stream.Collectors.toList;
  * @author GraviteeSource Team
  */
 @Component
-public class ParameterServiceImpl extends TransactionalService implements ParameterService {
+public class ParameterServiceImpl extends TransactionalService implements ParameterService, InitializingBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ParameterServiceImpl.class);
 
@@ -61,6 +70,20 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
     private ParameterRepository parameterRepository;
     @Inject
     private AuditService auditService;
+    @Inject
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Value("${parameters.cache.max:10000}")
+    private long cacheMaxSize = 10000;
+    @Value("${parameters.cache.ttl:60}")
+    private long cacheTtl = 60;
+
+    private volatile Cache<CacheKey, Optional<Parameter>> parameters;
+
+    @Override
+    public void afterPropertiesSet() {
+        cacheInvalidationService.register(CommandTags.PARAMETERS_TO_INVALIDATE, CommandParametersEntity.class, this::process);
+    }
 
     @Override
     public String find(final Key key) {
@@ -102,30 +125,48 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
     @Override
     public <T> List<T> findAll(final Key key, final Function<String, T> mapper, final Predicate<String> filter) {
         try {
-            final Optional<Parameter> optionalParameter = parameterRepository.findById(key.key());
+            final Optional<Parameter> optionalParameter = parameters().get(new CacheKey(key.key(), false),
+                    () -> parameterRepository.findById(key.key()));
             if (optionalParameter.isPresent()) {
                 return splitValue(optionalParameter.get().getValue(), mapper, filter);
             }
             return emptyList();
-        } catch (final TechnicalException ex) {
+        } catch (final ExecutionException ex) {
             final String message = "An error occurs while trying to find parameter values with key: " + key;
-            LOGGER.error(message, ex);
-            throw new TechnicalManagementException(message, ex);
+            LOGGER.error(message, ex.getCause());
+            throw new TechnicalManagementException(message, ex.getCause());
         }
     }
 
     @Override
     public <T> Map<String, List<T>> findAll(List<Key> keys, Function<String, T> mapper, Predicate<String> filter) {
         try {
-            List<Parameter> parameters = parameterRepository.findAllByReferenceIdAndReferenceType(
-                    keys.stream().map(Key::key).collect(toList()), 
-                    GraviteeContext.getCurrentEnvironment(), 
-                    ParameterReferenceType.ENVIRONMENT);
-            if (parameters.isEmpty()) {
+            final List<CacheKey> cacheKeys = keys.stream().map(key -> new CacheKey(key.key(), true)).collect(toList());
+            final Map<CacheKey, Optional<Parameter>> cachedParameters = new HashMap<>(parameters().getAllPresent(cacheKeys));
+            final List<CacheKey> missingKeys = cacheKeys.stream()
+                    .filter(cacheKey -> !cachedParameters.containsKey(cacheKey))
+                    .collect(toList());
+            if (!missingKeys.isEmpty()) {
+                final Map<String, Parameter> loadedParameters = new HashMap<>();
+                parameterRepository.findAllByReferenceIdAndReferenceType(
+                        missingKeys.stream().map(cacheKey -> cacheKey.key).collect(toList()),
+                        GraviteeContext.getCurrentEnvironment(),
+                        ParameterReferenceType.ENVIRONMENT)
+                        .forEach(p -> loadedParameters.put(p.getKey(), p));
+                missingKeys.forEach(cacheKey -> {
+                    final Optional<Parameter> parameter = Optional.ofNullable(loadedParameters.get(cacheKey.key));
+                    parameters().put(cacheKey, parameter);
+                    cachedParameters.put(cacheKey, parameter);
+                });
+            }
+            if (cachedParameters.values().stream().noneMatch(Optional::isPresent)) {
                 return emptyMap();
             }
             Map<String, List<T>> result = new HashMap<>();
-            parameters.forEach( p -> result.put(p.getKey(), splitValue(p.getValue(), mapper, filter)) );
+            cachedParameters.values().stream()
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .forEach(p -> result.put(p.getKey(), splitValue(p.getValue(), mapper, filter)));
             return result;
         } catch (final TechnicalException ex) {
             final String message = "An error occurs while trying to find parameter values with keys: " + keys;
@@ -147,7 +188,14 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
 
     @Override
     public Parameter save(final Key key, final String value) {
+        try {
+            return doSave(key, value);
+        } finally {
+            invalidate(key.key());
+        }
+    }
 
+    private Parameter doSave(final Key key, final String value) {
         try {
             Optional<Parameter> optionalParameter = parameterRepository.findById(key.key());
             final boolean updateMode = optionalParameter.isPresent();
@@ -195,6 +243,47 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
         }
     }
 
+    @Override
+    public long getCacheHitCount() {
+        return parameters().stats().hitCount();
+    }
+
+    @Override
+    public long getCacheMissCount() {
+        return parameters().stats().missCount();
+    }
+
+    private void process(final CommandParametersEntity content) {
+        LOGGER.debug("Invalidate cached parameter {}", content.getKey() == null ? "*" : content.getKey());
+        if (content.getKey() == null) {
+            parameters().invalidateAll();
+        } else {
+            parameters().asMap().keySet().removeIf(cacheKey -> content.getKey().equals(cacheKey.key));
+        }
+    }
+
+    private void invalidate(final String key) {
+        final CommandParametersEntity content = new CommandParametersEntity();
+        content.setKey(key);
+        process(content);
+        cacheInvalidationService.send(CommandTags.PARAMETERS_TO_INVALIDATE, content);
+    }
+
+    private Cache<CacheKey, Optional<Parameter>> parameters() {
+        if (parameters == null) {
+            synchronized (this) {
+                if (parameters == null) {
+                    parameters = CacheBuilder.newBuilder()
+                            .maximumSize(cacheMaxSize)
+                            .expireAfterWrite(cacheTtl, TimeUnit.SECONDS)
+                            .recordStats()
+                            .build();
+                }
+            }
+        }
+        return parameters;
+    }
+
     @Override
     public Parameter save(final Key key, final List<String> values) {
         return save(key, values==null ? null : join(SEPARATOR, values));
@@ -207,4 +296,40 @@ public class ParameterServiceImpl extends TransactionalService implements Parame
                 .map(entry -> entry.getKey() + KV_SEPARATOR + entry.getValue())
                 .collect(joining(SEPARATOR)));
     }
+
+    /**
+     * A parameter cached for the current organization and environment.
+     * Lookups by key and lookups restricted to the environment parameters are cached separately
+     * since the repository does not resolve them the same way.
+     */
+    private static final class CacheKey {
+
+        private final String organization;
+        private final String environment;
+        private final String key;
+        private final boolean environmentOnly;
+
+        private CacheKey(String key, boolean environmentOnly) {
+            this.organization = GraviteeContext.getCurrentOrganization();
+            this.environment = GraviteeContext.getCurrentEnvironment();
+            this.key = key;
+            this.environmentOnly = environmentOnly;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CacheKey cacheKey = (CacheKey) o;
+            return environmentOnly == cacheKey.environmentOnly &&
+                    Objects.equals(organization, cacheKey.organization) &&
+                    Objects.equals(environment, cacheKey.environment) &&
+                    Objects.equals(key, cacheKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(organization, environment, key, environmentOnly);
+        }
+    }
 }
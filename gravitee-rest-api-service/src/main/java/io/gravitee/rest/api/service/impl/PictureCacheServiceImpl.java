@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.rest.api.model.InlinePictureEntity;
+import io.gravitee.rest.api.model.PictureEntity;
+import io.gravitee.rest.api.service.PictureCacheService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class PictureCacheServiceImpl implements PictureCacheService {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(PictureCacheServiceImpl.class);
+
+    @Value("${pictures.cache.max:1000}")
+    private long cacheMaxSize = 1000;
+    @Value("${pictures.cache.ttl:300}")
+    private long cacheTtl = 300;
+
+    /**
+     * Pictures by reference, an empty value meaning that the reference has no such picture.
+     */
+    private volatile Cache<Key, Optional<PictureEntity>> pictures;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends PictureEntity> T get(ReferenceType referenceType, String referenceId, String name, Supplier<T> loader) {
+        final Key key = new Key(GraviteeContext.getCurrentEnvironment(), referenceType, referenceId, name);
+        Optional<PictureEntity> picture = pictures().getIfPresent(key);
+        if (picture == null) {
+            final T loaded = loader.get();
+            if (loaded instanceof InlinePictureEntity) {
+                // compute the entity tag once for all the requests
+                ((InlinePictureEntity) loaded).getHash();
+            }
+            picture = Optional.ofNullable(loaded);
+            pictures().put(key, picture);
+        }
+        return (T) picture.orElse(null);
+    }
+
+    @Override
+    public void invalidate(ReferenceType referenceType, String referenceId) {
+        LOGGER.debug("Invalidate pictures of {} {}", referenceType, referenceId == null ? "*" : referenceId);
+        pictures().asMap().keySet().removeIf(key -> key.referenceType == referenceType
+                && (referenceId == null || referenceId.equals(key.referenceId)));
+    }
+
+    private Cache<Key, Optional<PictureEntity>> pictures() {
+        if (pictures == null) {
+            synchronized (this) {
+                if (pictures == null) {
+                    pictures = CacheBuilder.newBuilder()
+                            .maximumSize(cacheMaxSize)
+                            .expireAfterWrite(cacheTtl, TimeUnit.SECONDS)
+                            .build();
+                }
+            }
+        }
+        return pictures;
+    }
+
+    private static final class Key {
+
+        private final String environment;
+        private final ReferenceType referenceType;
+        private final String referenceId;
+        private final String name;
+
+        private Key(String environment, ReferenceType referenceType, String referenceId, String name) {
+            this.environment = environment;
+            this.referenceType = referenceType;
+            this.referenceId = referenceId;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(environment, key.environment) &&
+                    referenceType == key.referenceType &&
+                    Objects.equals(referenceId, key.referenceId) &&
+                    Objects.equals(name, key.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(environment, referenceType, referenceId, name);
+        }
+    }
+}
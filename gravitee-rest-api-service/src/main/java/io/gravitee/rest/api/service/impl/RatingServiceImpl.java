@@ -15,6 +15,8 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.parameters.Key;
@@ -38,9 +40,12 @@ import io.gravitee.repository.management.model.RatingReferenceType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.reverseOrder;
@@ -76,6 +81,17 @@ public class RatingServiceImpl extends AbstractService implements RatingService
     @Autowired
     private ApiService apiService;
 
+    @Value("${portal.rating.summary.cache.max:10000}")
+    private long summaryCacheMaxSize = 10000;
+    @Value("${portal.rating.summary.cache.ttl:60}")
+    private long summaryCacheTtl = 60;
+
+    /**
+     * Rating summaries per API, maintained incrementally by this node on create/update/delete.
+     * The TTL bounds the staleness of the summaries when ratings are written by another node.
+     */
+    private volatile Cache<String, Summary> summaries;
+
     @Override
     public RatingEntity create(final NewRatingEntity ratingEntity) {
         if (!isEnabled()) {
@@ -87,6 +103,7 @@ public class RatingServiceImpl extends AbstractService implements RatingService
                 throw new RatingAlreadyExistsException(ratingEntity.getApi(), getAuthenticatedUsername());
             }
             Rating rating = ratingRepository.create(convert(ratingEntity));
+            updateSummary(rating.getReferenceId(), summary -> summary.add(rating.getRate()));
             auditService.createApiAuditLog(rating.getReferenceId(), null, Rating.RatingEvent.RATING_CREATED, rating.getCreatedAt(), null, rating);
 
             notifierService.trigger(
@@ -174,24 +191,25 @@ public class RatingServiceImpl extends AbstractService implements RatingService
 
     @Override
     public RatingSummaryEntity findSummaryByApi(final String api) {
+        return findSummariesByApis(Collections.singleton(api)).get(api);
+    }
+
+    @Override
+    public Map<String, RatingSummaryEntity> findSummariesByApis(final Collection<String> apis) {
         if (!isEnabled()) {
             throw new ApiRatingUnavailableException();
         }
-        try {
-            final List<Rating> ratings = ratingRepository.findByReferenceIdAndReferenceType(api, RatingReferenceType.API);
-            final RatingSummaryEntity ratingSummary = new RatingSummaryEntity();
-            ratingSummary.setApi(api);
-            ratingSummary.setNumberOfRatings(ratings.size());
-            final OptionalDouble optionalAvg = ratings.stream().mapToInt(Rating::getRate).average();
-            if (optionalAvg.isPresent()) {
-                ratingSummary.setAverageRate(optionalAvg.getAsDouble());
+        final Map<String, Summary> cached = summaries().getAllPresent(apis);
+        final Map<String, RatingSummaryEntity> ratingSummaries = new HashMap<>(apis.size());
+        for (String api : apis) {
+            Summary summary = cached.get(api);
+            if (summary == null) {
+                summary = loadSummary(api);
+                summaries().put(api, summary);
             }
-            ratingSummary.setNumberOfRatingsByRate(ratings.stream().collect(groupingBy(Rating::getRate, counting())));
-            return ratingSummary;
-        } catch (TechnicalException ex) {
-            LOGGER.error("An error occurred while trying to find summary rating for api {}", api, ex);
-            throw new TechnicalManagementException("An error occurred while trying to find summary rating for api " + api, ex);
+            ratingSummaries.put(api, convert(api, summary));
         }
+        return ratingSummaries;
     }
 
     @Override
@@ -235,6 +253,7 @@ public class RatingServiceImpl extends AbstractService implements RatingService
                 rating.setComment(ratingEntity.getComment());
             }
             Rating updatedRating = ratingRepository.update(rating);
+            updateSummary(rating.getReferenceId(), summary -> summary.remove(oldRating.getRate()).add(updatedRating.getRate()));
             auditService.createApiAuditLog(rating.getReferenceId(), null, Rating.RatingEvent.RATING_UPDATED, updatedRating.getUpdatedAt(), oldRating, updatedRating);
             return convert(updatedRating);
         } catch (TechnicalException ex) {
@@ -251,6 +270,7 @@ public class RatingServiceImpl extends AbstractService implements RatingService
         try {
             Rating rating = findModelById(id);
             ratingRepository.delete(id);
+            updateSummary(rating.getReferenceId(), summary -> summary.remove(rating.getRate()));
             auditService.createApiAuditLog(rating.getReferenceId(), null, Rating.RatingEvent.RATING_DELETED, new Date(), rating, null);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete rating {}", id, ex);
@@ -278,6 +298,38 @@ public class RatingServiceImpl extends AbstractService implements RatingService
         return parameterService.findAsBoolean(Key.PORTAL_RATING_ENABLED);
     }
 
+    private Summary loadSummary(final String api) {
+        try {
+            Summary summary = Summary.EMPTY;
+            for (Rating rating : ratingRepository.findByReferenceIdAndReferenceType(api, RatingReferenceType.API)) {
+                summary = summary.add(rating.getRate());
+            }
+            return summary;
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurred while trying to find summary rating for api {}", api, ex);
+            throw new TechnicalManagementException("An error occurred while trying to find summary rating for api " + api, ex);
+        }
+    }
+
+    private void updateSummary(final String api, final UnaryOperator<Summary> update) {
+        // a summary which is not cached yet will be computed from the repository on next read
+        summaries().asMap().computeIfPresent(api, (key, summary) -> update.apply(summary));
+    }
+
+    private Cache<String, Summary> summaries() {
+        if (summaries == null) {
+            synchronized (this) {
+                if (summaries == null) {
+                    summaries = CacheBuilder.newBuilder()
+                            .maximumSize(summaryCacheMaxSize)
+                            .expireAfterWrite(summaryCacheTtl, TimeUnit.SECONDS)
+                            .build();
+                }
+            }
+        }
+        return summaries;
+    }
+
     private Rating findModelById(String id) {
         if (!isEnabled()) {
             throw new ApiRatingUnavailableException();
@@ -337,6 +389,17 @@ public class RatingServiceImpl extends AbstractService implements RatingService
         return ratingEntity;
     }
 
+    private RatingSummaryEntity convert(final String api, final Summary summary) {
+        final RatingSummaryEntity ratingSummary = new RatingSummaryEntity();
+        ratingSummary.setApi(api);
+        ratingSummary.setNumberOfRatings(summary.count);
+        if (summary.count > 0) {
+            ratingSummary.setAverageRate((double) summary.sum / summary.count);
+        }
+        ratingSummary.setNumberOfRatingsByRate(new HashMap<>(summary.countByRate));
+        return ratingSummary;
+    }
+
     private Rating convert(final NewRatingEntity ratingEntity) {
         final Rating rating = new Rating();
         rating.setId(RandomString.generate());
@@ -351,4 +414,42 @@ public class RatingServiceImpl extends AbstractService implements RatingService
         rating.setUpdatedAt(now);
         return rating;
     }
+
+    /**
+     * Immutable count, sum and per-rate buckets of the ratings of an API.
+     */
+    private static final class Summary {
+
+        private static final Summary EMPTY = new Summary(0, 0, Collections.emptyMap());
+
+        private final int count;
+        private final long sum;
+        private final Map<Byte, Long> countByRate;
+
+        private Summary(int count, long sum, Map<Byte, Long> countByRate) {
+            this.count = count;
+            this.sum = sum;
+            this.countByRate = countByRate;
+        }
+
+        private Summary add(byte rate) {
+            final Map<Byte, Long> buckets = new HashMap<>(countByRate);
+            buckets.merge(rate, 1L, Long::sum);
+            return new Summary(count + 1, sum + rate, buckets);
+        }
+
+        private Summary remove(byte rate) {
+            final Long bucket = countByRate.get(rate);
+            if (bucket == null) {
+                return this;
+            }
+            final Map<Byte, Long> buckets = new HashMap<>(countByRate);
+            if (bucket == 1) {
+                buckets.remove(rate);
+            } else {
+                buckets.put(rate, bucket - 1);
+            }
+            return new Summary(count - 1, sum - rate, buckets);
+        }
+    }
 }
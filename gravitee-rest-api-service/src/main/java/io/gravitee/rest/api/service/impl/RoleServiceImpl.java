@@ -25,6 +25,8 @@ import io.gravitee.rest.api.model.RoleEntity;
 import io.gravitee.rest.api.model.UpdateRoleEntity;
 import io.gravitee.rest.api.model.permissions.*;
 import io.gravitee.rest.api.service.AuditService;
+import io.gravitee.rest.api.service.ApiVisibilityIndexService;
+import io.gravitee.rest.api.service.MemberPermissionsCacheService;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.RoleService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
@@ -66,6 +68,11 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private MemberPermissionsCacheService memberPermissionsCacheService;
+    @Autowired
+    private ApiVisibilityIndexService apiVisibilityIndexService;
+
     @Override
     public RoleEntity findById(final String roleId) {
         try {
@@ -150,6 +157,9 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             updatedRole.setReferenceId(role.getReferenceId());
             updatedRole.setReferenceType(role.getReferenceType());
             RoleEntity entity = convert(roleRepository.update(updatedRole));
+            memberPermissionsCacheService.invalidateAll();
+            // the scope of the role decides whether its group members see the APIs of the group
+            apiVisibilityIndexService.invalidate(ApiVisibilityIndexService.Reason.MEMBERSHIP);
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ROLE, role.getScope()+":"+role.getName()),
                     ROLE_UPDATED,
@@ -253,22 +263,11 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
 
     @Override
     public boolean hasPermission(Map<String, char[]> userPermissions, Permission permission, RolePermissionAction[] acls) {
-        boolean hasPermission = false;
-        if (userPermissions != null) {
-            Iterator<Map.Entry<String, char[]>> it = userPermissions.entrySet().iterator();
-            while (it.hasNext() && !hasPermission) {
-                Map.Entry<String, char[]> entry = it.next();
-                if (permission.getName().equals(entry.getKey())) {
-                    String crud = Arrays.toString(entry.getValue());
-                    for (RolePermissionAction perm : acls) {
-                        if (crud.indexOf(perm.getId()) != -1) {
-                            hasPermission = true;
-                        }
-                    }
-                }
-            }
+        if (userPermissions == null) {
+            return false;
         }
-        return hasPermission;
+        final int mask = RolePermissionSet.toMask(userPermissions.get(permission.getName()));
+        return (mask & RolePermissionSet.toMask(acls)) != 0;
     }
 
     private void toggleDefaultRole(RoleScope scope, String newDefaultRoleName) throws TechnicalException {
@@ -28,6 +28,7 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
 import io.gravitee.rest.api.model.common.Pageable;
+import io.gravitee.rest.api.model.common.PageableImpl;
 import io.gravitee.rest.api.model.pagedresult.Metadata;
 import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
@@ -42,8 +43,11 @@ import org.apache.commons.lang3.time.FastDateFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -54,6 +58,7 @@ import static io.gravitee.repository.management.model.Audit.AuditProperties.APPL
 import static io.gravitee.repository.management.model.Subscription.AuditEvent.*;
 import static java.lang.System.lineSeparator;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -73,6 +78,9 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
     private static final FastDateFormat dateFormatter = FastDateFormat.getInstance(RFC_3339_DATE_FORMAT);
     private static final char separator = ';';
 
+    @Value("${subscriptions.export.chunkSize:1000}")
+    private int exportChunkSize = 1000;
+
     @Autowired
     private PlanService planService;
     @Autowired
@@ -93,6 +101,8 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
     private GroupService groupService;
     @Autowired
     private ParameterService parameterService;
+    @Autowired
+    private ApiVisibilityIndexService apiVisibilityIndexService;
 
     @Override
     public SubscriptionEntity findById(String subscription) {
@@ -281,6 +291,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
             }
 
             subscription = subscriptionRepository.create(subscription);
+            apiVisibilityIndexService.invalidate(ApiVisibilityIndexService.Reason.SUBSCRIPTION);
 
             createAudit(apiId, application, SUBSCRIPTION_CREATED, subscription.getCreatedAt(), null, subscription);
 
@@ -699,6 +710,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
 
             // Delete subscription
             subscriptionRepository.delete(subscriptionId);
+            apiVisibilityIndexService.invalidate(ApiVisibilityIndexService.Reason.SUBSCRIPTION);
             createAudit(
                     planService.findById(subscription.getPlan()).getApi(),
                     subscription.getApplication(),
@@ -874,21 +886,68 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
 
     @Override
     public String exportAsCsv(Collection<SubscriptionEntity> subscriptions, Map<String, Map<String, Object>> metadata) {
+        return toCsv(subscriptions, metadata, true);
+    }
+
+    @Override
+    public void exportAsCsv(SubscriptionQuery query, Pageable pageable, OutputStream output) {
+        final int page = Math.max(pageable.getPageNumber(), 1);
+        final long offset = (long) (page - 1) * pageable.getPageSize();
+        // Chunks must be aligned on the requested page, otherwise the page is fetched at once
+        final int chunkSize = pageable.getPageSize() <= exportChunkSize || offset % exportChunkSize != 0 ?
+                pageable.getPageSize() : exportChunkSize;
+
+        try {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            long remaining = pageable.getPageSize();
+            int chunk = (int) (offset / Math.max(chunkSize, 1)) + 1;
+
+            writer.write(toCsv(emptyList(), emptyMap(), true));
+
+            while (remaining > 0) {
+                final Page<SubscriptionEntity> subscriptions = search(query, new PageableImpl(chunk, chunkSize));
+                List<SubscriptionEntity> content = subscriptions.getContent();
+                if (content == null || content.isEmpty()) {
+                    break;
+                }
+                if (content.size() > remaining) {
+                    content = content.subList(0, (int) remaining);
+                }
+
+                writer.write(toCsv(content, getMetadata(content).getMetadata(), false));
+                remaining -= content.size();
+
+                if (subscriptions.getContent().size() < chunkSize || (long) chunk * chunkSize >= subscriptions.getTotalElements()) {
+                    break;
+                }
+                chunk++;
+            }
+
+            writer.flush();
+        } catch (IOException ioe) {
+            logger.error("Unable to export subscriptions", ioe);
+            throw new TechnicalManagementException("Unable to export subscriptions", ioe);
+        }
+    }
+
+    private String toCsv(Collection<SubscriptionEntity> subscriptions, Map<String, Map<String, Object>> metadata, boolean withHeader) {
         final StringBuilder sb = new StringBuilder();
-        sb.append("Plan");
-        sb.append(separator);
-        sb.append("Application");
-        sb.append(separator);
-        sb.append("Creation date");
-        sb.append(separator);
-        sb.append("Process date");
-        sb.append(separator);
-        sb.append("Start date");
-        sb.append(separator);
-        sb.append("End date date");
-        sb.append(separator);
-        sb.append("Status");
-        sb.append(lineSeparator());
+        if (withHeader) {
+            sb.append("Plan");
+            sb.append(separator);
+            sb.append("Application");
+            sb.append(separator);
+            sb.append("Creation date");
+            sb.append(separator);
+            sb.append("Process date");
+            sb.append(separator);
+            sb.append("Start date");
+            sb.append(separator);
+            sb.append("End date date");
+            sb.append(separator);
+            sb.append("Status");
+            sb.append(lineSeparator());
+        }
 
         if (subscriptions == null || subscriptions.isEmpty()) {
             return sb.toString();
@@ -27,6 +27,7 @@ import io.gravitee.rest.api.model.PictureEntity;
 import io.gravitee.rest.api.model.UrlPictureEntity;
 import io.gravitee.rest.api.model.theme.*;
 import io.gravitee.rest.api.service.AuditService;
+import io.gravitee.rest.api.service.PictureCacheService;
 import io.gravitee.rest.api.service.ThemeService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.DuplicateThemeNameException;
@@ -65,6 +66,8 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
     private ThemeRepository themeRepository;
     @Autowired
     private AuditService auditService;
+    @Autowired
+    private PictureCacheService pictureCacheService;
 
     @Override
     public Set<ThemeEntity> findAll() {
@@ -118,6 +121,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
             }
 
             Theme theme = themeRepository.create(convert(themeEntity));
+            pictureCacheService.invalidate(PictureCacheService.ReferenceType.THEME, null);
 
             auditService.createPortalAuditLog(
                     Collections.singletonMap(THEME, theme.getId()),
@@ -181,6 +185,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
                 }
 
                 final ThemeEntity savedTheme = convert(themeRepository.update(theme));
+                pictureCacheService.invalidate(PictureCacheService.ReferenceType.THEME, null);
                 auditService.createPortalAuditLog(
                         Collections.singletonMap(THEME, theme.getId()),
                         THEME_UPDATED,
@@ -211,6 +216,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
             Optional<Theme> themeOptional = themeRepository.findById(themeId);
             if (themeOptional.isPresent()) {
                 themeRepository.delete(themeId);
+                pictureCacheService.invalidate(PictureCacheService.ReferenceType.THEME, null);
                 auditService.createPortalAuditLog(
                         Collections.singletonMap(THEME, themeId),
                         THEME_DELETED,
@@ -342,6 +348,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
             LOGGER.debug("Reset to default theme by ID: {}", themeId);
             final ThemeEntity previousTheme = findEnabled();
             themeRepository.delete(DEFAULT_THEME_ID);
+            pictureCacheService.invalidate(PictureCacheService.ReferenceType.THEME, null);
             auditService.createPortalAuditLog(
                     Collections.singletonMap(THEME, themeId),
                     THEME_RESET,
@@ -358,41 +365,48 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
 
     @Override
     public PictureEntity getLogo(String themeId) {
-        try {
-            final String logo = findEnabled().getLogo();
-            if (logo != null) {
-                return convertToPicture(logo);
+        // the pictures of the enabled theme of the environment
+        return pictureCacheService.get(PictureCacheService.ReferenceType.THEME, null, "logo", () -> {
+            try {
+                final String logo = findEnabled().getLogo();
+                if (logo != null) {
+                    return convertToPicture(logo);
+                }
+            } catch (Exception ex) {
+                LOGGER.warn("Unable to get logo picture theme for id[{}]", themeId);
             }
-        } catch (Exception ex) {
-            LOGGER.warn("Unable to get logo picture theme for id[{}]", themeId);
-        }
-        return null;
+            return null;
+        });
     }
 
     @Override
     public PictureEntity getOptionalLogo(String themeId) {
-        try {
-            final String optionalLogo = findEnabled().getOptionalLogo();
-            if (optionalLogo != null) {
-                return convertToPicture(optionalLogo);
+        return pictureCacheService.get(PictureCacheService.ReferenceType.THEME, null, "optionalLogo", () -> {
+            try {
+                final String optionalLogo = findEnabled().getOptionalLogo();
+                if (optionalLogo != null) {
+                    return convertToPicture(optionalLogo);
+                }
+            } catch (Exception ex) {
+                LOGGER.warn("Unable to get optional logo theme for id[{}]", themeId);
             }
-        } catch (Exception ex) {
-            LOGGER.warn("Unable to get optional logo theme for id[{}]", themeId);
-        }
-        return null;
+            return null;
+        });
     }
 
     @Override
     public PictureEntity getBackgroundImage(String themeId) {
-        try {
-            final String backgroundImage = findEnabled().getBackgroundImage();
-            if (backgroundImage != null) {
-                return convertToPicture(backgroundImage);
+        return pictureCacheService.get(PictureCacheService.ReferenceType.THEME, null, "backgroundImage", () -> {
+            try {
+                final String backgroundImage = findEnabled().getBackgroundImage();
+                if (backgroundImage != null) {
+                    return convertToPicture(backgroundImage);
+                }
+            } catch (Exception ex) {
+                LOGGER.warn("Unable to get background image theme for id[{}]", themeId);
             }
-        } catch (Exception ex) {
-            LOGGER.warn("Unable to get background image theme for id[{}]", themeId);
-        }
-        return null;
+            return null;
+        });
     }
 
     private PictureEntity convertToPicture(String picture) {
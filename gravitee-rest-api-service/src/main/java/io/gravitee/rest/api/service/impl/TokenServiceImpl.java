@@ -15,6 +15,9 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.rest.api.model.NewTokenEntity;
 import io.gravitee.rest.api.model.TokenEntity;
@@ -28,15 +31,25 @@ import io.gravitee.repository.management.api.TokenRepository;
 import io.gravitee.repository.management.model.Token;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static io.gravitee.repository.management.model.Audit.AuditProperties.TOKEN;
 import static io.gravitee.repository.management.model.Token.AuditEvent.*;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -44,7 +57,7 @@ import static java.util.stream.Collectors.toList;
  * @author GraviteeSource Team
  */
 @Component
-public class TokenServiceImpl extends AbstractService implements TokenService {
+public class TokenServiceImpl extends AbstractService implements TokenService, InitializingBean, DisposableBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(TokenServiceImpl.class);
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
@@ -54,6 +67,52 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
     @Autowired
     private AuditService auditService;
 
+    @Value("${security.token.cache.max:10000}")
+    private long verifiedTokensMaxSize = 10000;
+    @Value("${security.token.cache.ttl:300}")
+    private long verifiedTokensTtl = 300;
+    @Value("${security.token.cache.unknownTtl:30}")
+    private long unknownTokensTtl = 30;
+    @Value("${security.token.lastUse.flushInterval:30}")
+    private long lastUseFlushInterval = 30;
+
+    /**
+     * SHA-256 digest of a token value already verified against its bcrypt hash, mapped to the token id.
+     * A hit allows to load the token by id instead of matching the value against every stored token.
+     */
+    private volatile Cache<String, String> verifiedTokens;
+
+    /**
+     * SHA-256 digest of a token value recently matched against none of the stored tokens. It is kept for a short
+     * time, so that repeated attempts with an unknown value do not match it against every stored token again.
+     */
+    private volatile Cache<String, Boolean> unknownTokens;
+
+    /**
+     * Pending last use dates, collapsed by token id and flushed periodically.
+     */
+    private final Map<String, Date> pendingLastUses = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService lastUseFlusher;
+
+    @Override
+    public void afterPropertiesSet() {
+        lastUseFlusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "gio.token-last-use");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lastUseFlusher.scheduleWithFixedDelay(this::flushLastUses, lastUseFlushInterval, lastUseFlushInterval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (lastUseFlusher != null) {
+            lastUseFlusher.shutdown();
+        }
+        flushLastUses();
+    }
+
 
     @Override
     public List<TokenEntity> findByUser(final String userId) {
@@ -69,6 +128,30 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
         }
     }
 
+    @Override
+    public Map<String, Long> countByUsers(final Collection<String> userIds) {
+        try {
+            LOGGER.debug("Count tokens for users {}", userIds);
+            if (userIds.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            // The repository has no lookup by several references: the tokens are read with a single query, whatever
+            // the number of users, and grouped by user
+            final Set<String> users = new HashSet<>(userIds);
+            final Map<String, Long> counts = tokenRepository.findAll()
+                    .stream()
+                    .filter(token -> TokenReferenceType.USER.name().equals(token.getReferenceType()))
+                    .filter(token -> users.contains(token.getReferenceId()))
+                    .collect(groupingBy(Token::getReferenceId, counting()));
+            users.forEach(userId -> counts.putIfAbsent(userId, 0L));
+            return counts;
+        } catch (TechnicalException ex) {
+            final String error = "An error occurs while trying to count tokens";
+            LOGGER.error(error, ex);
+            throw new TechnicalManagementException(error, ex);
+        }
+    }
+
     @Override
     public TokenEntity create(NewTokenEntity newToken) {
         try {
@@ -84,6 +167,7 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
 
             final String decodedToken = UUID.toString(UUID.random());
             final Token token = convert(newToken, TokenReferenceType.USER, username, passwordEncoder.encode(decodedToken));
+            unknownTokens().invalidate(digest(decodedToken));
             auditService.createPortalAuditLog(
                     Collections.singletonMap(TOKEN, token.getId()),
                     TOKEN_CREATED,
@@ -110,6 +194,8 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
             Optional<Token> tokenOptional = tokenRepository.findById(tokenId);
             if (tokenOptional.isPresent()) {
                 tokenRepository.delete(tokenId);
+                pendingLastUses.remove(tokenId);
+                verifiedTokens().asMap().values().removeIf(tokenId::equals);
                 auditService.createPortalAuditLog(
                         Collections.singletonMap(TOKEN, tokenId),
                         TOKEN_DELETED,
@@ -128,14 +214,35 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
     public Token findByToken(String token) {
         try {
             LOGGER.debug("Find token entity by token value");
-            final Optional<Token> optionalToken = tokenRepository.findAll().stream()
-                    .filter(t -> passwordEncoder.matches(token, t.getToken())).findAny();
-            if (optionalToken.isPresent()) {
-                final Token t = optionalToken.get();
-                t.setLastUseAt(new Date());
-                return tokenRepository.update(t);
+            final String digest = digest(token);
+            Token found = null;
+
+            final String tokenId = verifiedTokens().getIfPresent(digest);
+            if (tokenId != null) {
+                found = tokenRepository.findById(tokenId).orElse(null);
+                if (found == null) {
+                    verifiedTokens().invalidate(digest);
+                }
             }
-            throw new IllegalStateException("Token not found");
+
+            if (found == null) {
+                if (unknownTokens().getIfPresent(digest) != null) {
+                    throw new IllegalStateException("Token not found");
+                }
+                final Optional<Token> optionalToken = tokenRepository.findAll().stream()
+                        .filter(t -> passwordEncoder.matches(token, t.getToken())).findAny();
+                if (!optionalToken.isPresent()) {
+                    unknownTokens().put(digest, Boolean.TRUE);
+                    throw new IllegalStateException("Token not found");
+                }
+                found = optionalToken.get();
+                verifiedTokens().put(digest, found.getId());
+            }
+
+            final Date now = new Date();
+            found.setLastUseAt(now);
+            pendingLastUses.put(found.getId(), now);
+            return found;
         } catch (TechnicalException ex) {
             final String error = "An error occurs while trying to find token entity for a given token value";
             LOGGER.error(error, ex);
@@ -143,6 +250,59 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
         }
     }
 
+    void flushLastUses() {
+        for (String tokenId : new ArrayList<>(pendingLastUses.keySet())) {
+            final Date lastUseAt = pendingLastUses.remove(tokenId);
+            if (lastUseAt == null) {
+                continue;
+            }
+            try {
+                final Optional<Token> optionalToken = tokenRepository.findById(tokenId);
+                if (optionalToken.isPresent()) {
+                    final Token token = optionalToken.get();
+                    if (token.getLastUseAt() == null || token.getLastUseAt().before(lastUseAt)) {
+                        token.setLastUseAt(lastUseAt);
+                        tokenRepository.update(token);
+                    }
+                }
+            } catch (Exception ex) {
+                LOGGER.error("An error occurs while trying to update last use date of token {}", tokenId, ex);
+            }
+        }
+    }
+
+    private Cache<String, String> verifiedTokens() {
+        if (verifiedTokens == null) {
+            synchronized (this) {
+                if (verifiedTokens == null) {
+                    verifiedTokens = CacheBuilder.newBuilder()
+                            .maximumSize(verifiedTokensMaxSize)
+                            .expireAfterWrite(verifiedTokensTtl, TimeUnit.SECONDS)
+                            .build();
+                }
+            }
+        }
+        return verifiedTokens;
+    }
+
+    private Cache<String, Boolean> unknownTokens() {
+        if (unknownTokens == null) {
+            synchronized (this) {
+                if (unknownTokens == null) {
+                    unknownTokens = CacheBuilder.newBuilder()
+                            .maximumSize(verifiedTokensMaxSize)
+                            .expireAfterWrite(unknownTokensTtl, TimeUnit.SECONDS)
+                            .build();
+                }
+            }
+        }
+        return unknownTokens;
+    }
+
+    private String digest(final String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    }
+
     private Token convert(final NewTokenEntity tokenEntity, final TokenReferenceType referenceType,
                           final String referenceId, final String encodedToken) {
         final Token token = new Token();
@@ -70,6 +70,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.gravitee.repository.management.model.Audit.AuditProperties.USER;
 import static io.gravitee.rest.api.service.common.JWTHelper.ACTION.*;
@@ -78,6 +79,7 @@ import static io.gravitee.rest.api.service.common.JWTHelper.DefaultValues.DEFAUL
 import static io.gravitee.rest.api.service.notification.NotificationParamsBuilder.*;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
@@ -840,27 +842,43 @@ public class UserServiceImpl extends AbstractService implements UserService {
     }
 
     private void populateUserFlags(final List<UserEntity> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+
         RoleEntity apiPORole = roleService.findByScopeAndName(RoleScope.API, SystemRole.PRIMARY_OWNER.name())
                 .orElseThrow(() -> new TechnicalManagementException("API System Role 'PRIMARY_OWNER' not found."));
         RoleEntity applicationPORole = roleService.findByScopeAndName(RoleScope.APPLICATION, SystemRole.PRIMARY_OWNER.name())
                 .orElseThrow(() -> new TechnicalManagementException("API System Role 'PRIMARY_OWNER' not found."));
 
+        final List<String> userIds = users.stream().map(UserEntity::getId).collect(toList());
+        final Set<String> primaryOwners = Stream.concat(
+                membershipService.getMembershipsByMembersAndReferenceAndRole(
+                        MembershipMemberType.USER, userIds, MembershipReferenceType.API, apiPORole.getId()).stream(),
+                membershipService.getMembershipsByMembersAndReferenceAndRole(
+                        MembershipMemberType.USER, userIds, MembershipReferenceType.APPLICATION, applicationPORole.getId()).stream())
+                .map(MembershipEntity::getMemberId)
+                .collect(toSet());
+        final Map<String, Long> tokenCounts = tokenService.countByUsers(userIds);
+
         users.forEach(user -> {
-            final boolean apiPO = !membershipService.getMembershipsByMemberAndReferenceAndRole(
-                    MembershipMemberType.USER, user.getId(), MembershipReferenceType.API, apiPORole.getId())
-                    .isEmpty();
-            final boolean appPO = !membershipService.getMembershipsByMemberAndReferenceAndRole(
-                    MembershipMemberType.USER, user.getId(), MembershipReferenceType.APPLICATION, applicationPORole.getId())
-                    .isEmpty();
-
-            user.setPrimaryOwner(apiPO || appPO);
-            user.setNbActiveTokens(tokenService.findByUser(user.getId()).size());
+            user.setPrimaryOwner(primaryOwners.contains(user.getId()));
+            user.setNbActiveTokens(tokenCounts.getOrDefault(user.getId(), 0L).intValue());
         });
     }
 
 
     @Override
     public Page<UserEntity> search(UserCriteria criteria, Pageable pageable) {
+        return search(criteria, pageable, true);
+    }
+
+    @Override
+    public Page<UserEntity> searchLight(UserCriteria criteria, Pageable pageable) {
+        return search(criteria, pageable, false);
+    }
+
+    private Page<UserEntity> search(UserCriteria criteria, Pageable pageable, boolean withFlags) {
         try {
             LOGGER.debug("search users");
             UserCriteria.Builder builder = new UserCriteria.Builder()
@@ -881,7 +899,9 @@ public class UserServiceImpl extends AbstractService implements UserService {
                     .map(u -> convert(u, false))
                     .collect(toList());
 
-            populateUserFlags(entities);
+            if (withFlags) {
+                populateUserFlags(entities);
+            }
 
             return new Page<>(entities,
                     users.getPageNumber() + 1,
@@ -30,8 +30,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Date;
-import java.util.List;
+import java.util.*;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.nullsFirst;
+import static java.util.function.BinaryOperator.maxBy;
+import static java.util.stream.Collectors.toMap;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -78,4 +82,34 @@ public class WorkflowServiceImpl extends TransactionalService implements Workflo
             throw new TechnicalManagementException(message, ex);
         }
     }
+
+    @Override
+    public Map<String, Workflow> findLastByReferencesAndType(final WorkflowReferenceType referenceType,
+                                                             final Collection<String> referenceIds, final WorkflowType type) {
+        if (referenceIds == null || referenceIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        if (referenceIds.size() == 1) {
+            // workflows are returned most recent first
+            final String referenceId = referenceIds.iterator().next();
+            final List<Workflow> workflows = findByReferenceAndType(referenceType, referenceId, type);
+            return workflows == null || workflows.isEmpty() ?
+                    Collections.emptyMap() : Collections.singletonMap(referenceId, workflows.get(0));
+        }
+        try {
+            // The repository has no lookup by several references: the workflows are read with a single query, whatever
+            // the number of references, and the most recent one is kept for each reference
+            final Set<String> ids = new HashSet<>(referenceIds);
+            return workflowRepository.findAll().stream()
+                    .filter(workflow -> referenceType.name().equals(workflow.getReferenceType())
+                            && type.name().equals(workflow.getType())
+                            && ids.contains(workflow.getReferenceId()))
+                    .collect(toMap(Workflow::getReferenceId, workflow -> workflow,
+                            maxBy(comparing(Workflow::getCreatedAt, nullsFirst(Comparator.naturalOrder())))));
+        } catch (TechnicalException ex) {
+            final String message = "An error occurs while trying to find workflows by ref " + referenceType + " and type " + type;
+            LOGGER.error(message, ex);
+            throw new TechnicalManagementException(message, ex);
+        }
+    }
 }
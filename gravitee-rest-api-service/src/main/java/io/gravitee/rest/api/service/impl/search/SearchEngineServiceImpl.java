@@ -18,15 +18,20 @@ package io.gravitee.rest.api.service.impl.search;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.search.UserCriteria;
 import io.gravitee.repository.management.model.MessageRecipient;
+import io.gravitee.repository.management.model.UserStatus;
 import io.gravitee.rest.api.model.ApiPageEntity;
 import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.PageType;
 import io.gravitee.rest.api.model.UserEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.command.CommandSearchIndexerEntity;
 import io.gravitee.rest.api.model.command.CommandTags;
 import io.gravitee.rest.api.model.command.NewCommandEntity;
+import io.gravitee.rest.api.model.common.PageableImpl;
 import io.gravitee.rest.api.model.search.Indexable;
 import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.CommandService;
@@ -39,6 +44,7 @@ import io.gravitee.rest.api.service.impl.search.lucene.DocumentTransformer;
 import io.gravitee.rest.api.service.impl.search.lucene.SearchEngineIndexer;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 
+import org.apache.lucene.document.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,6 +54,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -92,6 +99,14 @@ public class SearchEngineServiceImpl implements SearchEngineService {
     private static final String ACTION_INDEX = "I";
     private static final String ACTION_DELETE = "D";
 
+    private static final String TYPE_API = "api";
+    private static final String TYPE_PAGE = "page";
+    private static final String TYPE_USER = "user";
+    private static final String CHECKPOINT_PREFIX = "checkpoint.";
+    private static final int USERS_PAGE_SIZE = 1000;
+
+    private final AtomicBoolean reindexing = new AtomicBoolean();
+
     @Async
     @Override
     public void index(Indexable source, boolean locally) {
@@ -106,6 +121,144 @@ public class SearchEngineServiceImpl implements SearchEngineService {
         }
     }
 
+    @Override
+    public void index(Collection<? extends Indexable> sources) {
+        final List<Document> documents = new ArrayList<>(sources.size());
+        sources.forEach(source -> transformers.stream()
+                .filter(transformer -> transformer.handle(source.getClass()))
+                .findFirst()
+                .ifPresent(transformer -> documents.add(transformer.transform(source))));
+
+        try {
+            indexer.index(documents);
+        } catch (TechnicalException te) {
+            logger.error("Unexpected error while indexing documents", te);
+        }
+    }
+
+    @Override
+    public void reindex(boolean full) {
+        final long startedAt = System.currentTimeMillis();
+        final Map<String, String> checkpoints = full ? Collections.emptyMap() : indexer.getCheckpoints();
+        final Date apiCheckpoint = getCheckpoint(checkpoints, TYPE_API);
+        final Date pageCheckpoint = getCheckpoint(checkpoints, TYPE_PAGE);
+        final Date userCheckpoint = getCheckpoint(checkpoints, TYPE_USER);
+
+        final List<Indexable> sources = new ArrayList<>();
+        final Set<String> apiIds = new HashSet<>();
+        final Set<String> pageIds = new HashSet<>();
+        final Set<String> userIds = new HashSet<>();
+
+        // APIs, only loaded with their definition when they have to be indexed
+        final Set<ApiEntity> apis = apiCheckpoint == null ? apiService.findAll() : apiService.findAllLight();
+        apis.forEach(apiEntity -> {
+            apiIds.add(apiEntity.getId());
+            if (apiCheckpoint == null) {
+                sources.add(apiEntity);
+            } else if (isChanged(apiEntity.getUpdatedAt(), apiCheckpoint)) {
+                try {
+                    sources.add(apiService.findById(apiEntity.getId()));
+                } catch (final AbstractNotFoundException nfe) {
+                    apiIds.remove(apiEntity.getId());
+                }
+            }
+        });
+
+        // Pages of all the APIs, read at once instead of once per API
+        pageService.findPublishedApiPages().forEach(page -> {
+            final String apiId = page instanceof ApiPageEntity ? ((ApiPageEntity) page).getApi() : null;
+            if (!apiIds.contains(apiId) || !isIndexable(page)) {
+                return;
+            }
+            pageIds.add(page.getId());
+            if (pageCheckpoint == null || isChanged(page.getLastModificationDate(), pageCheckpoint)) {
+                try {
+                    pageService.transformSwagger(page, apiId);
+                    sources.add(page);
+                } catch (Exception ignored) {}
+            }
+        });
+
+        // Users, read by bounded pages without the flags which are not indexed
+        Page<UserEntity> users;
+        int pageNumber = 1;
+        do {
+            users = userService.searchLight(
+                    new UserCriteria.Builder().statuses(UserStatus.ACTIVE).build(),
+                    new PageableImpl(pageNumber++, USERS_PAGE_SIZE));
+            users.getContent().forEach(userEntity -> {
+                userIds.add(userEntity.getId());
+                if (userCheckpoint == null || isChanged(userEntity.getUpdatedAt(), userCheckpoint)) {
+                    sources.add(userEntity);
+                }
+            });
+        } while (users.getContent().size() == USERS_PAGE_SIZE);
+
+        logger.info("Indexing {} documents ({} indexation)", sources.size(), checkpoints.isEmpty() ? "full" : "incremental");
+        index(sources);
+
+        try {
+            // Remove the documents of entities deleted since the last indexation
+            final int removed = indexer.removeAllExcept(TYPE_API, apiIds)
+                    + indexer.removeAllExcept(TYPE_PAGE, pageIds)
+                    + indexer.removeAllExcept(TYPE_USER, userIds);
+            logger.debug("{} outdated documents removed from the index", removed);
+
+            final Map<String, String> nextCheckpoints = new HashMap<>();
+            nextCheckpoints.put(CHECKPOINT_PREFIX + TYPE_API, Long.toString(startedAt));
+            nextCheckpoints.put(CHECKPOINT_PREFIX + TYPE_PAGE, Long.toString(startedAt));
+            nextCheckpoints.put(CHECKPOINT_PREFIX + TYPE_USER, Long.toString(startedAt));
+            indexer.checkpoint(nextCheckpoints);
+        } catch (TechnicalException te) {
+            logger.error("Unexpected error while cleaning the index", te);
+        }
+    }
+
+    @Override
+    public boolean reindexInBackground() {
+        if (!reindexing.compareAndSet(false, true)) {
+            logger.debug("An indexation is already running");
+            return false;
+        }
+
+        final Thread thread = new Thread(() -> {
+            try {
+                reindex(true);
+            } catch (Exception ex) {
+                logger.error("Unexpected error while rebuilding the search index", ex);
+            } finally {
+                reindexing.set(false);
+            }
+        }, "gio.search-reindex");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    private Date getCheckpoint(Map<String, String> checkpoints, String type) {
+        final String checkpoint = checkpoints.get(CHECKPOINT_PREFIX + type);
+        if (checkpoint == null) {
+            return null;
+        }
+        try {
+            return new Date(Long.parseLong(checkpoint));
+        } catch (NumberFormatException nfe) {
+            logger.warn("Invalid index checkpoint for {}: {}", type, checkpoint);
+            return null;
+        }
+    }
+
+    private boolean isIndexable(PageEntity page) {
+        return !PageType.FOLDER.name().equals(page.getType())
+                && !PageType.ROOT.name().equals(page.getType())
+                && !PageType.SYSTEM_FOLDER.name().equals(page.getType())
+                && !PageType.LINK.name().equals(page.getType());
+    }
+
+    private boolean isChanged(Date updatedAt, Date checkpoint) {
+        return updatedAt == null || !updatedAt.before(checkpoint);
+    }
+
     @Async
     @Override
     public void delete(Indexable source, boolean locally) {
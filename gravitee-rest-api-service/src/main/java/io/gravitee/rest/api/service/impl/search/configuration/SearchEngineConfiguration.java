@@ -19,6 +19,7 @@ import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.springframework.beans.factory.annotation.Value;
@@ -59,11 +60,16 @@ public class SearchEngineConfiguration {
     @Bean
     public IndexWriter indexWriter(Directory directory, Analyzer analyzer) throws IOException {
         IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-        iwc.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        iwc.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
 
         return new IndexWriter(directory, iwc);
     }
 
+    @Bean
+    public SearcherManager searcherManager(IndexWriter indexWriter) throws IOException {
+        return new SearcherManager(indexWriter, null);
+    }
+
     @Bean
     public Analyzer analyzer() {
         return new StandardAnalyzer();
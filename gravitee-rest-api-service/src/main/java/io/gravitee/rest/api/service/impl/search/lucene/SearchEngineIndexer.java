@@ -21,18 +21,37 @@ import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Index documents in near-real-time: changes are made visible to searchers by refreshing the {@link SearcherManager}
+ * and are only committed (fsync) when enough changes are pending or when the commit interval is elapsed.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class SearchEngineIndexer {
+public class SearchEngineIndexer implements InitializingBean, DisposableBean {
 
     /**
      * Logger.
@@ -45,12 +64,48 @@ public class SearchEngineIndexer {
     @Autowired
     private IndexWriter writer;
 
+    @Autowired
+    private SearcherManager searcherManager;
+
+    @Value("${search.refresh.interval:1000}")
+    private long refreshInterval = 1000;
+
+    @Value("${search.commit.interval:10000}")
+    private long commitInterval = 10000;
+
+    @Value("${search.commit.maxPendingDocuments:5000}")
+    private long commitMaxPendingDocuments = 5000;
+
+    private final AtomicLong pendingDocuments = new AtomicLong();
+
+    private volatile long lastCommitAt = System.currentTimeMillis();
+
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "gio.search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::maintain, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        commit();
+    }
+
     public long index(Document document) throws TechnicalException {
         logger.debug("Updating a document into the Lucene index");
         String id = document.get(ID_FIELD);
         try {
             long seq = writer.updateDocument(new Term(ID_FIELD, id), document);
-            writer.commit();
+            pendingDocuments.incrementAndGet();
             return seq;
         } catch (IOException ioe) {
             logger.error("Fail to index document with ID: {}", id, ioe);
@@ -58,6 +113,31 @@ public class SearchEngineIndexer {
         }
     }
 
+    /**
+     * Index a batch of documents, then commit and refresh the searchers once for the whole batch.
+     */
+    public void index(Collection<Document> documents) throws TechnicalException {
+        logger.debug("Updating {} documents into the Lucene index", documents.size());
+        for (Document document : documents) {
+            String id = document.get(ID_FIELD);
+            try {
+                writer.updateDocument(new Term(ID_FIELD, id), document);
+            } catch (IOException ioe) {
+                logger.error("Fail to index document with ID: {}", id, ioe);
+                throw new TechnicalException("Fail to index document with ID: " + id, ioe);
+            }
+        }
+        pendingDocuments.addAndGet(documents.size());
+
+        try {
+            commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException ioe) {
+            logger.error("Fail to commit indexed documents", ioe);
+            throw new TechnicalException("Fail to commit indexed documents", ioe);
+        }
+    }
+
     public void remove(Document document) throws TechnicalException {
         String type = document.get(TYPE_FIELD);
         String id = document.get(ID_FIELD);
@@ -70,9 +150,121 @@ public class SearchEngineIndexer {
 
         try {
             writer.deleteDocuments(bq.build());
+            pendingDocuments.incrementAndGet();
         } catch (IOException ioe) {
             logger.error("Fail to index document with ID: {}", id, ioe);
             throw new TechnicalException("Fail to index document with ID: " + id, ioe);
         }
     }
+
+    /**
+     * Remove the documents of the given type which are not part of the given ids.
+     *
+     * @return the number of removed documents.
+     */
+    public int removeAllExcept(String type, Set<String> ids) throws TechnicalException {
+        final Set<String> indexedIds = getIds(type);
+        indexedIds.removeAll(ids);
+
+        for (String id : indexedIds) {
+            BooleanQuery.Builder bq = new BooleanQuery.Builder();
+            bq.add(new TermQuery(new Term(ID_FIELD, id)), BooleanClause.Occur.MUST);
+            bq.add(new TermQuery(new Term(TYPE_FIELD, type)), BooleanClause.Occur.MUST);
+
+            try {
+                writer.deleteDocuments(bq.build());
+            } catch (IOException ioe) {
+                logger.error("Fail to remove document with ID: {}", id, ioe);
+                throw new TechnicalException("Fail to remove document with ID: " + id, ioe);
+            }
+        }
+        pendingDocuments.addAndGet(indexedIds.size());
+
+        return indexedIds.size();
+    }
+
+    /**
+     * @return the checkpoints stored with the last commit of the index.
+     */
+    public Map<String, String> getCheckpoints() {
+        final Map<String, String> checkpoints = new HashMap<>();
+        final Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            commitData.forEach(entry -> checkpoints.put(entry.getKey(), entry.getValue()));
+        }
+        return checkpoints;
+    }
+
+    /**
+     * Store the given checkpoints with the index, and commit it.
+     */
+    public void checkpoint(Map<String, String> checkpoints) throws TechnicalException {
+        try {
+            synchronized (this) {
+                writer.setLiveCommitData(new HashMap<>(checkpoints).entrySet());
+                pendingDocuments.incrementAndGet();
+                commit();
+            }
+        } catch (IOException ioe) {
+            logger.error("Fail to store index checkpoints", ioe);
+            throw new TechnicalException("Fail to store index checkpoints", ioe);
+        }
+    }
+
+    private Set<String> getIds(String type) throws TechnicalException {
+        IndexSearcher searcher = null;
+        try {
+            searcherManager.maybeRefreshBlocking();
+            searcher = searcherManager.acquire();
+
+            final Set<String> ids = new HashSet<>();
+            final TopDocs topDocs = searcher.search(new TermQuery(new Term(TYPE_FIELD, type)),
+                    Math.max(1, searcher.getIndexReader().maxDoc()));
+            for (ScoreDoc hit : topDocs.scoreDocs) {
+                ids.add(searcher.doc(hit.doc).get(ID_FIELD));
+            }
+            return ids;
+        } catch (IOException ioe) {
+            logger.error("Fail to get indexed documents of type {}", type, ioe);
+            throw new TechnicalException("Fail to get indexed documents of type " + type, ioe);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException ioe) {
+                    logger.error("Fail to release index searcher", ioe);
+                }
+            }
+        }
+    }
+
+    /**
+     * Make pending changes visible to searchers, and commit them if the commit policy requires it.
+     */
+    void maintain() {
+        try {
+            searcherManager.maybeRefresh();
+
+            if (pendingDocuments.get() >= commitMaxPendingDocuments
+                    || (pendingDocuments.get() > 0 && System.currentTimeMillis() - lastCommitAt >= commitInterval)) {
+                commit();
+            }
+        } catch (Exception ex) {
+            logger.error("Unexpected error while refreshing the Lucene index", ex);
+        }
+    }
+
+    private synchronized void commit() throws IOException {
+        final long pending = pendingDocuments.getAndSet(0);
+        if (pending > 0 && writer.isOpen()) {
+            logger.debug("Committing {} changes into the Lucene index", pending);
+            try {
+                writer.commit();
+            } catch (IOException ioe) {
+                pendingDocuments.addAndGet(pending);
+                throw ioe;
+            }
+        }
+        lastCommitAt = System.currentTimeMillis();
+    }
 }
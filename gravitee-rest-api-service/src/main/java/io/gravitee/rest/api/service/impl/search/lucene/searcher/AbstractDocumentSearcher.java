@@ -23,8 +23,6 @@ import io.gravitee.rest.api.service.impl.search.lucene.analyzer.CustomWhitespace
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.search.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,8 +30,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -52,7 +53,7 @@ public abstract class AbstractDocumentSearcher implements DocumentSearcher {
     protected Analyzer analyzer = new CustomWhitespaceAnalyzer();
 
     @Autowired
-    protected IndexWriter indexWriter;
+    protected SearcherManager searcherManager;
 
     protected SearchResult search(Query query) throws TechnicalException {
         return search(query, null);
@@ -61,24 +62,30 @@ public abstract class AbstractDocumentSearcher implements DocumentSearcher {
     protected SearchResult search(Query query, Pageable pageable) throws TechnicalException {
         logger.debug("Searching for: {}", query.toString());
 
+        IndexSearcher searcher = null;
         try {
-            IndexSearcher searcher = getIndexSearcher();
+            searcher = acquireIndexSearcher();
             TopDocs topDocs;
+            long totalHits;
 
             if (pageable != null) {
-                //TODO: How to find the accurate numhits ?
-                TopScoreDocCollector collector = TopScoreDocCollector.create(1000);
+                // Only collect the hits up to the requested page
+                final int offset = (pageable.getPageNumber() - 1) * pageable.getPageSize();
+                final int numHits = Math.max(1, Math.min(offset + pageable.getPageSize(), searcher.getIndexReader().maxDoc()));
+                TopScoreDocCollector collector = TopScoreDocCollector.create(numHits);
                 searcher.search(query, collector);
 
-                topDocs = collector.topDocs((pageable.getPageNumber() - 1) * pageable.getPageSize(), pageable.getPageSize());
+                topDocs = collector.topDocs(offset, pageable.getPageSize());
+                totalHits = collector.getTotalHits();
             } else {
-                topDocs = searcher.search(query, Integer.MAX_VALUE);
+                topDocs = searcher.search(query, Math.max(1, searcher.getIndexReader().maxDoc()));
+                totalHits = topDocs.totalHits;
             }
 
             final ScoreDoc[] hits = topDocs.scoreDocs;
             final List<String> results = new ArrayList<>();
 
-            logger.debug("Found {} total matching documents", topDocs.totalHits);
+            logger.debug("Found {} total matching documents", totalHits);
 
             if (hits.length > 0) {
                 // Iterate over found results
@@ -87,10 +94,78 @@ public abstract class AbstractDocumentSearcher implements DocumentSearcher {
                 }
             }
 
-            return new SearchResult(results.stream().distinct().collect(Collectors.toList()), topDocs.totalHits);
+            return new SearchResult(results.stream().distinct().collect(Collectors.toList()), totalHits);
         } catch (IOException ioe) {
             logger.error("An error occurs while getting documents from search result", ioe);
             throw new TechnicalException("An error occurs while getting documents from search result", ioe);
+        } finally {
+            releaseIndexSearcher(searcher);
+        }
+    }
+
+    /**
+     * Search for the references of the matching documents when several documents may share the same reference
+     * (e.g. an API and its pages). References are kept in score order and the page is computed on the distinct
+     * references, only the given fields being loaded from the matching documents.
+     *
+     * Matching documents are collected by growing batches until the distinct references of the requested page are
+     * found. The number of hits is exact when all the matching documents have been collected, otherwise it is an
+     * upper bound: the distinct references found plus the matching documents not collected.
+     */
+    protected SearchResult searchDistinct(Query query, Pageable pageable, Set<String> referenceFields) throws TechnicalException {
+        logger.debug("Searching for distinct references: {}", query.toString());
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = acquireIndexSearcher();
+            final int maxDoc = Math.max(1, searcher.getIndexReader().maxDoc());
+            final long offset = pageable == null ? 0 : (long) (pageable.getPageNumber() - 1) * pageable.getPageSize();
+            final long wanted = pageable == null ? Long.MAX_VALUE : offset + pageable.getPageSize();
+
+            final Set<String> references = new LinkedHashSet<>();
+            int batchSize = (int) Math.max(1, Math.min(wanted, maxDoc));
+            ScoreDoc after = null;
+            long totalHits;
+            long collected = 0;
+            boolean exhausted;
+
+            do {
+                final TopDocs topDocs = after == null
+                        ? searcher.search(query, batchSize)
+                        : searcher.searchAfter(after, query, batchSize);
+                totalHits = topDocs.totalHits;
+
+                for (ScoreDoc hit : topDocs.scoreDocs) {
+                    final String reference = getReference(searcher.doc(hit.doc, referenceFields));
+                    if (reference != null) {
+                        references.add(reference);
+                    }
+                }
+
+                collected += topDocs.scoreDocs.length;
+                exhausted = topDocs.scoreDocs.length < batchSize || collected >= totalHits;
+                if (topDocs.scoreDocs.length > 0) {
+                    after = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+                }
+                batchSize = Math.min(batchSize * 2, maxDoc);
+            } while (!exhausted && references.size() < wanted);
+
+            final long hits = exhausted ? references.size() : references.size() + totalHits - collected;
+            logger.debug("Found {} distinct references in {} of {} matching documents", references.size(), collected, totalHits);
+
+            Stream<String> results = references.stream();
+            if (pageable != null) {
+                results = results
+                        .skip(offset)
+                        .limit(pageable.getPageSize());
+            }
+
+            return new SearchResult(results.collect(Collectors.toList()), hits);
+        } catch (IOException ioe) {
+            logger.error("An error occurs while getting documents from search result", ioe);
+            throw new TechnicalException("An error occurs while getting documents from search result", ioe);
+        } finally {
+            releaseIndexSearcher(searcher);
         }
     }
 
@@ -98,7 +173,22 @@ public abstract class AbstractDocumentSearcher implements DocumentSearcher {
         return document.get(FIELD_ID);
     }
 
-    private IndexSearcher getIndexSearcher() throws IOException {
-        return new IndexSearcher(DirectoryReader.open(indexWriter));
+    /**
+     * Acquire the shared searcher, refreshing it beforehand if the index has changed since its last refresh.
+     * The searcher must be released with {@link #releaseIndexSearcher(IndexSearcher)}.
+     */
+    private IndexSearcher acquireIndexSearcher() throws IOException {
+        searcherManager.maybeRefresh();
+        return searcherManager.acquire();
+    }
+
+    private void releaseIndexSearcher(IndexSearcher searcher) {
+        if (searcher != null) {
+            try {
+                searcherManager.release(searcher);
+            } catch (IOException ioe) {
+                logger.error("An error occurs while releasing the index searcher", ioe);
+            }
+        }
     }
 }
@@ -28,10 +28,13 @@ import org.apache.lucene.queryparser.classic.QueryParserBase;
 import org.apache.lucene.search.*;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 /**
@@ -44,6 +47,8 @@ public class ApiDocumentSearcher extends AbstractDocumentSearcher {
     private final static String FIELD_API_TYPE_VALUE = "api";
     private final static String FIELD_PAGE_TYPE_VALUE = "page";
 
+    private final static Set<String> REFERENCE_FIELDS = new HashSet<>(Arrays.asList(FIELD_ID, FIELD_TYPE, FIELD_API_TYPE_VALUE));
+
     private final static Map<String, Float> API_FIELD_BOOST = new HashMap<String, Float>() {
         {
             put("name", 12.0f);
@@ -151,7 +156,7 @@ public class ApiDocumentSearcher extends AbstractDocumentSearcher {
                 }
 
             }
-            return search(mainQuery.build());
+            return searchDistinct(mainQuery.build(), query.getPage(), REFERENCE_FIELDS);
         } catch (ParseException pe) {
             logger.error("Invalid query to search for API documents", pe);
             throw new TechnicalException("Invalid query to search for API documents", pe);
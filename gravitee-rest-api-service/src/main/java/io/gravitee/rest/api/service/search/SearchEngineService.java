@@ -30,8 +30,29 @@ public interface SearchEngineService {
 
     void index(Indexable source, boolean locally);
 
+    /**
+     * Index locally a batch of sources, committing the index once for the whole batch.
+     */
+    void index(Collection<? extends Indexable> sources);
+
     void delete(Indexable source, boolean locally);
 
+    /**
+     * Index locally the APIs, published API pages and active users.
+     *
+     * @param full <code>true</code> to index all of them, <code>false</code> to only index those changed since the
+     *             last indexation, as recorded by the index checkpoints.
+     */
+    void reindex(boolean full);
+
+    /**
+     * Index locally all the APIs, published API pages and active users in background. Only one such indexation runs
+     * at a time.
+     *
+     * @return <code>true</code> if the indexation has been started, <code>false</code> if one is already running.
+     */
+    boolean reindexInBackground();
+
     SearchResult search(Query<? extends Indexable> query);
 
     void process(CommandSearchIndexerEntity content);
@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.vertx;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.JdkSSLEngineOptions;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keep-alive HTTP clients shared by the HTTP providers of the dictionaries and dynamic properties, one per target scheme, host and port, so that successive
+ * polls reuse the pooled connections instead of opening a new one each time.
+ *
+ * @author GraviteeSource Team
+ */
+public class HttpClientPool {
+
+    private static final String HTTPS_SCHEME = "https";
+
+    private static final int DEFAULT_MAX_POOL_SIZE = 5;
+
+    private static final int CONNECT_TIMEOUT = 2000;
+
+    private static final int KEEP_ALIVE_TIMEOUT = 60;
+
+    private final ConcurrentMap<String, HttpClient> clients = new ConcurrentHashMap<>();
+
+    private final Vertx vertx;
+
+    private final int maxPoolSize;
+
+    public HttpClientPool(final Vertx vertx) {
+        this(vertx, DEFAULT_MAX_POOL_SIZE);
+    }
+
+    public HttpClientPool(final Vertx vertx, final int maxPoolSize) {
+        this.vertx = vertx;
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public HttpClient get(final URI uri) {
+        final boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(uri.getScheme());
+        return clients.computeIfAbsent(uri.getScheme().toLowerCase() + "://" + uri.getHost() + ':' + port(uri),
+                key -> vertx.createHttpClient(options(ssl)));
+    }
+
+    public int size() {
+        return clients.size();
+    }
+
+    public void close() {
+        clients.values().forEach(client -> {
+            try {
+                client.close();
+            } catch (IllegalStateException ise) {
+                // Do not take care about exception when closing client
+            }
+        });
+        clients.clear();
+    }
+
+    public static int port(final URI uri) {
+        return uri.getPort() != -1 ? uri.getPort() : (HTTPS_SCHEME.equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+    }
+
+    private HttpClientOptions options(final boolean ssl) {
+        final HttpClientOptions options = new HttpClientOptions()
+                .setSsl(ssl)
+                .setTrustAll(true)
+                .setMaxPoolSize(maxPoolSize)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(KEEP_ALIVE_TIMEOUT)
+                .setTcpKeepAlive(true)
+                .setConnectTimeout(CONNECT_TIMEOUT);
+
+        // HTTP/2 is negotiated through ALPN, servers which do not support it keep answering with HTTP/1.1
+        if (ssl && JdkSSLEngineOptions.isAlpnAvailable()) {
+            options.setUseAlpn(true).setProtocolVersion(HttpVersion.HTTP_2);
+        }
+
+        return options;
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.PlanRepository;
+import io.gravitee.repository.management.api.TenantRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.*;
+import io.gravitee.rest.api.service.impl.AnalyticsMetadataResolver;
+import io.gravitee.rest.api.service.impl.AnalyticsMetadataResolver.Reference;
+import io.gravitee.rest.api.service.impl.AnalyticsMetadataResolver.Type;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AnalyticsMetadataResolverTest {
+
+    @InjectMocks
+    private AnalyticsMetadataResolver metadataResolver = new AnalyticsMetadataResolver();
+
+    @Mock
+    private ApiRepository apiRepository;
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private PlanRepository planRepository;
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Test
+    public void shouldResolveApisInOneQueryAndCacheThem() {
+        final Api api1 = new Api();
+        api1.setId("api-1");
+        api1.setName("API 1");
+        api1.setVersion("1.0");
+        final Api api2 = new Api();
+        api2.setId("api-2");
+        api2.setName("API 2");
+        api2.setApiLifecycleState(ApiLifecycleState.ARCHIVED);
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(asList(api1, api2));
+
+        final Map<String, Reference> apis = metadataResolver.resolve(Type.API, asList("api-1", "api-2", "api-3"));
+
+        assertEquals(3, apis.size());
+        assertEquals("API 1", apis.get("api-1").getName());
+        assertEquals("1.0", apis.get("api-1").getVersion());
+        assertFalse(apis.get("api-1").isArchived());
+        assertTrue(apis.get("api-2").isArchived());
+        assertTrue(apis.get("api-3").isMissing());
+
+        final Map<String, Reference> cached = metadataResolver.resolve(Type.API, asList("api-1", "api-3"));
+
+        assertEquals("API 1", cached.get("api-1").getName());
+        assertTrue(cached.get("api-3").isMissing());
+        verify(apiRepository, times(1)).search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class));
+    }
+
+    @Test
+    public void shouldResolveApplicationsAndTenantsInOneQuery() throws Exception {
+        final Application application = new Application();
+        application.setId("app-1");
+        application.setName("Application 1");
+        application.setStatus(ApplicationStatus.ARCHIVED);
+        when(applicationRepository.findByIds(any())).thenReturn(Collections.singleton(application));
+        final Tenant tenant = new Tenant();
+        tenant.setId("tenant-1");
+        tenant.setName("Tenant 1");
+        final Tenant other = new Tenant();
+        other.setId("tenant-2");
+        other.setName("Tenant 2");
+        when(tenantRepository.findAll()).thenReturn(new HashSet<>(asList(tenant, other)));
+
+        final Map<String, Reference> applications = metadataResolver.resolve(Type.APPLICATION, asList("app-1", "app-2"));
+        final Map<String, Reference> tenants = metadataResolver.resolve(Type.TENANT, Collections.singleton("tenant-1"));
+
+        assertEquals("Application 1", applications.get("app-1").getName());
+        assertTrue(applications.get("app-1").isArchived());
+        assertTrue(applications.get("app-2").isMissing());
+        assertEquals(1, tenants.size());
+        assertEquals("Tenant 1", tenants.get("tenant-1").getName());
+        verify(applicationRepository, times(1)).findByIds(any());
+        verify(tenantRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void shouldResolvePlansOnlyOnce() throws Exception {
+        final Plan plan = new Plan();
+        plan.setId("plan-1");
+        plan.setName("Plan 1");
+        when(planRepository.findById("plan-1")).thenReturn(Optional.of(plan));
+        when(planRepository.findById("plan-2")).thenReturn(Optional.empty());
+
+        metadataResolver.resolve(Type.PLAN, asList("plan-1", "plan-2"));
+        final Map<String, Reference> plans = metadataResolver.resolve(Type.PLAN, asList("plan-1", "plan-2"));
+
+        assertEquals("Plan 1", plans.get("plan-1").getName());
+        assertTrue(plans.get("plan-2").isMissing());
+        verify(planRepository, times(1)).findById("plan-1");
+        verify(planRepository, times(1)).findById("plan-2");
+    }
+
+    @Test
+    public void shouldNotQueryWithoutIds() {
+        assertTrue(metadataResolver.resolve(Type.API, Collections.emptyList()).isEmpty());
+        verifyZeroInteractions(apiRepository);
+    }
+}
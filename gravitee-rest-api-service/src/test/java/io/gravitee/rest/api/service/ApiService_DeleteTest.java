@@ -64,6 +64,9 @@ public class ApiService_DeleteTest {
     @InjectMocks
     private ApiServiceImpl apiService = new ApiServiceImpl();
 
+    @Mock
+    private PictureCacheService pictureCacheService;
+
     @Spy
     private ObjectMapper objectMapper = new GraviteeMapper();
     @Mock
@@ -22,11 +22,17 @@ import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
 import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.ApiLifecycleState;
+import io.gravitee.repository.management.model.Visibility;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.service.impl.ApiServiceImpl;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndexServiceImpl;
 import io.gravitee.rest.api.service.jackson.filter.ApiPermissionFilter;
 import org.junit.Before;
 import org.junit.Test;
@@ -35,9 +41,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -81,11 +90,16 @@ public class ApiService_FindByUserTest {
     private ApplicationService applicationService;
     @Mock
     private CategoryService categoryService;
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+    @Spy
+    private ApiVisibilityIndexService apiVisibilityIndexService = new ApiVisibilityIndexServiceImpl();
 
     @Before
     public void setUp() {
         PropertyFilter apiMembershipTypeFilter = new ApiPermissionFilter();
         objectMapper.setFilterProvider(new SimpleFilterProvider(Collections.singletonMap("apiMembershipTypeFilter", apiMembershipTypeFilter)));
+        ReflectionTestUtils.setField(apiVisibilityIndexService, "cacheInvalidationService", cacheInvalidationService);
     }
 
     @Test
@@ -143,4 +157,122 @@ public class ApiService_FindByUserTest {
         verify(applicationService, times(0)).findByUser(null);
 
     }
+
+    @Test
+    public void shouldCheckApiVisibilityFromVisibilityIndex() throws TechnicalException {
+        final Api memberApi = new Api();
+        memberApi.setId(API_ID);
+        final ApiCriteria publishedCriteria = new ApiCriteria.Builder().environmentId("DEFAULT").ids(API_ID)
+                .lifecycleStates(singletonList(ApiLifecycleState.PUBLISHED)).build();
+        when(apiRepository.search(eq(publishedCriteria), any(ApiFieldExclusionFilter.class))).thenReturn(singletonList(memberApi));
+
+        final MembershipEntity membership = new MembershipEntity();
+        membership.setReferenceId(API_ID);
+        membership.setReferenceType(MembershipReferenceType.API);
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API))
+                .thenReturn(Collections.singleton(membership));
+
+        assertTrue(apiService.isApiVisibleToUser(API_ID, USER_NAME));
+        assertTrue(apiService.isApiVisibleToUser(API_ID, USER_NAME));
+        assertFalse(apiService.isApiVisibleToUser("other-api", USER_NAME));
+
+        // the visible APIs are resolved once from the index, only the lifecycle of the checked API is searched
+        verify(membershipService, times(1)).getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API);
+        verify(applicationService, times(1)).findByUser(USER_NAME);
+        verify(apiRepository, times(2)).search(eq(publishedCriteria), any(ApiFieldExclusionFilter.class));
+    }
+
+    @Test
+    public void shouldNotSeePrivateApiWithAnonymousUser() throws TechnicalException {
+        assertFalse(apiService.isApiVisibleToUser(API_ID, null));
+
+        // only the public APIs are searched
+        verify(apiRepository, times(1)).search(any(), any(ApiFieldExclusionFilter.class));
+        verifyZeroInteractions(membershipService, subscriptionService, applicationService);
+    }
+
+    @Test
+    public void shouldFindIdsByUserFromVisibilityIndex() throws TechnicalException {
+        final Api memberApi = new Api();
+        memberApi.setId(API_ID);
+        when(apiRepository.search(eq(new ApiCriteria.Builder().environmentId("DEFAULT").ids(API_ID).build()), any(ApiFieldExclusionFilter.class)))
+                .thenReturn(singletonList(memberApi));
+
+        final MembershipEntity membership = new MembershipEntity();
+        membership.setReferenceId(API_ID);
+        membership.setReferenceType(MembershipReferenceType.API);
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API))
+                .thenReturn(Collections.singleton(membership));
+
+        assertEquals(singleton(API_ID), apiService.findIdsByUser(USER_NAME, null, false));
+        assertEquals(singleton(API_ID), apiService.findIdsByUser(USER_NAME, null, false));
+
+        // the visible APIs are only resolved once, until the memberships of the user change
+        verify(membershipService, times(1)).getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API);
+
+        apiVisibilityIndexService.invalidate(USER_NAME);
+        apiService.findIdsByUser(USER_NAME, null, false);
+
+        verify(membershipService, times(2)).getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API);
+    }
+
+    @Test
+    public void shouldFindPublishedByUserOnlyConvertingRequestedPage() throws TechnicalException {
+        final List<Api> apis = new ArrayList<>();
+        for (String name : Arrays.asList("c", "A", "b")) {
+            final Api publicApi = new Api();
+            publicApi.setId("api-" + name);
+            publicApi.setName(name);
+            publicApi.setVisibility(Visibility.PUBLIC);
+            publicApi.setApiLifecycleState(ApiLifecycleState.PUBLISHED);
+            apis.add(publicApi);
+        }
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenAnswer(invocation -> {
+            final ApiCriteria criteria = invocation.getArgument(0);
+            return apis.stream()
+                    .filter(a -> criteria.getIds() == null || criteria.getIds().contains(a.getId()))
+                    .collect(Collectors.toList());
+        });
+
+        RoleEntity poRole = new RoleEntity();
+        poRole.setId("API_PRIMARY_OWNER");
+        when(roleService.findByScopeAndName(any(), any())).thenReturn(Optional.of(poRole));
+        MemberEntity poMember = new MemberEntity();
+        poMember.setId("admin");
+        poMember.setReferenceId("api-b");
+        poMember.setRoles(Collections.singletonList(poRole));
+        when(membershipService.getMembersByReferencesAndRole(any(), any(), any())).thenReturn(singleton(poMember));
+
+        final io.gravitee.common.data.domain.Page<ApiEntity> page =
+                apiService.findPublishedByUserLight(null, null, new PageableImpl(2, 1));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+        assertEquals("api-b", page.getContent().get(0).getId());
+        // only the primary owner of the API of the page is resolved
+        verify(membershipService).getMembersByReferencesAndRole(MembershipReferenceType.API, singletonList("api-b"), "API_PRIMARY_OWNER");
+    }
+
+    @Test
+    public void shouldCountPublishedByCategoriesAndCacheAnonymousCounts() throws TechnicalException {
+        final Api api1 = new Api();
+        api1.setId("api-1");
+        api1.setCategories(new HashSet<>(Arrays.asList("cat-1", "cat-2")));
+        final Api api2 = new Api();
+        api2.setId("api-2");
+        api2.setCategories(singleton("cat-1"));
+        final Api api3 = new Api();
+        api3.setId("api-3");
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(Arrays.asList(api1, api2, api3));
+
+        final Map<String, Long> counts = apiService.countPublishedByUserGroupByCategories(null);
+
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(2), counts.get("cat-1"));
+        assertEquals(Long.valueOf(1), counts.get("cat-2"));
+
+        // the counts of the anonymous users are computed once by environment
+        assertEquals(counts, apiService.countPublishedByUserGroupByCategories(null));
+        verify(apiRepository, times(2)).search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class));
+    }
 }
@@ -0,0 +1,205 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.WorkflowRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Workflow;
+import io.gravitee.rest.api.model.*;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.api.ApiQuery;
+import io.gravitee.rest.api.model.parameters.Key;
+import io.gravitee.rest.api.service.impl.ApiServiceImpl;
+import io.gravitee.rest.api.service.impl.WorkflowServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiService_SearchLightTest {
+
+    private static final String DEFINITION = "{" +
+            "\"id\":\"%s\"," +
+            "\"name\":\"my-api\"," +
+            "\"paths\":{\"/\":[{\"methods\":[\"GET\"],\"rate-limit\":{\"rate\":{\"limit\":10,\"periodTime\":1,\"periodTimeUnit\":\"SECONDS\"}}}]}," +
+            "\"tags\":[\"public\",\"internal\"]," +
+            "\"proxy\":{" +
+                "\"virtual_hosts\":[{\"host\":\"api.gravitee.io\",\"path\":\"/my-api\",\"override_entrypoint\":true},{\"path\":\"/other\"}]," +
+                "\"groups\":[{\"name\":\"default-group\",\"endpoints\":[{\"name\":\"default\",\"target\":\"http://localhost:8080\"}]}]" +
+            "}," +
+            "\"properties\":[{\"key\":\"key\",\"value\":\"value\"}]" +
+            "}";
+
+    private static final String LEGACY_DEFINITION = "{" +
+            "\"id\":\"legacy\"," +
+            "\"proxy\":{\"context_path\":\"/legacy\",\"endpoints\":[{\"name\":\"default\",\"target\":\"http://localhost:8080\"}]}" +
+            "}";
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Mock
+    private ApiRepository apiRepository;
+    @Mock
+    private MembershipService membershipService;
+    @Mock
+    private RoleService roleService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private ParameterService parameterService;
+    @Mock
+    private CategoryService categoryService;
+    @Mock
+    private WorkflowService workflowService;
+
+    @Before
+    public void init() {
+        // a real mapper rather than a spy: spying on the mapper dominates the cost of parsing thousands of definitions
+        setField(apiService, "objectMapper", new GraviteeMapper());
+    }
+
+    @Test
+    public void shouldListApisReadingOnlyVirtualHostsAndTags() throws TechnicalException {
+        mockApis(Collections.singletonList(api("api-1", DEFINITION)));
+        when(parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)).thenReturn(true);
+        final Workflow review = new Workflow();
+        review.setReferenceId("api-1");
+        review.setState(WorkflowState.IN_REVIEW.name());
+        when(workflowService.findLastByReferencesAndType(eq(WorkflowReferenceType.API), any(), eq(WorkflowType.REVIEW)))
+                .thenReturn(Collections.singletonMap("api-1", review));
+
+        final Collection<ApiEntity> apis = apiService.searchLight(new ApiQuery());
+
+        assertEquals(1, apis.size());
+        final ApiEntity api = apis.iterator().next();
+        assertEquals("api-1", api.getId());
+        assertEquals(new HashSet<>(Arrays.asList("public", "internal")), api.getTags());
+        assertEquals(2, api.getProxy().getVirtualHosts().size());
+        assertEquals("api.gravitee.io", api.getProxy().getVirtualHosts().get(0).getHost());
+        assertTrue(api.getProxy().getVirtualHosts().get(0).isOverrideEntrypoint());
+        assertEquals("/my-api", api.getContextPath());
+        assertEquals(Collections.singleton("my-category"), api.getCategories());
+        assertEquals(WorkflowState.IN_REVIEW, api.getWorkflowState());
+        assertEquals("owner-api-1", api.getPrimaryOwner().getId());
+        assertTrue(api.getPaths() == null || api.getPaths().isEmpty());
+        assertNull(api.getProperties());
+
+        verify(apiRepository).search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class));
+        verify(apiRepository, never()).search(any(ApiCriteria.class));
+        verify(workflowService, never()).findByReferenceAndType(any(), anyString(), any());
+    }
+
+    @Test
+    public void shouldListApisWithLegacyContextPath() throws TechnicalException {
+        mockApis(Collections.singletonList(api("legacy", LEGACY_DEFINITION)));
+
+        final Collection<ApiEntity> apis = apiService.searchLight(new ApiQuery());
+
+        final ApiEntity api = apis.iterator().next();
+        assertEquals(1, api.getProxy().getVirtualHosts().size());
+        assertEquals("/legacy", api.getContextPath());
+        verifyZeroInteractions(workflowService);
+    }
+
+    @Test
+    public void shouldResolveCategoriesAndReviewsOnceFor5000Apis() throws TechnicalException {
+        final List<Api> apis = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            apis.add(api("api-" + i, String.format(DEFINITION, "api-" + i)));
+        }
+        mockApis(apis);
+        when(parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)).thenReturn(true);
+        final WorkflowRepository workflowRepository = mock(WorkflowRepository.class);
+        final WorkflowServiceImpl realWorkflowService = new WorkflowServiceImpl();
+        setField(realWorkflowService, "workflowRepository", workflowRepository);
+        setField(apiService, "workflowService", realWorkflowService);
+        final Workflow review = new Workflow();
+        review.setReferenceType(WorkflowReferenceType.API.name());
+        review.setReferenceId("api-42");
+        review.setType(WorkflowType.REVIEW.name());
+        review.setState(WorkflowState.IN_REVIEW.name());
+        when(workflowRepository.findAll()).thenReturn(Collections.singleton(review));
+
+        final Collection<ApiEntity> result = apiService.searchLight(new ApiQuery());
+
+        assertEquals(5000, result.size());
+        assertEquals(1, result.stream().filter(api -> api.getWorkflowState() == WorkflowState.IN_REVIEW).count());
+        verify(parameterService, times(1)).findAsBoolean(Key.API_REVIEW_ENABLED);
+        // the workflows of the 5000 APIs are read with a single repository query
+        verify(workflowRepository, times(1)).findAll();
+        verify(workflowRepository, never()).findByReferenceAndType(any(), any(), any());
+        verify(categoryService, times(1)).findAll();
+        verify(userService, times(1)).findByIds(any());
+    }
+
+    private Api api(String id, String definition) {
+        final Api api = new Api();
+        api.setId(id);
+        api.setDefinition(definition);
+        api.setCategories(Collections.singleton("category-id"));
+        return api;
+    }
+
+    private void mockApis(List<Api> apis) throws TechnicalException {
+        final Set<MemberEntity> primaryOwners = new HashSet<>();
+        final Set<UserEntity> users = new HashSet<>();
+        for (Api api : apis) {
+            final MemberEntity primaryOwner = new MemberEntity();
+            primaryOwner.setId("owner-" + api.getId());
+            primaryOwner.setReferenceId(api.getId());
+            primaryOwner.setReferenceType(MembershipReferenceType.API);
+            primaryOwners.add(primaryOwner);
+
+            final UserEntity user = new UserEntity();
+            user.setId(primaryOwner.getId());
+            users.add(user);
+        }
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(apis);
+
+        final RoleEntity poRole = new RoleEntity();
+        poRole.setId("API_PRIMARY_OWNER");
+        when(roleService.findByScopeAndName(any(), any())).thenReturn(Optional.of(poRole));
+        when(membershipService.getMembersByReferencesAndRole(eq(MembershipReferenceType.API), any(), eq("API_PRIMARY_OWNER")))
+                .thenReturn(primaryOwners);
+
+        when(userService.findByIds(any())).thenReturn(users);
+
+        final CategoryEntity category = new CategoryEntity();
+        category.setId("category-id");
+        category.setKey("my-category");
+        when(categoryService.findAll()).thenReturn(Collections.singletonList(category));
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.rest.api.model.MemberEntity;
+import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.RoleEntity;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.service.impl.ApiServiceImpl;
+import io.gravitee.rest.api.service.impl.search.SearchResult;
+import io.gravitee.rest.api.service.search.SearchEngineService;
+import io.gravitee.rest.api.service.search.query.Query;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiService_SearchTest {
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Mock
+    private ApiRepository apiRepository;
+    @Mock
+    private SearchEngineService searchEngineService;
+    @Mock
+    private MembershipService membershipService;
+    @Mock
+    private RoleService roleService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private ParameterService parameterService;
+    @Mock
+    private CategoryService categoryService;
+    @Mock
+    private EntrypointService entrypointService;
+    @Spy
+    private ObjectMapper objectMapper = new GraviteeMapper();
+
+    @Test
+    public void shouldResolveSearchHitsInOneBatchKeepingScoreOrder() throws TechnicalException {
+        when(searchEngineService.search(any())).thenReturn(new SearchResult(Arrays.asList("api-2", "api-1"), 2));
+        mockApis("api-1", "api-2");
+
+        final Collection<ApiEntity> apis = apiService.search("my api", new HashMap<>());
+
+        assertEquals(Arrays.asList("api-2", "api-1"), apis.stream().map(ApiEntity::getId).collect(Collectors.toList()));
+        assertEquals("admin", apis.iterator().next().getPrimaryOwner().getId());
+        verify(apiRepository, times(1)).search(any(ApiCriteria.class));
+        verify(apiRepository, never()).findById(anyString());
+        verify(userService, times(1)).findByIds(any());
+        verify(userService, never()).findById(anyString());
+    }
+
+    @Test
+    public void shouldSearchRequestedPage() throws TechnicalException {
+        when(searchEngineService.search(any())).thenReturn(new SearchResult(Collections.singletonList("api-3"), 5));
+        mockApis("api-3");
+
+        final Page<ApiEntity> page = apiService.search("my api", new HashMap<>(), new PageableImpl(2, 2));
+
+        assertEquals(1, page.getContent().size());
+        assertEquals("api-3", page.getContent().get(0).getId());
+        assertEquals(2, page.getPageNumber());
+        assertEquals(5, page.getTotalElements());
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(searchEngineService).search(queryCaptor.capture());
+        assertEquals(2, queryCaptor.getValue().getPage().getPageNumber());
+        assertEquals(2, queryCaptor.getValue().getPage().getPageSize());
+    }
+
+    @Test
+    public void shouldNotQueryRepositoryWithoutHits() {
+        when(searchEngineService.search(any())).thenReturn(new SearchResult(Collections.emptyList(), 0));
+
+        final Page<ApiEntity> page = apiService.search("my api", new HashMap<>(), new PageableImpl(1, 10));
+
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(0, page.getTotalElements());
+        verifyZeroInteractions(apiRepository);
+    }
+
+    private void mockApis(String... apiIds) throws TechnicalException {
+        final List<Api> apis = new ArrayList<>();
+        final Set<MemberEntity> primaryOwners = new HashSet<>();
+        for (String apiId : apiIds) {
+            final Api api = new Api();
+            api.setId(apiId);
+            apis.add(api);
+
+            final MemberEntity primaryOwner = new MemberEntity();
+            primaryOwner.setId("admin");
+            primaryOwner.setReferenceId(apiId);
+            primaryOwner.setReferenceType(MembershipReferenceType.API);
+            primaryOwners.add(primaryOwner);
+        }
+        when(apiRepository.search(any(ApiCriteria.class))).thenReturn(apis);
+
+        final RoleEntity poRole = new RoleEntity();
+        poRole.setId("API_PRIMARY_OWNER");
+        when(roleService.findByScopeAndName(any(), any())).thenReturn(Optional.of(poRole));
+        when(membershipService.getMembersByReferencesAndRole(eq(MembershipReferenceType.API), any(), eq("API_PRIMARY_OWNER")))
+                .thenReturn(primaryOwners);
+
+        final UserEntity admin = new UserEntity();
+        admin.setId("admin");
+        when(userService.findByIds(any())).thenReturn(Collections.singleton(admin));
+    }
+}
@@ -79,6 +79,9 @@ public class ApiService_UpdateTest {
     @InjectMocks
     private ApiServiceImpl apiService = new ApiServiceImpl();
 
+    @Mock
+    private PictureCacheService pictureCacheService;
+
     @Mock
     private ApiRepository apiRepository;
     @Mock
@@ -62,6 +62,9 @@ public class ApiService_UpdateWithDefinitionTest {
     @InjectMocks
     private ApiServiceImpl apiService = new ApiServiceImpl();
 
+    @Mock
+    private PictureCacheService pictureCacheService;
+
     @Mock
     private ApiRepository apiRepository;
     @Spy
@@ -73,6 +73,9 @@ public class ApiService_Update_DefaultLoggingMaxDurationTest {
     @InjectMocks
     private ApiServiceImpl apiService = new ApiServiceImpl();
 
+    @Mock
+    private PictureCacheService pictureCacheService;
+
     @Mock
     private ApiRepository apiRepository;
 
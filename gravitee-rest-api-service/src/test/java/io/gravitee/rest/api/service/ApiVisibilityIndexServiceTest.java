@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.model.command.CommandApisVisibilityEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.service.ApiVisibilityIndexService.Reason;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndexServiceImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiVisibilityIndexServiceTest {
+
+    private static final String USER_ID = "user-id";
+    private static final String OTHER_USER_ID = "other-user-id";
+
+    @InjectMocks
+    private ApiVisibilityIndexServiceImpl apiVisibilityIndexService;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    private final Set<String> apiIds = Collections.singleton("api-id");
+
+    @Test
+    public void shouldInvalidateUserAndNotifyOtherNodes() {
+        apiVisibilityIndexService.put(USER_ID, Reason.MEMBERSHIP, apiIds);
+        apiVisibilityIndexService.put(OTHER_USER_ID, Reason.MEMBERSHIP, apiIds);
+
+        apiVisibilityIndexService.invalidate(USER_ID);
+
+        assertNull(apiVisibilityIndexService.get(USER_ID, Reason.MEMBERSHIP));
+        assertEquals(apiIds, apiVisibilityIndexService.get(OTHER_USER_ID, Reason.MEMBERSHIP));
+
+        ArgumentCaptor<CommandApisVisibilityEntity> command = ArgumentCaptor.forClass(CommandApisVisibilityEntity.class);
+        verify(cacheInvalidationService).send(eq(CommandTags.APIS_VISIBILITY_TO_INVALIDATE), command.capture());
+        assertEquals(USER_ID, command.getValue().getUserId());
+        assertNull(command.getValue().getReason());
+    }
+
+    @Test
+    public void shouldInvalidateReasonAndNotifyOtherNodes() {
+        apiVisibilityIndexService.put(USER_ID, Reason.MEMBERSHIP, apiIds);
+        apiVisibilityIndexService.put(USER_ID, Reason.PUBLIC, apiIds);
+
+        apiVisibilityIndexService.invalidate(Reason.PUBLIC);
+
+        assertNull(apiVisibilityIndexService.get(OTHER_USER_ID, Reason.PUBLIC));
+        assertEquals(apiIds, apiVisibilityIndexService.get(USER_ID, Reason.MEMBERSHIP));
+
+        ArgumentCaptor<CommandApisVisibilityEntity> command = ArgumentCaptor.forClass(CommandApisVisibilityEntity.class);
+        verify(cacheInvalidationService).send(eq(CommandTags.APIS_VISIBILITY_TO_INVALIDATE), command.capture());
+        assertNull(command.getValue().getUserId());
+        assertEquals(Reason.PUBLIC.name(), command.getValue().getReason());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldProcessInvalidationsFromOtherNodes() {
+        apiVisibilityIndexService.afterPropertiesSet();
+        ArgumentCaptor<Consumer<CommandApisVisibilityEntity>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(cacheInvalidationService).register(eq(CommandTags.APIS_VISIBILITY_TO_INVALIDATE), eq(CommandApisVisibilityEntity.class), handler.capture());
+        apiVisibilityIndexService.put(USER_ID, Reason.MEMBERSHIP, apiIds);
+        apiVisibilityIndexService.put(USER_ID, Reason.PUBLIC, apiIds);
+
+        handler.getValue().accept(new CommandApisVisibilityEntity());
+
+        assertNull(apiVisibilityIndexService.get(USER_ID, Reason.MEMBERSHIP));
+        assertNull(apiVisibilityIndexService.get(USER_ID, Reason.PUBLIC));
+    }
+}
@@ -54,6 +54,9 @@ public class ApplicationService_ArchiveTest {
     @InjectMocks
     private ApplicationServiceImpl applicationService = new ApplicationServiceImpl();
 
+    @Mock
+    private PictureCacheService pictureCacheService;
+
     @Mock
     private ApplicationRepository applicationRepository;
 
@@ -15,12 +15,15 @@
  */
 package io.gravitee.rest.api.service;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.management.api.ApplicationRepository;
 import io.gravitee.repository.management.model.Application;
 import io.gravitee.repository.management.model.ApplicationStatus;
 import io.gravitee.repository.management.model.ApplicationType;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.model.common.SortableImpl;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.impl.ApplicationServiceImpl;
@@ -35,7 +38,9 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.*;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -191,4 +196,44 @@ public class ApplicationService_FindByUserTest {
         Assert.assertFalse("should find apps", apps.isEmpty());
         Assert.assertEquals(2, apps.size());
     }
+
+    @Test
+    public void shouldFindByUserOnlyConvertingRequestedPage() throws Exception {
+        Application appA = new Application();
+        appA.setId("A");
+        appA.setName("a");
+        appA.setStatus(ApplicationStatus.ACTIVE);
+        appA.setType(ApplicationType.SIMPLE);
+        Application appB = new Application();
+        appB.setId("B");
+        appB.setName("B");
+        appB.setStatus(ApplicationStatus.ACTIVE);
+        appB.setType(ApplicationType.SIMPLE);
+        Application appC = new Application();
+        appC.setId("C");
+        appC.setName("c");
+        appC.setStatus(ApplicationStatus.ACTIVE);
+        appC.setType(ApplicationType.SIMPLE);
+
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USERNAME, MembershipReferenceType.APPLICATION)).
+                thenReturn(Collections.singleton(appMembership));
+        when(applicationRepository.findByIds(any())).thenReturn(new HashSet<>(Arrays.asList(appA, appB, appC)));
+        when(roleService.findByScopeAndName(any(), any())).thenReturn(Optional.of(mock(RoleEntity.class)));
+
+        MembershipEntity po = new MembershipEntity();
+        po.setMemberId(USERNAME);
+        po.setMemberType(MembershipMemberType.USER);
+        po.setReferenceId("B");
+        po.setReferenceType(MembershipReferenceType.APPLICATION);
+        po.setRoleId("APPLICATION_PRIMARY_OWNER");
+        when(membershipService.getMembershipsByReferencesAndRole(any(), any(), any())).thenReturn(Collections.singleton(po));
+
+        Page<ApplicationListItem> apps = applicationService.findByUser(USERNAME, new SortableImpl("name", false), new PageableImpl(2, 1));
+
+        Assert.assertEquals(3, apps.getTotalElements());
+        Assert.assertEquals(1, apps.getContent().size());
+        Assert.assertEquals("B", apps.getContent().get(0).getId());
+        // only the primary owner of the application of the page is resolved
+        verify(membershipService).getMembershipsByReferencesAndRole(any(), eq(Collections.singletonList("B")), any());
+    }
 }
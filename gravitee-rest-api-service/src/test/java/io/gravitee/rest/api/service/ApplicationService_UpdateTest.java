@@ -69,6 +69,9 @@ public class ApplicationService_UpdateTest {
     @InjectMocks
     private ApplicationServiceImpl applicationService = new ApplicationServiceImpl();
 
+    @Mock
+    private PictureCacheService pictureCacheService;
+
     @Mock
     private ApplicationRepository applicationRepository;
 
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.AuditRepository;
+import io.gravitee.repository.management.model.Audit;
+import io.gravitee.repository.management.model.Page;
+import io.gravitee.rest.api.service.impl.AuditServiceImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AuditServiceTest {
+
+    private static final String API_ID = "my-api";
+
+    @InjectMocks
+    private AuditServiceImpl auditService = new AuditServiceImpl();
+
+    @Mock
+    private AuditRepository auditRepository;
+
+    @Before
+    public void init() {
+        ReflectionTestUtils.setField(auditService, "mapper", new ObjectMapper());
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        auditService.destroy();
+    }
+
+    @Test
+    public void shouldCreateAuditLogWithPatch() throws Exception {
+        final Page oldPage = new Page();
+        oldPage.setName("old");
+        final Page newPage = new Page();
+        newPage.setName("new");
+
+        auditService.createApiAuditLog(API_ID, null, Page.AuditEvent.PAGE_UPDATED, new Date(), oldPage, newPage);
+
+        final ArgumentCaptor<Audit> audit = ArgumentCaptor.forClass(Audit.class);
+        verify(auditRepository).create(audit.capture());
+        assertEquals(API_ID, audit.getValue().getReferenceId());
+        assertEquals(Audit.AuditReferenceType.API, audit.getValue().getReferenceType());
+        assertEquals("system", audit.getValue().getUser());
+        assertEquals("[{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"new\"}]", audit.getValue().getPatch());
+    }
+
+    @Test
+    public void shouldFlushQueuedAuditLogsOnShutdown() throws Exception {
+        auditService.afterPropertiesSet();
+
+        for (int i = 0; i < 500; i++) {
+            auditService.createPortalAuditLog(null, Page.AuditEvent.PAGE_CREATED, null, null, new Page());
+        }
+        auditService.destroy();
+
+        verify(auditRepository, times(500)).create(any(Audit.class));
+        assertEquals(0, auditService.getPendingCount());
+        assertEquals(0, auditService.getOverflowCount());
+    }
+
+    @Test
+    public void shouldWriteOnCallerThreadWhenQueueIsFull() throws Exception {
+        ReflectionTestUtils.setField(auditService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(auditService, "offerTimeout", 0L);
+        final CountDownLatch writerBlocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        when(auditRepository.create(any(Audit.class))).thenAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                writerBlocked.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return invocation.getArgument(0);
+        });
+        auditService.afterPropertiesSet();
+
+        // the first audit log blocks the writer, the second one fills the queue
+        auditService.createPortalAuditLog(null, Page.AuditEvent.PAGE_CREATED, null, null, new Page());
+        assertTrue(writerBlocked.await(10, TimeUnit.SECONDS));
+        auditService.createPortalAuditLog(null, Page.AuditEvent.PAGE_CREATED, null, null, new Page());
+        auditService.createPortalAuditLog(null, Page.AuditEvent.PAGE_CREATED, null, null, new Page());
+
+        assertEquals(1, auditService.getOverflowCount());
+        assertEquals(1, auditService.getPendingCount());
+        release.countDown();
+        auditService.destroy();
+        verify(auditRepository, times(3)).create(any(Audit.class));
+    }
+
+    @Test
+    public void shouldCountFailures() throws Exception {
+        when(auditRepository.create(any(Audit.class))).thenThrow(new TechnicalException());
+
+        auditService.createPortalAuditLog(null, Page.AuditEvent.PAGE_CREATED, null, null, new Page());
+
+        assertEquals(1, auditService.getFailureCount());
+    }
+}
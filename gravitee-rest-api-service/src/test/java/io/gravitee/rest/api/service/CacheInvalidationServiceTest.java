@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.model.command.CommandPermissionsEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.model.command.NewCommandEntity;
+import io.gravitee.rest.api.service.impl.CacheInvalidationServiceImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CacheInvalidationServiceTest {
+
+    @InjectMocks
+    private CacheInvalidationServiceImpl cacheInvalidationService;
+
+    @Mock
+    private CommandService commandService;
+
+    @Test
+    public void shouldSendInvalidationToOtherNodes() {
+        final CommandPermissionsEntity content = new CommandPermissionsEntity();
+        content.setUserId("user-id");
+
+        cacheInvalidationService.send(CommandTags.PERMISSIONS_TO_INVALIDATE, content);
+
+        ArgumentCaptor<NewCommandEntity> command = ArgumentCaptor.forClass(NewCommandEntity.class);
+        verify(commandService).send(command.capture());
+        assertEquals(Collections.singletonList(CommandTags.PERMISSIONS_TO_INVALIDATE), command.getValue().getTags());
+        assertEquals("MANAGEMENT_APIS", command.getValue().getTo());
+        assertTrue(command.getValue().getContent().contains("user-id"));
+    }
+
+    @Test
+    public void shouldDispatchInvalidationToRegisteredCache() {
+        final List<String> invalidatedUsers = new ArrayList<>();
+        cacheInvalidationService.register(CommandTags.PERMISSIONS_TO_INVALIDATE, CommandPermissionsEntity.class,
+                content -> invalidatedUsers.add(content.getUserId()));
+
+        cacheInvalidationService.process(CommandTags.PERMISSIONS_TO_INVALIDATE, "{\"userId\":\"user-id\"}");
+        cacheInvalidationService.process(CommandTags.PERMISSIONS_TO_INVALIDATE, "not json");
+        cacheInvalidationService.process(CommandTags.PARAMETERS_TO_INVALIDATE, "{\"key\":\"key\"}");
+
+        assertEquals(Collections.singleton(CommandTags.PERMISSIONS_TO_INVALIDATE), cacheInvalidationService.getTags());
+        assertEquals(Collections.singletonList("user-id"), invalidatedUsers);
+    }
+}
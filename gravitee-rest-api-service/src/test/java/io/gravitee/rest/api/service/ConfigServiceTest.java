@@ -18,6 +18,7 @@ package io.gravitee.rest.api.service;
 import io.gravitee.repository.management.model.Parameter;
 import io.gravitee.rest.api.model.PortalConfigEntity;
 import io.gravitee.rest.api.model.parameters.Key;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import io.gravitee.rest.api.service.impl.ConfigServiceImpl;
 
 import org.junit.Test;
@@ -36,6 +37,7 @@ import static io.gravitee.rest.api.model.parameters.Key.COMPANY_NAME;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -99,4 +101,41 @@ public class ConfigServiceTest {
 
         verify(mockParameterService, times(1)).save(COMPANY_NAME, "ACME");
     }
+
+    @Test(expected = TechnicalManagementException.class)
+    public void shouldNotCreatePortalConfigBecauseOfTechnicalException() {
+        PortalConfigEntity portalConfigEntity = new PortalConfigEntity();
+        portalConfigEntity.getCompany().setName("ACME");
+        when(mockParameterService.save(COMPANY_NAME, "ACME")).thenThrow(TechnicalManagementException.class);
+
+        configService.save(portalConfigEntity);
+    }
+
+    @Test
+    public void shouldGetCachedPortalConfig() {
+        Map<String, List<String>> params = new HashMap<>();
+        params.put(COMPANY_NAME.key(), singletonList("ACME"));
+        when(mockParameterService.findAll(any(List.class))).thenReturn(params);
+        when(environment.getProperty("security.providers[0].type")).thenReturn("github");
+        when(environment.getProperty("security.providers[0].clientId")).thenReturn("my-client-id");
+
+        PortalConfigEntity portalConfig = configService.getPortalConfig();
+
+        assertSame(portalConfig, configService.getPortalConfig());
+        assertEquals("my-client-id", portalConfig.getAuthentication().getGithub().getClientId());
+        verify(environment, times(1)).getProperty("security.providers[0].type");
+        verify(reCaptchaService, times(1)).isEnabled();
+    }
+
+    @Test
+    public void shouldRebuildPortalConfigWhenParametersChange() {
+        Map<String, List<String>> params = new HashMap<>();
+        params.put(COMPANY_NAME.key(), singletonList("ACME"));
+        Map<String, List<String>> updatedParams = new HashMap<>();
+        updatedParams.put(COMPANY_NAME.key(), singletonList("Gravitee"));
+        when(mockParameterService.findAll(any(List.class))).thenReturn(params, updatedParams);
+
+        assertEquals("ACME", configService.getPortalConfig().getCompany().getName());
+        assertEquals("Gravitee", configService.getPortalConfig().getCompany().getName());
+    }
 }
@@ -166,30 +166,32 @@ public class FilteringServiceTest {
     @Test
     public void shouldGetStarredApi() {
         doReturn(true).when(ratingService).isEnabled();
+        Map<String, RatingSummaryEntity> ratingSummaries = new HashMap<>();
 
         RatingSummaryEntity ratingSummary1 = new RatingSummaryEntity();
         ratingSummary1.setApi("1");
         ratingSummary1.setAverageRate(4.5);
         ratingSummary1.setNumberOfRatings(3);
-        doReturn(ratingSummary1).when(ratingService).findSummaryByApi("1");
+        ratingSummaries.put("1", ratingSummary1);
 
         RatingSummaryEntity ratingSummary3 = new RatingSummaryEntity();
         ratingSummary3.setApi("3");
         ratingSummary3.setAverageRate(5.0);
         ratingSummary3.setNumberOfRatings(10);
-        doReturn(ratingSummary3).when(ratingService).findSummaryByApi("3");
+        ratingSummaries.put("3", ratingSummary3);
 
         RatingSummaryEntity ratingSummary4 = new RatingSummaryEntity();
         ratingSummary4.setApi("4");
         ratingSummary4.setAverageRate(5.0);
         ratingSummary4.setNumberOfRatings(1);
-        doReturn(ratingSummary4).when(ratingService).findSummaryByApi("4");
+        ratingSummaries.put("4", ratingSummary4);
 
         RatingSummaryEntity ratingSummary5 = new RatingSummaryEntity();
         ratingSummary5.setApi("5");
         ratingSummary5.setAverageRate(4.5);
         ratingSummary5.setNumberOfRatings(3);
-        doReturn(ratingSummary5).when(ratingService).findSummaryByApi("5");
+        ratingSummaries.put("5", ratingSummary5);
+        doReturn(ratingSummaries).when(ratingService).findSummariesByApis(any());
 
         FilteredEntities<ApiEntity> apiEntityFilteredEntities = filteringService.filterApis(mockApis, FilteringService.FilterType.STARRED, null);
 
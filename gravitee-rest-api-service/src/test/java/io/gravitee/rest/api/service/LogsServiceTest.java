@@ -0,0 +1,175 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.repository.analytics.query.tabular.TabularQuery;
+import io.gravitee.repository.analytics.query.tabular.TabularResponse;
+import io.gravitee.repository.log.api.LogRepository;
+import io.gravitee.repository.log.model.Log;
+import io.gravitee.rest.api.model.analytics.query.LogQuery;
+import io.gravitee.rest.api.service.impl.AnalyticsMetadataResolver;
+import io.gravitee.rest.api.service.impl.AnalyticsMetadataResolver.Reference;
+import io.gravitee.rest.api.service.impl.LogsServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LogsServiceTest {
+
+    private static final String API_ID = "my-api";
+
+    @InjectMocks
+    private LogsServiceImpl logsService = new LogsServiceImpl();
+
+    @Mock
+    private LogRepository logRepository;
+
+    @Mock
+    private AnalyticsMetadataResolver metadataResolver;
+
+    private final List<Integer> queriedPages = new ArrayList<>();
+    private final AtomicInteger maxQueriedSize = new AtomicInteger();
+
+    @Before
+    public void init() {
+        when(metadataResolver.resolve(any(), any())).thenAnswer(invocation -> {
+            Map<String, Reference> references = new HashMap<>();
+            ((Collection<String>) invocation.getArgument(1)).forEach(id -> references.put(id, Reference.MISSING));
+            return references;
+        });
+    }
+
+    @Test
+    public void shouldStreamMillionRowsExportByChunks() throws Exception {
+        mockLogs(1_000_000);
+        final CountingOutputStream output = new CountingOutputStream();
+
+        logsService.exportByApiAsCsv(API_ID, query(1, 1_000_000), output);
+
+        assertEquals(1_000_001, output.lines);
+        assertEquals(1000, queriedPages.size());
+        assertEquals(1000, maxQueriedSize.get());
+    }
+
+    @Test
+    public void shouldExportRequestedPageOnly() throws Exception {
+        mockLogs(10_000);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        logsService.exportByApiAsCsv(API_ID, query(3, 1500), output);
+
+        final String[] lines = output.toString("UTF-8").split(System.lineSeparator());
+        assertEquals(1501, lines.length);
+        assertTrue(lines[0].startsWith("Date;Request Id;"));
+        assertTrue(lines[1].contains(";log-3000;"));
+        assertTrue(lines[1500].contains(";log-4499;"));
+        assertEquals(Arrays.asList(4, 5), queriedPages);
+    }
+
+    @Test
+    public void shouldExportUnalignedPageAtOnce() throws Exception {
+        mockLogs(10_000);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        logsService.exportByApiAsCsv(API_ID, query(2, 1500), output);
+
+        assertEquals(1501, output.toString("UTF-8").split(System.lineSeparator()).length);
+        assertEquals(Collections.singletonList(2), queriedPages);
+        assertEquals(1500, maxQueriedSize.get());
+    }
+
+    @Test
+    public void shouldExportNothingWithoutLogs() throws Exception {
+        mockLogs(0);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        logsService.exportByApiAsCsv(API_ID, query(1, 100), output);
+
+        assertEquals(0, output.size());
+    }
+
+    private LogQuery query(int page, int size) {
+        final LogQuery query = new LogQuery();
+        query.setFrom(0);
+        query.setTo(1000);
+        query.setPage(page);
+        query.setSize(size);
+        return query;
+    }
+
+    private void mockLogs(final long total) throws Exception {
+        when(logRepository.query(any(TabularQuery.class))).thenAnswer(invocation -> {
+            final TabularQuery query = invocation.getArgument(0);
+            queriedPages.add(query.page());
+            maxQueriedSize.accumulateAndGet(query.size(), Math::max);
+
+            final TabularResponse response = new TabularResponse(total);
+            final long from = (long) (query.page() - 1) * query.size();
+            final List<Log> logs = new ArrayList<>();
+            for (long i = from; i < Math.min(from + query.size(), total); i++) {
+                final Log log = new Log();
+                log.setId("log-" + i);
+                log.setTransactionId("transaction-" + i);
+                log.setTimestamp(i);
+                log.setUri("/path");
+                log.setMethod(HttpMethod.GET);
+                log.setStatus(200);
+                log.setApplication("application");
+                log.setPlan("plan");
+                logs.add(log);
+            }
+            response.setLogs(logs);
+            return response;
+        });
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
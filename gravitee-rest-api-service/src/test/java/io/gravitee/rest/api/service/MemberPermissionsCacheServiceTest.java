@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.command.CommandPermissionsEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.service.impl.MemberPermissionsCacheServiceImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MemberPermissionsCacheServiceTest {
+
+    private static final String API_ID = "api-id";
+    private static final String USER_ID = "user-id";
+    private static final String OTHER_USER_ID = "other-user-id";
+
+    @InjectMocks
+    private MemberPermissionsCacheServiceImpl memberPermissionsCacheService;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    private final Map<String, char[]> permissions = Collections.singletonMap("PLAN", new char[]{'R'});
+
+    @Test
+    public void shouldReturnCachedPermissions() {
+        memberPermissionsCacheService.put(MembershipReferenceType.API, API_ID, USER_ID, permissions);
+
+        assertArrayEquals(new char[]{'R'}, memberPermissionsCacheService.get(MembershipReferenceType.API, API_ID, USER_ID).get("PLAN"));
+        assertNull(memberPermissionsCacheService.get(MembershipReferenceType.APPLICATION, API_ID, USER_ID));
+        assertNull(memberPermissionsCacheService.get(MembershipReferenceType.API, API_ID, OTHER_USER_ID));
+    }
+
+    @Test
+    public void shouldInvalidateUserAndNotifyOtherNodes() {
+        memberPermissionsCacheService.put(MembershipReferenceType.API, API_ID, USER_ID, permissions);
+        memberPermissionsCacheService.put(MembershipReferenceType.API, API_ID, OTHER_USER_ID, permissions);
+
+        memberPermissionsCacheService.invalidate(USER_ID);
+
+        assertNull(memberPermissionsCacheService.get(MembershipReferenceType.API, API_ID, USER_ID));
+        assertNotNull(memberPermissionsCacheService.get(MembershipReferenceType.API, API_ID, OTHER_USER_ID));
+
+        ArgumentCaptor<CommandPermissionsEntity> command = ArgumentCaptor.forClass(CommandPermissionsEntity.class);
+        verify(cacheInvalidationService).send(eq(CommandTags.PERMISSIONS_TO_INVALIDATE), command.capture());
+        assertEquals(USER_ID, command.getValue().getUserId());
+    }
+
+    @Test
+    public void shouldInvalidateAll() {
+        memberPermissionsCacheService.put(MembershipReferenceType.API, API_ID, USER_ID, permissions);
+        memberPermissionsCacheService.put(MembershipReferenceType.API, API_ID, OTHER_USER_ID, permissions);
+
+        memberPermissionsCacheService.invalidateAll();
+
+        assertNull(memberPermissionsCacheService.get(MembershipReferenceType.API, API_ID, USER_ID));
+        assertNull(memberPermissionsCacheService.get(MembershipReferenceType.API, API_ID, OTHER_USER_ID));
+        verify(cacheInvalidationService).send(eq(CommandTags.PERMISSIONS_TO_INVALIDATE), any(CommandPermissionsEntity.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldProcessInvalidationsFromOtherNodes() {
+        memberPermissionsCacheService.afterPropertiesSet();
+        ArgumentCaptor<Consumer<CommandPermissionsEntity>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(cacheInvalidationService).register(eq(CommandTags.PERMISSIONS_TO_INVALIDATE), eq(CommandPermissionsEntity.class), handler.capture());
+        memberPermissionsCacheService.put(MembershipReferenceType.API, API_ID, USER_ID, permissions);
+
+        CommandPermissionsEntity content = new CommandPermissionsEntity();
+        content.setUserId(USER_ID);
+        handler.getValue().accept(content);
+
+        assertNull(memberPermissionsCacheService.get(MembershipReferenceType.API, API_ID, USER_ID));
+        verify(cacheInvalidationService, never()).send(any(), any());
+    }
+
+    @Test
+    public void shouldNotShareCachedPermissions() {
+        final Map<String, char[]> userPermissions = new HashMap<>();
+        userPermissions.put("PLAN", new char[]{'R'});
+        memberPermissionsCacheService.put(MembershipReferenceType.API, API_ID, USER_ID, userPermissions);
+        userPermissions.get("PLAN")[0] = 'D';
+
+        memberPermissionsCacheService.get(MembershipReferenceType.API, API_ID, USER_ID).get("PLAN")[0] = 'U';
+
+        assertArrayEquals(new char[]{'R'}, memberPermissionsCacheService.get(MembershipReferenceType.API, API_ID, USER_ID).get("PLAN"));
+    }
+
+    @Test
+    public void shouldProcessInvalidationOfAllUsers() {
+        memberPermissionsCacheService.put(MembershipReferenceType.API, API_ID, USER_ID, permissions);
+
+        memberPermissionsCacheService.process(new CommandPermissionsEntity());
+
+        assertNull(memberPermissionsCacheService.get(MembershipReferenceType.API, API_ID, USER_ID));
+        verifyZeroInteractions(cacheInvalidationService);
+    }
+}
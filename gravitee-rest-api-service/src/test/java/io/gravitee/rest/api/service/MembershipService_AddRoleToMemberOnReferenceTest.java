@@ -64,6 +64,11 @@ public class MembershipService_AddRoleToMemberOnReferenceTest {
     @Mock
     private NotifierService notifierService;
 
+    @Mock
+    private MemberPermissionsCacheService memberPermissionsCacheService;
+    @Mock
+    private ApiVisibilityIndexService apiVisibilityIndexService;
+
     @Test
     public void shouldAddApiGroupMembership() throws Exception {
         RoleEntity role = mock(RoleEntity.class);
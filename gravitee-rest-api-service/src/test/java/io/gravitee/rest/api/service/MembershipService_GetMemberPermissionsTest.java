@@ -15,7 +15,9 @@
  */
 package io.gravitee.rest.api.service;
 
+import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.model.Api;
 import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipMemberType;
 import io.gravitee.repository.management.model.MembershipReferenceType;
@@ -26,6 +28,7 @@ import io.gravitee.rest.api.model.permissions.ApiPermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.service.impl.MembershipServiceImpl;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -61,17 +64,26 @@ public class MembershipService_GetMemberPermissionsTest {
     private UserService userService;
 
     @Mock
-    private ApiService apiService;
+    private ApiRepository apiRepository;
+
+    @Mock
+    private MemberPermissionsCacheService memberPermissionsCacheService;
 
     @Mock
     private RoleService roleService;
 
+    @Before
+    public void init() {
+        lenient().when(memberPermissionsCacheService.get(any(), any(), any())).thenReturn(null);
+    }
+
     @Test
     public void shouldGetNoPermissionsIfNotMemberAndWithNoGroup() throws Exception {
         ApiEntity api = mock(ApiEntity.class);
         doReturn(API_ID).when(api).getId();
-        doReturn(Collections.emptySet()).when(api).getGroups();
-        doReturn(api).when(apiService).findById(API_ID);
+        Api repoApi = new Api();
+        repoApi.setGroups(Collections.emptySet());
+        doReturn(Optional.of(repoApi)).when(apiRepository).findById(API_ID);
 
         doReturn(Collections.emptySet()).when(membershipRepository).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.API, API_ID);
 
@@ -80,15 +92,29 @@ public class MembershipService_GetMemberPermissionsTest {
         assertNotNull(permissions);
         assertTrue(permissions.isEmpty());
         verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.API, API_ID);
-        verify(apiService, times(1)).findById(API_ID);
+        verify(apiRepository, times(1)).findById(API_ID);
+        verify(memberPermissionsCacheService, times(1)).put(io.gravitee.rest.api.model.MembershipReferenceType.API, API_ID, USERNAME, permissions);
+    }
+
+    @Test
+    public void shouldGetCachedPermissions() throws Exception {
+        Map<String, char[]> cachedPermissions = Collections.singletonMap(ApiPermission.PLAN.getName(), new char[]{RolePermissionAction.READ.getId()});
+        doReturn(cachedPermissions).when(memberPermissionsCacheService).get(io.gravitee.rest.api.model.MembershipReferenceType.API, API_ID, USERNAME);
+
+        Map<String, char[]> permissions = membershipService.getUserMemberPermissions(io.gravitee.rest.api.model.MembershipReferenceType.API, API_ID, USERNAME);
+
+        assertSame(cachedPermissions, permissions);
+        verifyZeroInteractions(membershipRepository, apiRepository, roleService);
+        verify(memberPermissionsCacheService, never()).put(any(), any(), any(), any());
     }
 
     @Test
     public void shouldGetPermissionsIfMemberOfApi() throws Exception {
         ApiEntity api = mock(ApiEntity.class);
         doReturn(API_ID).when(api).getId();
-        doReturn(Collections.emptySet()).when(api).getGroups();
-        doReturn(api).when(apiService).findById(API_ID);
+        Api repoApi = new Api();
+        repoApi.setGroups(Collections.emptySet());
+        doReturn(Optional.of(repoApi)).when(apiRepository).findById(API_ID);
 
         Membership membership = mock(Membership.class);
         doReturn("API_"+ROLENAME).when(membership).getRoleId();
@@ -109,7 +135,7 @@ public class MembershipService_GetMemberPermissionsTest {
         assertPermissions(rolePerms, permissions);
         verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.API, API_ID);
         verify(membershipRepository, never()).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.GROUP, GROUP_ID1);
-        verify(apiService, times(1)).findById(API_ID);
+        verify(apiRepository, times(1)).findById(API_ID);
         verify(userService, times(1)).findById(USERNAME);
         verify(roleService, times(1)).findById("API_" + ROLENAME);
     }
@@ -118,8 +144,9 @@ public class MembershipService_GetMemberPermissionsTest {
     public void shouldGetPermissionsIfMemberOfApiGroup() throws Exception {
         ApiEntity api = mock(ApiEntity.class);
         doReturn(API_ID).when(api).getId();
-        doReturn(Collections.singleton(GROUP_ID1)).when(api).getGroups();
-        doReturn(api).when(apiService).findById(API_ID);
+        Api repoApi = new Api();
+        repoApi.setGroups(Collections.singleton(GROUP_ID1));
+        doReturn(Optional.of(repoApi)).when(apiRepository).findById(API_ID);
 
         doReturn(Collections.emptySet()).when(membershipRepository).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.API, API_ID);
 
@@ -143,7 +170,7 @@ public class MembershipService_GetMemberPermissionsTest {
         assertPermissions(rolePerms, permissions);
         verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.API, API_ID);
         verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.GROUP, GROUP_ID1);
-        verify(apiService, times(1)).findById(API_ID);
+        verify(apiRepository, times(1)).findById(API_ID);
         verify(userService, times(1)).findById(USERNAME);
         verify(roleService, times(1)).findById("API_" + ROLENAME);
     }
@@ -152,8 +179,9 @@ public class MembershipService_GetMemberPermissionsTest {
     public void shouldGetMergedPermissionsIfMemberOfApiAndApiGroup() throws Exception {
         ApiEntity api = mock(ApiEntity.class);
         doReturn(API_ID).when(api).getId();
-        doReturn(Collections.singleton(GROUP_ID1)).when(api).getGroups();
-        doReturn(api).when(apiService).findById(API_ID);
+        Api repoApi = new Api();
+        repoApi.setGroups(Collections.singleton(GROUP_ID1));
+        doReturn(Optional.of(repoApi)).when(apiRepository).findById(API_ID);
 
         Membership membershipUser = mock(Membership.class);
         doReturn("API_"+ROLENAME).when(membershipUser).getRoleId();
@@ -193,7 +221,7 @@ public class MembershipService_GetMemberPermissionsTest {
         assertPermissions(expectedPermissions, permissions);
         verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.API, API_ID);
         verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.GROUP, GROUP_ID1);
-        verify(apiService, times(1)).findById(API_ID);
+        verify(apiRepository, times(1)).findById(API_ID);
         verify(userService, times(1)).findById(USERNAME);
         verify(roleService, times(1)).findById("API_" + ROLENAME);
         verify(roleService, times(1)).findById("API_" + ROLENAME2);
@@ -19,6 +19,8 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ParameterRepository;
 import io.gravitee.repository.management.model.Parameter;
 import io.gravitee.repository.management.model.ParameterReferenceType;
+import io.gravitee.rest.api.model.command.CommandParametersEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
 import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.ParameterService;
@@ -26,6 +28,7 @@ import io.gravitee.rest.api.service.impl.ParameterServiceImpl;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -34,6 +37,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static io.gravitee.repository.management.model.Audit.AuditProperties.PARAMETER;
 import static io.gravitee.repository.management.model.Parameter.AuditEvent.PARAMETER_CREATED;
@@ -44,9 +48,11 @@ import static java.util.Collections.singletonMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
@@ -65,6 +71,8 @@ public class ParameterServiceTest {
     private ParameterRepository parameterRepository;
     @Mock
     private AuditService auditService;
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
 
     @Test
     public void shouldFindAll() throws TechnicalException {
@@ -237,4 +245,81 @@ public class ParameterServiceTest {
         when(parameterRepository.findById(PORTAL_USERCREATION_ENABLED.key())).thenReturn(empty());
         assertTrue(parameterService.findAsBoolean(PORTAL_USERCREATION_ENABLED));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindFromCache() throws TechnicalException {
+        final Parameter parameter = new Parameter();
+        parameter.setKey(PORTAL_RATING_ENABLED.key());
+        parameter.setValue("true");
+
+        when(parameterRepository.findById(PORTAL_RATING_ENABLED.key())).thenReturn(of(parameter));
+
+        assertTrue(parameterService.findAsBoolean(PORTAL_RATING_ENABLED));
+        assertTrue(parameterService.findAsBoolean(PORTAL_RATING_ENABLED));
+
+        verify(parameterRepository, times(1)).findById(PORTAL_RATING_ENABLED.key());
+        assertEquals(1, parameterService.getCacheHitCount());
+        assertEquals(1, parameterService.getCacheMissCount());
+    }
+
+    @Test
+    public void shouldFindAllKeysFromCache() throws TechnicalException {
+        final Parameter parameter = new Parameter();
+        parameter.setKey(PORTAL_TOP_APIS.key());
+        parameter.setValue("api1");
+
+        when(parameterRepository.findAllByReferenceIdAndReferenceType(asList(PORTAL_TOP_APIS.key(), PORTAL_ANALYTICS_ENABLED.key()), "DEFAULT", ParameterReferenceType.ENVIRONMENT))
+                .thenReturn(Collections.singletonList(parameter));
+        when(parameterRepository.findAllByReferenceIdAndReferenceType(Collections.singletonList(PORTAL_ANALYTICS_TRACKINGID.key()), "DEFAULT", ParameterReferenceType.ENVIRONMENT))
+                .thenReturn(Collections.emptyList());
+
+        parameterService.findAll(asList(PORTAL_TOP_APIS, PORTAL_ANALYTICS_ENABLED));
+        final Map<String, List<String>> values = parameterService.findAll(asList(PORTAL_TOP_APIS, PORTAL_ANALYTICS_ENABLED, PORTAL_ANALYTICS_TRACKINGID));
+
+        assertEquals(1, values.size());
+        assertEquals(Collections.singletonList("api1"), values.get(PORTAL_TOP_APIS.key()));
+        assertFalse(values.containsKey(PORTAL_ANALYTICS_ENABLED.key()));
+        verify(parameterRepository, times(1)).findAllByReferenceIdAndReferenceType(asList(PORTAL_TOP_APIS.key(), PORTAL_ANALYTICS_ENABLED.key()), "DEFAULT", ParameterReferenceType.ENVIRONMENT);
+    }
+
+    @Test
+    public void shouldInvalidateCacheOnSave() throws TechnicalException {
+        final Parameter parameter = new Parameter();
+        parameter.setKey(PORTAL_TOP_APIS.key());
+        parameter.setValue("api1");
+
+        when(parameterRepository.findById(PORTAL_TOP_APIS.key())).thenReturn(of(parameter));
+        when(parameterRepository.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals("api1", parameterService.find(PORTAL_TOP_APIS));
+        parameterService.save(PORTAL_TOP_APIS, "api2");
+        parameter.setValue("api2");
+        assertEquals("api2", parameterService.find(PORTAL_TOP_APIS));
+
+        final ArgumentCaptor<CommandParametersEntity> content = ArgumentCaptor.forClass(CommandParametersEntity.class);
+        verify(cacheInvalidationService).send(eq(CommandTags.PARAMETERS_TO_INVALIDATE), content.capture());
+        assertEquals(PORTAL_TOP_APIS.key(), content.getValue().getKey());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldInvalidateCacheOnCommand() throws TechnicalException {
+        final Parameter parameter = new Parameter();
+        parameter.setKey(PORTAL_TOP_APIS.key());
+        parameter.setValue("api1");
+        when(parameterRepository.findById(PORTAL_TOP_APIS.key())).thenReturn(of(parameter));
+
+        ((ParameterServiceImpl) parameterService).afterPropertiesSet();
+        final ArgumentCaptor<Consumer<CommandParametersEntity>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(cacheInvalidationService).register(eq(CommandTags.PARAMETERS_TO_INVALIDATE), eq(CommandParametersEntity.class), handler.capture());
+
+        final CommandParametersEntity content = new CommandParametersEntity();
+        content.setKey(PORTAL_TOP_APIS.key());
+
+        parameterService.find(PORTAL_TOP_APIS);
+        handler.getValue().accept(content);
+        parameterService.find(PORTAL_TOP_APIS);
+
+        verify(parameterRepository, times(2)).findById(PORTAL_TOP_APIS.key());
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.model.InlinePictureEntity;
+import io.gravitee.rest.api.service.impl.PictureCacheServiceImpl;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static io.gravitee.rest.api.service.PictureCacheService.ReferenceType.API;
+import static io.gravitee.rest.api.service.PictureCacheService.ReferenceType.THEME;
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class PictureCacheServiceTest {
+
+    private static final String API_ID = "api-id";
+    private static final String OTHER_API_ID = "other-api-id";
+
+    private final PictureCacheService pictureCacheService = new PictureCacheServiceImpl();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void shouldLoadPictureOnceWithItsHash() {
+        InlinePictureEntity picture = pictureCacheService.get(API, API_ID, "picture", loader("content"));
+        InlinePictureEntity cachedPicture = pictureCacheService.get(API, API_ID, "picture", loader("content"));
+
+        assertSame(picture, cachedPicture);
+        assertEquals(1, loads.get());
+        assertNotNull(picture.getHash());
+        assertEquals(picture.getHash(), loader("content").get().getHash());
+        assertNotEquals(picture.getHash(), loader("other content").get().getHash());
+    }
+
+    @Test
+    public void shouldCacheMissingPicture() {
+        assertNull(pictureCacheService.get(THEME, null, "logo", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(pictureCacheService.get(THEME, null, "logo", loader("content")));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldInvalidateReferencePictures() {
+        pictureCacheService.get(API, API_ID, "picture", loader("content"));
+        pictureCacheService.get(API, API_ID, "background", loader("content"));
+        pictureCacheService.get(API, OTHER_API_ID, "picture", loader("content"));
+
+        pictureCacheService.invalidate(API, API_ID);
+
+        pictureCacheService.get(API, API_ID, "picture", loader("new content"));
+        pictureCacheService.get(API, API_ID, "background", loader("new content"));
+        pictureCacheService.get(API, OTHER_API_ID, "picture", loader("new content"));
+        assertEquals(5, loads.get());
+    }
+
+    private Supplier<InlinePictureEntity> loader(String content) {
+        return () -> {
+            loads.incrementAndGet();
+            InlinePictureEntity picture = new InlinePictureEntity();
+            picture.setType("image/png");
+            picture.setContent(content.getBytes());
+            return picture;
+        };
+    }
+}
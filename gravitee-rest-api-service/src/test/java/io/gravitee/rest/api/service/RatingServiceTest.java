@@ -49,6 +49,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Date;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -307,4 +308,63 @@ public class RatingServiceTest {
         assertEquals(1, ratingSummary.getNumberOfRatingsByRate().get(new Byte("3")), 0);
         assertEquals(1, ratingSummary.getNumberOfRatingsByRate().get(new Byte("4")), 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindSummariesByApisFromCache() throws TechnicalException {
+        final Rating r = new Rating();
+        r.setRate(new Byte("5"));
+        when(ratingRepository.findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API)).thenReturn(singletonList(rating));
+        when(ratingRepository.findByReferenceIdAndReferenceType("other-api", RatingReferenceType.API)).thenReturn(singletonList(r));
+
+        ratingService.findSummaryByApi(API_ID);
+        final Map<String, RatingSummaryEntity> ratingSummaries = ratingService.findSummariesByApis(asList(API_ID, "other-api"));
+
+        assertEquals(2, ratingSummaries.size());
+        assertEquals(3.0, ratingSummaries.get(API_ID).getAverageRate(), 0);
+        assertEquals(5.0, ratingSummaries.get("other-api").getAverageRate(), 0);
+        verify(ratingRepository, times(1)).findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API);
+        verify(ratingRepository, times(1)).findByReferenceIdAndReferenceType("other-api", RatingReferenceType.API);
+    }
+
+    @Test
+    public void shouldUpdateCachedSummaryOnCreateUpdateAndDelete() throws TechnicalException {
+        when(ratingRepository.findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API)).thenReturn(emptyList());
+        assertEquals(0, ratingService.findSummaryByApi(API_ID).getNumberOfRatings());
+
+        when(ratingRepository.findByReferenceIdAndReferenceTypeAndUser(API_ID, RatingReferenceType.API, USER)).thenReturn(empty());
+        when(ratingRepository.create(any())).thenReturn(rating);
+        when(newRatingEntity.getApi()).thenReturn(API_ID);
+        ratingService.create(newRatingEntity);
+
+        RatingSummaryEntity ratingSummary = ratingService.findSummaryByApi(API_ID);
+        assertEquals(1, ratingSummary.getNumberOfRatings());
+        assertEquals(3.0, ratingSummary.getAverageRate(), 0);
+        assertEquals(1, ratingSummary.getNumberOfRatingsByRate().get(RATE), 0);
+
+        final Rating existingRating = new Rating();
+        existingRating.setId(RATING_ID);
+        existingRating.setReferenceId(API_ID);
+        existingRating.setRate(RATE);
+        existingRating.setUser(USER);
+        when(ratingRepository.findById(RATING_ID)).thenReturn(of(existingRating));
+        when(ratingRepository.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(updateRatingEntity.getId()).thenReturn(RATING_ID);
+        when(updateRatingEntity.getApi()).thenReturn(API_ID);
+        when(updateRatingEntity.getRate()).thenReturn(new Byte("5"));
+        ratingService.update(updateRatingEntity);
+
+        ratingSummary = ratingService.findSummaryByApi(API_ID);
+        assertEquals(1, ratingSummary.getNumberOfRatings());
+        assertEquals(5.0, ratingSummary.getAverageRate(), 0);
+        assertNull(ratingSummary.getNumberOfRatingsByRate().get(RATE));
+        assertEquals(1, ratingSummary.getNumberOfRatingsByRate().get(new Byte("5")), 0);
+
+        ratingService.delete(RATING_ID);
+
+        ratingSummary = ratingService.findSummaryByApi(API_ID);
+        assertEquals(0, ratingSummary.getNumberOfRatings());
+        assertNull(ratingSummary.getAverageRate());
+        assertTrue(ratingSummary.getNumberOfRatingsByRate().isEmpty());
+        verify(ratingRepository, times(1)).findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API);
+    }
+}
@@ -59,6 +59,11 @@ public class RoleService_UpdateTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private MemberPermissionsCacheService memberPermissionsCacheService;
+    @Mock
+    private ApiVisibilityIndexService apiVisibilityIndexService;
+
 
     @Test
     public void shouldUpdate() throws TechnicalException {
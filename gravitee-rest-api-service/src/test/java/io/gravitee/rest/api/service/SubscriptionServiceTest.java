@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.service;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.SubscriptionRepository;
 import io.gravitee.repository.management.api.search.SubscriptionCriteria;
@@ -24,6 +25,8 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.application.ApplicationSettings;
 import io.gravitee.rest.api.model.application.OAuthClientSettings;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
 import io.gravitee.rest.api.service.exceptions.*;
 import io.gravitee.rest.api.service.impl.SubscriptionServiceImpl;
 import io.gravitee.rest.api.service.notification.ApiHook;
@@ -40,11 +43,10 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Date;
-import java.util.Optional;
+import java.io.ByteArrayOutputStream;
+import java.util.*;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
@@ -100,6 +102,8 @@ public class SubscriptionServiceTest {
     private GroupService groupService;
     @Mock
     private ParameterService parameterService;
+    @Mock
+    private ApiVisibilityIndexService apiVisibilityIndexService;
 
     @Test
     public void shouldFindById() throws TechnicalException {
@@ -894,4 +898,39 @@ public class SubscriptionServiceTest {
         // Run
         subscriptionService.create(new NewSubscriptionEntity(PLAN_ID, APPLICATION_ID));
     }
+
+    @Test
+    public void shouldExportSubscriptionsAsCsvByChunks() throws Exception {
+        ReflectionTestUtils.setField(subscriptionService, "exportChunkSize", 2);
+        when(subscriptionRepository.search(any(SubscriptionCriteria.class), any(io.gravitee.repository.management.api.search.Pageable.class)))
+                .thenAnswer(invocation -> {
+                    final io.gravitee.repository.management.api.search.Pageable pageable = invocation.getArgument(1);
+                    final List<Subscription> subscriptions = new ArrayList<>();
+                    for (int i = pageable.pageNumber() * pageable.pageSize(); i < Math.min((pageable.pageNumber() + 1) * pageable.pageSize(), 3); i++) {
+                        Subscription sub = new Subscription();
+                        sub.setId("subscription-" + i);
+                        sub.setStatus(Subscription.Status.ACCEPTED);
+                        sub.setApi(API_ID);
+                        sub.setApplication(APPLICATION_ID);
+                        sub.setPlan(PLAN_ID);
+                        subscriptions.add(sub);
+                    }
+                    return new Page<>(subscriptions, pageable.pageNumber(), subscriptions.size(), 3);
+                });
+        final ApplicationEntity application = new ApplicationEntity();
+        application.setName("My application");
+        when(applicationService.findById(APPLICATION_ID)).thenReturn(application);
+        when(plan.getName()).thenReturn("My plan");
+        when(planService.findById(PLAN_ID)).thenReturn(plan);
+        when(apiService.findById(API_ID)).thenReturn(apiEntity);
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        subscriptionService.exportAsCsv(new SubscriptionQuery(), new PageableImpl(1, 10), output);
+
+        final String[] lines = output.toString("UTF-8").split(System.lineSeparator());
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("Plan;Application;"));
+        assertEquals("My plan;My application;ACCEPTED", lines[3]);
+        verify(subscriptionRepository, times(2)).search(any(SubscriptionCriteria.class), any(io.gravitee.repository.management.api.search.Pageable.class));
+    }
 }
@@ -28,6 +28,7 @@ import io.gravitee.rest.api.model.theme.*;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.DuplicateThemeNameException;
 import io.gravitee.rest.api.service.exceptions.ThemeNotFoundException;
+import io.gravitee.rest.api.service.impl.PictureCacheServiceImpl;
 import io.gravitee.rest.api.service.impl.ThemeServiceImpl;
 import io.gravitee.rest.api.service.impl.ThemeServiceImpl.ThemeDefinitionMapper;
 import org.junit.Test;
@@ -35,6 +36,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.IOException;
@@ -65,6 +67,9 @@ public class ThemeServiceTest {
     @InjectMocks
     private ThemeService themeService = new ThemeServiceImpl();
 
+    @Spy
+    private PictureCacheService pictureCacheService = new PictureCacheServiceImpl();
+
     @Mock
     private ThemeRepository themeRepository;
 
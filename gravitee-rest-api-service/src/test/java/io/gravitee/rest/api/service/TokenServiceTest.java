@@ -39,6 +39,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import static com.google.common.collect.Sets.newHashSet;
 import static io.gravitee.repository.management.model.Token.AuditEvent.TOKEN_CREATED;
@@ -49,9 +50,11 @@ import static java.util.Collections.singletonList;
 import static java.util.Optional.of;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 /**
@@ -158,7 +161,6 @@ public class TokenServiceTest {
     @Test
     public void shouldFindByToken() throws TechnicalException {
         when(tokenRepository.findAll()).thenReturn(newHashSet(token));
-        when(tokenRepository.update(token)).thenReturn(token);
 
         final Token t = tokenService.findByToken("token");
 
@@ -167,7 +169,51 @@ public class TokenServiceTest {
         assertEquals("token", t.getToken());
         assertEquals(new Date(1486771200000L), t.getCreatedAt());
         assertEquals(new Date(1486772200000L), t.getExpiresAt());
-        assertEquals(new Date(1486773200000L), t.getLastUseAt());
+        verify(token).setLastUseAt(any(Date.class));
+        verify(tokenRepository, never()).update(any());
+    }
+
+    @Test
+    public void shouldFindByTokenFromVerifiedTokens() throws TechnicalException {
+        when(tokenRepository.findAll()).thenReturn(newHashSet(token));
+
+        tokenService.findByToken("token");
+        final Token t = tokenService.findByToken("token");
+
+        assertEquals(TOKEN_ID, t.getId());
+        verify(tokenRepository, times(1)).findAll();
+        verify(passwordEncoder, times(1)).matches(any(), any());
+        verify(tokenRepository).findById(TOKEN_ID);
+    }
+
+    @Test
+    public void shouldNotMatchUnknownTokenAgain() throws TechnicalException {
+        when(tokenRepository.findAll()).thenReturn(newHashSet(token));
+        when(passwordEncoder.matches(any(), any())).thenReturn(false);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                tokenService.findByToken("unknown");
+                fail("Unknown token should not be found");
+            } catch (IllegalStateException ise) {
+                assertEquals("Token not found", ise.getMessage());
+            }
+        }
+
+        verify(tokenRepository, times(1)).findAll();
+        verify(passwordEncoder, times(1)).matches(any(), any());
+    }
+
+    @Test
+    public void shouldFlushLastUses() throws TechnicalException {
+        when(tokenRepository.findAll()).thenReturn(newHashSet(token));
+
+        tokenService.findByToken("token");
+        tokenService.findByToken("token");
+        invokeMethod(tokenService, "flushLastUses");
+        invokeMethod(tokenService, "flushLastUses");
+
+        verify(tokenRepository, times(1)).update(token);
     }
 
     @Test
@@ -211,4 +257,27 @@ public class TokenServiceTest {
         verify(auditService).createPortalAuditLog(anyMap(), eq(TOKEN_DELETED), any(Date.class), isNull(), eq(token));
         verify(tokenRepository).delete(TOKEN_ID);
     }
+
+    @Test
+    public void shouldCountByUsers() throws TechnicalException {
+        when(tokenRepository.findAll()).thenReturn(newHashSet(
+                userToken("token-1", USER_ID), userToken("token-2", USER_ID), userToken("token-3", "unlisted-user")));
+
+        final Map<String, Long> counts = tokenService.countByUsers(asList(USER_ID, "other-user", USER_ID));
+
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(2), counts.get(USER_ID));
+        assertEquals(Long.valueOf(0), counts.get("other-user"));
+        // a single query, whatever the number of users
+        verify(tokenRepository, times(1)).findAll();
+        verify(tokenRepository, never()).findByReference(any(), any());
+    }
+
+    private Token userToken(final String id, final String userId) {
+        final Token userToken = new Token();
+        userToken.setId(id);
+        userToken.setReferenceType(USER.name());
+        userToken.setReferenceId(userId);
+        return userToken;
+    }
 }
@@ -19,7 +19,11 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import io.gravitee.common.util.Maps;
 import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.api.TokenRepository;
 import io.gravitee.repository.management.api.UserRepository;
+import io.gravitee.repository.management.model.Membership;
+import io.gravitee.repository.management.model.Token;
 import io.gravitee.repository.management.model.User;
 import io.gravitee.repository.management.model.UserStatus;
 import io.gravitee.rest.api.model.*;
@@ -32,6 +36,8 @@ import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.service.common.JWTHelper;
 import io.gravitee.rest.api.service.exceptions.*;
+import io.gravitee.rest.api.service.impl.MembershipServiceImpl;
+import io.gravitee.rest.api.service.impl.TokenServiceImpl;
 import io.gravitee.rest.api.service.impl.UserServiceImpl;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import org.apache.commons.io.IOUtils;
@@ -1014,4 +1020,105 @@ public class UserServiceTest {
     private InputStream read(String resource) throws IOException {
         return this.getClass().getResourceAsStream(resource);
     }
+
+    @Test
+    public void shouldSearchUsersAndPopulateFlagsInBatch() throws TechnicalException {
+        final List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            User pageUser = new User();
+            pageUser.setId("user-" + i);
+            pageUser.setStatus(UserStatus.ACTIVE);
+            users.add(pageUser);
+        }
+        when(userRepository.search(any(), any())).thenReturn(new io.gravitee.common.data.domain.Page<>(users, 0, 20, 20));
+
+        final RoleEntity apiPORole = new RoleEntity();
+        apiPORole.setId("api-po");
+        final RoleEntity applicationPORole = new RoleEntity();
+        applicationPORole.setId("application-po");
+        when(roleService.findByScopeAndName(RoleScope.API, "PRIMARY_OWNER")).thenReturn(of(apiPORole));
+        when(roleService.findByScopeAndName(RoleScope.APPLICATION, "PRIMARY_OWNER")).thenReturn(of(applicationPORole));
+
+        final MembershipEntity apiMembership = new MembershipEntity();
+        apiMembership.setMemberId("user-1");
+        final MembershipEntity applicationMembership = new MembershipEntity();
+        applicationMembership.setMemberId("user-2");
+        when(membershipService.getMembershipsByMembersAndReferenceAndRole(eq(MembershipMemberType.USER), anyList(), eq(MembershipReferenceType.API), eq("api-po")))
+                .thenReturn(Collections.singleton(apiMembership));
+        when(membershipService.getMembershipsByMembersAndReferenceAndRole(eq(MembershipMemberType.USER), anyList(), eq(MembershipReferenceType.APPLICATION), eq("application-po")))
+                .thenReturn(Collections.singleton(applicationMembership));
+        when(tokenService.countByUsers(anyCollection())).thenReturn(Collections.singletonMap("user-3", 2L));
+
+        final List<UserEntity> result = userService.search(
+                new io.gravitee.repository.management.api.search.UserCriteria.Builder().build(),
+                new io.gravitee.rest.api.model.common.PageableImpl(1, 20)).getContent();
+
+        assertEquals(20, result.size());
+        assertFalse(result.get(0).isPrimaryOwner());
+        assertTrue(result.get(1).isPrimaryOwner());
+        assertTrue(result.get(2).isPrimaryOwner());
+        assertEquals(2, result.get(3).getNbActiveTokens());
+        assertEquals(0, result.get(4).getNbActiveTokens());
+
+        verify(userRepository, times(1)).search(any(), any());
+        verify(membershipService, times(2)).getMembershipsByMembersAndReferenceAndRole(any(), anyList(), any(), any());
+        verify(membershipService, never()).getMembershipsByMemberAndReferenceAndRole(any(), any(), any(), any());
+        verify(tokenService, times(1)).countByUsers(anyCollection());
+        verify(tokenService, never()).findByUser(any());
+    }
+
+    @Test
+    public void shouldSearchUsersWithConstantRepositoryQueries() throws TechnicalException {
+        final MembershipRepository membershipRepository = mock(MembershipRepository.class);
+        final MembershipServiceImpl realMembershipService = new MembershipServiceImpl();
+        setField(realMembershipService, "membershipRepository", membershipRepository);
+        setField(userService, "membershipService", realMembershipService);
+        final TokenRepository tokenRepository = mock(TokenRepository.class);
+        final TokenServiceImpl realTokenService = new TokenServiceImpl();
+        setField(realTokenService, "tokenRepository", tokenRepository);
+        setField(userService, "tokenService", realTokenService);
+
+        final List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            User pageUser = new User();
+            pageUser.setId("user-" + i);
+            pageUser.setStatus(UserStatus.ACTIVE);
+            users.add(pageUser);
+        }
+        when(userRepository.search(any(), any())).thenReturn(new io.gravitee.common.data.domain.Page<>(users, 0, 20, 20));
+
+        final RoleEntity apiPORole = new RoleEntity();
+        apiPORole.setId("api-po");
+        final RoleEntity applicationPORole = new RoleEntity();
+        applicationPORole.setId("application-po");
+        when(roleService.findByScopeAndName(RoleScope.API, "PRIMARY_OWNER")).thenReturn(of(apiPORole));
+        when(roleService.findByScopeAndName(RoleScope.APPLICATION, "PRIMARY_OWNER")).thenReturn(of(applicationPORole));
+
+        final Membership apiMembership = new Membership();
+        apiMembership.setMemberId("user-1");
+        apiMembership.setMemberType(io.gravitee.repository.management.model.MembershipMemberType.USER);
+        apiMembership.setReferenceType(io.gravitee.repository.management.model.MembershipReferenceType.API);
+        apiMembership.setRoleId("api-po");
+        when(membershipRepository.findByMemberIdsAndMemberTypeAndReferenceType(anyList(), any(), any())).thenReturn(Collections.singleton(apiMembership));
+
+        final Token token = new Token();
+        token.setId("token");
+        token.setReferenceType(TokenReferenceType.USER.name());
+        token.setReferenceId("user-3");
+        when(tokenRepository.findAll()).thenReturn(Collections.singleton(token));
+
+        final List<UserEntity> result = userService.search(
+                new io.gravitee.repository.management.api.search.UserCriteria.Builder().build(),
+                new io.gravitee.rest.api.model.common.PageableImpl(1, 20)).getContent();
+
+        assertEquals(20, result.size());
+        assertTrue(result.get(1).isPrimaryOwner());
+        assertEquals(1, result.get(3).getNbActiveTokens());
+
+        // the queries do not depend on the number of users of the page
+        verify(membershipRepository, times(2)).findByMemberIdsAndMemberTypeAndReferenceType(anyList(), any(), any());
+        verifyNoMoreInteractions(membershipRepository);
+        verify(tokenRepository, times(1)).findAll();
+        verifyNoMoreInteractions(tokenRepository);
+    }
 }
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.search;
+
+import io.gravitee.rest.api.model.ApiPageEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.service.impl.search.SearchResult;
+import io.gravitee.rest.api.service.impl.search.lucene.searcher.ApiDocumentSearcher;
+import io.gravitee.rest.api.service.impl.search.lucene.transformer.ApiDocumentTransformer;
+import io.gravitee.rest.api.service.impl.search.lucene.transformer.PageDocumentTransformer;
+import io.gravitee.rest.api.service.search.query.QueryBuilder;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.RAMDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ApiDocumentSearcherTest {
+
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private final ApiDocumentSearcher searcher = new ApiDocumentSearcher();
+    private final ApiDocumentTransformer apiTransformer = new ApiDocumentTransformer();
+    private final PageDocumentTransformer pageTransformer = new PageDocumentTransformer();
+    private final Set<String> apiIds = new HashSet<>();
+
+    @Before
+    public void init() throws Exception {
+        writer = new IndexWriter(new RAMDirectory(), new IndexWriterConfig(new StandardAnalyzer()));
+        searcherManager = new SearcherManager(writer, null);
+        setField(searcher, "searcherManager", searcherManager);
+
+        for (int i = 0; i < 12; i++) {
+            final ApiEntity api = new ApiEntity();
+            api.setId("api-" + i);
+            api.setName("store" + i);
+            writer.addDocument(apiTransformer.transform(api));
+            apiIds.add(api.getId());
+
+            writer.addDocument(pageTransformer.transform(page("page-" + i, api.getId())));
+        }
+    }
+
+    @After
+    public void close() throws Exception {
+        searcherManager.close();
+        writer.close();
+    }
+
+    @Test
+    public void shouldSearchDistinctApisOfPages() throws Exception {
+        final SearchResult result = searcher.search(QueryBuilder.create(ApiEntity.class)
+                .setQuery("store")
+                .addFilter("api", apiIds)
+                .build());
+
+        assertEquals(12, result.getDocuments().size());
+        assertEquals(12, new HashSet<>(result.getDocuments()).size());
+        assertEquals(12, result.getHits());
+    }
+
+    @Test
+    public void shouldSearchPageOfDistinctApis() throws Exception {
+        final SearchResult all = searcher.search(QueryBuilder.create(ApiEntity.class)
+                .setQuery("store")
+                .addFilter("api", apiIds)
+                .build());
+        final SearchResult page2 = searcher.search(QueryBuilder.create(ApiEntity.class)
+                .setQuery("store")
+                .addFilter("api", apiIds)
+                .setPage(new PageableImpl(2, 5))
+                .build());
+        final SearchResult page3 = searcher.search(QueryBuilder.create(ApiEntity.class)
+                .setQuery("store")
+                .addFilter("api", apiIds)
+                .setPage(new PageableImpl(3, 5))
+                .build());
+
+        assertEquals(all.getDocuments().subList(5, 10), page2.getDocuments());
+        // the search stops once the page is found, the number of hits is then an upper bound
+        assertTrue(page2.getHits() >= 12 && page2.getHits() <= 24);
+        assertEquals(all.getDocuments().subList(10, 12), page3.getDocuments());
+        assertEquals(12, page3.getHits());
+    }
+
+    @Test
+    public void shouldSearchBeyondFirstBatchForDistinctApis() throws Exception {
+        // pages are equally scored and sorted by index order: the first batch of hits holds the pages of two APIs
+        writer.deleteAll();
+        for (int i = 0; i < 12; i++) {
+            for (int j = 0; j < 4; j++) {
+                writer.addDocument(pageTransformer.transform(page("page-" + i + "-" + j, "api-" + i)));
+            }
+        }
+
+        final SearchResult all = searcher.search(QueryBuilder.create(ApiEntity.class)
+                .setQuery("documentation")
+                .addFilter("api", apiIds)
+                .build());
+        final SearchResult page1 = searcher.search(QueryBuilder.create(ApiEntity.class)
+                .setQuery("documentation")
+                .addFilter("api", apiIds)
+                .setPage(new PageableImpl(1, 5))
+                .build());
+
+        assertEquals(12, all.getHits());
+        assertEquals("api-0", all.getDocuments().get(0));
+        assertEquals("api-4", all.getDocuments().get(4));
+        assertEquals(all.getDocuments().subList(0, 5), page1.getDocuments());
+        assertTrue(page1.getHits() >= 12);
+    }
+
+    private ApiPageEntity page(String id, String apiId) {
+        final ApiPageEntity page = new ApiPageEntity();
+        page.setId(id);
+        page.setApi(apiId);
+        page.setName("store documentation");
+        return page;
+    }
+}
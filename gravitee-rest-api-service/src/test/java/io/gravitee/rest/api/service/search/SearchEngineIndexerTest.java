@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.search;
+
+import io.gravitee.rest.api.service.impl.search.lucene.SearchEngineIndexer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class SearchEngineIndexerTest {
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private SearchEngineIndexer indexer;
+
+    @Before
+    public void init() throws Exception {
+        directory = new RAMDirectory();
+        writer = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()));
+        searcherManager = new SearcherManager(writer, null);
+
+        indexer = new SearchEngineIndexer();
+        setField(indexer, "writer", writer);
+        setField(indexer, "searcherManager", searcherManager);
+    }
+
+    @After
+    public void close() throws Exception {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    @Test
+    public void shouldMakeDocumentsSearchableWithoutCommit() throws Exception {
+        indexer.index(document("api-1"));
+        indexer.index(document("api-2"));
+
+        assertEquals(0, committedDocuments());
+        assertEquals(0, searchableDocuments());
+
+        invokeMethod(indexer, "maintain");
+
+        assertEquals(2, searchableDocuments());
+        assertEquals(0, committedDocuments());
+    }
+
+    @Test
+    public void shouldCommitWhenCommitIntervalIsElapsed() throws Exception {
+        setField(indexer, "commitInterval", 0L);
+        indexer.index(document("api-1"));
+
+        invokeMethod(indexer, "maintain");
+
+        assertEquals(1, committedDocuments());
+    }
+
+    @Test
+    public void shouldCommitWhenTooManyDocumentsArePending() throws Exception {
+        setField(indexer, "commitMaxPendingDocuments", 2L);
+        indexer.index(document("api-1"));
+        invokeMethod(indexer, "maintain");
+        assertEquals(0, committedDocuments());
+
+        indexer.index(document("api-2"));
+        invokeMethod(indexer, "maintain");
+        assertEquals(2, committedDocuments());
+    }
+
+    @Test
+    public void shouldIndexBatchWithSingleCommit() throws Exception {
+        final List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            documents.add(document("api-" + i));
+        }
+        documents.add(document("api-0"));
+
+        indexer.index(documents);
+
+        assertEquals(100, committedDocuments());
+        assertEquals(100, searchableDocuments());
+    }
+
+    @Test
+    public void shouldRemoveAllDocumentsExceptGivenOnes() throws Exception {
+        indexer.index(document("api-1"));
+        indexer.index(document("api-2"));
+        indexer.index(document("api-3"));
+
+        final int removed = indexer.removeAllExcept("api", new HashSet<>(Arrays.asList("api-1", "api-3")));
+        invokeMethod(indexer, "maintain");
+
+        assertEquals(1, removed);
+        assertEquals(2, searchableDocuments());
+    }
+
+    @Test
+    public void shouldStoreCheckpointsWithCommit() throws Exception {
+        indexer.index(document("api-1"));
+
+        indexer.checkpoint(Collections.singletonMap("checkpoint.api", "1000"));
+
+        assertEquals(1, committedDocuments());
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            assertEquals("1000", reader.getIndexCommit().getUserData().get("checkpoint.api"));
+        }
+        assertEquals("1000", indexer.getCheckpoints().get("checkpoint.api"));
+    }
+
+    private int committedDocuments() throws Exception {
+        if (!DirectoryReader.indexExists(directory)) {
+            return 0;
+        }
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            return reader.numDocs();
+        }
+    }
+
+    private int searchableDocuments() throws Exception {
+        final IndexSearcher searcher = searcherManager.acquire();
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private Document document(String id) {
+        final Document document = new Document();
+        document.add(new StringField("id", id, Field.Store.YES));
+        document.add(new StringField("type", "api", Field.Store.YES));
+        return document;
+    }
+}
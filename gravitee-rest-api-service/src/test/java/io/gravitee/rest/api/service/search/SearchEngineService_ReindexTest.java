@@ -0,0 +1,174 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.search;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.rest.api.model.ApiPageEntity;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.ApiService;
+import io.gravitee.rest.api.service.PageService;
+import io.gravitee.rest.api.service.UserService;
+import io.gravitee.rest.api.service.impl.search.SearchEngineServiceImpl;
+import io.gravitee.rest.api.service.impl.search.lucene.DocumentTransformer;
+import io.gravitee.rest.api.service.impl.search.lucene.SearchEngineIndexer;
+import org.apache.lucene.document.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SearchEngineService_ReindexTest {
+
+    @InjectMocks
+    private SearchEngineServiceImpl searchEngineService = new SearchEngineServiceImpl();
+
+    @Mock
+    private SearchEngineIndexer indexer;
+    @Mock
+    private ApiService apiService;
+    @Mock
+    private PageService pageService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private DocumentTransformer transformer;
+
+    @Before
+    public void init() {
+        setField(searchEngineService, "transformers", Collections.singletonList(transformer));
+        when(transformer.handle(any())).thenReturn(true);
+        when(transformer.transform(any())).thenReturn(new Document());
+        when(pageService.findPublishedApiPages()).thenReturn(Collections.emptyList());
+        when(userService.searchLight(any(io.gravitee.repository.management.api.search.UserCriteria.class), any()))
+                .thenReturn(new Page<>(Arrays.asList(user("user-1", 500), user("user-2", 2000)), 1, 2, 2));
+    }
+
+    @Test
+    public void shouldOnlyIndexChangedEntities() throws Exception {
+        final Map<String, String> checkpoints = new HashMap<>();
+        checkpoints.put("checkpoint.api", "1000");
+        checkpoints.put("checkpoint.page", "1000");
+        checkpoints.put("checkpoint.user", "1000");
+        when(indexer.getCheckpoints()).thenReturn(checkpoints);
+
+        final ApiEntity unchangedApi = api("api-1", 500);
+        final ApiEntity changedApi = api("api-2", 2000);
+        when(apiService.findAllLight()).thenReturn(new HashSet<>(Arrays.asList(unchangedApi, changedApi)));
+        when(apiService.findById("api-2")).thenReturn(changedApi);
+        final PageEntity unchangedPage = page("page-1", "api-1", 500);
+        final PageEntity changedPage = page("page-2", "api-2", 2000);
+        final PageEntity orphanPage = page("page-3", "api-3", 2000);
+        when(pageService.findPublishedApiPages()).thenReturn(Arrays.asList(unchangedPage, changedPage, orphanPage));
+
+        searchEngineService.reindex(false);
+
+        final ArgumentCaptor<Collection<Document>> documents = ArgumentCaptor.forClass(Collection.class);
+        verify(indexer).index(documents.capture());
+        assertEquals(3, documents.getValue().size());
+        verify(transformer).transform(changedApi);
+        verify(transformer).transform(changedPage);
+        verify(pageService, times(1)).findPublishedApiPages();
+        verify(pageService, never()).search(any(), anyBoolean());
+        verify(pageService).transformSwagger(changedPage, "api-2");
+        verify(pageService, never()).transformSwagger(eq(unchangedPage), any());
+        verify(userService, never()).search(any(io.gravitee.repository.management.api.search.UserCriteria.class), any());
+        verify(apiService, never()).findById("api-1");
+        verify(apiService, never()).findAll();
+        verify(indexer).removeAllExcept("api", new HashSet<>(Arrays.asList("api-1", "api-2")));
+        verify(indexer).removeAllExcept("page", new HashSet<>(Arrays.asList("page-1", "page-2")));
+        verify(indexer).removeAllExcept("user", new HashSet<>(Arrays.asList("user-1", "user-2")));
+        verify(indexer).checkpoint(any());
+    }
+
+    @Test
+    public void shouldIndexAllEntities() throws Exception {
+        final ApiEntity api = api("api-1", 500);
+        when(apiService.findAll()).thenReturn(Collections.singleton(api));
+
+        searchEngineService.reindex(true);
+
+        final ArgumentCaptor<Collection<Document>> documents = ArgumentCaptor.forClass(Collection.class);
+        verify(indexer).index(documents.capture());
+        assertEquals(3, documents.getValue().size());
+        verify(indexer, never()).getCheckpoints();
+        verify(apiService, never()).findAllLight();
+        verify(indexer).checkpoint(argThat(map -> map.containsKey("checkpoint.api")));
+    }
+
+    @Test
+    public void shouldReindexInBackgroundOnceAtATime() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(apiService.findAll()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return Collections.emptySet();
+        });
+
+        assertTrue(searchEngineService.reindexInBackground());
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertFalse(searchEngineService.reindexInBackground());
+
+        release.countDown();
+        verify(indexer, timeout(10000)).checkpoint(any());
+        verify(apiService, times(1)).findAll();
+    }
+
+    private ApiEntity api(String id, long updatedAt) {
+        final ApiEntity api = new ApiEntity();
+        api.setId(id);
+        api.setUpdatedAt(new Date(updatedAt));
+        return api;
+    }
+
+    private PageEntity page(String id, String apiId, long lastModificationDate) {
+        final ApiPageEntity page = new ApiPageEntity();
+        page.setId(id);
+        page.setApi(apiId);
+        page.setType("MARKDOWN");
+        page.setLastModificationDate(new Date(lastModificationDate));
+        return page;
+    }
+
+    private UserEntity user(String id, long updatedAt) {
+        final UserEntity user = new UserEntity();
+        user.setId(id);
+        user.setUpdatedAt(new Date(updatedAt));
+        return user;
+    }
+}
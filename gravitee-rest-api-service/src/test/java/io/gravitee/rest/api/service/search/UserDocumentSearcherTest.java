@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.search;
+
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.service.impl.search.SearchResult;
+import io.gravitee.rest.api.service.impl.search.lucene.searcher.UserDocumentSearcher;
+import io.gravitee.rest.api.service.impl.search.lucene.transformer.UserDocumentTransformer;
+import io.gravitee.rest.api.service.search.query.QueryBuilder;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.RAMDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class UserDocumentSearcherTest {
+
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private final UserDocumentSearcher searcher = new UserDocumentSearcher();
+    private final UserDocumentTransformer transformer = new UserDocumentTransformer();
+
+    @Before
+    public void init() throws Exception {
+        writer = new IndexWriter(new RAMDirectory(), new IndexWriterConfig(new StandardAnalyzer()));
+        searcherManager = new SearcherManager(writer, null);
+        setField(searcher, "searcherManager", searcherManager);
+
+        for (int i = 0; i < 25; i++) {
+            writer.addDocument(transformer.transform(user("user-" + i, "john" + i)));
+        }
+    }
+
+    @After
+    public void close() throws Exception {
+        searcherManager.close();
+        writer.close();
+    }
+
+    @Test
+    public void shouldSearchPage() throws Exception {
+        final SearchResult page2 = searcher.search(QueryBuilder.create(UserEntity.class)
+                .setQuery("john")
+                .setPage(new PageableImpl(2, 10))
+                .build());
+        final SearchResult page3 = searcher.search(QueryBuilder.create(UserEntity.class)
+                .setQuery("john")
+                .setPage(new PageableImpl(3, 10))
+                .build());
+
+        assertEquals(10, page2.getDocuments().size());
+        assertEquals(25, page2.getHits());
+        assertEquals(5, page3.getDocuments().size());
+        assertEquals(25, page3.getHits());
+    }
+
+    @Test
+    public void shouldSearchPageOutOfRange() throws Exception {
+        final SearchResult result = searcher.search(QueryBuilder.create(UserEntity.class)
+                .setQuery("john")
+                .setPage(new PageableImpl(5, 10))
+                .build());
+
+        assertEquals(0, result.getDocuments().size());
+        assertEquals(25, result.getHits());
+    }
+
+    @Test
+    public void shouldSeeChangesMadeAfterPreviousSearch() throws Exception {
+        searcher.search(QueryBuilder.create(UserEntity.class).setQuery("john").build());
+
+        writer.addDocument(transformer.transform(user("user-25", "john25")));
+
+        final SearchResult result = searcher.search(QueryBuilder.create(UserEntity.class).setQuery("john").build());
+        assertEquals(26, result.getDocuments().size());
+    }
+
+    private UserEntity user(String id, String firstname) {
+        final UserEntity user = new UserEntity();
+        user.setId(id);
+        user.setFirstname(firstname);
+        return user;
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.cache;
+
+import io.gravitee.common.service.AbstractService;
+import io.gravitee.repository.management.model.MessageRecipient;
+import io.gravitee.rest.api.model.command.CommandEntity;
+import io.gravitee.rest.api.model.command.CommandQuery;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.service.CacheInvalidationService;
+import io.gravitee.rest.api.service.CommandService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Apply the cache invalidations sent by the other management nodes, dispatching each command to the cache registered
+ * for its tag.
+ *
+ * @author GraviteeSource Team
+ */
+public class ScheduledCacheInvalidationService extends AbstractService implements Runnable {
+
+    /**
+     * Logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ScheduledCacheInvalidationService.class);
+
+    @Autowired
+    private TaskScheduler scheduler;
+
+    @Value("${services.cache_invalidation.cron:*/5 * * * * *}")
+    private String cronTrigger;
+
+    @Value("${services.cache_invalidation.enabled:true}")
+    private boolean enabled;
+
+    private final AtomicLong counter = new AtomicLong(0);
+
+    @Autowired
+    private CommandService commandService;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Override
+    protected String name() {
+        return "Cache Invalidation Service";
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (enabled) {
+            super.doStart();
+            logger.info("Cache Invalidation service has been initialized with cron [{}]", cronTrigger);
+            scheduler.schedule(this, new CronTrigger(cronTrigger));
+        } else {
+            logger.warn("Cache Invalidation service has been disabled");
+        }
+    }
+
+    @Override
+    public void run() {
+        logger.debug("Cache Invalidation #{} started at {}", counter.incrementAndGet(), Instant.now());
+        for (CommandTags tag : cacheInvalidationService.getTags()) {
+            try {
+                CommandQuery query = new CommandQuery();
+                query.setTo(MessageRecipient.MANAGEMENT_APIS.name());
+                query.setTags(Collections.singletonList(tag));
+                for (CommandEntity commandEntity : commandService.search(query)) {
+                    if (commandEntity.isExpired()) {
+                        commandService.delete(commandEntity.getId());
+                    } else if (!commandEntity.isProcessedInCurrentNode()) {
+                        commandService.ack(commandEntity.getId());
+                        cacheInvalidationService.process(tag, commandEntity.getContent());
+                    }
+                }
+            } catch (Exception ex) {
+                logger.error("An error occurs while applying the invalidations {}", tag, ex);
+            }
+        }
+        logger.debug("Cache Invalidation #{} ended at {}", counter.get(), Instant.now());
+    }
+}
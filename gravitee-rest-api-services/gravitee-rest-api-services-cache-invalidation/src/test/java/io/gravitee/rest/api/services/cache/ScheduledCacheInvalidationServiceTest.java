@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.cache;
+
+import io.gravitee.rest.api.model.command.CommandEntity;
+import io.gravitee.rest.api.model.command.CommandQuery;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.service.CacheInvalidationService;
+import io.gravitee.rest.api.service.CommandService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ScheduledCacheInvalidationServiceTest {
+
+    @InjectMocks
+    ScheduledCacheInvalidationService service = new ScheduledCacheInvalidationService();
+
+    @Mock
+    CommandService commandService;
+
+    @Mock
+    CacheInvalidationService cacheInvalidationService;
+
+    @Test
+    public void shouldDoNothingWithoutRegisteredCache() {
+        when(cacheInvalidationService.getTags()).thenReturn(Collections.emptySet());
+
+        service.run();
+
+        verify(commandService, never()).search(any());
+    }
+
+    @Test
+    public void shouldDispatchCommandsByTag() {
+        when(cacheInvalidationService.getTags())
+                .thenReturn(EnumSet.of(CommandTags.PERMISSIONS_TO_INVALIDATE, CommandTags.PARAMETERS_TO_INVALIDATE));
+
+        CommandEntity processed = command("processed", "{\"userId\":\"user\"}");
+        processed.setProcessedInCurrentNode(true);
+        CommandEntity expired = command("expired", null);
+        expired.setExpired(true);
+        CommandEntity permissions = command("permissions", "{\"userId\":\"user\"}");
+        CommandEntity parameters = command("parameters", "{\"key\":\"portal.apikey.header\"}");
+        when(commandService.search(any(CommandQuery.class))).thenAnswer(invocation -> {
+            final CommandQuery query = invocation.getArgument(0);
+            return query.getTags().contains(CommandTags.PERMISSIONS_TO_INVALIDATE)
+                    ? Arrays.asList(processed, expired, permissions)
+                    : Collections.singletonList(parameters);
+        });
+
+        service.run();
+
+        ArgumentCaptor<CommandQuery> queries = ArgumentCaptor.forClass(CommandQuery.class);
+        verify(commandService, times(2)).search(queries.capture());
+        queries.getAllValues().forEach(query -> assertEquals(1, query.getTags().size()));
+        verify(commandService).delete("expired");
+        verify(commandService, times(2)).ack(anyString());
+        verify(commandService, never()).ack("processed");
+        verify(cacheInvalidationService).process(CommandTags.PERMISSIONS_TO_INVALIDATE, "{\"userId\":\"user\"}");
+        verify(cacheInvalidationService).process(CommandTags.PARAMETERS_TO_INVALIDATE, "{\"key\":\"portal.apikey.header\"}");
+    }
+
+    private CommandEntity command(String id, String content) {
+        CommandEntity command = new CommandEntity();
+        command.setId(id);
+        command.setContent(content);
+        return command;
+    }
+}
@@ -26,6 +26,7 @@ import io.gravitee.rest.api.model.configuration.dictionary.DictionaryEntity;
 import io.gravitee.rest.api.model.configuration.dictionary.DictionaryProviderEntity;
 import io.gravitee.rest.api.model.configuration.dictionary.DictionaryTriggerEntity;
 import io.gravitee.rest.api.service.event.DictionaryEvent;
+import io.gravitee.rest.api.service.vertx.HttpClientPool;
 import io.gravitee.rest.api.services.dictionary.provider.http.HttpProvider;
 import io.gravitee.rest.api.services.dictionary.provider.http.configuration.HttpProviderConfiguration;
 import io.vertx.core.Vertx;
@@ -65,6 +66,8 @@ public class DictionaryService extends AbstractService implements EventListener<
     @Autowired
     private Node node;
 
+    private HttpClientPool httpClientPool;
+
     private final Map<String, Long> timers = new HashMap<>();
 
     @Override
@@ -76,12 +79,18 @@ public class DictionaryService extends AbstractService implements EventListener<
     protected void doStart() throws Exception {
         super.doStart();
 
+        httpClientPool = new HttpClientPool(vertx);
+
         eventManager.subscribeForEvents(this, DictionaryEvent.class);
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+
+        if (httpClientPool != null) {
+            httpClientPool.close();
+        }
     }
 
     @Override
@@ -107,7 +116,7 @@ public class DictionaryService extends AbstractService implements EventListener<
                     HttpProviderConfiguration configuration = objectMapper.treeToValue(providerConf.getConfiguration(), HttpProviderConfiguration.class);
                     DictionaryRefresher refresher = new DictionaryRefresher(dictionary);
 
-                    HttpProvider provider = new HttpProvider(configuration);
+                    HttpProvider provider = new HttpProvider(configuration, httpClientPool);
                     provider.setVertx(vertx);
                     provider.setNode(node);
 
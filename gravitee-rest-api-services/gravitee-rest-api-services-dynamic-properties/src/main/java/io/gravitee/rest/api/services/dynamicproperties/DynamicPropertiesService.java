@@ -26,7 +26,10 @@ import io.gravitee.definition.model.services.schedule.Trigger;
 import io.gravitee.node.api.Node;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.ApiService;
-import io.gravitee.rest.api.service.event.ApiEvent;
+import io.gravitee.rest.api.service.event.ApiChange;
+import io.gravitee.rest.api.service.event.ApiRegistry;
+import io.gravitee.rest.api.service.event.ApiRegistryEvent;
+import io.gravitee.rest.api.service.vertx.HttpClientPool;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.HttpProvider;
 import io.vertx.core.Vertx;
 
@@ -34,13 +37,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 /**
+ * Polls the dynamic properties of the deployed APIs.
+ *
+ * The service follows the registry of the deployed APIs by revision: on each change of the registry, only the APIs
+ * changed since the last processed revision are rescheduled. When these changes are no longer kept by the registry,
+ * the service falls back to the full state and reschedules all the APIs.
+ *
  * @author Alexandre FARIA (lusoalex on github.com)
  */
-public class DynamicPropertiesService extends AbstractService implements EventListener<ApiEvent, ApiEntity> {
+public class DynamicPropertiesService extends AbstractService implements EventListener<ApiRegistryEvent, ApiRegistry> {
 
     /**
      * Logger.
@@ -59,7 +67,11 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
     @Autowired
     private Node node;
 
-    private final Map<ApiEntity, Long> timers = new HashMap<>();
+    private HttpClientPool httpClientPool;
+
+    private final Map<String, Long> timers = new HashMap<>();
+
+    private long revision;
 
     @Override
     protected String name() {
@@ -70,30 +82,48 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
     protected void doStart() throws Exception {
         super.doStart();
 
-        eventManager.subscribeForEvents(this, ApiEvent.class);
+        httpClientPool = new HttpClientPool(vertx);
+
+        eventManager.subscribeForEvents(this, ApiRegistryEvent.class);
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+
+        if (httpClientPool != null) {
+            httpClientPool.close();
+        }
     }
 
     @Override
-    public void onEvent(Event<ApiEvent, ApiEntity> event) {
-        final ApiEntity api = event.content();
+    public synchronized void onEvent(Event<ApiRegistryEvent, ApiRegistry> event) {
+        final ApiRegistry registry = event.content();
+        final long currentRevision = registry.revision();
+        final Optional<List<ApiChange>> changes = registry.changesSince(revision);
+        final Set<String> apiIds = new LinkedHashSet<>();
+
+        if (changes.isPresent()) {
+            if (changes.get().isEmpty()) {
+                return;
+            }
+            changes.get().forEach(change -> apiIds.add(change.getApiId()));
+            revision = changes.get().get(changes.get().size() - 1).getRevision();
+        } else {
+            logger.debug("Changes since revision {} are no longer available, reschedule all the APIs", revision);
+            apiIds.addAll(timers.keySet());
+            registry.apis().forEach(api -> apiIds.add(api.getId()));
+            revision = currentRevision;
+        }
 
-        switch (event.type()) {
-            case DEPLOY:
-                startDynamicProperties(api);
-                break;
-            case UNDEPLOY:
-                stopDynamicProperties(api);
-                break;
-            case UPDATE:
-                stopDynamicProperties(api);
+        apiIds.forEach(apiId -> {
+            stopDynamicProperties(apiId);
+
+            final ApiEntity api = registry.get(apiId);
+            if (api != null) {
                 startDynamicProperties(api);
-                break;
-        }
+            }
+        });
     }
 
     private void startDynamicProperties(ApiEntity api) {
@@ -103,7 +133,7 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
                 DynamicPropertyUpdater updater = new DynamicPropertyUpdater(api);
 
                 if (dynamicPropertyService.getProvider() == DynamicPropertyProvider.HTTP) {
-                    HttpProvider provider = new HttpProvider(dynamicPropertyService);
+                    HttpProvider provider = new HttpProvider(dynamicPropertyService, httpClientPool);
                     provider.setVertx(vertx);
                     provider.setNode(node);
 
@@ -116,7 +146,7 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
                     updater.handle(null);
 
                     long periodicTimer = vertx.setPeriodic(getDelayMillis(dynamicPropertyService.getTrigger()), updater);
-                    timers.put(api, periodicTimer);
+                    timers.put(api.getId(), periodicTimer);
                 }
             } else {
                 logger.info("Dynamic properties service is disabled for: {} [{}]", api.getName(), api.getVersion());
@@ -139,10 +169,10 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
         return -1;
     }
 
-    private void stopDynamicProperties(ApiEntity api) {
-        Long timer = timers.remove(api);
+    private void stopDynamicProperties(String apiId) {
+        Long timer = timers.remove(apiId);
         if (timer != null) {
-            logger.info("Stop Dynamic properties service for API id[{}] name[{}]", api.getId(), api.getName());
+            logger.info("Stop Dynamic properties service for API id[{}]", apiId);
             vertx.cancelTimer(timer);
         }
     }
@@ -36,6 +36,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +51,16 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     private Provider provider;
     private ApiService apiService;
 
+    /**
+     * Properties returned by the last successful poll, to skip loading the API when the provider keeps sending the
+     * same values.
+     */
+    private volatile Map<String, String> lastProperties;
+
+    private final AtomicLong pollCount = new AtomicLong();
+    private final AtomicLong changeCount = new AtomicLong();
+    private final AtomicLong redeployCount = new AtomicLong();
+
     public DynamicPropertyUpdater(final ApiEntity api) {
         this.api = api;
     }
@@ -106,6 +117,7 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     @Override
     public void handle(Long event) {
         logger.debug("Running dynamic-properties poller for {}", api);
+        pollCount.incrementAndGet();
         authenticateAsAdmin();
 
         provider.get()
@@ -121,6 +133,15 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     }
 
     private void update(Collection<DynamicProperty> dynamicProperties) {
+        final Map<String, String> polledProperties = new TreeMap<>();
+        dynamicProperties.forEach(property -> polledProperties.put(property.getKey(), property.getValue()));
+
+        if (polledProperties.equals(lastProperties)) {
+            logger.debug("[{}] Dynamic properties unchanged (polls: {}, changes: {}, redeploys: {})",
+                    api.getId(), pollCount.get(), changeCount.get(), redeployCount.get());
+            return;
+        }
+
         // Get latest changes
         ApiEntity latestApi = apiService.findById(api.getId());
 
@@ -143,6 +164,8 @@ public class DynamicPropertyUpdater implements Handler<Long> {
         }
 
         if(needToBeSaved) {
+            changeCount.incrementAndGet();
+
             // Add previous user-defined properties
             updatedProperties.addAll(userDefinedProperties);
 
@@ -170,9 +193,15 @@ public class DynamicPropertyUpdater implements Handler<Long> {
                 // Publish API only in case of changes
                 if (!updatedProperties.containsAll(properties) || !properties.containsAll(updatedProperties)) {
                     apiService.deploy(latestApi.getId(), "dynamic-property-updater", EventType.PUBLISH_API);
+                    redeployCount.incrementAndGet();
                 }
             }
+
+            logger.debug("[{}] Dynamic properties updated (polls: {}, changes: {}, redeploys: {})",
+                    api.getId(), pollCount.get(), changeCount.get(), redeployCount.get());
         }
+
+        lastProperties = polledProperties;
     }
 
     public void setApiService(ApiService apiService) {
@@ -182,4 +211,16 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     public void setProvider(Provider provider) {
         this.provider = provider;
     }
+
+    public long getPollCount() {
+        return pollCount.get();
+    }
+
+    public long getChangeCount() {
+        return changeCount.get();
+    }
+
+    public long getRedeployCount() {
+        return redeployCount.get();
+    }
 }
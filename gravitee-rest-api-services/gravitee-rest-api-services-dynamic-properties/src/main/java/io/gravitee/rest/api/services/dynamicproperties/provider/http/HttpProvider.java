@@ -17,21 +17,20 @@ package io.gravitee.rest.api.services.dynamicproperties.provider.http;
 
 import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpStatusCode;
-import io.gravitee.common.utils.UUID;
 import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyService;
 import io.gravitee.definition.model.services.dynamicproperty.http.HttpDynamicPropertyProviderConfiguration;
 import io.gravitee.node.api.Node;
 import io.gravitee.node.api.utils.NodeUtils;
 import io.gravitee.rest.api.service.common.RandomString;
+import io.gravitee.rest.api.service.vertx.HttpClientPool;
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.rest.api.services.dynamicproperties.provider.Provider;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.mapper.JoltMapper;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.vertx.VertxCompletableFuture;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpClient;
-import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +39,8 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -49,7 +50,7 @@ public class HttpProvider implements Provider {
 
     private final Logger logger = LoggerFactory.getLogger(HttpProvider.class);
 
-    private static final String HTTPS_SCHEME = "https";
+    private static final long REQUEST_TIMEOUT = 10000;
 
     private final HttpDynamicPropertyProviderConfiguration dpConfiguration;
 
@@ -59,8 +60,29 @@ public class HttpProvider implements Provider {
 
     private Node node;
 
-    public HttpProvider(final DynamicPropertyService dpService) {
+    private final HttpClientPool httpClientPool;
+
+    /**
+     * Validators of the last successful response, sent back to only get a body when the properties have changed.
+     */
+    private volatile String etag;
+
+    private volatile String lastModified;
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private final AtomicLong notModifiedCount = new AtomicLong();
+
+    private final AtomicLong failureCount = new AtomicLong();
+
+    private final AtomicLong totalResponseTime = new AtomicLong();
+
+    private volatile long lastResponseTime = -1;
+
+    public HttpProvider(final DynamicPropertyService dpService, final HttpClientPool httpClientPool) {
         Objects.requireNonNull(dpService, "Service must not be null");
+        Objects.requireNonNull(httpClientPool, "HTTP client pool must not be null");
+        this.httpClientPool = httpClientPool;
 
         this.dpConfiguration = (HttpDynamicPropertyProviderConfiguration) dpService.getConfiguration();
         this.mapper = new JoltMapper(dpConfiguration.getSpecification());
@@ -71,66 +93,50 @@ public class HttpProvider implements Provider {
         CompletableFuture<Buffer> future = new VertxCompletableFuture<>(vertx);
 
         URI requestUri = URI.create(dpConfiguration.getUrl());
-        boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(requestUri.getScheme());
-
-        final HttpClientOptions options = new HttpClientOptions()
-                .setSsl(ssl)
-                .setTrustAll(true)
-                .setMaxPoolSize(1)
-                .setKeepAlive(false)
-                .setTcpKeepAlive(false)
-                .setConnectTimeout(2000);
-
-        final HttpClient httpClient = vertx.createHttpClient(options);
-
-        final int port = requestUri.getPort() != -1 ? requestUri.getPort() :
-                (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
+        final long start = System.nanoTime();
 
         try {
-            HttpClientRequest request = httpClient.request(
+            HttpClientRequest request = httpClientPool.get(requestUri).request(
                     HttpMethod.GET,
-                    port,
+                    HttpClientPool.port(requestUri),
                     requestUri.getHost(),
                     requestUri.toString()
             );
 
+            request.setTimeout(REQUEST_TIMEOUT);
             request.putHeader(HttpHeaders.USER_AGENT, NodeUtils.userAgent(node));
             request.putHeader("X-Gravitee-Request-Id", RandomString.generate());
 
+            if (etag != null) {
+                request.putHeader(HttpHeaders.IF_NONE_MATCH, etag);
+            }
+            if (lastModified != null) {
+                request.putHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+
             request.handler(response -> {
-                if (response.statusCode() == HttpStatusCode.OK_200) {
-                    response.bodyHandler(buffer -> {
-                        future.complete(buffer);
+                response.exceptionHandler(throwable -> fail(future, throwable));
 
-                        // Close client
-                        httpClient.close();
-                    });
-                } else {
-                    future.complete(null);
+                // Always consume the body so that the connection goes back to the pool
+                response.bodyHandler(buffer -> {
+                    record(requestUri, response, start);
 
-                    // Close client
-                    httpClient.close();
-                }
+                    if (response.statusCode() == HttpStatusCode.OK_200) {
+                        etag = response.getHeader(HttpHeaders.ETAG);
+                        lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+                        future.complete(buffer);
+                    } else {
+                        future.complete(null);
+                    }
+                });
             });
 
-            request.exceptionHandler(event -> {
-                try {
-                    future.completeExceptionally(event);
-
-                    // Close client
-                    httpClient.close();
-                } catch (IllegalStateException ise) {
-                    // Do not take care about exception when closing client
-                }
-            });
+            request.exceptionHandler(throwable -> fail(future, throwable));
 
             request.end();
         } catch (Exception ex) {
             logger.error("Unable to look for dynamic properties", ex);
-            future.completeExceptionally(ex);
-
-            // Close client
-            httpClient.close();
+            fail(future, ex);
         }
 
         return future.thenApply(buffer -> {
@@ -141,6 +147,25 @@ public class HttpProvider implements Provider {
         });
     }
 
+    private void fail(CompletableFuture<Buffer> future, Throwable throwable) {
+        if (future.completeExceptionally(throwable)) {
+            failureCount.incrementAndGet();
+        }
+    }
+
+    private void record(URI requestUri, HttpClientResponse response, long start) {
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        requestCount.incrementAndGet();
+        totalResponseTime.addAndGet(elapsed);
+        lastResponseTime = elapsed;
+        if (response.statusCode() == HttpStatusCode.NOT_MODIFIED_304) {
+            notModifiedCount.incrementAndGet();
+        }
+
+        logger.debug("Dynamic properties retrieved from {} with status {} in {} ms", requestUri, response.statusCode(), elapsed);
+    }
+
     @Override
     public String name() {
         return "custom";
@@ -158,4 +183,25 @@ public class HttpProvider implements Provider {
     public void setNode(Node node) {
         this.node = node;
     }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    public long getLastResponseTime() {
+        return lastResponseTime;
+    }
+
+    public long getAverageResponseTime() {
+        final long count = requestCount.get();
+        return count == 0 ? -1 : totalResponseTime.get() / count;
+    }
 }
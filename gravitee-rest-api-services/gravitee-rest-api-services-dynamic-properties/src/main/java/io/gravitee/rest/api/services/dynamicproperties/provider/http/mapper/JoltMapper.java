@@ -59,20 +59,16 @@ public class JoltMapper {
 
     public Collection<DynamicProperty> map(String source) {
         //Default value is equal to the input json value (in case empty jolt specs)
-        String jsonProperties = source;
-        ArrayList transformed;
-        if (jsonProperties != null && jsonProperties.charAt(0) == '[') {
-            transformed = (ArrayList) chainr.transform(JsonUtils.jsonToList(source));
+        Object transformed;
+        if (source != null && source.charAt(0) == '[') {
+            transformed = chainr.transform(JsonUtils.jsonToList(source));
         } else {
-            transformed = (ArrayList) chainr.transform(JsonUtils.jsonToMap(source));
+            transformed = chainr.transform(JsonUtils.jsonToMap(source));
         }
-        jsonProperties = JsonUtils.toJsonString(transformed);
 
-        //Now ensure current json properties is well formatted.
-    //    if (validateJson(jsonProperties)) {
-
-        List<Object> items = JsonUtils.jsonToList(jsonProperties);
-        Object collect = items.stream()
+        // Jolt output is already made of maps and lists, no need to serialize and parse it again
+        List<Object> items = (List<Object>) transformed;
+        return items.stream()
                 .map(item -> {
                     Map<String, String> mapItem = (Map<String, String>) item;
                     Object key = mapItem.get("key");
@@ -83,7 +79,5 @@ public class JoltMapper {
                     }
                 })
                 .collect(Collectors.toList());
-
-        return (Collection<DynamicProperty>) collect;
     }
 }
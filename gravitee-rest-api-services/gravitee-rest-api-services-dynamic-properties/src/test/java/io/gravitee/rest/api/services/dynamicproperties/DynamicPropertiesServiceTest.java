@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties;
+
+import io.gravitee.common.component.Lifecycle;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.gravitee.definition.model.services.Services;
+import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyProvider;
+import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyService;
+import io.gravitee.definition.model.services.dynamicproperty.http.HttpDynamicPropertyProviderConfiguration;
+import io.gravitee.definition.model.services.schedule.Trigger;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.event.ApiChange;
+import io.gravitee.rest.api.service.event.ApiRegistry;
+import io.gravitee.rest.api.service.event.ApiRegistryEvent;
+import io.gravitee.rest.api.service.vertx.HttpClientPool;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DynamicPropertiesServiceTest {
+
+    @InjectMocks
+    private DynamicPropertiesService dynamicPropertiesService = new DynamicPropertiesService();
+
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private Context context;
+
+    @Mock
+    private HttpClientPool httpClientPool;
+
+    @Mock
+    private ApiRegistry registry;
+
+    @Before
+    public void init() {
+        setField(dynamicPropertiesService, "httpClientPool", httpClientPool);
+        lenient().when(vertx.getOrCreateContext()).thenReturn(context);
+        lenient().when(vertx.setPeriodic(anyLong(), any())).thenReturn(1L, 2L, 3L);
+    }
+
+    @Test
+    public void shouldOnlyRescheduleChangedApis() {
+        final ApiEntity api1 = api("api-1");
+        final ApiEntity api2 = api("api-2");
+        when(registry.revision()).thenReturn(2L, 3L);
+        when(registry.changesSince(0)).thenReturn(Optional.of(Arrays.asList(
+                new ApiChange(1, "api-1", ApiChange.Type.DEPLOY),
+                new ApiChange(2, "api-2", ApiChange.Type.DEPLOY))));
+        when(registry.changesSince(2)).thenReturn(Optional.of(Collections.singletonList(
+                new ApiChange(3, "api-2", ApiChange.Type.UNDEPLOY))));
+        when(registry.get("api-1")).thenReturn(api1);
+        when(registry.get("api-2")).thenReturn(api2, (ApiEntity) null);
+
+        changed();
+        changed();
+
+        verify(vertx, times(2)).setPeriodic(eq(60_000L), any());
+        verify(vertx).cancelTimer(2L);
+        verify(registry, times(1)).get("api-1");
+        verify(registry, times(2)).get("api-2");
+        verify(registry, never()).apis();
+    }
+
+    @Test
+    public void shouldNotProcessAnyApiWithoutChange() {
+        when(registry.changesSince(0)).thenReturn(Optional.of(Collections.emptyList()));
+
+        changed();
+
+        verify(registry, never()).get(any());
+        verify(registry, never()).apis();
+        verifyZeroInteractions(vertx);
+    }
+
+    @Test
+    public void shouldFallBackToFullStateWhenChangesAreNoLongerAvailable() {
+        final ApiEntity api1 = api("api-1");
+        final ApiEntity api2 = api("api-2");
+        when(registry.revision()).thenReturn(1500L);
+        when(registry.changesSince(0)).thenReturn(Optional.empty());
+        when(registry.changesSince(1500)).thenReturn(Optional.of(Collections.emptyList()));
+        when(registry.apis()).thenReturn(Arrays.asList(api1, api2));
+        when(registry.get("api-1")).thenReturn(api1);
+        when(registry.get("api-2")).thenReturn(api2);
+
+        changed();
+        changed();
+
+        verify(registry, times(1)).apis();
+        verify(vertx, times(2)).setPeriodic(anyLong(), any());
+    }
+
+    private void changed() {
+        dynamicPropertiesService.onEvent(new SimpleEvent<>(ApiRegistryEvent.CHANGED, registry));
+    }
+
+    private ApiEntity api(String id) {
+        final HttpDynamicPropertyProviderConfiguration configuration = new HttpDynamicPropertyProviderConfiguration();
+        configuration.setUrl("http://localhost/" + id);
+        configuration.setSpecification("[{\"operation\": \"default\", \"spec\": {}}]");
+
+        final DynamicPropertyService dynamicPropertyService = new DynamicPropertyService();
+        dynamicPropertyService.setEnabled(true);
+        dynamicPropertyService.setProvider(DynamicPropertyProvider.HTTP);
+        dynamicPropertyService.setConfiguration(configuration);
+        dynamicPropertyService.setTrigger(new Trigger());
+        dynamicPropertyService.getTrigger().setRate(1);
+        dynamicPropertyService.getTrigger().setUnit(TimeUnit.MINUTES);
+
+        final Services services = new Services();
+        services.set(Collections.singletonList(dynamicPropertyService));
+
+        final ApiEntity api = new ApiEntity();
+        api.setId(id);
+        api.setName(id);
+        api.setState(Lifecycle.State.STARTED);
+        api.setServices(services);
+        return api;
+    }
+}
@@ -15,7 +15,9 @@
  */
 package io.gravitee.rest.api.services.dynamicproperties;
 
+import io.gravitee.rest.api.model.EventType;
 import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.services.dynamicproperties.DynamicPropertyUpdater;
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.rest.api.services.dynamicproperties.provider.Provider;
@@ -30,6 +32,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
@@ -44,6 +52,9 @@ public class DynamicPropertyUpdaterTest {
     @Mock
     private Provider provider;
 
+    @Mock
+    private ApiService apiService;
+
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
@@ -79,4 +90,30 @@ public class DynamicPropertyUpdaterTest {
 
         poller.handle(1L);
     }
+
+    @Test
+    public void shouldNotReloadApiWhenPropertiesAreUnchanged() {
+        ApiEntity latestApi = new ApiEntity();
+        latestApi.setId("api-id");
+
+        Mockito.when(apiEntity.getId()).thenReturn("api-id");
+        Mockito.when(apiService.findById("api-id")).thenReturn(latestApi);
+        Mockito.when(apiService.isSynchronized("api-id")).thenReturn(true);
+        Mockito.when(provider.get())
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        Collections.singletonList(new DynamicProperty("my-key", "my-value"))));
+        poller.setApiService(apiService);
+
+        poller.handle(1L);
+        poller.handle(2L);
+        poller.handle(3L);
+
+        verify(apiService, times(1)).findById("api-id");
+        verify(apiService, times(1)).isSynchronized("api-id");
+        verify(apiService, times(1)).update(eq("api-id"), any());
+        verify(apiService, times(1)).deploy("api-id", "dynamic-property-updater", EventType.PUBLISH_API);
+        assertEquals(3, poller.getPollCount());
+        assertEquals(1, poller.getChangeCount());
+        assertEquals(1, poller.getRedeployCount());
+    }
 }
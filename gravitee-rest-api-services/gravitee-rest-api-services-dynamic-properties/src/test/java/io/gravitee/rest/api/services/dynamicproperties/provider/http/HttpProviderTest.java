@@ -19,11 +19,16 @@ import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyService;
 import io.gravitee.definition.model.services.dynamicproperty.http.HttpDynamicPropertyProviderConfiguration;
 import io.gravitee.node.api.Node;
+import io.gravitee.rest.api.service.vertx.HttpClientPool;
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.HttpProvider;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.mapper.JoltMapper;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
 import org.apache.commons.io.IOUtils;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -36,8 +41,10 @@ import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.anyString;
@@ -64,9 +71,21 @@ public class HttpProviderTest {
     @Mock
     private Node node;
 
+    private Vertx vertx;
+
+    private HttpClientPool httpClientPool;
+
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
+        vertx = Vertx.vertx();
+        httpClientPool = new HttpClientPool(vertx);
+    }
+
+    @After
+    public void tearDown() {
+        httpClientPool.close();
+        vertx.close();
     }
 
     @Test
@@ -75,9 +94,9 @@ public class HttpProviderTest {
         when(providerConfiguration.getUrl()).thenReturn("http://localhost:" + wireMockRule.port() + "/success");
         when(providerConfiguration.getSpecification()).thenReturn(IOUtils.toString(read("/jolt/specification.json"), Charset.defaultCharset()));
 
-        HttpProvider provider = new HttpProvider(dynamicPropertyService);
+        HttpProvider provider = new HttpProvider(dynamicPropertyService, httpClientPool);
         provider.setMapper(mapper);
-        provider.setVertx(Vertx.vertx());
+        provider.setVertx(vertx);
 
         CompletableFuture<Collection<DynamicProperty>> future = provider.get();
         Collection<DynamicProperty> dynamicProperties = future.join();
@@ -93,9 +112,9 @@ public class HttpProviderTest {
         when(providerConfiguration.getUrl()).thenReturn("http://localhost:" + wireMockRule.port() + "/error");
         when(providerConfiguration.getSpecification()).thenReturn(IOUtils.toString(read("/jolt/specification.json"), Charset.defaultCharset()));
 
-        HttpProvider provider = new HttpProvider(dynamicPropertyService);
+        HttpProvider provider = new HttpProvider(dynamicPropertyService, httpClientPool);
         provider.setMapper(mapper);
-        provider.setVertx(Vertx.vertx());
+        provider.setVertx(vertx);
 
         CompletableFuture<Collection<DynamicProperty>> future = provider.get();
         Collection<DynamicProperty> dynamicProperties = future.join();
@@ -111,14 +130,67 @@ public class HttpProviderTest {
         when(providerConfiguration.getUrl()).thenReturn("http://unknown_host:" + wireMockRule.port());
         when(providerConfiguration.getSpecification()).thenReturn(IOUtils.toString(read("/jolt/specification.json"), Charset.defaultCharset()));
 
-        HttpProvider provider = new HttpProvider(dynamicPropertyService);
+        HttpProvider provider = new HttpProvider(dynamicPropertyService, httpClientPool);
         provider.setMapper(mapper);
-        provider.setVertx(Vertx.vertx());
+        provider.setVertx(vertx);
 
         CompletableFuture<Collection<DynamicProperty>> future = provider.get();
         future.join();
     }
 
+    @Test
+    public void shouldSendConditionalRequestAndReuseConnection() throws Exception {
+        final AtomicInteger connections = new AtomicInteger();
+        final AtomicInteger notModified = new AtomicInteger();
+        final HttpServer server = startServer(connections, notModified);
+
+        when(dynamicPropertyService.getConfiguration()).thenReturn(providerConfiguration);
+        when(providerConfiguration.getUrl()).thenReturn("http://localhost:" + server.actualPort() + "/properties");
+        when(providerConfiguration.getSpecification()).thenReturn(IOUtils.toString(read("/jolt/specification.json"), Charset.defaultCharset()));
+
+        HttpProvider provider = new HttpProvider(dynamicPropertyService, httpClientPool);
+        provider.setMapper(mapper);
+        provider.setVertx(vertx);
+
+        assertNotNull(provider.get().join());
+        assertNull(provider.get().join());
+        assertNull(provider.get().join());
+
+        verify(mapper, times(1)).map(anyString());
+        assertEquals(2, notModified.get());
+        assertEquals(1, connections.get());
+        assertEquals(1, httpClientPool.size());
+        assertEquals(3, provider.getRequestCount());
+        assertEquals(2, provider.getNotModifiedCount());
+        assertEquals(0, provider.getFailureCount());
+    }
+
+    private HttpServer startServer(AtomicInteger connections, AtomicInteger notModified) throws Exception {
+        final CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+
+        vertx.createHttpServer()
+                .connectionHandler(connection -> connections.incrementAndGet())
+                .requestHandler(request -> {
+                    if ("v1".equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                        notModified.incrementAndGet();
+                        request.response().setStatusCode(HttpStatusCode.NOT_MODIFIED_304).end();
+                    } else {
+                        request.response()
+                                .putHeader(HttpHeaders.ETAG, "v1")
+                                .end("[{\"key\": \"my-key\", \"value\": \"my-value\"}]");
+                    }
+                })
+                .listen(0, result -> {
+                    if (result.succeeded()) {
+                        listening.complete(result.result());
+                    } else {
+                        listening.completeExceptionally(result.cause());
+                    }
+                });
+
+        return listening.get();
+    }
+
     private InputStream read(String resource) throws IOException {
         return this.getClass().getResourceAsStream(resource);
     }
@@ -18,65 +18,169 @@ package io.gravitee.rest.api.services.sync;
 import io.gravitee.common.component.Lifecycle;
 import io.gravitee.common.event.EventManager;
 import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.event.ApiChange;
 import io.gravitee.rest.api.service.event.ApiEvent;
+import io.gravitee.rest.api.service.event.ApiRegistry;
+import io.gravitee.rest.api.service.event.ApiRegistryEvent;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 /**
+ * Registry of the APIs deployed by the synchronization process.
+ *
+ * The registry state is an immutable map replaced on each write, so that readers never block writers. APIs can be
+ * deployed or updated in bulk to replace the map only once.
+ *
+ * Each deployment, update or undeployment increments the revision of the registry and is recorded in a bounded change
+ * log, so that listeners of {@link ApiRegistryEvent} can only process the changes made since the last revision they
+ * know. The log keeps the last {@value #MAX_CHANGES} changes: a listener lagging further behind gets no delta from
+ * {@link #changesSince(long)} and falls back to the full state.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class ApiManager {
+public class ApiManager implements ApiRegistry {
+
+    static final int MAX_CHANGES = 1000;
 
     private final Logger logger = LoggerFactory.getLogger(ApiManager.class);
 
     @Autowired
     private EventManager eventManager;
 
-    private final Map<String, ApiEntity> apis = new HashMap<>();
+    private final Object lock = new Object();
+
+    private volatile Map<String, ApiEntity> apis = Collections.emptyMap();
+
+    private volatile long revision;
+
+    private final Deque<ApiChange> changes = new ArrayDeque<>(MAX_CHANGES);
 
     public void deploy(ApiEntity api) {
-        logger.info("Deployment of {}", api);
+        deploy(Collections.singletonList(api));
+    }
+
+    public void deploy(Collection<ApiEntity> apisToDeploy) {
+        if (apisToDeploy.isEmpty()) {
+            return;
+        }
 
-            apis.put(api.getId(), api);
+        putAll(apisToDeploy, ApiChange.Type.DEPLOY);
+
+        apisToDeploy.forEach(api -> {
+            logger.info("Deployment of {}", api);
 
             if (api.getState() == Lifecycle.State.STARTED) {
                 eventManager.publishEvent(ApiEvent.DEPLOY, api);
             } else {
                 logger.debug("{} is not enabled. Skip deployment.", api);
             }
+        });
+
+        eventManager.publishEvent(ApiRegistryEvent.CHANGED, this);
     }
 
     public void update(ApiEntity api) {
-        apis.put(api.getId(), api);
-            eventManager.publishEvent(ApiEvent.UPDATE, api);
+        update(Collections.singletonList(api));
+    }
+
+    public void update(Collection<ApiEntity> apisToUpdate) {
+        if (apisToUpdate.isEmpty()) {
+            return;
+        }
+
+        putAll(apisToUpdate, ApiChange.Type.UPDATE);
+
+        apisToUpdate.forEach(api -> eventManager.publishEvent(ApiEvent.UPDATE, api));
+
+        eventManager.publishEvent(ApiRegistryEvent.CHANGED, this);
     }
 
     public void undeploy(String apiId) {
-        ApiEntity currentApi = apis.remove(apiId);
+        ApiEntity currentApi;
+
+        synchronized (lock) {
+            currentApi = apis.get(apiId);
+            if (currentApi != null) {
+                final Map<String, ApiEntity> nextApis = new HashMap<>(apis);
+                nextApis.remove(apiId);
+                apis = Collections.unmodifiableMap(nextApis);
+                record(apiId, ApiChange.Type.UNDEPLOY);
+            }
+        }
+
         if (currentApi != null) {
             logger.info("Undeployment of {}", currentApi);
 
             eventManager.publishEvent(ApiEvent.UNDEPLOY, currentApi);
             logger.info("{} has been undeployed", apiId);
+
+            eventManager.publishEvent(ApiRegistryEvent.CHANGED, this);
         }
     }
 
+    @Override
     public Collection<ApiEntity> apis() {
         return apis.values();
     }
 
+    @Override
     public ApiEntity get(String name) {
         return apis.get(name);
     }
 
+    @Override
+    public long revision() {
+        return revision;
+    }
+
+    @Override
+    public Optional<List<ApiChange>> changesSince(long since) {
+        if (since >= revision) {
+            return Optional.of(Collections.emptyList());
+        }
+
+        synchronized (lock) {
+            final long missing = revision - since;
+            if (missing > changes.size()) {
+                return Optional.empty();
+            }
+
+            // Only copy the tail of the log requested by the caller
+            final List<ApiChange> delta = new ArrayList<>((int) missing);
+            final Iterator<ApiChange> iterator = changes.descendingIterator();
+            for (int i = 0; i < missing; i++) {
+                delta.add(iterator.next());
+            }
+            Collections.reverse(delta);
+            return Optional.of(delta);
+        }
+    }
+
     public void setEventManager(EventManager eventManager) {
         this.eventManager = eventManager;
     }
+
+    private void putAll(Collection<ApiEntity> apisToPut, ApiChange.Type type) {
+        synchronized (lock) {
+            final Map<String, ApiEntity> nextApis = new HashMap<>(apis);
+            apisToPut.forEach(api -> nextApis.put(api.getId(), api));
+            apis = Collections.unmodifiableMap(nextApis);
+
+            // Record the changes once the APIs are visible, so that a revision never precedes its state
+            apisToPut.forEach(api -> record(api.getId(), type));
+        }
+    }
+
+    private void record(String apiId, ApiChange.Type type) {
+        if (changes.size() == MAX_CHANGES) {
+            changes.removeFirst();
+        }
+        changes.addLast(new ApiChange(revision + 1, apiId, type));
+        revision++;
+    }
 }
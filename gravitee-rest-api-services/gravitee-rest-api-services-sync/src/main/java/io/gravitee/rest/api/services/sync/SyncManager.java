@@ -28,23 +28,37 @@ import io.gravitee.repository.management.model.*;
 import io.gravitee.rest.api.model.MembershipEntity;
 import io.gravitee.rest.api.model.MembershipReferenceType;
 import io.gravitee.rest.api.model.PrimaryOwnerEntity;
+import io.gravitee.rest.api.model.RoleEntity;
 import io.gravitee.rest.api.model.UserEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.configuration.dictionary.DictionaryEntity;
+import io.gravitee.rest.api.model.permissions.RoleScope;
+import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.service.MembershipService;
+import io.gravitee.rest.api.service.RoleService;
 import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.configuration.dictionary.DictionaryService;
 import io.gravitee.rest.api.service.event.DictionaryEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
@@ -81,6 +95,13 @@ public class SyncManager {
     private MembershipService membershipService;
     @Autowired
     private UserService userService;
+    @Autowired
+    private RoleService roleService;
+
+    @Value("${services.sync.initial.bulkSize:100}")
+    private int initialBulkSize = 100;
+    @Value("${services.sync.initial.concurrency:4}")
+    private int initialConcurrency = 4;
 
     private final AtomicLong counter = new AtomicLong(0);
 
@@ -91,6 +112,7 @@ public class SyncManager {
         logger.debug("Refreshing state...");
 
         long nextLastRefreshAt = System.currentTimeMillis();
+        final boolean initial = lastRefreshAt == -1;
 
         try {
             synchronizeApis(nextLastRefreshAt);
@@ -104,6 +126,11 @@ public class SyncManager {
             logger.error("An error occurs while synchronizing dictionaries", ex);
         }
 
+        if (initial) {
+            logger.info("Initial synchronization done in {} ms, {} APIs loaded",
+                    System.currentTimeMillis() - nextLastRefreshAt, apiManager.apis().size());
+        }
+
         lastRefreshAt = nextLastRefreshAt;
         logger.debug("Synchronization #{} ended at {}", counter.get(), Instant.now());
     }
@@ -120,16 +147,10 @@ public class SyncManager {
                             .excludePicture().build());
 
             // Get last event by API
-            apiEvents = apis
-                    .stream()
-                    .map(api -> getLastApiEvent(api.getId()))
-                    .filter(Objects::nonNull)
-                    .collect(
-                            toMap(
-                                    event -> event.getProperties().get(Event.EventProperties.API_ID.getValue()),
-                                    event -> event
-                            )
-                    );
+            apiEvents = getLastEvents(
+                    apis.stream().map(Api::getId).collect(Collectors.toList()),
+                    Event.EventProperties.API_ID,
+                    EventType.PUBLISH_API, EventType.UNPUBLISH_API, EventType.START_API, EventType.STOP_API);
         } else {
             // Get latest API events
             List<Event> events = getLatestApiEvents(nextLastRefreshAt);
@@ -159,16 +180,10 @@ public class SyncManager {
                     .collect(Collectors.toList());
 
             // Get last event by dictionary
-            dictionaryEvents = dictionaries
-                    .stream()
-                    .map(api -> getLastDictionaryEvent(api.getId()))
-                    .filter(Objects::nonNull)
-                    .collect(
-                            toMap(
-                                    event -> event.getProperties().get(Event.EventProperties.DICTIONARY_ID.getValue()),
-                                    event -> event
-                            )
-                    );
+            dictionaryEvents = getLastEvents(
+                    dictionaries.stream().map(Dictionary::getId).collect(Collectors.toList()),
+                    Event.EventProperties.DICTIONARY_ID,
+                    EventType.START_DICTIONARY, EventType.STOP_DICTIONARY);
         } else {
             // Get latest dictionary events
             List<Event> events = getLatestDictionaryEvents(nextLastRefreshAt);
@@ -210,6 +225,8 @@ public class SyncManager {
     }
 
     private void computeApiEvents(Map<String, Event> apiEvents) {
+        final List<Api> apisToDeploy = new ArrayList<>();
+
         apiEvents.forEach((apiId, apiEvent) -> {
             switch (apiEvent.getType()) {
                 case UNPUBLISH_API:
@@ -220,24 +237,12 @@ public class SyncManager {
                 case PUBLISH_API:
                     try {
                         // Read API definition from event
-                        io.gravitee.repository.management.model.Api payloadApi =
-                                objectMapper.readValue(apiEvent.getPayload(), io.gravitee.repository.management.model.Api.class);
-
-                        // API to deploy
-                        ApiEntity apiToDeploy = convert(payloadApi);
-
-                        if (apiToDeploy != null) {
-                            // Get deployed API
-                            ApiEntity deployedApi = apiManager.get(apiToDeploy.getId());
-
-                            // API is not yet deployed, so let's do it !
-                            if (deployedApi == null) {
-                                apiManager.deploy(apiToDeploy);
-                            } else {
-                                if (deployedApi.getDeployedAt().before(apiToDeploy.getDeployedAt())) {
-                                    apiManager.update(apiToDeploy);
-                                }
-                            }
+                        Api payloadApi = objectMapper.readValue(apiEvent.getPayload(), Api.class);
+
+                        // Skip the API if the deployed one is already up to date
+                        ApiEntity deployedApi = apiManager.get(payloadApi.getId());
+                        if (deployedApi == null || isNewer(payloadApi, deployedApi)) {
+                            apisToDeploy.add(payloadApi);
                         }
                     } catch (Exception e) {
                         logger.error("Error while determining deployed APIs store into events payload", e);
@@ -247,18 +252,74 @@ public class SyncManager {
                     break;
             }
         });
+
+        if (apisToDeploy.isEmpty()) {
+            return;
+        }
+
+        // Resolve primary owners of all the APIs to deploy at once
+        final Map<String, UserEntity> primaryOwners = getPrimaryOwners(apisToDeploy);
+
+        final List<ApiEntity> deployments = new ArrayList<>();
+        final List<ApiEntity> updates = new ArrayList<>();
+
+        apisToDeploy.forEach(payloadApi -> {
+            try {
+                final UserEntity primaryOwner = primaryOwners.get(payloadApi.getId());
+                if (primaryOwner == null) {
+                    logger.error("Unable to deploy API {}: no primary owner found", payloadApi.getId());
+                    return;
+                }
+
+                // API to deploy
+                ApiEntity apiToDeploy = convert(payloadApi, primaryOwner);
+
+                // API is not yet deployed, so let's do it !
+                if (apiManager.get(apiToDeploy.getId()) == null) {
+                    deployments.add(apiToDeploy);
+                } else {
+                    updates.add(apiToDeploy);
+                }
+            } catch (Exception e) {
+                logger.error("Error while determining deployed APIs store into events payload", e);
+            }
+        });
+
+        // Register the APIs at once, the initial synchronization deploying all of them
+        apiManager.deploy(deployments);
+        apiManager.update(updates);
     }
 
-    private Event getLastDictionaryEvent(final String dictionary) {
-        final EventCriteria.Builder eventCriteriaBuilder =
-                new EventCriteria.Builder()
-                        .property(Event.EventProperties.DICTIONARY_ID.getValue(), dictionary);
+    private boolean isNewer(Api payloadApi, ApiEntity deployedApi) {
+        return deployedApi.getDeployedAt() == null
+                || (payloadApi.getDeployedAt() != null && deployedApi.getDeployedAt().before(payloadApi.getDeployedAt()));
+    }
 
-        List<Event> events = eventRepository.search(eventCriteriaBuilder
-                        .types(EventType.START_DICTIONARY, EventType.STOP_DICTIONARY).build(),
-                new PageableBuilder().pageNumber(0).pageSize(1).build()).getContent();
+    private Map<String, UserEntity> getPrimaryOwners(List<Api> apis) {
+        final Optional<RoleEntity> optPrimaryOwnerRole = roleService.findByScopeAndName(RoleScope.API, SystemRole.PRIMARY_OWNER.name());
+        if (!optPrimaryOwnerRole.isPresent()) {
+            logger.error("Unable to find the API primary owner role");
+            return Collections.emptyMap();
+        }
 
-        return (!events.isEmpty()) ? events.get(0) : null;
+        final Set<MembershipEntity> memberships = membershipService.getMembershipsByReferencesAndRole(
+                MembershipReferenceType.API,
+                apis.stream().map(Api::getId).distinct().collect(Collectors.toList()),
+                optPrimaryOwnerRole.get().getId());
+
+        final Map<String, UserEntity> users = userService.findByIds(
+                memberships.stream().map(MembershipEntity::getMemberId).distinct().collect(Collectors.toList()))
+                .stream()
+                .collect(toMap(UserEntity::getId, user -> user, (user1, user2) -> user1));
+
+        final Map<String, UserEntity> primaryOwners = new HashMap<>(memberships.size());
+        memberships.forEach(membership -> {
+            final UserEntity user = users.get(membership.getMemberId());
+            if (user != null) {
+                primaryOwners.put(membership.getReferenceId(), user);
+            }
+        });
+        return primaryOwners;
     }
 
     private List<Event> getLatestDictionaryEvents(long nextLastRefreshAt) {
@@ -279,19 +340,89 @@ public class SyncManager {
         return eventRepository.search(builder.build());
     }
 
-    private Event getLastApiEvent(final String api) {
-        final EventCriteria.Builder eventCriteriaBuilder =
-                new EventCriteria.Builder()
-                        .property(Event.EventProperties.API_ID.getValue(), api);
+    /**
+     * Load the last event of each given reference. References are split in chunks resolved concurrently. Each chunk
+     * is resolved with bounded pages of events sorted by creation date descending, the next page being searched only
+     * for the references whose last event has not been found yet.
+     */
+    private Map<String, Event> getLastEvents(List<String> ids, Event.EventProperties property, EventType... types) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-        List<Event> events = eventRepository.search(eventCriteriaBuilder
-                        .types(EventType.PUBLISH_API, EventType.UNPUBLISH_API, EventType.START_API, EventType.STOP_API).build(),
-                new PageableBuilder().pageNumber(0).pageSize(1).build()).getContent();
+        final List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += initialBulkSize) {
+            chunks.add(ids.subList(i, Math.min(i + initialBulkSize, ids.size())));
+        }
+
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(initialConcurrency, chunks.size())),
+                r -> new Thread(r, "sync-initial-" + threadCounter.incrementAndGet()));
 
-        return (!events.isEmpty()) ? events.get(0) : null;
+        try {
+            final List<CompletableFuture<Map<String, Event>>> futures = chunks
+                    .stream()
+                    .map(chunk -> CompletableFuture.supplyAsync(() -> getLastEventsOfChunk(chunk, property, types), executor))
+                    .collect(Collectors.toList());
+
+            final Map<String, Event> lastEvents = new HashMap<>(ids.size());
+            futures.forEach(future -> lastEvents.putAll(future.join()));
+            return lastEvents;
+        } finally {
+            executor.shutdown();
+        }
     }
 
-    private ApiEntity convert(Api api) {
+    private Map<String, Event> getLastEventsOfChunk(List<String> chunk, Event.EventProperties property, EventType... types) {
+        final Map<String, Event> lastEvents = new HashMap<>(chunk.size());
+        final Set<String> pendingIds = new HashSet<>(chunk);
+
+        while (!pendingIds.isEmpty()) {
+            final List<Event> events = searchLastEvents(pendingIds, initialBulkSize, property, types);
+            final int pendingBefore = pendingIds.size();
+
+            // Events are sorted by creation date descending, the first one of a reference is its last one
+            events.stream()
+                    .filter(event -> event.getProperties() != null)
+                    .forEach(event -> {
+                        final String id = event.getProperties().get(property.getValue());
+                        if (id != null && pendingIds.remove(id)) {
+                            lastEvents.put(id, event);
+                        }
+                    });
+
+            if (events.size() < initialBulkSize) {
+                // No more events for the remaining references
+                break;
+            }
+
+            if (pendingIds.size() == pendingBefore) {
+                // A full page without any new reference would be returned again: look for the remaining
+                // references one by one instead of searching the same page forever
+                logger.debug("No progress while loading last events, look for {} references one by one", pendingIds.size());
+                for (String id : pendingIds) {
+                    searchLastEvents(Collections.singleton(id), 1, property, types)
+                            .stream()
+                            .findFirst()
+                            .ifPresent(event -> lastEvents.put(id, event));
+                }
+                break;
+            }
+        }
+        return lastEvents;
+    }
+
+    private List<Event> searchLastEvents(Collection<String> ids, int size, Event.EventProperties property, EventType... types) {
+        return eventRepository.search(
+                new EventCriteria.Builder()
+                        .property(property.getValue(), new ArrayList<>(ids))
+                        .types(types)
+                        .build(),
+                new PageableBuilder().pageNumber(0).pageSize(size).build()).getContent();
+    }
+
+    private ApiEntity convert(Api api, UserEntity primaryOwner) {
         ApiEntity apiEntity = new ApiEntity();
 
         apiEntity.setId(api.getId());
@@ -336,10 +467,8 @@ public class SyncManager {
             apiEntity.setVisibility(io.gravitee.rest.api.model.Visibility.valueOf(api.getVisibility().toString()));
         }
 
-        MembershipEntity optPrimaryOwner = membershipService.getPrimaryOwner(MembershipReferenceType.API, api.getId());
-        final UserEntity user = userService.findById(optPrimaryOwner.getMemberId());
-        apiEntity.setPrimaryOwner(new PrimaryOwnerEntity(user));
-            
+        apiEntity.setPrimaryOwner(new PrimaryOwnerEntity(primaryOwner));
+
         return apiEntity;
     }
 }
@@ -0,0 +1,225 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.sync;
+
+import io.gravitee.common.component.Lifecycle;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.event.ApiChange;
+import io.gravitee.rest.api.service.event.ApiEvent;
+import io.gravitee.rest.api.service.event.ApiRegistryEvent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiManagerTest {
+
+    @InjectMocks
+    private ApiManager apiManager = new ApiManager();
+
+    @Mock
+    private EventManager eventManager;
+
+    @Test
+    public void shouldDeployUpdateAndUndeploy() {
+        final ApiEntity api = api("api-1");
+
+        apiManager.deploy(api);
+        apiManager.update(api);
+        apiManager.undeploy("api-1");
+        apiManager.undeploy("unknown");
+
+        assertNull(apiManager.get("api-1"));
+        assertTrue(apiManager.apis().isEmpty());
+        verify(eventManager).publishEvent(ApiEvent.DEPLOY, api);
+        verify(eventManager).publishEvent(ApiEvent.UPDATE, api);
+        verify(eventManager).publishEvent(ApiEvent.UNDEPLOY, api);
+    }
+
+    @Test
+    public void shouldNotPublishDeployOfStoppedApi() {
+        final ApiEntity api = api("api-1");
+        api.setState(Lifecycle.State.STOPPED);
+
+        apiManager.deploy(api);
+
+        assertEquals(api, apiManager.get("api-1"));
+        verify(eventManager, never()).publishEvent(eq(ApiEvent.DEPLOY), any(ApiEntity.class));
+    }
+
+    @Test
+    public void shouldDeployAndUpdateInBulk() {
+        final ApiEntity api1 = api("api-1");
+        final ApiEntity api2 = api("api-2");
+        final ApiEntity stoppedApi = api("api-3");
+        stoppedApi.setState(Lifecycle.State.STOPPED);
+
+        apiManager.deploy(Arrays.asList(api1, api2, stoppedApi));
+        apiManager.update(Collections.singletonList(api1));
+        apiManager.deploy(Collections.emptyList());
+
+        assertEquals(3, apiManager.apis().size());
+        verify(eventManager).publishEvent(ApiEvent.DEPLOY, api1);
+        verify(eventManager).publishEvent(ApiEvent.DEPLOY, api2);
+        verify(eventManager, never()).publishEvent(ApiEvent.DEPLOY, stoppedApi);
+        verify(eventManager).publishEvent(ApiEvent.UPDATE, api1);
+    }
+
+    @Test
+    public void shouldNotBeAffectedBySnapshotIteration() {
+        apiManager.deploy(api("api-1"));
+        apiManager.deploy(api("api-2"));
+
+        final Collection<ApiEntity> apis = apiManager.apis();
+        apiManager.deploy(api("api-3"));
+        apiManager.undeploy("api-1");
+
+        assertEquals(2, apis.size());
+        assertEquals(2, apiManager.apis().size());
+    }
+
+    @Test
+    public void shouldRecordChangesByRevision() {
+        apiManager.deploy(Arrays.asList(api("api-1"), api("api-2")));
+        apiManager.update(api("api-1"));
+        apiManager.undeploy("api-2");
+        apiManager.undeploy("unknown");
+
+        assertEquals(4, apiManager.revision());
+
+        final List<ApiChange> changes = apiManager.changesSince(2).get();
+        assertEquals(2, changes.size());
+        assertEquals(3, changes.get(0).getRevision());
+        assertEquals("api-1", changes.get(0).getApiId());
+        assertEquals(ApiChange.Type.UPDATE, changes.get(0).getType());
+        assertEquals(4, changes.get(1).getRevision());
+        assertEquals("api-2", changes.get(1).getApiId());
+        assertEquals(ApiChange.Type.UNDEPLOY, changes.get(1).getType());
+
+        assertEquals(4, apiManager.changesSince(0).get().size());
+        assertTrue(apiManager.changesSince(4).get().isEmpty());
+        verify(eventManager, times(3)).publishEvent(ApiRegistryEvent.CHANGED, apiManager);
+    }
+
+    @Test
+    public void shouldFallBackToFullStateWhenChangesAreNoLongerKept() {
+        for (int i = 0; i < ApiManager.MAX_CHANGES + 10; i++) {
+            apiManager.deploy(api("api-" + i));
+        }
+
+        assertEquals(ApiManager.MAX_CHANGES + 10, apiManager.revision());
+        assertFalse(apiManager.changesSince(0).isPresent());
+        assertFalse(apiManager.changesSince(9).isPresent());
+        assertEquals(ApiManager.MAX_CHANGES, apiManager.changesSince(10).get().size());
+        assertEquals("api-10", apiManager.changesSince(10).get().get(0).getApiId());
+    }
+
+    @Test
+    public void shouldHandleConcurrentDeployments() throws Exception {
+        final int writers = 8;
+        final int operations = 2000;
+        final ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for (int w = 0; w < writers; w++) {
+            final int writer = w;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < operations; i++) {
+                    final ApiEntity api = api("api-" + writer + "-" + (i % 50));
+                    switch (i % 3) {
+                        case 0:
+                            apiManager.deploy(api);
+                            break;
+                        case 1:
+                            apiManager.update(api);
+                            break;
+                        default:
+                            apiManager.undeploy(api.getId());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        for (int r = 0; r < 2; r++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < operations; i++) {
+                    for (ApiEntity api : apiManager.apis()) {
+                        assertNotNull(api.getId());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Each writer works on its own APIs, so the final state only depends on the order of its own operations
+        final Set<String> expected = new HashSet<>();
+        for (int w = 0; w < writers; w++) {
+            for (int i = 0; i < operations; i++) {
+                final String apiId = "api-" + w + "-" + (i % 50);
+                if (i % 3 == 2) {
+                    expected.remove(apiId);
+                } else {
+                    expected.add(apiId);
+                }
+            }
+        }
+
+        final Set<String> deployed = new HashSet<>();
+        apiManager.apis().forEach(api -> deployed.add(api.getId()));
+        assertEquals(expected, deployed);
+
+        // Undeployments of APIs which are not deployed are not recorded, so only check the revision is consistent
+        // with the last recorded change
+        final List<ApiChange> lastChanges = apiManager.changesSince(apiManager.revision() - 1).get();
+        assertEquals(1, lastChanges.size());
+        assertEquals(apiManager.revision(), lastChanges.get(0).getRevision());
+    }
+
+    private ApiEntity api(String id) {
+        final ApiEntity api = new ApiEntity();
+        api.setId(id);
+        api.setState(Lifecycle.State.STARTED);
+        return api;
+    }
+}
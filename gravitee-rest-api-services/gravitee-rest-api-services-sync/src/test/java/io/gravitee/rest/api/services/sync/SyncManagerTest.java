@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.sync;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.DictionaryRepository;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.repository.management.api.search.Pageable;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.EventType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SyncManagerTest {
+
+    @InjectMocks
+    private SyncManager syncManager = new SyncManager();
+
+    @Mock
+    private ApiRepository apiRepository;
+    @Mock
+    private DictionaryRepository dictionaryRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private ApiManager apiManager;
+
+    private final List<Event> events = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(syncManager, "initialBulkSize", 2);
+
+        // Events are returned as the repository does: filtered, sorted by creation date descending and paged
+        lenient().when(eventRepository.search(any(EventCriteria.class), any(Pageable.class))).thenAnswer(invocation -> {
+            final Collection<?> ids = (Collection<?>) invocation.<EventCriteria>getArgument(0)
+                    .getProperties().get(Event.EventProperties.API_ID.getValue());
+            final Pageable pageable = invocation.getArgument(1);
+            final List<Event> content = events.stream()
+                    .filter(event -> ids.contains(event.getProperties().get(Event.EventProperties.API_ID.getValue())))
+                    .sorted(Comparator.comparing(Event::getCreatedAt).reversed())
+                    .limit(pageable.pageSize())
+                    .collect(Collectors.toList());
+            return new Page<>(content, 0, content.size(), content.size());
+        });
+    }
+
+    @Test
+    public void shouldLoadLastEventOfEachApiByChunk() {
+        mockApis("api-1", "api-2", "api-3");
+        event("api-1", EventType.START_API, 1);
+        event("api-1", EventType.STOP_API, 3);
+        event("api-1", EventType.START_API, 2);
+        event("api-2", EventType.UNPUBLISH_API, 0);
+        event("api-3", EventType.STOP_API, 4);
+
+        syncManager.refresh();
+
+        final ArgumentCaptor<EventCriteria> criteria = ArgumentCaptor.forClass(EventCriteria.class);
+        verify(eventRepository, times(3)).search(criteria.capture(), any(Pageable.class));
+        final List<Set<?>> searchedIds = criteria.getAllValues().stream()
+                .map(c -> new HashSet<>((Collection<?>) c.getProperties().get(Event.EventProperties.API_ID.getValue())))
+                .collect(Collectors.toList());
+        // first chunk: the first page only holds events of api-1, api-2 is searched again alone
+        assertEquals(new HashSet<>(Arrays.asList("api-1", "api-2")), searchedIds.stream()
+                .filter(ids -> ids.size() == 2).findFirst().orElse(null));
+        assertEquals(2, searchedIds.stream().filter(ids -> ids.size() == 1).count());
+        assertEquals(new HashSet<>(Arrays.asList(Collections.singleton("api-2"), Collections.singleton("api-3"))),
+                searchedIds.stream().filter(ids -> ids.size() == 1).collect(Collectors.toSet()));
+
+        verify(apiManager).undeploy("api-1");
+        verify(apiManager).undeploy("api-2");
+        verify(apiManager).undeploy("api-3");
+    }
+
+    @Test
+    public void shouldLookForRemainingApisOneByOneWithoutProgress() {
+        mockApis("api-1", "api-2");
+        event("api-1", EventType.STOP_API, 1);
+        event("api-2", EventType.STOP_API, 2);
+        event("other-1", EventType.STOP_API, 3);
+        event("other-2", EventType.STOP_API, 4);
+
+        // A full page without any of the searched references must not be searched again forever
+        when(eventRepository.search(any(EventCriteria.class), any(Pageable.class))).thenAnswer(invocation -> {
+            final Collection<?> ids = (Collection<?>) invocation.<EventCriteria>getArgument(0)
+                    .getProperties().get(Event.EventProperties.API_ID.getValue());
+            final List<Event> content = events.stream()
+                    .filter(event -> ids.size() > 1
+                            ? event.getId().startsWith("other")
+                            : ids.contains(event.getProperties().get(Event.EventProperties.API_ID.getValue())))
+                    .collect(Collectors.toList());
+            return new Page<>(content, 0, content.size(), content.size());
+        });
+
+        syncManager.refresh();
+
+        verify(eventRepository, times(3)).search(any(EventCriteria.class), any(Pageable.class));
+        verify(apiManager).undeploy("api-1");
+        verify(apiManager).undeploy("api-2");
+    }
+
+    @Test
+    public void shouldNotSearchEventsWithoutApi() {
+        mockApis();
+
+        syncManager.refresh();
+
+        verify(eventRepository, never()).search(any(EventCriteria.class), any(Pageable.class));
+        verify(eventRepository, never()).search(any(EventCriteria.class));
+        verify(apiManager, never()).undeploy(any());
+    }
+
+    private void mockApis(String... ids) {
+        final List<Api> apis = Arrays.stream(ids).map(id -> {
+            final Api api = new Api();
+            api.setId(id);
+            return api;
+        }).collect(Collectors.toList());
+        when(apiRepository.search(isNull(), any(ApiFieldExclusionFilter.class))).thenReturn(apis);
+    }
+
+    private void event(String apiId, EventType type, long createdAt) {
+        final Event event = new Event();
+        event.setId(apiId + "-" + createdAt);
+        event.setType(type);
+        event.setCreatedAt(new Date(createdAt));
+        event.setProperties(Collections.singletonMap(Event.EventProperties.API_ID.getValue(), apiId));
+        events.add(event);
+    }
+}